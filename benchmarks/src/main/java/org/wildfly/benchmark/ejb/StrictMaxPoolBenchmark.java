@@ -0,0 +1,125 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.benchmark.ejb;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.ejb3.pool.Pool;
+import org.jboss.as.ejb3.pool.StatelessObjectFactory;
+import org.jboss.as.ejb3.pool.strictmax.StrictMaxPool;
+import org.jboss.as.ejb3.pool.strictmax.StripedStrictMaxPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of acquiring and releasing a stateless session bean instance from a strict-max pool, as performed for each invocation.
+ * Each benchmark method runs with a different number of threads, sweeping from an uncontended pool to one with many more threads than pooled instances.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrictMaxPoolBenchmark {
+
+    public enum PoolType {
+        STRICT_MAX,
+        STRIPED_STRICT_MAX,
+        ;
+    }
+
+    @Param
+    private PoolType type;
+
+    @Param({ "20" })
+    private int maxSize;
+
+    private Pool<Object> pool;
+
+    @Setup
+    public void setup() {
+        StatelessObjectFactory<Object> factory = new StatelessObjectFactory<>() {
+            @Override
+            public Object create() {
+                return new Object();
+            }
+
+            @Override
+            public void destroy(Object object) {
+            }
+        };
+        switch (this.type) {
+            case STRICT_MAX: {
+                this.pool = new StrictMaxPool<>(factory, this.maxSize, 5, TimeUnit.MINUTES);
+                break;
+            }
+            case STRIPED_STRICT_MAX: {
+                this.pool = new StripedStrictMaxPool<>(factory, this.maxSize, 5, TimeUnit.MINUTES);
+                break;
+            }
+        }
+        this.pool.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.pool.stop();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object threads001() {
+        return this.getAndRelease();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object threads004() {
+        return this.getAndRelease();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Object threads016() {
+        return this.getAndRelease();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Object threads032() {
+        return this.getAndRelease();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Object threads064() {
+        return this.getAndRelease();
+    }
+
+    @Benchmark
+    @Threads(128)
+    public Object threads128() {
+        return this.getAndRelease();
+    }
+
+    private Object getAndRelease() {
+        Object instance = this.pool.get();
+        this.pool.release(instance);
+        return instance;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.benchmark.ejb;
+
+import java.util.Timer;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.ejb3.timerservice.scheduler.HashedWheelTimeoutScheduler;
+import org.jboss.as.ejb3.timerservice.scheduler.TimeoutScheduler;
+import org.jboss.as.ejb3.timerservice.scheduler.TimerTimeoutScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of scheduling and canceling an EJB timer timeout via a {@link TimeoutScheduler}, as performed whenever a timer is created, cancelled or rescheduled.
+ * Timeouts are scheduled sufficiently far in the future that none expire during the benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class TimeoutSchedulerBenchmark {
+
+    public enum SchedulerType {
+        TIMER,
+        HASHED_WHEEL,
+        ;
+    }
+
+    @Param
+    private SchedulerType type;
+
+    @Param({ "10000" })
+    private int size;
+
+    private final Runnable task = () -> { };
+    private TimeoutScheduler scheduler;
+    private Timer timer;
+    private HashedWheelTimeoutScheduler wheel;
+
+    @Setup
+    public void setup() {
+        switch (this.type) {
+            case TIMER: {
+                this.timer = new Timer(true);
+                this.scheduler = new TimerTimeoutScheduler(this.timer);
+                break;
+            }
+            case HASHED_WHEEL: {
+                this.wheel = new HashedWheelTimeoutScheduler();
+                this.wheel.start();
+                this.scheduler = this.wheel;
+                break;
+            }
+        }
+        // Simulate existing timers
+        for (int i = 0; i < this.size; ++i) {
+            this.scheduler.schedule(this.task, TimeUnit.HOURS.toMillis(1) + i);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void purge() {
+        // Otherwise a Timer retains cancelled tasks until they would have expired
+        this.scheduler.purge();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (this.timer != null) {
+            this.timer.cancel();
+        }
+        if (this.wheel != null) {
+            this.wheel.close();
+        }
+    }
+
+    @Benchmark
+    public boolean scheduleAndCancel() {
+        TimeoutScheduler.Timeout timeout = this.scheduler.schedule(this.task, TimeUnit.HOURS.toMillis(1));
+        return timeout.cancel();
+    }
+}
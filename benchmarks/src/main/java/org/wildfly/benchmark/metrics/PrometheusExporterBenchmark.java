@@ -0,0 +1,153 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.benchmark.metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.LocalModelControllerClient;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.client.Operation;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.dmr.ModelNode;
+import org.jboss.threads.AsyncFuture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wildfly.extension.metrics.MetricCollector;
+import org.wildfly.extension.metrics.MetricMetadata;
+import org.wildfly.extension.metrics.PrometheusExporter;
+import org.wildfly.extension.metrics.WildFlyMetric;
+import org.wildfly.extension.metrics.WildFlyMetricMetadata;
+import org.wildfly.extension.metrics.WildFlyMetricRegistry;
+
+/**
+ * Measures the duration of a scrape of a registry of metrics.
+ * Compares metrics that read their attribute via a read-attribute operation per scrape, i.e. the unbound path, against metrics bound to a statistic via the metric collector, and metrics whose values are supplied directly.
+ * Operations are executed by a client returning a fixed response, so the operation path excludes the cost of dispatching the operation through the management controller, and therefore understates the cost of a real scrape.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrometheusExporterBenchmark {
+
+    public enum Binding {
+        OPERATION,
+        BOUND,
+        DIRECT,
+        ;
+    }
+
+    private static final String ATTRIBUTE_NAME = "active-count";
+
+    @Param
+    private Binding binding;
+
+    @Param
+    private PrometheusExporter.Format format;
+
+    @Param({ "5000" })
+    private int metrics;
+
+    private WildFlyMetricRegistry registry;
+    private PrometheusExporter exporter;
+    private OutputStream output;
+
+    @Setup
+    public void setup() {
+        this.registry = new WildFlyMetricRegistry();
+        this.exporter = new PrometheusExporter();
+        this.output = OutputStream.nullOutputStream();
+        OptionalDouble value = OptionalDouble.of(42);
+        LocalModelControllerClient client = new FixedResponseClient(new ModelNode(42));
+        MetricCollector collector = new MetricCollector(client, null);
+        for (int i = 0; i < this.metrics; ++i) {
+            PathAddress address = PathAddress.pathAddress(PathElement.pathElement("index", String.valueOf(i)));
+            WildFlyMetricMetadata metadata = new WildFlyMetricMetadata(ATTRIBUTE_NAME, address, "test", "The number of active things", MeasurementUnit.NONE, MetricMetadata.Type.GAUGE);
+            switch (this.binding) {
+                case OPERATION: {
+                    this.registry.registerMetric(new WildFlyMetric(client, address, ATTRIBUTE_NAME), metadata);
+                    break;
+                }
+                case BOUND: {
+                    collector.bind(address, Map.of(ATTRIBUTE_NAME, () -> 42));
+                    this.registry.registerMetric(collector.resolve(address, ATTRIBUTE_NAME), metadata);
+                    break;
+                }
+                case DIRECT: {
+                    this.registry.registerMetric(() -> value, metadata);
+                    break;
+                }
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.registry.close();
+    }
+
+    @Benchmark
+    public void scrape() throws IOException {
+        this.exporter.export(this.registry, this.format, this.output);
+    }
+
+    /**
+     * Client that responds to every operation with a successful outcome and a fixed result.
+     */
+    private static class FixedResponseClient implements LocalModelControllerClient {
+        private final ModelNode response = new ModelNode();
+
+        FixedResponseClient(ModelNode result) {
+            this.response.get(ModelDescriptionConstants.OUTCOME).set(ModelDescriptionConstants.SUCCESS);
+            this.response.get(ModelDescriptionConstants.RESULT).set(result);
+        }
+
+        @Override
+        public ModelNode execute(ModelNode operation) {
+            // The management controller creates a new response per operation
+            return this.response.clone();
+        }
+
+        @Override
+        public OperationResponse executeOperation(Operation operation, OperationMessageHandler messageHandler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AsyncFuture<ModelNode> executeAsync(Operation operation, OperationMessageHandler messageHandler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AsyncFuture<OperationResponse> executeOperationAsync(Operation operation, OperationMessageHandler messageHandler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
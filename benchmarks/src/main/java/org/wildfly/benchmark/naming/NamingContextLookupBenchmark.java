@@ -0,0 +1,100 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.benchmark.naming;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.CompositeName;
+import javax.naming.Context;
+import javax.naming.Name;
+import javax.naming.NamingException;
+
+import org.jboss.as.naming.ImmediateManagedReferenceFactory;
+import org.jboss.as.naming.ManagedReferenceFactory;
+import org.jboss.as.naming.NamingContext;
+import org.jboss.as.naming.ServiceBasedNamingStore;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceContainer;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of a JNDI lookup via a {@link NamingContext} backed by a {@link ServiceBasedNamingStore}, as performed for each resource injection or lookup by an application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class NamingContextLookupBenchmark {
+
+    @Param({ "1", "1024" })
+    private int bindings;
+
+    private ServiceContainer container;
+    private Context context;
+    private Name[] names;
+
+    @SuppressWarnings("deprecation")
+    @Setup
+    public void setup() throws Exception {
+        this.container = ServiceContainer.Factory.create();
+        ServiceBasedNamingStore store = new ServiceBasedNamingStore(this.container, ServiceName.JBOSS);
+        this.names = new Name[this.bindings];
+        for (int i = 0; i < this.bindings; ++i) {
+            String name = "app/module/binding" + i;
+            ServiceName serviceName = ServiceName.JBOSS.append(name.split("/"));
+            ManagedReferenceFactory factory = new ImmediateManagedReferenceFactory(Integer.valueOf(i));
+            this.container.addService(serviceName, new Service<ManagedReferenceFactory>() {
+                @Override
+                public void start(StartContext context) {
+                    store.add(serviceName);
+                }
+
+                @Override
+                public void stop(StopContext context) {
+                    store.remove(serviceName);
+                }
+
+                @Override
+                public ManagedReferenceFactory getValue() {
+                    return factory;
+                }
+            }).install();
+            this.names[i] = new CompositeName(name);
+        }
+        this.container.awaitStability();
+        this.context = new NamingContext(store, null);
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        this.container.shutdown();
+        this.container.awaitTermination();
+    }
+
+    @Benchmark
+    public Object lookup() throws NamingException {
+        return this.context.lookup(this.names[ThreadLocalRandom.current().nextInt(this.bindings)]);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.benchmark.undertow;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import io.undertow.server.handlers.accesslog.AccessLogReceiver;
+import io.undertow.server.handlers.accesslog.DefaultAccessLogReceiver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.wildfly.extension.undertow.RingBufferAccessLogReceiver;
+
+/**
+ * Measures the duration of a burst of access log messages, logged concurrently by multiple threads, as by the I/O threads of a listener.
+ * Compares the ring buffer receiver with the default, queue-based, receiver of Undertow.
+ * Each iteration logs a bounded burst to a new log file, and waits for the burst to be written before the next iteration, such that pending messages never accumulate across iterations.
+ * The ring buffer is sized to absorb a whole burst, such that, like the default receiver, it never drops messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, batchSize = AccessLogReceiverBenchmark.MESSAGES)
+@Measurement(iterations = 20, batchSize = AccessLogReceiverBenchmark.MESSAGES)
+@Threads(4)
+@Fork(1)
+public class AccessLogReceiverBenchmark {
+
+    static final int MESSAGES = 25_000;
+
+    public enum ReceiverType {
+        DEFAULT,
+        RING_BUFFER,
+        ;
+    }
+
+    private static final String PREFIX = "access_log.";
+    private static final String SUFFIX = "log";
+    private static final String MESSAGE = "127.0.0.1 - - [17/Oct/2026:00:00:00 +0000] \"GET /index.html HTTP/1.1\" 200 1024";
+    private static final long DRAIN_TIMEOUT = TimeUnit.MINUTES.toMillis(1);
+
+    @Param
+    private ReceiverType type;
+
+    private ExecutorService executor;
+    private Path directory;
+    private AccessLogReceiver receiver;
+    private long expected;
+
+    @Setup
+    public void init() {
+        this.executor = Executors.newCachedThreadPool();
+    }
+
+    @TearDown
+    public void destroy() {
+        this.executor.shutdownNow();
+    }
+
+    @Setup(Level.Iteration)
+    public void setup(BenchmarkParams params) throws IOException {
+        this.directory = Files.createTempDirectory(AccessLogReceiverBenchmark.class.getSimpleName());
+        this.expected = (long) params.getThreads() * MESSAGES;
+        switch (this.type) {
+            case DEFAULT: {
+                this.receiver = DefaultAccessLogReceiver.builder().setLogWriteExecutor(this.executor)
+                        .setOutputDirectory(this.directory)
+                        .setLogBaseName(PREFIX)
+                        .setLogNameSuffix(SUFFIX)
+                        .build();
+                break;
+            }
+            case RING_BUFFER: {
+                this.receiver = new RingBufferAccessLogReceiver(this.executor, this.directory, PREFIX, SUFFIX, false, null, (int) this.expected);
+                break;
+            }
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException, InterruptedException {
+        // The default receiver does not write pending messages on close, so wait for them to be written
+        Path file = this.directory.resolve(PREFIX + SUFFIX);
+        long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT;
+        while ((this.type == ReceiverType.DEFAULT) && (!Files.exists(file) || (countLines(file) < this.expected))) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException(String.format("%s did not write %d messages within %d ms", this.receiver, this.expected, DRAIN_TIMEOUT));
+            }
+            Thread.sleep(10);
+        }
+        ((Closeable) this.receiver).close();
+        try (Stream<Path> paths = Files.walk(this.directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public void log() {
+        this.receiver.logMessage(MESSAGE);
+    }
+
+    private static long countLines(Path file) throws IOException {
+        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            return lines.count();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares the results of a benchmark run against those of a baseline run, both in JMH CSV format (i.e. <code>-rf csv</code>).
+ * Exits with a non-zero status if the score of any benchmark regressed by more than a given threshold (10% by default).
+ * Usage: <code>BaselineComparison &lt;baseline.csv&gt; &lt;results.csv&gt; [threshold-percent]</code>
+ */
+public class BaselineComparison {
+
+    private static final double DEFAULT_THRESHOLD = 10d;
+
+    public static void main(String... args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparison <baseline.csv> <results.csv> [threshold-percent]");
+            System.exit(2);
+        }
+        Map<String, Result> baseline = parse(Paths.get(args[0]));
+        Map<String, Result> results = parse(Paths.get(args[1]));
+        double threshold = (args.length > 2) ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Result> entry : results.entrySet()) {
+            String benchmark = entry.getKey();
+            Result result = entry.getValue();
+            Result base = baseline.get(benchmark);
+            if (base == null) {
+                System.out.printf(Locale.ROOT, "%-100s %14.3f %s (no baseline)%n", benchmark, result.score, result.unit);
+                continue;
+            }
+            double improvement = result.improvementOver(base);
+            boolean regressed = improvement < -threshold;
+            System.out.printf(Locale.ROOT, "%-100s %14.3f -> %14.3f %s (%+.1f%%)%s%n", benchmark, base.score, result.score, result.unit, improvement, regressed ? " REGRESSION" : "");
+            if (regressed) {
+                regressions.add(benchmark);
+            }
+        }
+        if (!regressions.isEmpty()) {
+            System.err.printf(Locale.ROOT, "%d benchmark(s) regressed by more than %.1f%%: %s%n", regressions.size(), threshold, regressions);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Parses the results from the specified JMH CSV file, keyed by benchmark name, mode and parameter values.
+     */
+    static Map<String, Result> parse(Path path) throws IOException {
+        Iterator<String> lines = Files.readAllLines(path).iterator();
+        if (!lines.hasNext()) return Map.of();
+        List<String> header = split(lines.next());
+        int benchmarkIndex = header.indexOf("Benchmark");
+        int modeIndex = header.indexOf("Mode");
+        int scoreIndex = header.indexOf("Score");
+        int unitIndex = header.indexOf("Unit");
+        if ((benchmarkIndex < 0) || (modeIndex < 0) || (scoreIndex < 0) || (unitIndex < 0)) {
+            throw new IllegalArgumentException(path.toString());
+        }
+        Map<String, Result> results = new LinkedHashMap<>();
+        while (lines.hasNext()) {
+            String line = lines.next();
+            if (line.isBlank()) continue;
+            List<String> values = split(line);
+            StringBuilder key = new StringBuilder(values.get(benchmarkIndex)).append(':').append(values.get(modeIndex));
+            for (int i = 0; i < header.size(); ++i) {
+                String column = header.get(i);
+                if (column.startsWith("Param: ") && (i < values.size()) && !values.get(i).isEmpty()) {
+                    key.append(',').append(column.substring("Param: ".length())).append('=').append(values.get(i));
+                }
+            }
+            results.put(key.toString(), new Result(values.get(modeIndex), Double.parseDouble(values.get(scoreIndex)), values.get(unitIndex)));
+        }
+        return results;
+    }
+
+    /**
+     * Splits a CSV line, honoring quoted values.
+     */
+    private static List<String> split(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); ++i) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && (i + 1 < line.length()) && (line.charAt(i + 1) == '"')) {
+                    value.append(c);
+                    i += 1;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if ((c == ',') && !quoted) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    static class Result {
+        private final String mode;
+        private final double score;
+        private final String unit;
+
+        Result(String mode, double score, String unit) {
+            this.mode = mode;
+            this.score = score;
+            this.unit = unit;
+        }
+
+        /**
+         * Returns the percentage by which this result improves upon the specified baseline result.
+         * Higher scores are better for throughput, whereas lower scores are better for all time-based modes.
+         */
+        double improvementOver(Result baseline) {
+            double delta = (this.score - baseline.score) / baseline.score * 100d;
+            return this.mode.equals("thrpt") ? delta : -delta;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.benchmark.ee;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wildfly.clustering.ee.Manager;
+import org.wildfly.clustering.ee.cache.ConcurrentManager;
+import org.wildfly.common.function.Functions;
+
+/**
+ * Measures the cost of acquiring and releasing a shared reference to a managed object via a {@link ConcurrentManager}.
+ * A small number of keys simulates concurrent requests for the same session or bean.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ConcurrentManagerBenchmark {
+
+    @Param({ "1", "1024" })
+    private int keys;
+
+    private Manager<Integer, Runnable> manager;
+    private Function<Runnable, Runnable> factory;
+
+    @Setup
+    public void setup() {
+        this.manager = new ConcurrentManager<>(Functions.discardingConsumer(), Functions.discardingConsumer());
+        // The managed object is its own close task
+        this.factory = Function.identity();
+    }
+
+    @Benchmark
+    public Runnable applyAndClose() {
+        Runnable closeTask = this.manager.apply(ThreadLocalRandom.current().nextInt(this.keys), this.factory);
+        closeTask.run();
+        return closeTask;
+    }
+}
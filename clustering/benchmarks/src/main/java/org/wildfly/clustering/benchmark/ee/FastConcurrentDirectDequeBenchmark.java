@@ -0,0 +1,61 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.benchmark.ee;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wildfly.clustering.ee.cache.scheduler.ConcurrentDirectDeque;
+import org.wildfly.clustering.ee.cache.scheduler.FastConcurrentDirectDeque;
+
+/**
+ * Measures the cost of the deque operations used by {@link org.wildfly.clustering.ee.cache.scheduler.LinkedScheduledEntries}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class FastConcurrentDirectDequeBenchmark {
+
+    @Param({ "10000" })
+    private int size;
+
+    private ConcurrentDirectDeque<Object> deque;
+
+    @Setup
+    public void setup() {
+        this.deque = new FastConcurrentDirectDeque<>();
+        for (int i = 0; i < this.size; ++i) {
+            this.deque.offerLast(new Object());
+        }
+    }
+
+    @Benchmark
+    public void offerAndRemoveToken() {
+        Object token = this.deque.offerLastAndReturnToken(new Object());
+        this.deque.removeToken(token);
+    }
+
+    @Benchmark
+    public Object offerAndPoll() {
+        this.deque.offerLast(new Object());
+        return this.deque.pollFirst();
+    }
+}
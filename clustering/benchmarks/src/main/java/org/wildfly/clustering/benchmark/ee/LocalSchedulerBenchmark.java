@@ -0,0 +1,100 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.benchmark.ee;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wildfly.clustering.ee.cache.scheduler.LinkedScheduledEntries;
+import org.wildfly.clustering.ee.cache.scheduler.LocalScheduler;
+import org.wildfly.clustering.ee.cache.scheduler.ScheduledEntries;
+import org.wildfly.clustering.ee.cache.scheduler.SortedScheduledEntries;
+import org.wildfly.clustering.ee.cache.scheduler.TimingWheelScheduledEntries;
+
+/**
+ * Measures the cost of scheduling and canceling the expiration of an item via a {@link LocalScheduler}, as performed for each session request.
+ * Items are scheduled sufficiently far in the future that none expire during the benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class LocalSchedulerBenchmark {
+
+    public enum Entries implements Supplier<ScheduledEntries<Integer, Instant>> {
+        SORTED() {
+            @Override
+            public ScheduledEntries<Integer, Instant> get() {
+                return new SortedScheduledEntries<>();
+            }
+        },
+        LINKED() {
+            @Override
+            public ScheduledEntries<Integer, Instant> get() {
+                return new LinkedScheduledEntries<>();
+            }
+        },
+        TIMING_WHEEL() {
+            @Override
+            public ScheduledEntries<Integer, Instant> get() {
+                return new TimingWheelScheduledEntries<>(Duration.ofSeconds(1));
+            }
+        },
+        ;
+    }
+
+    @Param
+    private Entries entries;
+
+    @Param({ "10000" })
+    private int size;
+
+    private final AtomicInteger counter = new AtomicInteger();
+    private LocalScheduler<Integer> scheduler;
+    private Instant expiration;
+
+    @Setup
+    public void setup() {
+        this.scheduler = new LocalScheduler<>(this.entries.get(), id -> true, Duration.ZERO);
+        this.expiration = Instant.now().plus(Duration.ofHours(1));
+        // Simulate existing sessions
+        for (int i = 0; i < this.size; ++i) {
+            this.scheduler.schedule(this.counter.incrementAndGet(), this.expiration);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.scheduler.close();
+    }
+
+    @Benchmark
+    public void scheduleAndCancel() {
+        Integer id = this.counter.incrementAndGet();
+        // Monotonically increasing expiration, as for sessions with a common timeout
+        this.scheduler.schedule(id, this.expiration.plusMillis(id));
+        this.scheduler.cancel(id);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.benchmark.marshalling;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.protostream.SerializationContextBuilder;
+import org.wildfly.clustering.marshalling.protostream.SimpleClassLoaderMarshaller;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValue;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+
+/**
+ * Measures ProtoStream marshalling of representative session attribute payloads.
+ * Run with <code>-prof gc</code> to report the bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.util=ALL-UNNAMED")
+public class ProtoStreamMarshallingBenchmark {
+
+    public enum Payload implements Function<ByteBufferMarshaller, Object> {
+        STRING() {
+            @Override
+            public Object apply(ByteBufferMarshaller marshaller) {
+                return "0123456789abcdef";
+            }
+        },
+        UUID() {
+            @Override
+            public Object apply(ByteBufferMarshaller marshaller) {
+                return java.util.UUID.randomUUID();
+            }
+        },
+        LIST() {
+            @Override
+            public Object apply(ByteBufferMarshaller marshaller) {
+                List<Object> list = new ArrayList<>();
+                for (int i = 0; i < 16; ++i) {
+                    list.add(Integer.valueOf(i));
+                }
+                return list;
+            }
+        },
+        SORTED_SET() {
+            @Override
+            public Object apply(ByteBufferMarshaller marshaller) {
+                TreeSet<String> set = new TreeSet<>();
+                for (int i = 0; i < 16; ++i) {
+                    set.add(String.valueOf(i));
+                }
+                return set;
+            }
+        },
+        MAP() {
+            @Override
+            public Object apply(ByteBufferMarshaller marshaller) {
+                Map<String, Object> map = new HashMap<>();
+                map.put("user", "jdoe");
+                map.put("locale", Locale.US);
+                map.put("login", Instant.now());
+                map.put("id", java.util.UUID.randomUUID());
+                map.put("roles", new ArrayList<>(List.of("admin", "user")));
+                return map;
+            }
+        },
+        // Equivalent to the attributes of a coarse granularity session
+        SESSION() {
+            @Override
+            public Object apply(ByteBufferMarshaller marshaller) {
+                Map<String, Object> attributes = new ConcurrentHashMap<>();
+                for (Payload payload : ATTRIBUTES) {
+                    attributes.put(payload.name(), payload.apply(marshaller));
+                }
+                return attributes;
+            }
+        },
+        // Equivalent to the attributes of a fine granularity session
+        MARSHALLED_SESSION() {
+            @Override
+            public Object apply(ByteBufferMarshaller marshaller) {
+                Map<String, ByteBufferMarshalledValue<Object>> attributes = new ConcurrentHashMap<>();
+                for (Payload payload : ATTRIBUTES) {
+                    attributes.put(payload.name(), new ByteBufferMarshalledValue<>(payload.apply(marshaller), marshaller));
+                }
+                return attributes;
+            }
+        },
+        ;
+        static final Set<Payload> ATTRIBUTES = EnumSet.of(STRING, UUID, LIST, SORTED_SET, MAP);
+    }
+
+    @Param
+    private Payload payload;
+
+    private ByteBufferMarshaller marshaller;
+    private Object object;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup() throws IOException {
+        ClassLoader loader = ProtoStreamMarshallingBenchmark.class.getClassLoader();
+        this.marshaller = new ProtoStreamByteBufferMarshaller(new SerializationContextBuilder(new SimpleClassLoaderMarshaller(loader)).load(loader).build());
+        this.object = this.payload.apply(this.marshaller);
+        this.buffer = this.marshaller.write(this.object);
+    }
+
+    @Benchmark
+    public ByteBuffer write() throws IOException {
+        return this.marshaller.write(this.object);
+    }
+
+    @Benchmark
+    public Object read() throws IOException {
+        return this.marshaller.read(this.buffer.duplicate());
+    }
+
+    @Benchmark
+    public int size() {
+        return this.marshaller.size(this.object).orElse(-1);
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.benchmark.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.jgroups.JChannel;
+import org.jgroups.Message;
+import org.jgroups.protocols.SHARED_LOOPBACK;
+import org.jgroups.protocols.SHARED_LOOPBACK_PING;
+import org.jgroups.protocols.UNICAST3;
+import org.jgroups.protocols.pbcast.GMS;
+import org.jgroups.protocols.pbcast.NAKACK2;
+import org.jgroups.protocols.pbcast.STABLE;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.dispatcher.LatencyTolerantCommand;
+import org.wildfly.clustering.group.Node;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.protostream.SerializationContextBuilder;
+import org.wildfly.clustering.marshalling.protostream.SimpleClassLoaderMarshaller;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+import org.wildfly.clustering.server.infinispan.dispatcher.ChannelCommandDispatcherFactory;
+import org.wildfly.clustering.server.infinispan.dispatcher.ChannelCommandDispatcherFactoryConfiguration;
+
+/**
+ * Measures {@link CommandDispatcher#executeOnGroup(Command, Node...)} for a group of channels within a single JVM, connected via a shared loopback transport.
+ * Compares a unicast per member against a single multicast, with and without message bundling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.util=ALL-UNNAMED")
+@Threads(4)
+public class CommandDispatcherBenchmark {
+
+    private static final String CLUSTER = CommandDispatcherBenchmark.class.getSimpleName();
+
+    @Param({ "4", "16" })
+    private int members;
+
+    @Param({ "false", "true" })
+    private boolean multicast;
+
+    @Param({ "false", "true" })
+    private boolean latencyTolerant;
+
+    private final List<JChannel> channels = new ArrayList<>();
+    private final List<ChannelCommandDispatcherFactory> factories = new ArrayList<>();
+    private final List<CommandDispatcher<Void>> dispatchers = new ArrayList<>();
+    private Command<Void, Void> command;
+
+    @Setup
+    public void setup() throws Exception {
+        for (int i = 0; i < this.members; ++i) {
+            JChannel channel = new JChannel(new SHARED_LOOPBACK(), new SHARED_LOOPBACK_PING(), new NAKACK2(), new UNICAST3(), new STABLE(), new GMS().setJoinTimeout(1000L)).name(String.valueOf(i));
+            channel.connect(CLUSTER);
+            this.channels.add(channel);
+        }
+        for (JChannel channel : this.channels) {
+            ChannelCommandDispatcherFactory factory = new ChannelCommandDispatcherFactory(new BenchmarkConfiguration(channel, this.multicast));
+            this.factories.add(factory);
+            this.dispatchers.add(factory.createCommandDispatcher(CLUSTER, null, this.getClass().getClassLoader()));
+        }
+        this.command = this.latencyTolerant ? BenchmarkLatencyTolerantCommand.INSTANCE : BenchmarkCommand.INSTANCE;
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (CommandDispatcher<Void> dispatcher : this.dispatchers) {
+            dispatcher.close();
+        }
+        for (ChannelCommandDispatcherFactory factory : this.factories) {
+            factory.close();
+        }
+        for (JChannel channel : this.channels) {
+            channel.close();
+        }
+    }
+
+    @Benchmark
+    public void executeOnGroup(Blackhole blackhole) throws Exception {
+        Map<Node, CompletionStage<Void>> results = this.dispatchers.get(0).executeOnGroup(this.command);
+        for (CompletionStage<Void> result : results.values()) {
+            blackhole.consume(result.toCompletableFuture().join());
+        }
+    }
+
+    static class BenchmarkCommand implements Command<Void, Void> {
+        private static final long serialVersionUID = -1346424612440361396L;
+        static final Command<Void, Void> INSTANCE = new BenchmarkCommand();
+
+        @Override
+        public Void execute(Void context) {
+            return null;
+        }
+    }
+
+    static class BenchmarkLatencyTolerantCommand extends BenchmarkCommand implements LatencyTolerantCommand<Void, Void> {
+        private static final long serialVersionUID = 5092425404939935716L;
+        static final Command<Void, Void> INSTANCE = new BenchmarkLatencyTolerantCommand();
+    }
+
+    /**
+     * Marshals the benchmark commands and their null results as a single byte, to isolate the cost of dispatching.
+     */
+    enum BenchmarkCommandMarshaller implements ByteBufferMarshaller {
+        INSTANCE;
+
+        @Override
+        public boolean isMarshallable(Object object) {
+            return (object == null) || (object instanceof BenchmarkCommand);
+        }
+
+        @Override
+        public Object readFrom(InputStream input) throws IOException {
+            switch (input.read()) {
+                case 1:
+                    return BenchmarkCommand.INSTANCE;
+                case 2:
+                    return BenchmarkLatencyTolerantCommand.INSTANCE;
+                default:
+                    return null;
+            }
+        }
+
+        @Override
+        public void writeTo(OutputStream output, Object object) throws IOException {
+            output.write((object == null) ? 0 : (object instanceof LatencyTolerantCommand) ? 2 : 1);
+        }
+
+        @Override
+        public OptionalInt size(Object object) {
+            return OptionalInt.of(Byte.BYTES);
+        }
+    }
+
+    private static class BenchmarkConfiguration implements ChannelCommandDispatcherFactoryConfiguration, Predicate<Message>, Function<ClassLoader, ByteBufferMarshaller> {
+        private final JChannel channel;
+        private final boolean multicast;
+
+        BenchmarkConfiguration(JChannel channel, boolean multicast) {
+            this.channel = channel;
+            this.multicast = multicast;
+        }
+
+        @Override
+        public Predicate<Message> getUnknownForkPredicate() {
+            return this;
+        }
+
+        @Override
+        public boolean test(Message response) {
+            return false;
+        }
+
+        @Override
+        public JChannel getChannel() {
+            return this.channel;
+        }
+
+        @Override
+        public ByteBufferMarshaller getMarshaller() {
+            ClassLoader loader = CommandDispatcherBenchmark.class.getClassLoader();
+            return new ProtoStreamByteBufferMarshaller(new SerializationContextBuilder(new SimpleClassLoaderMarshaller(loader)).load(loader).build());
+        }
+
+        @Override
+        public Duration getTimeout() {
+            return Duration.ofMinutes(1);
+        }
+
+        @Override
+        public Function<ClassLoader, ByteBufferMarshaller> getMarshallerFactory() {
+            return this;
+        }
+
+        @Override
+        public ByteBufferMarshaller apply(ClassLoader loader) {
+            return BenchmarkCommandMarshaller.INSTANCE;
+        }
+
+        @Override
+        public boolean isMulticast() {
+            return this.multicast;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.benchmark.web;
+
+import java.nio.ByteBuffer;
+
+import org.kohsuke.MetaInfServices;
+import org.wildfly.clustering.marshalling.spi.Marshaller;
+import org.wildfly.clustering.web.IdentifierMarshaller;
+import org.wildfly.clustering.web.IdentifierMarshallerProvider;
+
+/**
+ * Session identifier marshaller provider for benchmarks, in lieu of that of the servlet container.
+ */
+@MetaInfServices(IdentifierMarshallerProvider.class)
+public class BenchmarkIdentifierMarshallerProvider implements IdentifierMarshallerProvider {
+
+    @Override
+    public Marshaller<String, ByteBuffer> getMarshaller() {
+        return IdentifierMarshaller.ISO_LATIN_1;
+    }
+}
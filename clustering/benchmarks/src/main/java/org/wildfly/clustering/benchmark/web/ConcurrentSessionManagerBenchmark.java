@@ -0,0 +1,118 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.benchmark.web;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.Cache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wildfly.clustering.ee.cache.ConcurrentManager;
+import org.wildfly.clustering.ee.cache.tx.TransactionBatch;
+import org.wildfly.clustering.web.cache.session.ConcurrentSessionManager;
+import org.wildfly.clustering.web.session.Session;
+import org.wildfly.clustering.web.session.SessionManager;
+
+/**
+ * Measures {@link ConcurrentSessionManager#findSession(String)} and the subsequent close of the found session.
+ * The decorated session manager locates sessions within a local-mode cache.
+ * A small number of sessions simulates concurrent requests for the same session.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.util=ALL-UNNAMED")
+@Threads(4)
+public class ConcurrentSessionManagerBenchmark {
+
+    @Param({ "1", "1024" })
+    private int sessions;
+
+    private SessionManager<Void, TransactionBatch> manager;
+
+    @Setup
+    public void setup(LocalCacheState state) {
+        Cache<String, Instant> cache = state.getCache();
+        for (int i = 0; i < this.sessions; ++i) {
+            cache.put(String.valueOf(i), Instant.now());
+        }
+        this.manager = new ConcurrentSessionManager<>(createProxy(SessionManager.class, new SessionManagerInvocationHandler(cache)), ConcurrentManager::new);
+    }
+
+    @Benchmark
+    public boolean findSession() {
+        try (Session<Void> session = this.manager.findSession(String.valueOf(ThreadLocalRandom.current().nextInt(this.sessions)))) {
+            return session.isValid();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T createProxy(Class<?> targetClass, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(targetClass.getClassLoader(), new Class<?>[] { targetClass }, handler);
+    }
+
+    /**
+     * Minimal session manager that only supports {@link SessionManager#findSession(String)}.
+     */
+    private static class SessionManagerInvocationHandler implements InvocationHandler {
+        private final Cache<String, Instant> cache;
+
+        SessionManagerInvocationHandler(Cache<String, Instant> cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            if (method.getName().equals("findSession")) {
+                String id = (String) args[0];
+                return (this.cache.get(id) != null) ? createProxy(Session.class, new SessionInvocationHandler(id)) : null;
+            }
+            throw new UnsupportedOperationException(method.getName());
+        }
+    }
+
+    /**
+     * Minimal session that is always valid.
+     */
+    private static class SessionInvocationHandler implements InvocationHandler {
+        private final String id;
+
+        SessionInvocationHandler(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "getId":
+                    return this.id;
+                case "isValid":
+                    return Boolean.TRUE;
+                case "close":
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        }
+    }
+}
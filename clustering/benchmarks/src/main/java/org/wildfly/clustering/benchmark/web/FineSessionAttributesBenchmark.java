@@ -0,0 +1,103 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.benchmark.web;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.Cache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wildfly.clustering.ee.Immutability;
+import org.wildfly.clustering.ee.MutatorFactory;
+import org.wildfly.clustering.ee.immutable.CompositeImmutability;
+import org.wildfly.clustering.ee.immutable.DefaultImmutability;
+import org.wildfly.clustering.ee.infinispan.CacheComputeMutatorFactory;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValueFactory;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.spi.MarshalledValue;
+import org.wildfly.clustering.marshalling.spi.MarshalledValueMarshaller;
+import org.wildfly.clustering.marshalling.spi.Marshaller;
+import org.wildfly.clustering.web.cache.session.attributes.SessionAttributes;
+import org.wildfly.clustering.web.cache.session.attributes.fine.FineSessionAttributes;
+import org.wildfly.clustering.web.cache.session.attributes.fine.SessionAttributeMapComputeFunction;
+import org.wildfly.clustering.web.infinispan.session.attributes.SessionAttributesKey;
+
+/**
+ * Measures the session attribute operations of a typical request to a fine granularity session, i.e. load, get, set, and close.
+ * Attributes are stored within a local-mode cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.util=ALL-UNNAMED")
+@Threads(4)
+public class FineSessionAttributesBenchmark {
+
+    @Param({ "8", "64" })
+    private int attributes;
+
+    private final Immutability immutability = new CompositeImmutability(EnumSet.allOf(DefaultImmutability.class));
+    private final SessionAttributesKey key = new SessionAttributesKey(UUID.randomUUID().toString());
+    private LocalCacheState state;
+    private Cache<SessionAttributesKey, Map<String, MarshalledValue<Object, ByteBufferMarshaller>>> cache;
+    private Marshaller<Object, MarshalledValue<Object, ByteBufferMarshaller>> marshaller;
+    private MutatorFactory<SessionAttributesKey, Map<String, MarshalledValue<Object, ByteBufferMarshaller>>> mutatorFactory;
+    private List<String> names;
+    private int counter = 0;
+
+    @Setup
+    public void setup(LocalCacheState state) throws IOException {
+        this.state = state;
+        this.cache = state.getCache();
+        this.marshaller = new MarshalledValueMarshaller<>(new ByteBufferMarshalledValueFactory(state.getMarshaller()));
+        this.mutatorFactory = new CacheComputeMutatorFactory<>(this.cache, SessionAttributeMapComputeFunction::new);
+        this.names = new ArrayList<>(this.attributes);
+        Map<String, MarshalledValue<Object, ByteBufferMarshaller>> values = new TreeMap<>();
+        for (int i = 0; i < this.attributes; ++i) {
+            String name = "attribute" + i;
+            this.names.add(name);
+            // Mix of immutable and mutable attributes
+            Object value = (i % 2 == 0) ? Integer.valueOf(i) : new ArrayList<>(List.of(name));
+            values.put(name, this.marshaller.write(value));
+        }
+        this.cache.put(this.key, values);
+    }
+
+    @Benchmark
+    public Object getSetAndClose() throws IOException {
+        Map<String, MarshalledValue<Object, ByteBufferMarshaller>> values = this.cache.get(this.key);
+        Map<String, Object> attributes = new ConcurrentHashMap<>();
+        for (Map.Entry<String, MarshalledValue<Object, ByteBufferMarshaller>> entry : values.entrySet()) {
+            attributes.put(entry.getKey(), this.marshaller.read(entry.getValue()));
+        }
+        try (SessionAttributes session = new FineSessionAttributes<>(this.key, attributes, this.mutatorFactory, this.marshaller, this.immutability, this.state, null)) {
+            int index = this.counter++;
+            Object result = session.getAttribute(this.names.get(index % this.attributes));
+            session.setAttribute("counter", Integer.valueOf(index));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.benchmark.web;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.global.GlobalConfigurationBuilder;
+import org.infinispan.manager.DefaultCacheManager;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.wildfly.clustering.ee.cache.CacheProperties;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.protostream.SerializationContextBuilder;
+import org.wildfly.clustering.marshalling.protostream.SimpleClassLoaderMarshaller;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+
+/**
+ * Benchmark state providing a local-mode Infinispan cache, shared by all benchmark threads.
+ */
+@State(Scope.Benchmark)
+public class LocalCacheState implements CacheProperties {
+
+    private EmbeddedCacheManager manager;
+    private ByteBufferMarshaller marshaller;
+
+    @Setup
+    public void setup() {
+        this.manager = new DefaultCacheManager(new GlobalConfigurationBuilder().nonClusteredDefault().build());
+        this.manager.defineConfiguration("sessions", new ConfigurationBuilder().build());
+        ClassLoader loader = LocalCacheState.class.getClassLoader();
+        this.marshaller = new ProtoStreamByteBufferMarshaller(new SerializationContextBuilder(new SimpleClassLoaderMarshaller(loader)).load(loader).build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.manager.stop();
+    }
+
+    public <K, V> Cache<K, V> getCache() {
+        return this.manager.getCache("sessions");
+    }
+
+    public ByteBufferMarshaller getMarshaller() {
+        return this.marshaller;
+    }
+
+    @Override
+    public boolean isLockOnRead() {
+        return false;
+    }
+
+    @Override
+    public boolean isLockOnWrite() {
+        return false;
+    }
+
+    @Override
+    public boolean isMarshalling() {
+        // Emulate the behavior of a distributed cache
+        return true;
+    }
+
+    @Override
+    public boolean isPersistent() {
+        return false;
+    }
+
+    @Override
+    public boolean isTransactional() {
+        return false;
+    }
+}
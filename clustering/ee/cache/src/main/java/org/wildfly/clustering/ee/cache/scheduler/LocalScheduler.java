@@ -140,9 +140,14 @@ public class LocalScheduler<T> implements Scheduler<T, Instant>, Runnable {
         if (this.futureEntry != null) {
             synchronized (this) {
                 if (this.futureEntry != null) {
-                    if (instant.isBefore(this.futureEntry.getKey().getValue())) {
-                        this.futureEntry.getValue().cancel(true);
-                        this.futureEntry = this.scheduleFirst();
+                    Instant scheduled = this.futureEntry.getKey().getValue();
+                    if (instant.isBefore(scheduled)) {
+                        // Entries may round their values, in which case the first entry need not be earlier than the scheduled entry
+                        Map.Entry<T, Instant> first = this.entries.peek();
+                        if ((first != null) && first.getValue().isBefore(scheduled)) {
+                            this.futureEntry.getValue().cancel(true);
+                            this.futureEntry = this.schedule(first);
+                        }
                     }
                 }
             }
@@ -0,0 +1,169 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.clustering.ee.cache.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+/**
+ * {@link ScheduledEntries} implemented as a timing wheel of coarse resolution, where each entry is assigned to the slot of the tick in which its instant falls.
+ * The instant of each entry is rounded up to the end of its tick, such that entries of the same tick expire as a batch.
+ * Slots are keyed by absolute tick, thus the wheel never overflows, and only non-empty ticks are retained, in a {@link ConcurrentSkipListSet}.
+ * Both {@link #add(Object, Instant)} and {@link #remove(Object)} run in amortized O(1) time, and require O(log T) time, where T is the number of non-empty ticks, only when a slot is created or destroyed.
+ * Rescheduling an entry within its current tick does not modify the wheel at all.
+ * Iteration order of entries within the same tick is unspecified.
+ */
+public class TimingWheelScheduledEntries<K> implements ScheduledEntries<K, Instant> {
+
+    private final long resolution;
+    private final ConcurrentMap<K, Long> ticks = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Set<K>> slots = new ConcurrentHashMap<>();
+    private final NavigableSet<Long> wheel = new ConcurrentSkipListSet<>();
+
+    /**
+     * Creates a new timing wheel with the specified resolution.
+     * @param resolution the duration of a tick of this timing wheel
+     */
+    public TimingWheelScheduledEntries(Duration resolution) {
+        this.resolution = Math.max(resolution.toMillis(), 1L);
+    }
+
+    @Override
+    public boolean isSorted() {
+        return true;
+    }
+
+    @Override
+    public void add(K key, Instant value) {
+        // Round up to tick boundary
+        Long tick = -Math.floorDiv(-value.toEpochMilli(), this.resolution);
+        // Slots are updated while holding the lock on the key, so that the slot of a key is consistent with its tick
+        this.ticks.compute(key, (k, oldTick) -> {
+            if (!tick.equals(oldTick)) {
+                this.addToSlot(k, tick);
+                if (oldTick != null) {
+                    this.removeFromSlot(k, oldTick);
+                }
+            }
+            return tick;
+        });
+    }
+
+    @Override
+    public void remove(K key) {
+        this.ticks.computeIfPresent(key, (k, tick) -> {
+            this.removeFromSlot(k, tick);
+            return null;
+        });
+    }
+
+    private void addToSlot(K key, Long tick) {
+        this.slots.compute(tick, (t, slot) -> {
+            if (slot == null) {
+                this.wheel.add(t);
+            }
+            Set<K> result = (slot != null) ? slot : ConcurrentHashMap.newKeySet();
+            result.add(key);
+            return result;
+        });
+    }
+
+    private void removeFromSlot(K key, Long tick) {
+        this.slots.computeIfPresent(tick, (t, slot) -> {
+            slot.remove(key);
+            if (!slot.isEmpty()) {
+                return slot;
+            }
+            this.wheel.remove(t);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean contains(K key) {
+        return this.ticks.containsKey(key);
+    }
+
+    @Override
+    public Map.Entry<K, Instant> peek() {
+        for (Long tick : this.wheel) {
+            Iterator<K> keys = this.slots.getOrDefault(tick, Collections.emptySet()).iterator();
+            if (keys.hasNext()) {
+                return this.createEntry(keys.next(), tick);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Stream<Map.Entry<K, Instant>> stream() {
+        return this.wheel.stream().flatMap(tick -> this.slots.getOrDefault(tick, Collections.emptySet()).stream().map(key -> this.createEntry(key, tick)));
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, Instant>> iterator() {
+        Iterator<Long> ticks = this.wheel.iterator();
+        return new Iterator<>() {
+            private Iterator<K> keys = Collections.emptyIterator();
+            private Long tick = null;
+            private Map.Entry<K, Instant> current = null;
+
+            @Override
+            public boolean hasNext() {
+                while (!this.keys.hasNext() && ticks.hasNext()) {
+                    this.tick = ticks.next();
+                    this.keys = TimingWheelScheduledEntries.this.slots.getOrDefault(this.tick, Collections.emptySet()).iterator();
+                }
+                return this.keys.hasNext();
+            }
+
+            @Override
+            public Map.Entry<K, Instant> next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                this.current = TimingWheelScheduledEntries.this.createEntry(this.keys.next(), this.tick);
+                return this.current;
+            }
+
+            @Override
+            public void remove() {
+                if (this.current == null) {
+                    throw new IllegalStateException();
+                }
+                Long tick = this.tick;
+                // Entry may have been rescheduled since it was returned
+                TimingWheelScheduledEntries.this.ticks.computeIfPresent(this.current.getKey(), (key, currentTick) -> {
+                    if (!currentTick.equals(tick)) {
+                        return currentTick;
+                    }
+                    TimingWheelScheduledEntries.this.removeFromSlot(key, currentTick);
+                    return null;
+                });
+                this.current = null;
+            }
+        };
+    }
+
+    private Map.Entry<K, Instant> createEntry(K key, long tick) {
+        return new SimpleImmutableEntry<>(key, Instant.ofEpochMilli(tick * this.resolution));
+    }
+
+    @Override
+    public String toString() {
+        return this.ticks.keySet().toString();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ee.cache.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TimingWheelScheduledEntries}
+ */
+public class TimingWheelScheduledEntriesTestCase {
+
+    private final ScheduledEntries<UUID, Instant> entries = new TimingWheelScheduledEntries<>(Duration.ofSeconds(1));
+
+    @Test
+    public void test() {
+        // Verify empty
+        Assert.assertTrue(this.entries.isSorted());
+        Assert.assertFalse(this.entries.iterator().hasNext());
+        Assert.assertNull(this.entries.peek());
+
+        Instant tick = Instant.ofEpochSecond(Instant.now().getEpochSecond());
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        UUID fourth = UUID.randomUUID();
+
+        this.entries.add(first, tick.plusMillis(1));
+        this.entries.add(second, tick.plusMillis(999));
+        this.entries.add(third, tick.minusSeconds(1));
+        this.entries.add(fourth, tick.plusSeconds(2));
+
+        // Verify values are rounded up to the end of their tick
+        Assert.assertEquals(Set.of(third), this.entries.stream().filter(entry -> entry.getValue().equals(tick.minusSeconds(1))).map(Map.Entry::getKey).collect(Collectors.toSet()));
+        Assert.assertEquals(Set.of(first, second), this.entries.stream().filter(entry -> entry.getValue().equals(tick.plusSeconds(1))).map(Map.Entry::getKey).collect(Collectors.toSet()));
+        Assert.assertEquals(Set.of(fourth), this.entries.stream().filter(entry -> entry.getValue().equals(tick.plusSeconds(2))).map(Map.Entry::getKey).collect(Collectors.toSet()));
+
+        // Verify iteration order corresponds to tick order
+        List<Map.Entry<UUID, Instant>> result = this.entries.stream().collect(Collectors.toList());
+        Assert.assertEquals(4, result.size());
+        Assert.assertSame(third, result.get(0).getKey());
+        Assert.assertSame(fourth, result.get(3).getKey());
+        Assert.assertEquals(result.get(0), this.entries.peek());
+
+        // Verify rescheduling within the same tick does not affect value
+        this.entries.add(first, tick.plusMillis(500));
+        Assert.assertTrue(this.entries.contains(first));
+        Assert.assertEquals(4, this.entries.stream().count());
+
+        // Verify rescheduling to a later tick
+        this.entries.add(third, tick.plusSeconds(3));
+        result = this.entries.stream().collect(Collectors.toList());
+        Assert.assertEquals(4, result.size());
+        Assert.assertEquals(tick.plusSeconds(1), result.get(0).getValue());
+        Assert.assertSame(third, result.get(3).getKey());
+        Assert.assertEquals(tick.plusSeconds(3), result.get(3).getValue());
+
+        // Verify removal
+        this.entries.remove(fourth);
+        Assert.assertFalse(this.entries.contains(fourth));
+        Assert.assertEquals(3, this.entries.stream().count());
+
+        // Verify removal of non-existent entry
+        this.entries.remove(UUID.randomUUID());
+        Assert.assertEquals(3, this.entries.stream().count());
+
+        // Verify batch removal via iterator
+        Iterator<Map.Entry<UUID, Instant>> iterator = this.entries.iterator();
+        for (int i = 0; i < 2; ++i) {
+            Assert.assertTrue(iterator.hasNext());
+            Map.Entry<UUID, Instant> entry = iterator.next();
+            Assert.assertEquals(tick.plusSeconds(1), entry.getValue());
+            iterator.remove();
+        }
+        Assert.assertFalse(this.entries.contains(first));
+        Assert.assertFalse(this.entries.contains(second));
+        Assert.assertEquals(third, this.entries.peek().getKey());
+
+        // Verify iterator removal does not remove an entry rescheduled since iteration
+        iterator = this.entries.iterator();
+        Assert.assertTrue(iterator.hasNext());
+        Assert.assertSame(third, iterator.next().getKey());
+        this.entries.add(third, tick.plusSeconds(5));
+        iterator.remove();
+        Assert.assertTrue(this.entries.contains(third));
+        Assert.assertEquals(tick.plusSeconds(5), this.entries.peek().getValue());
+
+        this.entries.remove(third);
+        Assert.assertFalse(this.entries.iterator().hasNext());
+        Assert.assertNull(this.entries.peek());
+    }
+}
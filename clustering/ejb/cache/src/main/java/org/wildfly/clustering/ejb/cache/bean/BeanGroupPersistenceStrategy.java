@@ -0,0 +1,23 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.cache.bean;
+
+/**
+ * Enumerates the strategies for persisting the bean instances of a bean group.
+ */
+public enum BeanGroupPersistenceStrategy {
+    /**
+     * The bean instances of a group are marshalled together, as a single value.
+     * Object references shared between the bean instances of a group are preserved.
+     */
+    COARSE,
+    /**
+     * Each bean instance of a group is marshalled individually, and only those bean instances accessed by a given invocation are written.
+     * Object references shared between the bean instances of a group, e.g. an inherited extended persistence context, are not preserved.
+     */
+    FINE,
+    ;
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.cache.bean;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics for the replication of bean instances of fine granularity bean groups.
+ */
+public class BeanGroupReplicationStatistics {
+
+    private final LongAdder replicatedBeans = new LongAdder();
+    private final LongAdder replicatedBytes = new LongAdder();
+    private final LongAdder unmodifiedBeans = new LongAdder();
+
+    /**
+     * Records the replication of a bean instance.
+     * @param bytes the size of the marshalled form of the bean instance
+     */
+    public void replicated(int bytes) {
+        this.replicatedBeans.increment();
+        this.replicatedBytes.add(bytes);
+    }
+
+    /**
+     * Records bean instances of a bean group that were not written, since they were not accessed.
+     * @param count a number of bean instances
+     */
+    public void unmodified(int count) {
+        this.unmodifiedBeans.add(count);
+    }
+
+    /**
+     * @return the number of bean instances replicated following their access
+     */
+    public long getReplicatedBeanCount() {
+        return this.replicatedBeans.sum();
+    }
+
+    /**
+     * @return the total size of the marshalled form of replicated bean instances
+     */
+    public long getReplicatedBytes() {
+        return this.replicatedBytes.sum();
+    }
+
+    /**
+     * @return the number of bean instances whose replication was skipped, since they were not accessed
+     */
+    public long getUnmodifiedBeanCount() {
+        return this.unmodifiedBeans.sum();
+    }
+}
@@ -16,7 +16,6 @@ import org.wildfly.clustering.ee.Creator;
 import org.wildfly.clustering.ee.Manager;
 import org.wildfly.clustering.ee.Mutator;
 import org.wildfly.clustering.ee.MutatorFactory;
-import org.wildfly.clustering.ee.Remover;
 import org.wildfly.clustering.ee.cache.ConcurrentManager;
 import org.wildfly.clustering.ejb.bean.BeanInstance;
 import org.wildfly.clustering.marshalling.spi.MarshalledValue;
@@ -47,7 +46,7 @@ public class DefaultBeanGroupManager<K, V extends BeanInstance<K>, C> implements
         boolean persistent = configuration.getCacheProperties().isPersistent();
         this.postActivateTask = persistent ? new MapValuesTask<>(BeanInstance::postActivate) : Functions.discardingConsumer();
         this.prePassivateTask = persistent ? new MapValuesTask<>(BeanInstance::prePassivate) : Functions.discardingConsumer();
-        this.manager = new ConcurrentManager<>(Functions.discardingConsumer(), new NewBeanGroupCloseTask<>(configuration.getRemover()));
+        this.manager = new ConcurrentManager<>(Functions.discardingConsumer(), new MutableBeanGroupCloseTask<>(configuration.getRemover()));
     }
 
     @Override
@@ -90,21 +89,4 @@ public class DefaultBeanGroupManager<K, V extends BeanInstance<K>, C> implements
             instances.values().forEach(this.task);
         }
     }
-
-    private static class NewBeanGroupCloseTask<K, V extends BeanInstance<K>, C> implements Consumer<MutableBeanGroup<K, V>> {
-        private final Remover<K> remover;
-
-        NewBeanGroupCloseTask(Remover<K> remover) {
-            this.remover = remover;
-        }
-
-        @Override
-        public void accept(MutableBeanGroup<K, V> group) {
-            if (group.isEmpty()) {
-                this.remover.remove(group.getId());
-            } else {
-                group.mutate();
-            }
-        }
-    }
 }
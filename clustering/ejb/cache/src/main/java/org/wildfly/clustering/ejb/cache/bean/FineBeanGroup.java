@@ -0,0 +1,143 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.cache.bean;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.wildfly.clustering.ee.MutatorFactory;
+import org.wildfly.clustering.ejb.bean.BeanInstance;
+import org.wildfly.clustering.marshalling.spi.MarshalledValue;
+
+/**
+ * A {@link MutableBeanGroup} whose bean instances are marshalled individually.
+ * A bean instance is only unmarshalled upon its first access via this group,
+ * and only those bean instances accessed, added, or removed via this group are written on {@link #mutate()}.
+ * @param <K> the bean identifier type
+ * @param <V> the bean instance type
+ * @param <C> the marshalled value context type
+ */
+public class FineBeanGroup<K, V extends BeanInstance<K>, C> implements MutableBeanGroup<K, V> {
+
+    private final K id;
+    // Marshalled bean instances not yet accessed via this group
+    private final Map<K, MarshalledValue<V, C>> values;
+    // Bean instances accessed via this group
+    private final Map<K, V> instances = new ConcurrentHashMap<>();
+    // Identifiers of bean instances to write on mutate, including removed bean instances
+    private final Set<K> updates = ConcurrentHashMap.newKeySet();
+    private final C context;
+    private final Consumer<V> postActivateTask;
+    private final Consumer<V> prePassivateTask;
+    private final Function<V, MarshalledValue<V, C>> writer;
+    private final MutatorFactory<K, Map<K, MarshalledValue<V, C>>> mutatorFactory;
+    private final BeanGroupReplicationStatistics statistics;
+    private final Runnable closeTask;
+
+    public FineBeanGroup(K id, Map<K, MarshalledValue<V, C>> values, C context, Consumer<V> postActivateTask, Consumer<V> prePassivateTask, Function<V, MarshalledValue<V, C>> writer, MutatorFactory<K, Map<K, MarshalledValue<V, C>>> mutatorFactory, BeanGroupReplicationStatistics statistics, Runnable closeTask) {
+        this.id = id;
+        this.values = new ConcurrentHashMap<>(values);
+        this.context = context;
+        this.postActivateTask = postActivateTask;
+        this.prePassivateTask = prePassivateTask;
+        this.writer = writer;
+        this.mutatorFactory = mutatorFactory;
+        this.statistics = statistics;
+        this.closeTask = closeTask;
+    }
+
+    @Override
+    public K getId() {
+        return this.id;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.instances.isEmpty() && this.values.isEmpty();
+    }
+
+    @Override
+    public V getBeanInstance(K id) {
+        V instance = this.instances.get(id);
+        if (instance == null) {
+            instance = this.activate(id);
+        }
+        if (instance != null) {
+            // Instance is likely mutated by the caller
+            this.updates.add(id);
+        }
+        return instance;
+    }
+
+    private synchronized V activate(K id) {
+        V instance = this.instances.get(id);
+        if (instance == null) {
+            MarshalledValue<V, C> value = this.values.get(id);
+            if (value != null) {
+                try {
+                    instance = value.get(this.context);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+                this.instances.put(id, instance);
+                this.values.remove(id);
+                this.postActivateTask.accept(instance);
+            }
+        }
+        return instance;
+    }
+
+    @Override
+    public void addBeanInstance(V instance) {
+        K id = instance.getId();
+        this.instances.put(id, instance);
+        this.values.remove(id);
+        this.updates.add(id);
+    }
+
+    @Override
+    public V removeBeanInstance(K id) {
+        // Activate instance, if necessary, so that the caller can destroy it
+        V instance = this.getBeanInstance(id);
+        if (instance != null) {
+            this.instances.remove(id);
+        }
+        return instance;
+    }
+
+    @Override
+    public void mutate() {
+        Map<K, MarshalledValue<V, C>> updates = new HashMap<>();
+        for (K id : this.updates) {
+            V instance = this.instances.get(id);
+            if (instance != null) {
+                this.prePassivateTask.accept(instance);
+            }
+            // A null value removes the bean instance from the group
+            updates.put(id, (instance != null) ? this.writer.apply(instance) : null);
+        }
+        this.updates.removeAll(updates.keySet());
+        this.statistics.unmodified(this.values.size());
+        if (!updates.isEmpty()) {
+            this.mutatorFactory.createMutator(this.id, updates).mutate();
+        }
+    }
+
+    @Override
+    public void close() {
+        this.closeTask.run();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s { %s -> %s, %s }", this.getClass().getSimpleName(), this.id, this.instances.keySet(), this.values.keySet());
+    }
+}
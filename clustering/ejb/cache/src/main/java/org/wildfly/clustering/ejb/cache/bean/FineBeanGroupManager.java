@@ -0,0 +1,91 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.cache.bean;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.wildfly.clustering.ee.Creator;
+import org.wildfly.clustering.ee.Manager;
+import org.wildfly.clustering.ee.MutatorFactory;
+import org.wildfly.clustering.ee.cache.ConcurrentManager;
+import org.wildfly.clustering.ejb.bean.BeanInstance;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValue;
+import org.wildfly.clustering.marshalling.spi.MarshalledValue;
+import org.wildfly.clustering.marshalling.spi.MarshalledValueFactory;
+import org.wildfly.common.function.Functions;
+
+/**
+ * A manager for bean groups whose bean instances are marshalled individually.
+ * The cache entry of a bean group maps the identifier of each bean instance to its marshalled form,
+ * and is mutated by applying only the bean instances accessed, added, or removed while the group was in use.
+ * @param <K> the bean identifier type
+ * @param <V> the bean instance type
+ * @param <C> the marshalled value context type
+ */
+public class FineBeanGroupManager<K, V extends BeanInstance<K>, C> implements BeanGroupManager<K, V> {
+
+    private final Creator<K, Map<K, MarshalledValue<V, C>>, Map<K, MarshalledValue<V, C>>> creator;
+    private final MutatorFactory<K, Map<K, MarshalledValue<V, C>>> mutatorFactory;
+    private final MarshalledValueFactory<C> factory;
+    private final BeanGroupReplicationStatistics statistics;
+    private final Manager<K, MutableBeanGroup<K, V>> manager;
+    private final Consumer<V> postActivateTask;
+    private final Consumer<V> prePassivateTask;
+    private final Function<V, MarshalledValue<V, C>> writer;
+
+    public FineBeanGroupManager(FineBeanGroupManagerConfiguration<K, V, C> configuration) {
+        this.creator = configuration.getCreator();
+        this.mutatorFactory = configuration.getMutatorFactory();
+        this.factory = configuration.getMarshalledValueFactory();
+        this.statistics = configuration.getReplicationStatistics();
+        boolean persistent = configuration.getCacheProperties().isPersistent();
+        this.postActivateTask = persistent ? BeanInstance::postActivate : Functions.discardingConsumer();
+        this.prePassivateTask = persistent ? BeanInstance::prePassivate : Functions.discardingConsumer();
+        this.writer = configuration.getCacheProperties().isMarshalling() ? this::marshal : this.factory::createMarshalledValue;
+        this.manager = new ConcurrentManager<>(Functions.discardingConsumer(), new MutableBeanGroupCloseTask<>(configuration.getRemover()));
+    }
+
+    @Override
+    public BeanGroup<K, V> getBeanGroup(K id) {
+        Creator<K, Map<K, MarshalledValue<V, C>>, Map<K, MarshalledValue<V, C>>> creator = this.creator;
+        MutatorFactory<K, Map<K, MarshalledValue<V, C>>> mutatorFactory = this.mutatorFactory;
+        C context = this.factory.getMarshallingContext();
+        Consumer<V> postActivateTask = this.postActivateTask;
+        Consumer<V> prePassivateTask = this.prePassivateTask;
+        Function<V, MarshalledValue<V, C>> writer = this.writer;
+        BeanGroupReplicationStatistics statistics = this.statistics;
+        Function<Runnable, MutableBeanGroup<K, V>> beanGroupFactory = new Function<>() {
+            @Override
+            public MutableBeanGroup<K, V> apply(Runnable closeTask) {
+                Map<K, MarshalledValue<V, C>> values = creator.createValue(id, new HashMap<>());
+                return new FineBeanGroup<>(id, values, context, postActivateTask, prePassivateTask, writer, mutatorFactory, statistics, closeTask);
+            }
+        };
+        return this.manager.apply(id, beanGroupFactory);
+    }
+
+    private MarshalledValue<V, C> marshal(V instance) {
+        MarshalledValue<V, C> value = this.factory.createMarshalledValue(instance);
+        if (value instanceof ByteBufferMarshalledValue) {
+            try {
+                ByteBuffer buffer = ((ByteBufferMarshalledValue<?>) value).getBuffer();
+                this.statistics.replicated(buffer.remaining());
+                // Retain the marshalled form, so that the bean instance is not marshalled again upon replication
+                @SuppressWarnings("unchecked")
+                MarshalledValue<V, C> result = (MarshalledValue<V, C>) (MarshalledValue<?, ?>) new ByteBufferMarshalledValue<>(buffer);
+                return result;
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.cache.bean;
+
+import java.util.Map;
+
+import org.wildfly.clustering.ee.Creator;
+import org.wildfly.clustering.ee.MutatorFactory;
+import org.wildfly.clustering.ee.Remover;
+import org.wildfly.clustering.ee.cache.CacheProperties;
+import org.wildfly.clustering.ejb.bean.BeanInstance;
+import org.wildfly.clustering.marshalling.spi.MarshalledValue;
+import org.wildfly.clustering.marshalling.spi.MarshalledValueFactory;
+
+/**
+ * Encapsulates the configuration of a {@link FineBeanGroupManager}.
+ * @param <K> the bean identifier type
+ * @param <V> the bean instance type
+ * @param <C> the marshalled value context type
+ */
+public interface FineBeanGroupManagerConfiguration<K, V extends BeanInstance<K>, C> {
+    Creator<K, Map<K, MarshalledValue<V, C>>, Map<K, MarshalledValue<V, C>>> getCreator();
+    Remover<K> getRemover();
+    /**
+     * Returns a factory for mutators that apply the specified updates to the bean instances of a group.
+     * A null update value indicates the removal of the associated bean instance.
+     * @return a mutator factory
+     */
+    MutatorFactory<K, Map<K, MarshalledValue<V, C>>> getMutatorFactory();
+    CacheProperties getCacheProperties();
+    MarshalledValueFactory<C> getMarshalledValueFactory();
+    BeanGroupReplicationStatistics getReplicationStatistics();
+}
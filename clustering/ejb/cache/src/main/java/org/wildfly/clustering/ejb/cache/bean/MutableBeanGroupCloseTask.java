@@ -0,0 +1,34 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.cache.bean;
+
+import java.util.function.Consumer;
+
+import org.wildfly.clustering.ee.Remover;
+import org.wildfly.clustering.ejb.bean.BeanInstance;
+
+/**
+ * Task run when the last reference to a bean group is closed.
+ * Removes an empty bean group, or mutates a non-empty bean group.
+ * @param <K> the bean identifier type
+ * @param <V> the bean instance type
+ */
+class MutableBeanGroupCloseTask<K, V extends BeanInstance<K>> implements Consumer<MutableBeanGroup<K, V>> {
+    private final Remover<K> remover;
+
+    MutableBeanGroupCloseTask(Remover<K> remover) {
+        this.remover = remover;
+    }
+
+    @Override
+    public void accept(MutableBeanGroup<K, V> group) {
+        if (group.isEmpty()) {
+            this.remover.remove(group.getId());
+        } else {
+            group.mutate();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.cache.bean;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.wildfly.clustering.ee.Mutator;
+import org.wildfly.clustering.ee.MutatorFactory;
+import org.wildfly.clustering.ejb.bean.BeanInstance;
+import org.wildfly.clustering.marshalling.spi.MarshalledValue;
+
+/**
+ * Unit test for {@link FineBeanGroup}.
+ */
+@SuppressWarnings("unchecked")
+public class FineBeanGroupTestCase {
+
+    private final UUID groupId = UUID.randomUUID();
+    private final UUID accessedId = UUID.randomUUID();
+    private final UUID unmodifiedId = UUID.randomUUID();
+    private final UUID removedId = UUID.randomUUID();
+    private final Object context = new Object();
+    private final BeanInstance<UUID> accessed = mock(BeanInstance.class);
+    private final BeanInstance<UUID> removed = mock(BeanInstance.class);
+    private final MarshalledValue<BeanInstance<UUID>, Object> accessedValue = mock(MarshalledValue.class);
+    private final MarshalledValue<BeanInstance<UUID>, Object> unmodifiedValue = mock(MarshalledValue.class);
+    private final MarshalledValue<BeanInstance<UUID>, Object> removedValue = mock(MarshalledValue.class);
+    private final MarshalledValue<BeanInstance<UUID>, Object> writtenValue = mock(MarshalledValue.class);
+    private final Consumer<BeanInstance<UUID>> postActivateTask = mock(Consumer.class);
+    private final Consumer<BeanInstance<UUID>> prePassivateTask = mock(Consumer.class);
+    private final Function<BeanInstance<UUID>, MarshalledValue<BeanInstance<UUID>, Object>> writer = mock(Function.class);
+    private final MutatorFactory<UUID, Map<UUID, MarshalledValue<BeanInstance<UUID>, Object>>> mutatorFactory = mock(MutatorFactory.class);
+    private final BeanGroupReplicationStatistics statistics = new BeanGroupReplicationStatistics();
+    private final Runnable closeTask = mock(Runnable.class);
+
+    private final MutableBeanGroup<UUID, BeanInstance<UUID>> group = new FineBeanGroup<>(this.groupId, Map.of(this.accessedId, this.accessedValue, this.unmodifiedId, this.unmodifiedValue, this.removedId, this.removedValue), this.context, this.postActivateTask, this.prePassivateTask, this.writer, this.mutatorFactory, this.statistics, this.closeTask);
+
+    @Test
+    public void mutate() throws IOException {
+        Mutator mutator = mock(Mutator.class);
+        ArgumentCaptor<Map<UUID, MarshalledValue<BeanInstance<UUID>, Object>>> capturedUpdates = ArgumentCaptor.forClass(Map.class);
+
+        doReturn(this.accessed).when(this.accessedValue).get(this.context);
+        doReturn(this.removed).when(this.removedValue).get(this.context);
+        doReturn(this.writtenValue).when(this.writer).apply(this.accessed);
+        doReturn(mutator).when(this.mutatorFactory).createMutator(same(this.groupId), capturedUpdates.capture());
+
+        assertSame(this.accessed, this.group.getBeanInstance(this.accessedId));
+        assertSame(this.accessed, this.group.getBeanInstance(this.accessedId));
+        assertSame(this.removed, this.group.removeBeanInstance(this.removedId));
+        assertFalse(this.group.isEmpty());
+
+        // Accessed instances are activated only once
+        verify(this.accessedValue).get(this.context);
+        verify(this.postActivateTask).accept(this.accessed);
+        verify(this.postActivateTask).accept(this.removed);
+        verify(this.unmodifiedValue, never()).get(any());
+
+        this.group.mutate();
+
+        verify(this.prePassivateTask).accept(this.accessed);
+        verify(this.prePassivateTask, never()).accept(this.removed);
+        verify(mutator).mutate();
+
+        // Only accessed and removed instances are written
+        Map<UUID, MarshalledValue<BeanInstance<UUID>, Object>> updates = capturedUpdates.getValue();
+        assertEquals(2, updates.size());
+        assertSame(this.writtenValue, updates.get(this.accessedId));
+        assertTrue(updates.containsKey(this.removedId));
+        assertNull(updates.get(this.removedId));
+        assertEquals(1L, this.statistics.getUnmodifiedBeanCount());
+
+        // Subsequent mutate without further access writes nothing
+        this.group.mutate();
+
+        verify(this.mutatorFactory).createMutator(any(), any());
+        assertEquals(2L, this.statistics.getUnmodifiedBeanCount());
+    }
+
+    @Test
+    public void addBeanInstance() {
+        Mutator mutator = mock(Mutator.class);
+        BeanInstance<UUID> instance = mock(BeanInstance.class);
+        UUID id = UUID.randomUUID();
+
+        doReturn(id).when(instance).getId();
+        doReturn(this.writtenValue).when(this.writer).apply(instance);
+        doReturn(mutator).when(this.mutatorFactory).createMutator(this.groupId, Map.of(id, this.writtenValue));
+
+        this.group.addBeanInstance(instance);
+
+        assertSame(instance, this.group.getBeanInstance(id));
+        verifyNoInteractions(this.postActivateTask);
+
+        this.group.mutate();
+
+        verify(this.prePassivateTask).accept(instance);
+        verify(mutator).mutate();
+        assertEquals(3L, this.statistics.getUnmodifiedBeanCount());
+    }
+
+    @Test
+    public void close() {
+        this.group.close();
+
+        verify(this.closeTask).run();
+    }
+}
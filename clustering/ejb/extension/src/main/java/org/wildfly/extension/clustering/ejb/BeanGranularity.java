@@ -0,0 +1,30 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.ejb;
+
+import java.util.function.Supplier;
+
+import org.wildfly.clustering.ejb.cache.bean.BeanGroupPersistenceStrategy;
+
+/**
+ * Enumerates the granularity with which the beans of a bean group are replicated.
+ */
+public enum BeanGranularity implements Supplier<BeanGroupPersistenceStrategy> {
+
+    GROUP(BeanGroupPersistenceStrategy.COARSE),
+    BEAN(BeanGroupPersistenceStrategy.FINE),
+    ;
+    private final BeanGroupPersistenceStrategy strategy;
+
+    BeanGranularity(BeanGroupPersistenceStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    @Override
+    public BeanGroupPersistenceStrategy get() {
+        return this.strategy;
+    }
+}
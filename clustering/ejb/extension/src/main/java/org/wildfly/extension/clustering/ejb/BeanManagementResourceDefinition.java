@@ -9,11 +9,12 @@ import java.util.function.UnaryOperator;
 
 import org.jboss.as.clustering.controller.CapabilityProvider;
 import org.jboss.as.clustering.controller.ChildResourceDefinition;
+import org.jboss.as.clustering.controller.ManagementResourceRegistration;
 import org.jboss.as.clustering.controller.ResourceDescriptor;
 import org.jboss.as.clustering.controller.ResourceServiceConfiguratorFactory;
 import org.jboss.as.clustering.controller.ResourceServiceHandler;
+import org.jboss.as.clustering.controller.ServiceValueRegistry;
 import org.jboss.as.clustering.controller.SimpleResourceRegistrar;
-import org.jboss.as.clustering.controller.SimpleResourceServiceHandler;
 import org.jboss.as.clustering.controller.UnaryCapabilityNameResolver;
 import org.jboss.as.clustering.controller.UnaryRequirementCapability;
 import org.jboss.as.clustering.controller.validation.IntRangeValidatorBuilder;
@@ -21,9 +22,9 @@ import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.capability.RuntimeCapability;
-import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.AttributeAccess.Flag;
 import org.jboss.dmr.ModelType;
+import org.wildfly.clustering.ejb.bean.BeanManagementProvider;
 import org.wildfly.clustering.ejb.bean.BeanProviderRequirement;
 import org.wildfly.clustering.service.UnaryRequirement;
 
@@ -79,11 +80,13 @@ public class BeanManagementResourceDefinition extends ChildResourceDefinition<Ma
 
     private final UnaryOperator<ResourceDescriptor> configurator;
     private final ResourceServiceConfiguratorFactory factory;
+    private final ServiceValueRegistry<BeanManagementProvider> registry;
 
-    BeanManagementResourceDefinition(PathElement path, UnaryOperator<ResourceDescriptor> configurator, ResourceServiceConfiguratorFactory factory) {
+    BeanManagementResourceDefinition(PathElement path, UnaryOperator<ResourceDescriptor> configurator, ResourceServiceConfiguratorFactory factory, ServiceValueRegistry<BeanManagementProvider> registry) {
         super(path, DistributableEjbExtension.SUBSYSTEM_RESOLVER.createChildResolver(path, PathElement.pathElement("bean-management")));
         this.configurator = configurator;
         this.factory = factory;
+        this.registry = registry;
     }
 
     @Override
@@ -95,7 +98,7 @@ public class BeanManagementResourceDefinition extends ChildResourceDefinition<Ma
                 .addCapabilities(Capability.class)
                 ;
 
-        ResourceServiceHandler handler = new SimpleResourceServiceHandler(this.factory);
+        ResourceServiceHandler handler = new BeanManagementServiceHandler(this.factory, this.registry);
 
         new SimpleResourceRegistrar(this.configurator.apply(descriptor), handler).register(registration);
 
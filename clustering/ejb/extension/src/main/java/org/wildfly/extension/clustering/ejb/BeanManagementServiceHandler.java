@@ -0,0 +1,45 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.ejb;
+
+import org.jboss.as.clustering.controller.ResourceServiceConfiguratorFactory;
+import org.jboss.as.clustering.controller.ServiceValueCaptorServiceConfigurator;
+import org.jboss.as.clustering.controller.ServiceValueRegistry;
+import org.jboss.as.clustering.controller.SimpleResourceServiceHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceName;
+import org.wildfly.clustering.ejb.bean.BeanManagementProvider;
+
+/**
+ * Service handler for bean management resources that additionally captures the bean management provider, for use by runtime metrics.
+ */
+public class BeanManagementServiceHandler extends SimpleResourceServiceHandler {
+
+    private final ServiceValueRegistry<BeanManagementProvider> registry;
+
+    BeanManagementServiceHandler(ResourceServiceConfiguratorFactory factory, ServiceValueRegistry<BeanManagementProvider> registry) {
+        super(factory);
+        this.registry = registry;
+    }
+
+    @Override
+    public void installServices(OperationContext context, ModelNode model) throws OperationFailedException {
+        super.installServices(context, model);
+
+        ServiceName name = BeanManagementResourceDefinition.Capability.BEAN_MANAGEMENT_PROVIDER.getServiceName(context.getCurrentAddress());
+        new ServiceValueCaptorServiceConfigurator<>(this.registry.add(name)).build(context.getCapabilityServiceTarget()).install();
+    }
+
+    @Override
+    public void removeServices(OperationContext context, ModelNode model) throws OperationFailedException {
+        ServiceName name = BeanManagementResourceDefinition.Capability.BEAN_MANAGEMENT_PROVIDER.getServiceName(context.getCurrentAddress());
+        context.removeService(new ServiceValueCaptorServiceConfigurator<>(this.registry.remove(name)).getServiceName());
+
+        super.removeServices(context, model);
+    }
+}
@@ -6,6 +6,8 @@ package org.wildfly.extension.clustering.ejb;
 
 import static org.jboss.as.controller.PersistentResourceXMLDescription.builder;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -22,8 +24,13 @@ public enum DistributableEjbXMLDescriptionFactory implements Function<Distributa
 
     @Override
     public PersistentResourceXMLDescription apply(DistributableEjbSubsystemSchema schema) {
+        Set<InfinispanBeanManagementResourceDefinition.Attribute> beanManagementAttributes = EnumSet.allOf(InfinispanBeanManagementResourceDefinition.Attribute.class);
+        if (!schema.since(DistributableEjbSubsystemSchema.VERSION_2_0)) {
+            beanManagementAttributes.remove(InfinispanBeanManagementResourceDefinition.Attribute.EXPIRATION_RESOLUTION);
+            beanManagementAttributes.remove(InfinispanBeanManagementResourceDefinition.Attribute.GRANULARITY);
+        }
         return builder(DistributableEjbResourceDefinition.PATH, schema.getNamespace()).addAttributes(Attribute.stream(DistributableEjbResourceDefinition.Attribute.class))
-                .addChild(builder(InfinispanBeanManagementResourceDefinition.WILDCARD_PATH).addAttributes(Stream.concat(Attribute.stream(BeanManagementResourceDefinition.Attribute.class), Attribute.stream(InfinispanBeanManagementResourceDefinition.Attribute.class))))
+                .addChild(builder(InfinispanBeanManagementResourceDefinition.WILDCARD_PATH).addAttributes(Stream.concat(Attribute.stream(BeanManagementResourceDefinition.Attribute.class), Attribute.stream(beanManagementAttributes))))
                 .addChild(builder(LocalClientMappingsRegistryProviderResourceDefinition.PATH).setXmlElementName("local-client-mappings-registry"))
                 .addChild(builder(InfinispanClientMappingsRegistryProviderResourceDefinition.PATH).addAttributes(Attribute.stream(InfinispanClientMappingsRegistryProviderResourceDefinition.Attribute.class)).setXmlElementName("infinispan-client-mappings-registry"))
                 .addChild(builder(InfinispanTimerManagementResourceDefinition.WILDCARD_PATH).addAttributes(Attribute.stream(InfinispanTimerManagementResourceDefinition.Attribute.class)).setXmlElementName("infinispan-timer-management"))
@@ -0,0 +1,55 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.ejb;
+
+import org.jboss.as.clustering.controller.Metric;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.wildfly.clustering.ejb.cache.bean.BeanGroupReplicationStatistics;
+
+/**
+ * Enumeration of management metrics for an Infinispan bean management provider.
+ */
+public enum InfinispanBeanManagementMetric implements Metric<BeanGroupReplicationStatistics> {
+
+    REPLICATED_BEANS("replicated-beans", ModelType.LONG, MeasurementUnit.NONE) {
+        @Override
+        public ModelNode execute(BeanGroupReplicationStatistics statistics) {
+            return new ModelNode(statistics.getReplicatedBeanCount());
+        }
+    },
+    REPLICATED_BYTES("replicated-bytes", ModelType.LONG, MeasurementUnit.BYTES) {
+        @Override
+        public ModelNode execute(BeanGroupReplicationStatistics statistics) {
+            return new ModelNode(statistics.getReplicatedBytes());
+        }
+    },
+    UNMODIFIED_BEANS("unmodified-beans", ModelType.LONG, MeasurementUnit.NONE) {
+        @Override
+        public ModelNode execute(BeanGroupReplicationStatistics statistics) {
+            return new ModelNode(statistics.getUnmodifiedBeanCount());
+        }
+    },
+    ;
+    private final AttributeDefinition definition;
+
+    InfinispanBeanManagementMetric(String name, ModelType type, MeasurementUnit unit) {
+        this.definition = new SimpleAttributeDefinitionBuilder(name, type, true)
+                .setFlags(AttributeAccess.Flag.COUNTER_METRIC)
+                .setMeasurementUnit(unit)
+                .setStorageRuntime()
+                .build();
+    }
+
+    @Override
+    public AttributeDefinition getDefinition() {
+        return this.definition;
+    }
+}
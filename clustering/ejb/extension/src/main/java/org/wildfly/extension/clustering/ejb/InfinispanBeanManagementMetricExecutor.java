@@ -0,0 +1,46 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.ejb;
+
+import java.util.function.Function;
+
+import org.jboss.as.clustering.controller.FunctionExecutor;
+import org.jboss.as.clustering.controller.FunctionExecutorRegistry;
+import org.jboss.as.clustering.controller.Metric;
+import org.jboss.as.clustering.controller.MetricExecutor;
+import org.jboss.as.clustering.controller.MetricFunction;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceName;
+import org.wildfly.clustering.ejb.bean.BeanManagementProvider;
+import org.wildfly.clustering.ejb.cache.bean.BeanGroupReplicationStatistics;
+import org.wildfly.clustering.ejb.infinispan.bean.InfinispanBeanManagementProvider;
+
+/**
+ * Executor for Infinispan bean management metrics.
+ * Metrics are undefined until the bean management provider is used by a deployment.
+ */
+public class InfinispanBeanManagementMetricExecutor implements MetricExecutor<BeanGroupReplicationStatistics>, Function<BeanManagementProvider, BeanGroupReplicationStatistics> {
+
+    private final FunctionExecutorRegistry<BeanManagementProvider> executors;
+
+    public InfinispanBeanManagementMetricExecutor(FunctionExecutorRegistry<BeanManagementProvider> executors) {
+        this.executors = executors;
+    }
+
+    @Override
+    public ModelNode execute(OperationContext context, Metric<BeanGroupReplicationStatistics> metric) throws OperationFailedException {
+        ServiceName name = BeanManagementResourceDefinition.Capability.BEAN_MANAGEMENT_PROVIDER.getServiceName(context.getCurrentAddress());
+        FunctionExecutor<BeanManagementProvider> executor = this.executors.get(name);
+        return (executor != null) ? executor.execute(new MetricFunction<>(this, metric)) : null;
+    }
+
+    @Override
+    public BeanGroupReplicationStatistics apply(BeanManagementProvider provider) {
+        return (provider instanceof InfinispanBeanManagementProvider) ? ((InfinispanBeanManagementProvider) provider).getReplicationStatistics() : null;
+    }
+}
@@ -7,12 +7,20 @@ package org.wildfly.extension.clustering.ejb;
 import java.util.function.UnaryOperator;
 
 import org.jboss.as.clustering.controller.CapabilityReference;
+import org.jboss.as.clustering.controller.ManagementResourceRegistration;
+import org.jboss.as.clustering.controller.MetricHandler;
+import org.jboss.as.clustering.controller.ServiceValueExecutorRegistry;
 import org.jboss.as.clustering.controller.SimpleResourceDescriptorConfigurator;
+import org.jboss.as.clustering.controller.validation.LongRangeValidatorBuilder;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.EnumValidator;
 import org.jboss.as.controller.registry.AttributeAccess.Flag;
+import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.wildfly.clustering.ejb.bean.BeanManagementProvider;
 import org.wildfly.clustering.infinispan.service.InfinispanCacheRequirement;
 import org.wildfly.clustering.infinispan.service.InfinispanDefaultCacheRequirement;
 
@@ -42,6 +50,25 @@ public class InfinispanBeanManagementResourceDefinition extends BeanManagementRe
                 return builder.setCapabilityReference(new CapabilityReference(Capability.BEAN_MANAGEMENT_PROVIDER, InfinispanCacheRequirement.CONFIGURATION, CACHE_CONTAINER));
             }
         },
+        EXPIRATION_RESOLUTION("expiration-resolution", ModelType.LONG) {
+            @Override
+            public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
+                return builder.setAllowExpression(true)
+                        .setDefaultValue(new ModelNode(0L))
+                        .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                        .setValidator(new LongRangeValidatorBuilder().min(0).configure(builder).build())
+                        ;
+            }
+        },
+        GRANULARITY("granularity", ModelType.STRING) {
+            @Override
+            public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
+                return builder.setAllowExpression(true)
+                        .setDefaultValue(new ModelNode(BeanGranularity.GROUP.name()))
+                        .setValidator(EnumValidator.create(BeanGranularity.class))
+                        ;
+            }
+        },
         ;
         private final AttributeDefinition definition;
 
@@ -58,7 +85,25 @@ public class InfinispanBeanManagementResourceDefinition extends BeanManagementRe
         }
     }
 
+    private final ServiceValueExecutorRegistry<BeanManagementProvider> executors;
+
     InfinispanBeanManagementResourceDefinition() {
-        super(WILDCARD_PATH, new SimpleResourceDescriptorConfigurator<>(Attribute.class), InfinispanBeanManagementServiceConfigurator::new);
+        this(new ServiceValueExecutorRegistry<>());
+    }
+
+    private InfinispanBeanManagementResourceDefinition(ServiceValueExecutorRegistry<BeanManagementProvider> executors) {
+        super(WILDCARD_PATH, new SimpleResourceDescriptorConfigurator<>(Attribute.class), InfinispanBeanManagementServiceConfigurator::new, executors);
+        this.executors = executors;
+    }
+
+    @Override
+    public ManagementResourceRegistration register(ManagementResourceRegistration parent) {
+        ManagementResourceRegistration registration = super.register(parent);
+
+        if (registration.isRuntimeOnlyRegistrationValid()) {
+            new MetricHandler<>(new InfinispanBeanManagementMetricExecutor(this.executors), InfinispanBeanManagementMetric.class).register(registration);
+        }
+
+        return registration;
     }
 }
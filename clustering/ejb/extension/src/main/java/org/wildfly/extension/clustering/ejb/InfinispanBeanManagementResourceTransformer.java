@@ -0,0 +1,37 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.clustering.ejb;
+
+import java.util.function.Consumer;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+
+/**
+ * Transformer for the /subsystem=distributable-ejb/infinispan-bean-management=* resource.
+ * @author Paul Ferraro
+ */
+public class InfinispanBeanManagementResourceTransformer implements Consumer<ModelVersion> {
+
+    private final ResourceTransformationDescriptionBuilder parent;
+
+    InfinispanBeanManagementResourceTransformer(ResourceTransformationDescriptionBuilder parent) {
+        this.parent = parent;
+    }
+
+    @Override
+    public void accept(ModelVersion version) {
+        ResourceTransformationDescriptionBuilder builder = this.parent.addChildResource(InfinispanBeanManagementResourceDefinition.WILDCARD_PATH);
+
+        if (DistributableEjbSubsystemModel.VERSION_2_0_0.requiresTransformation(version)) {
+            builder.getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, InfinispanBeanManagementResourceDefinition.Attribute.EXPIRATION_RESOLUTION.getName(), InfinispanBeanManagementResourceDefinition.Attribute.GRANULARITY.getName())
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, InfinispanBeanManagementResourceDefinition.Attribute.EXPIRATION_RESOLUTION.getName(), InfinispanBeanManagementResourceDefinition.Attribute.GRANULARITY.getName())
+                    .end();
+        }
+    }
+}
@@ -5,17 +5,22 @@
 
 package org.wildfly.extension.clustering.ejb;
 
+import java.time.Duration;
+
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.dmr.ModelNode;
 import org.wildfly.clustering.ejb.bean.BeanManagementProvider;
+import org.wildfly.clustering.ejb.cache.bean.BeanGroupPersistenceStrategy;
 import org.wildfly.clustering.ejb.infinispan.bean.InfinispanBeanManagementConfiguration;
 import org.wildfly.clustering.ejb.infinispan.bean.InfinispanBeanManagementProvider;
 import org.wildfly.clustering.service.ServiceConfigurator;
 
 import static org.wildfly.extension.clustering.ejb.InfinispanBeanManagementResourceDefinition.Attribute.CACHE;
 import static org.wildfly.extension.clustering.ejb.InfinispanBeanManagementResourceDefinition.Attribute.CACHE_CONTAINER;
+import static org.wildfly.extension.clustering.ejb.InfinispanBeanManagementResourceDefinition.Attribute.EXPIRATION_RESOLUTION;
+import static org.wildfly.extension.clustering.ejb.InfinispanBeanManagementResourceDefinition.Attribute.GRANULARITY;
 
 /**
  * Service configurator for Infinispan bean management providers.
@@ -27,6 +32,8 @@ public class InfinispanBeanManagementServiceConfigurator extends BeanManagementS
 
     private volatile String containerName;
     private volatile String cacheName;
+    private volatile Duration expirationResolution;
+    private volatile BeanGroupPersistenceStrategy strategy;
 
     public InfinispanBeanManagementServiceConfigurator(PathAddress address) {
         super(address);
@@ -36,6 +43,8 @@ public class InfinispanBeanManagementServiceConfigurator extends BeanManagementS
     public ServiceConfigurator configure(OperationContext context, ModelNode model) throws OperationFailedException {
         this.containerName = CACHE_CONTAINER.resolveModelAttribute(context, model).asString();
         this.cacheName = CACHE.resolveModelAttribute(context, model).asStringOrNull();
+        this.expirationResolution = Duration.ofMillis(EXPIRATION_RESOLUTION.resolveModelAttribute(context, model).asLong());
+        this.strategy = BeanGranularity.valueOf(GRANULARITY.resolveModelAttribute(context, model).asString()).get();
         return super.configure(context, model);
     }
 
@@ -53,4 +62,14 @@ public class InfinispanBeanManagementServiceConfigurator extends BeanManagementS
     public String getCacheName() {
         return this.cacheName;
     }
+
+    @Override
+    public Duration getExpirationResolution() {
+        return this.expirationResolution;
+    }
+
+    @Override
+    public BeanGroupPersistenceStrategy getBeanGroupPersistenceStrategy() {
+        return this.strategy;
+    }
 }
@@ -5,6 +5,7 @@
 package org.wildfly.clustering.ejb.infinispan.bean;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -12,6 +13,7 @@ import org.wildfly.clustering.ee.Batch;
 import org.wildfly.clustering.ee.Batcher;
 import org.wildfly.clustering.ee.cache.scheduler.LinkedScheduledEntries;
 import org.wildfly.clustering.ee.cache.scheduler.LocalScheduler;
+import org.wildfly.clustering.ee.cache.scheduler.ScheduledEntries;
 import org.wildfly.clustering.ee.cache.scheduler.SortedScheduledEntries;
 import org.wildfly.clustering.ee.cache.tx.TransactionBatch;
 import org.wildfly.clustering.ee.infinispan.expiration.AbstractExpirationScheduler;
@@ -36,7 +38,11 @@ public class BeanExpirationScheduler<K, V extends BeanInstance<K>, M> extends Ab
     private final ImmutableBeanMetaDataFactory<K, M> factory;
 
     public BeanExpirationScheduler(Group group, Batcher<TransactionBatch> batcher, BeanFactory<K, V, M> factory, BeanExpirationConfiguration<K, V> expiration, Duration closeTimeout) {
-        super(new LocalScheduler<>(group.isSingleton() ? new LinkedScheduledEntries<>() : new SortedScheduledEntries<>(), new BeanRemoveTask<>(batcher, factory, expiration.getExpirationListener()), closeTimeout));
+        this(batcher, factory, expiration, group.isSingleton() ? new LinkedScheduledEntries<>() : new SortedScheduledEntries<>(), closeTimeout);
+    }
+
+    public BeanExpirationScheduler(Batcher<TransactionBatch> batcher, BeanFactory<K, V, M> factory, BeanExpirationConfiguration<K, V> expiration, ScheduledEntries<K, Instant> entries, Duration closeTimeout) {
+        super(new LocalScheduler<>(entries, new BeanRemoveTask<>(batcher, factory, expiration.getExpirationListener()), closeTimeout));
         this.factory = factory.getMetaDataFactory();
     }
 
@@ -7,6 +7,7 @@ package org.wildfly.clustering.ejb.infinispan.bean;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
@@ -84,12 +85,10 @@ public class InfinispanBeanGroupListenerServiceConfigurator<K, V extends BeanIns
         }
     }
 
-    void postActivate(BeanGroupKey<K> key, MarshalledValue<Map<K, V>, C> value) {
-        C context = this.context.get();
+    void postActivate(BeanGroupKey<K> key, Object value) {
         InfinispanEjbLogger.ROOT_LOGGER.tracef("Received post-activate event for bean group %s", key.getId());
         try {
-            Map<K, V> instances = value.get(context);
-            for (V instance : instances.values()) {
+            for (V instance : this.getBeanInstances(value)) {
                 InfinispanEjbLogger.ROOT_LOGGER.tracef("Invoking post-activate callback for bean %s", instance.getId());
                 instance.postActivate();
             }
@@ -98,16 +97,15 @@ public class InfinispanBeanGroupListenerServiceConfigurator<K, V extends BeanIns
         }
     }
 
-    void prePassivate(BeanGroupKey<K> key, MarshalledValue<Map<K, V>, C> value) {
-        C context = this.context.get();
+    void prePassivate(BeanGroupKey<K> key, Object value) {
         InfinispanEjbLogger.ROOT_LOGGER.tracef("Received pre-passivate event for bean group %s", key.getId());
         @SuppressWarnings("unchecked")
         Cache<Key<K>, ?> cache = (Cache<Key<K>, ?>) this.cache.get();
         try {
-            Map<K, V> instances = value.get(context);
+            Collection<V> instances = this.getBeanInstances(value);
             List<V> passivated = new ArrayList<>(instances.size());
             try {
-                for (V instance : instances.values()) {
+                for (V instance : instances) {
                     K id = instance.getId();
                     InfinispanEjbLogger.ROOT_LOGGER.tracef("Invoking pre-passivate callback for bean %s", id);
                     instance.prePassivate();
@@ -133,6 +131,24 @@ public class InfinispanBeanGroupListenerServiceConfigurator<K, V extends BeanIns
         }
     }
 
+    /**
+     * Returns the bean instances of the specified bean group cache value,
+     * i.e. the marshalled map of bean instances of a coarse bean group, or the map of individually marshalled bean instances of a fine bean group.
+     */
+    @SuppressWarnings("unchecked")
+    private Collection<V> getBeanInstances(Object value) throws IOException {
+        C context = this.context.get();
+        if (value instanceof MarshalledValue) {
+            return ((MarshalledValue<Map<K, V>, C>) value).get(context).values();
+        }
+        Map<K, MarshalledValue<V, C>> values = (Map<K, MarshalledValue<V, C>>) value;
+        List<V> instances = new ArrayList<>(values.size());
+        for (MarshalledValue<V, C> instance : values.values()) {
+            instances.add(instance.get(context));
+        }
+        return instances;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <KK, VV> Cache<KK, VV> getCache() {
@@ -5,7 +5,7 @@
 
 package org.wildfly.clustering.ejb.infinispan.bean;
 
-import java.util.Map;
+import java.util.function.Function;
 
 import org.infinispan.Cache;
 import org.wildfly.clustering.ee.Creator;
@@ -14,32 +14,38 @@ import org.wildfly.clustering.ee.MutatorFactory;
 import org.wildfly.clustering.ee.Remover;
 import org.wildfly.clustering.ee.infinispan.InfinispanConfiguration;
 import org.wildfly.clustering.ee.infinispan.CacheMutatorFactory;
-import org.wildfly.clustering.ejb.bean.BeanInstance;
 import org.wildfly.clustering.ejb.cache.bean.BeanGroupKey;
-import org.wildfly.clustering.marshalling.spi.MarshalledValue;
 
 /**
  * Manages the cache entry for a bean group.
  * @author Paul Ferraro
  * @param <K> the bean identifier type
- * @param <V> the bean instance type
- * @param <C> the marshalled value context type
+ * @param <V> the cache value type of a bean group
  */
-public class InfinispanBeanGroupManager<K, V extends BeanInstance<K>, C> implements Creator<K, MarshalledValue<Map<K, V>, C>, MarshalledValue<Map<K, V>, C>>, Remover<K>, MutatorFactory<K, MarshalledValue<Map<K, V>, C>> {
+public class InfinispanBeanGroupManager<K, V> implements Creator<K, V, V>, Remover<K>, MutatorFactory<K, V> {
 
-    private final Cache<BeanGroupKey<K>, MarshalledValue<Map<K, V>, C>> cache;
-    private final Cache<BeanGroupKey<K>, MarshalledValue<Map<K, V>, C>> removeCache;
-    private final MutatorFactory<BeanGroupKey<K>, MarshalledValue<Map<K, V>, C>> mutatorFactory;
+    private final Cache<BeanGroupKey<K>, V> cache;
+    private final Cache<BeanGroupKey<K>, V> removeCache;
+    private final MutatorFactory<BeanGroupKey<K>, V> mutatorFactory;
 
     public InfinispanBeanGroupManager(InfinispanConfiguration configuration) {
+        this(configuration, CacheMutatorFactory::new);
+    }
+
+    /**
+     * Creates a bean group manager whose mutators are created via the specified factory.
+     * @param configuration the cache configuration
+     * @param mutatorFactory creates a mutator factory for a given cache
+     */
+    public InfinispanBeanGroupManager(InfinispanConfiguration configuration, Function<Cache<BeanGroupKey<K>, V>, MutatorFactory<BeanGroupKey<K>, V>> mutatorFactory) {
         this.cache = configuration.getCache();
         this.removeCache = configuration.getWriteOnlyCache();
-        this.mutatorFactory = new CacheMutatorFactory<>(configuration.getCache());
+        this.mutatorFactory = mutatorFactory.apply(this.cache);
     }
 
     @Override
-    public MarshalledValue<Map<K, V>, C> createValue(K id, MarshalledValue<Map<K, V>, C> defaultValue) {
-        MarshalledValue<Map<K, V>, C> value = this.cache.putIfAbsent(new InfinispanBeanGroupKey<>(id), defaultValue);
+    public V createValue(K id, V defaultValue) {
+        V value = this.cache.putIfAbsent(new InfinispanBeanGroupKey<>(id), defaultValue);
         return (value != null) ? value : defaultValue;
     }
 
@@ -50,7 +56,7 @@ public class InfinispanBeanGroupManager<K, V extends BeanInstance<K>, C> impleme
     }
 
     @Override
-    public Mutator createMutator(K id, MarshalledValue<Map<K, V>, C> value) {
+    public Mutator createMutator(K id, V value) {
         return this.mutatorFactory.createMutator(new InfinispanBeanGroupKey<>(id), value);
     }
 }
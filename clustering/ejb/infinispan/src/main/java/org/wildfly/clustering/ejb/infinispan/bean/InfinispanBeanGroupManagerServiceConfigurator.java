@@ -21,11 +21,17 @@ import org.wildfly.clustering.ee.Remover;
 import org.wildfly.clustering.ee.cache.CacheProperties;
 import org.wildfly.clustering.ee.infinispan.InfinispanConfiguration;
 import org.wildfly.clustering.ejb.DeploymentConfiguration;
+import org.wildfly.clustering.ee.cache.function.MapComputeFunction;
+import org.wildfly.clustering.ee.infinispan.CacheComputeMutatorFactory;
 import org.wildfly.clustering.ejb.bean.BeanInstance;
 import org.wildfly.clustering.ejb.cache.bean.BeanGroupManager;
 import org.wildfly.clustering.ejb.cache.bean.BeanGroupManagerServiceNameProvider;
+import org.wildfly.clustering.ejb.cache.bean.BeanGroupPersistenceStrategy;
+import org.wildfly.clustering.ejb.cache.bean.BeanGroupReplicationStatistics;
 import org.wildfly.clustering.ejb.cache.bean.DefaultBeanGroupManager;
 import org.wildfly.clustering.ejb.cache.bean.DefaultBeanGroupManagerConfiguration;
+import org.wildfly.clustering.ejb.cache.bean.FineBeanGroupManager;
+import org.wildfly.clustering.ejb.cache.bean.FineBeanGroupManagerConfiguration;
 import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValueFactory;
 import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
 import org.wildfly.clustering.marshalling.spi.MarshalledValue;
@@ -44,11 +50,15 @@ public class InfinispanBeanGroupManagerServiceConfigurator<K, V extends BeanInst
 
     private final SupplierDependency<Cache<?, ?>> cache;
     private final SupplierDependency<ByteBufferMarshaller> marshaller;
+    private final BeanGroupPersistenceStrategy strategy;
+    private final BeanGroupReplicationStatistics statistics;
 
-    public InfinispanBeanGroupManagerServiceConfigurator(DeploymentConfiguration config, SupplierDependency<Cache<?, ?>> cache, SupplierDependency<ByteBufferMarshaller> marshaller) {
+    public InfinispanBeanGroupManagerServiceConfigurator(DeploymentConfiguration config, SupplierDependency<Cache<?, ?>> cache, SupplierDependency<ByteBufferMarshaller> marshaller, BeanGroupPersistenceStrategy strategy, BeanGroupReplicationStatistics statistics) {
         super(config);
         this.cache = cache;
         this.marshaller = marshaller;
+        this.strategy = strategy;
+        this.statistics = statistics;
     }
 
     @Override
@@ -62,8 +72,11 @@ public class InfinispanBeanGroupManagerServiceConfigurator<K, V extends BeanInst
     @Override
     public BeanGroupManager<K, V> get() {
         CacheProperties properties = this.getCacheProperties();
-        InfinispanBeanGroupManager<K, V, ByteBufferMarshaller> factory = new InfinispanBeanGroupManager<>(this);
         MarshalledValueFactory<ByteBufferMarshaller> marshalledValueFactory = new ByteBufferMarshalledValueFactory(this.marshaller.get());
+        if (this.strategy == BeanGroupPersistenceStrategy.FINE) {
+            return this.createFineBeanGroupManager(properties, marshalledValueFactory);
+        }
+        InfinispanBeanGroupManager<K, MarshalledValue<Map<K, V>, ByteBufferMarshaller>> factory = new InfinispanBeanGroupManager<>(this);
         return new DefaultBeanGroupManager<>(new DefaultBeanGroupManagerConfiguration<K, V, ByteBufferMarshaller>() {
             @Override
             public Creator<K, MarshalledValue<Map<K, V>, ByteBufferMarshaller>, MarshalledValue<Map<K, V>, ByteBufferMarshaller>> getCreator() {
@@ -92,6 +105,42 @@ public class InfinispanBeanGroupManagerServiceConfigurator<K, V extends BeanInst
         });
     }
 
+    private BeanGroupManager<K, V> createFineBeanGroupManager(CacheProperties properties, MarshalledValueFactory<ByteBufferMarshaller> marshalledValueFactory) {
+        InfinispanBeanGroupManager<K, Map<K, MarshalledValue<V, ByteBufferMarshaller>>> factory = new InfinispanBeanGroupManager<>(this, cache -> new CacheComputeMutatorFactory<>(cache, MapComputeFunction::new));
+        BeanGroupReplicationStatistics statistics = this.statistics;
+        return new FineBeanGroupManager<>(new FineBeanGroupManagerConfiguration<K, V, ByteBufferMarshaller>() {
+            @Override
+            public Creator<K, Map<K, MarshalledValue<V, ByteBufferMarshaller>>, Map<K, MarshalledValue<V, ByteBufferMarshaller>>> getCreator() {
+                return factory;
+            }
+
+            @Override
+            public Remover<K> getRemover() {
+                return factory;
+            }
+
+            @Override
+            public MutatorFactory<K, Map<K, MarshalledValue<V, ByteBufferMarshaller>>> getMutatorFactory() {
+                return factory;
+            }
+
+            @Override
+            public CacheProperties getCacheProperties() {
+                return properties;
+            }
+
+            @Override
+            public MarshalledValueFactory<ByteBufferMarshaller> getMarshalledValueFactory() {
+                return marshalledValueFactory;
+            }
+
+            @Override
+            public BeanGroupReplicationStatistics getReplicationStatistics() {
+                return statistics;
+            }
+        });
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <KK, VV> Cache<KK, VV> getCache() {
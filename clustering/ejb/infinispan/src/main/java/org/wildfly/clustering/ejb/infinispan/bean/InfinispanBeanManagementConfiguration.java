@@ -5,12 +5,31 @@
 
 package org.wildfly.clustering.ejb.infinispan.bean;
 
+import java.time.Duration;
+
 import org.wildfly.clustering.ee.infinispan.InfinispanCacheConfiguration;
 import org.wildfly.clustering.ejb.bean.BeanManagementConfiguration;
+import org.wildfly.clustering.ejb.cache.bean.BeanGroupPersistenceStrategy;
 
 /**
  * Configuration of an Infinispan-based bean management provider.
  * @author Paul Ferraro
  */
 public interface InfinispanBeanManagementConfiguration extends InfinispanCacheConfiguration, BeanManagementConfiguration {
+
+    /**
+     * Returns the resolution with which bean expiration is scheduled.
+     * @return the tick duration of the timing wheel used to schedule bean expiration, or zero, if bean expiration is scheduled precisely.
+     */
+    default Duration getExpirationResolution() {
+        return Duration.ZERO;
+    }
+
+    /**
+     * Returns the strategy for persisting the bean instances of a bean group.
+     * @return a bean group persistence strategy
+     */
+    default BeanGroupPersistenceStrategy getBeanGroupPersistenceStrategy() {
+        return BeanGroupPersistenceStrategy.COARSE;
+    }
 }
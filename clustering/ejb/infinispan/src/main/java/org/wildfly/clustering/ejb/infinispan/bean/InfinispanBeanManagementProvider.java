@@ -18,6 +18,7 @@ import org.wildfly.clustering.ejb.bean.BeanConfiguration;
 import org.wildfly.clustering.ejb.bean.BeanDeploymentConfiguration;
 import org.wildfly.clustering.ejb.bean.BeanManagementProvider;
 import org.wildfly.clustering.ejb.bean.BeanManagerFactory;
+import org.wildfly.clustering.ejb.cache.bean.BeanGroupReplicationStatistics;
 import org.wildfly.clustering.ejb.infinispan.logging.InfinispanEjbLogger;
 import org.wildfly.clustering.infinispan.container.DataContainerConfigurationBuilder;
 import org.wildfly.clustering.infinispan.service.CacheServiceConfigurator;
@@ -37,12 +38,22 @@ public class InfinispanBeanManagementProvider implements BeanManagementProvider
 
     private final String name;
     private final InfinispanBeanManagementConfiguration config;
+    // Shared by the bean group managers of all deployments using this provider
+    private final BeanGroupReplicationStatistics statistics = new BeanGroupReplicationStatistics();
 
     public InfinispanBeanManagementProvider(String name, InfinispanBeanManagementConfiguration config) {
         this.name = name;
         this.config = config;
     }
 
+    /**
+     * Returns the replication statistics of the bean groups managed by this provider.
+     * @return bean group replication statistics
+     */
+    public BeanGroupReplicationStatistics getReplicationStatistics() {
+        return this.statistics;
+    }
+
     @Override
     public String getName() {
         return this.name;
@@ -77,7 +88,7 @@ public class InfinispanBeanManagementProvider implements BeanManagementProvider
         CapabilityServiceConfigurator cacheConfigurator = new CacheServiceConfigurator<>(ServiceNameFactory.parseServiceName(InfinispanCacheRequirement.CACHE.getName()).append(containerName, cacheName), containerName, cacheName);
         CapabilityServiceConfigurator groupConfigurator = new ProvidedCacheServiceConfigurator<>(DistributedCacheGroupServiceConfiguratorProvider.class, containerName, cacheName);
         CapabilityServiceConfigurator marshallerConfigurator = new FunctionalCapabilityServiceConfigurator<>(configuration.getDeploymentServiceName().append(this.name, "marshaller"), this.config.getMarshallerFactory(), Functions.constantSupplier(configuration));
-        CapabilityServiceConfigurator groupManagerConfigurator = new InfinispanBeanGroupManagerServiceConfigurator<>(configuration, new ServiceSupplierDependency<>(cacheConfigurator), new ServiceSupplierDependency<>(marshallerConfigurator));
+        CapabilityServiceConfigurator groupManagerConfigurator = new InfinispanBeanGroupManagerServiceConfigurator<>(configuration, new ServiceSupplierDependency<>(cacheConfigurator), new ServiceSupplierDependency<>(marshallerConfigurator), this.config.getBeanGroupPersistenceStrategy(), this.statistics);
         CapabilityServiceConfigurator groupListenerConfigurator = new InfinispanBeanGroupListenerServiceConfigurator<>(cacheConfigurator.getServiceName().append("listener"), new ServiceSupplierDependency<>(cacheConfigurator), new ServiceSupplierDependency<>(marshallerConfigurator));
         return List.of(configurationConfigurator, cacheConfigurator, groupConfigurator, marshallerConfigurator, groupManagerConfigurator, groupListenerConfigurator);
     }
@@ -5,6 +5,7 @@
 package org.wildfly.clustering.ejb.infinispan.bean;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.Set;
@@ -29,6 +30,8 @@ import org.wildfly.clustering.ee.Key;
 import org.wildfly.clustering.ee.Scheduler;
 import org.wildfly.clustering.ee.cache.CacheProperties;
 import org.wildfly.clustering.ee.cache.IdentifierFactory;
+import org.wildfly.clustering.ee.cache.scheduler.ScheduledEntries;
+import org.wildfly.clustering.ee.cache.scheduler.TimingWheelScheduledEntries;
 import org.wildfly.clustering.ee.cache.tx.TransactionBatch;
 import org.wildfly.clustering.ee.expiration.ExpirationMetaData;
 import org.wildfly.clustering.ee.infinispan.GroupedKey;
@@ -76,6 +79,7 @@ public class InfinispanBeanManager<K, V extends BeanInstance<K>, M> implements B
     private final Predicate<Map.Entry<? super Key<K>, ? super Object>> filter;
     private final Function<Key<K>, Node> primaryOwnerLocator;
     private final Affinity strongAffinity;
+    private final Duration expirationResolution;
 
     private volatile Scheduler<K, ExpirationMetaData> scheduler;
     private volatile ListenerRegistration schedulerListenerRegistration;
@@ -93,6 +97,7 @@ public class InfinispanBeanManager<K, V extends BeanInstance<K>, M> implements B
         Group group = configuration.getGroup();
         this.strongAffinity = this.cache.getCacheConfiguration().clustering().cacheMode().isClustered() ? new ClusterAffinity(group.getName()) : new NodeAffinity(group.getLocalMember().getName());
         this.filter = new InfinispanBeanMetaDataFilter<>(configuration.getBeanName());
+        this.expirationResolution = configuration.getExpirationResolution();
     }
 
     @Override
@@ -100,7 +105,7 @@ public class InfinispanBeanManager<K, V extends BeanInstance<K>, M> implements B
         this.identifierFactory.start();
 
         Duration stopTimeout = Duration.ofMillis(this.cache.getCacheConfiguration().transaction().cacheStopTimeout());
-        CacheEntryScheduler<K, ExpirationMetaData> localScheduler = (this.expiration != null) && !this.expiration.getTimeout().isZero() ? new BeanExpirationScheduler<>(this.dispatcherFactory.getGroup(), this.batcher, this.beanFactory, this.expiration, stopTimeout) : null;
+        CacheEntryScheduler<K, ExpirationMetaData> localScheduler = (this.expiration != null) && !this.expiration.getTimeout().isZero() ? this.createExpirationScheduler(stopTimeout) : null;
 
         String dispatcherName = String.join("/", this.cache.getName(), this.filter.toString());
         this.scheduler = (localScheduler != null) ? (this.dispatcherFactory.getGroup().isSingleton() ? localScheduler : new PrimaryOwnerScheduler<>(this.dispatcherFactory, dispatcherName, localScheduler, this.primaryOwnerLocator, InfinispanBeanMetaDataKey::new, this.properties.isTransactional() ? new ScheduleWithExpirationMetaDataCommandFactory<>() : ScheduleWithTransientMetaDataCommand::new)) : null;
@@ -126,6 +131,14 @@ public class InfinispanBeanManager<K, V extends BeanInstance<K>, M> implements B
         this.transformer = (closeTask != null) ? bean -> new OnCloseBean<>(bean, closeTask) : UnaryOperator.identity();
     }
 
+    private CacheEntryScheduler<K, ExpirationMetaData> createExpirationScheduler(Duration stopTimeout) {
+        if (this.expirationResolution.isZero()) {
+            return new BeanExpirationScheduler<>(this.dispatcherFactory.getGroup(), this.batcher, this.beanFactory, this.expiration, stopTimeout);
+        }
+        ScheduledEntries<K, Instant> entries = new TimingWheelScheduledEntries<>(this.expirationResolution);
+        return new BeanExpirationScheduler<>(this.batcher, this.beanFactory, this.expiration, entries, stopTimeout);
+    }
+
     @Override
     public void stop() {
         if (this.schedulerListenerRegistration != null) {
@@ -4,6 +4,8 @@
  */
 package org.wildfly.clustering.ejb.infinispan.bean;
 
+import java.time.Duration;
+
 import org.infinispan.remoting.transport.Address;
 import org.wildfly.clustering.ejb.bean.BeanInstance;
 import org.wildfly.clustering.ejb.cache.bean.BeanManagerConfiguration;
@@ -22,4 +24,12 @@ public interface InfinispanBeanManagerConfiguration<K, V extends BeanInstance<K>
     @Override Group<Address> getGroup();
     KeyAffinityServiceFactory getAffinityFactory();
     CommandDispatcherFactory getCommandDispatcherFactory();
+
+    /**
+     * Returns the resolution with which bean expiration is scheduled.
+     * @return the tick duration of the timing wheel used to schedule bean expiration, or zero, if bean expiration is scheduled precisely.
+     */
+    default Duration getExpirationResolution() {
+        return Duration.ZERO;
+    }
 }
@@ -4,6 +4,7 @@
  */
 package org.wildfly.clustering.ejb.infinispan.bean;
 
+import java.time.Duration;
 import java.util.function.Supplier;
 
 import org.infinispan.Cache;
@@ -90,5 +91,10 @@ public class InfinispanBeanManagerFactory<K, V extends BeanInstance<K>> implemen
         public CommandDispatcherFactory getCommandDispatcherFactory() {
             return this.factoryConfiguration.getCommandDispatcherFactory();
         }
+
+        @Override
+        public Duration getExpirationResolution() {
+            return this.factoryConfiguration.getExpirationResolution();
+        }
     }
 }
@@ -5,6 +5,8 @@
 
 package org.wildfly.clustering.ejb.infinispan.bean;
 
+import java.time.Duration;
+
 import org.infinispan.remoting.transport.Address;
 import org.wildfly.clustering.ee.infinispan.InfinispanConfiguration;
 import org.wildfly.clustering.ejb.bean.BeanInstance;
@@ -23,4 +25,12 @@ public interface InfinispanBeanManagerFactoryConfiguration<K, V extends BeanInst
     KeyAffinityServiceFactory getKeyAffinityServiceFactory();
     @Override Group<Address> getGroup();
     CommandDispatcherFactory getCommandDispatcherFactory();
+
+    /**
+     * Returns the resolution with which bean expiration is scheduled.
+     * @return the tick duration of the timing wheel used to schedule bean expiration, or zero, if bean expiration is scheduled precisely.
+     */
+    default Duration getExpirationResolution() {
+        return Duration.ZERO;
+    }
 }
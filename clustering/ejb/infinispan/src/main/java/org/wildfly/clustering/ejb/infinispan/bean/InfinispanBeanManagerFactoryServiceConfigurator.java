@@ -5,6 +5,7 @@
 
 package org.wildfly.clustering.ejb.infinispan.bean;
 
+import java.time.Duration;
 import java.util.function.Consumer;
 
 import org.infinispan.Cache;
@@ -112,6 +113,11 @@ public class InfinispanBeanManagerFactoryServiceConfigurator<K, V extends BeanIn
         return this.dispatcherFactory.get();
     }
 
+    @Override
+    public Duration getExpirationResolution() {
+        return this.configuration.getExpirationResolution();
+    }
+
     @Override
     public BeanGroupManager<K, V> getBeanGroupManager() {
         return this.groupManager.get();
@@ -19,9 +19,11 @@ import com.github.benmanes.caffeine.cache.Cache;
  */
 public class CaffeineNearCache<K, V> implements NearCache<K, V> {
 
+    private final Cache<K, MetadataValue<V>> cache;
     private final Map<K, MetadataValue<V>> map;
 
     public CaffeineNearCache(Cache<K, MetadataValue<V>> cache) {
+        this.cache = cache;
         this.map = cache.asMap();
     }
 
@@ -47,7 +49,8 @@ public class CaffeineNearCache<K, V> implements NearCache<K, V> {
 
     @Override
     public MetadataValue<V> get(K key) {
-        return this.map.get(key);
+        // Unlike Map.get(...), records hit/miss statistics, if enabled
+        return this.cache.getIfPresent(key);
     }
 
     @Override
@@ -10,6 +10,8 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Array;
 import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.OptionalInt;
 
 import org.infinispan.protostream.ImmutableSerializationContext;
@@ -23,6 +25,8 @@ import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
  * @author Paul Ferraro
  */
 public class ProtoStreamByteBufferMarshaller implements ByteBufferMarshaller {
+    // Per-thread buffer into which objects are marshalled, avoiding the need to precompute marshalled size
+    private static final ThreadLocal<PooledOutputStream> OUTPUT = ThreadLocal.withInitial(PooledOutputStream::new);
 
     private final ImmutableSerializationContext context;
 
@@ -68,6 +72,23 @@ public class ProtoStreamByteBufferMarshaller implements ByteBufferMarshaller {
         return marshaller.readFrom(reader).get();
     }
 
+    @Override
+    public ByteBuffer write(Object object) throws IOException {
+        PooledOutputStream pooled = OUTPUT.get();
+        // Marshalling of an object may trigger a nested write, e.g. of a ByteBufferMarshalledValue, in which case pooled buffer is already in use
+        boolean acquired = pooled.acquire();
+        PooledOutputStream output = acquired ? pooled : new PooledOutputStream();
+        try {
+            this.writeTo(output, object);
+            // Buffer must be copied, since the caller retains it
+            return output.copy();
+        } finally {
+            if (acquired) {
+                pooled.release();
+            }
+        }
+    }
+
     @Override
     public void writeTo(OutputStream output, Object object) throws IOException {
         WriteContext context = TagWriterImpl.newInstanceNoBuffer(this.context, output);
@@ -75,4 +96,54 @@ public class ProtoStreamByteBufferMarshaller implements ByteBufferMarshaller {
         ProtoStreamMarshaller<Any> marshaller = writer.findMarshaller(Any.class);
         marshaller.writeTo(writer, new Any(object));
     }
+
+    /**
+     * Unsynchronized, reusable output stream whose buffer is retained across writes, unless it grew larger than a given size.
+     */
+    private static class PooledOutputStream extends OutputStream {
+        private static final int INITIAL_SIZE = 512;
+        private static final int MAX_RETAINED_SIZE = 64 * 1024;
+
+        private byte[] buffer = new byte[INITIAL_SIZE];
+        private int size = 0;
+        private boolean acquired = false;
+
+        boolean acquire() {
+            if (this.acquired) return false;
+            this.acquired = true;
+            return true;
+        }
+
+        void release() {
+            this.size = 0;
+            if (this.buffer.length > MAX_RETAINED_SIZE) {
+                this.buffer = new byte[INITIAL_SIZE];
+            }
+            this.acquired = false;
+        }
+
+        ByteBuffer copy() {
+            return ByteBuffer.wrap(Arrays.copyOf(this.buffer, this.size));
+        }
+
+        @Override
+        public void write(int value) {
+            this.ensureCapacity(1);
+            this.buffer[this.size++] = (byte) value;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            this.ensureCapacity(length);
+            System.arraycopy(bytes, offset, this.buffer, this.size, length);
+            this.size += length;
+        }
+
+        private void ensureCapacity(int length) {
+            int required = this.size + length;
+            if (required > this.buffer.length) {
+                this.buffer = Arrays.copyOf(this.buffer, Math.max(required, this.buffer.length << 1));
+            }
+        }
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.marshalling.protostream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValue;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+
+/**
+ * Validates the reuse of buffers by {@link ProtoStreamByteBufferMarshaller#write(Object)}.
+ */
+public class ProtoStreamByteBufferMarshallerTestCase {
+
+    private final ByteBufferMarshaller marshaller = new TestProtoStreamByteBufferMarshallerFactory().get();
+
+    @Test
+    public void test() throws IOException {
+        Random random = new Random(0L);
+        // Include objects that exceed the size of the retained buffer
+        for (int size : List.of(0, 16, 1024, 128 * 1024, 16)) {
+            byte[] bytes = new byte[size];
+            random.nextBytes(bytes);
+            ByteBuffer buffer = this.marshaller.write(bytes);
+            Assert.assertEquals(0, buffer.arrayOffset());
+            Assert.assertEquals(buffer.array().length, buffer.remaining());
+            Assert.assertEquals(this.marshaller.size(bytes).getAsInt(), buffer.remaining());
+
+            // Verify returned buffer is not affected by subsequent writes
+            ByteBuffer other = this.marshaller.write(new byte[size]);
+            Assert.assertArrayEquals(bytes, (byte[]) this.marshaller.read(buffer));
+            Assert.assertArrayEquals(new byte[size], (byte[]) this.marshaller.read(other));
+        }
+    }
+
+    @Test
+    public void nested() throws IOException {
+        // Marshalling of a marshalled value triggers a nested write
+        Map<String, ByteBufferMarshalledValue<Object>> map = Map.of("foo", new ByteBufferMarshalledValue<>(List.of("bar", "baz"), this.marshaller));
+        ByteBuffer buffer = this.marshaller.write(map);
+        Assert.assertEquals(this.marshaller.size(map).getAsInt(), buffer.remaining());
+
+        @SuppressWarnings("unchecked")
+        Map<String, ByteBufferMarshalledValue<Object>> result = (Map<String, ByteBufferMarshalledValue<Object>>) this.marshaller.read(buffer);
+        Assert.assertEquals(map.keySet(), result.keySet());
+        Assert.assertEquals(List.of("bar", "baz"), result.get("foo").get(this.marshaller));
+    }
+}
@@ -0,0 +1,15 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.clustering.dispatcher;
+
+/**
+ * A command whose execution may be deferred for a short period of time.
+ * Dispatchers may bundle the messages of such commands with other messages, trading latency for throughput.
+ *
+ * @param <C> the command context type
+ * @param <R> the command return type
+ */
+public interface LatencyTolerantCommand<R, C> extends Command<R, C> {
+}
@@ -56,6 +56,7 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Builds a channel-based {@link org.wildfly.clustering.dispatcher.CommandDispatcherFactory} service.
+ * Group commands are sent via a single multicast, rather than a unicast per member, if the {@code org.wildfly.clustering.dispatcher.multicast} system property is true.
  * @author Paul Ferraro
  */
 public class ChannelCommandDispatcherFactoryServiceConfigurator extends SimpleServiceNameProvider implements CapabilityServiceConfigurator, ChannelCommandDispatcherFactoryConfiguration, Supplier<AutoCloseableCommandDispatcherFactory>, Function<ClassLoader, ByteBufferMarshaller>, Predicate<Message> {
@@ -78,6 +79,9 @@ public class ChannelCommandDispatcherFactoryServiceConfigurator extends SimpleSe
         static final MarshallingVersion CURRENT = VERSION_1;
     }
 
+    // Command dispatcher factories are created per channel by a DistributedGroupServiceConfiguratorProvider, which has no management resource of its own
+    private static final String MULTICAST_PROPERTY = "org.wildfly.clustering.dispatcher.multicast";
+
     private final String group;
 
     private volatile SupplierDependency<ChannelFactory> channelFactory;
@@ -85,6 +89,7 @@ public class ChannelCommandDispatcherFactoryServiceConfigurator extends SimpleSe
     private volatile SupplierDependency<Module> module;
     private volatile Supplier<ModuleLoader> loader;
     private volatile Duration timeout = Duration.ofMinutes(1);
+    private final boolean multicast = Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(MULTICAST_PROPERTY, Boolean.FALSE.toString()));
 
     public ChannelCommandDispatcherFactoryServiceConfigurator(ServiceName name, String group) {
         super(name);
@@ -148,6 +153,11 @@ public class ChannelCommandDispatcherFactoryServiceConfigurator extends SimpleSe
         return this.timeout;
     }
 
+    @Override
+    public boolean isMulticast() {
+        return this.multicast;
+    }
+
     @Override
     public Predicate<Message> getUnknownForkPredicate() {
         return this;
@@ -7,9 +7,12 @@ package org.wildfly.clustering.server.infinispan.dispatcher;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
@@ -27,12 +30,16 @@ import org.jgroups.blocks.RspFilter;
 import org.wildfly.clustering.dispatcher.Command;
 import org.wildfly.clustering.dispatcher.CommandDispatcher;
 import org.wildfly.clustering.dispatcher.CommandDispatcherException;
+import org.wildfly.clustering.dispatcher.LatencyTolerantCommand;
 import org.wildfly.clustering.group.Node;
 import org.wildfly.clustering.server.group.Group;
 import org.wildfly.clustering.server.infinispan.group.JGroupsAddressResolver;
 
 /**
  * MessageDispatcher-based command dispatcher.
+ * By default, group commands are sent via a separate unicast request per member.
+ * In multicast mode, group commands are sent via a single multicast request whose responses are collected per member.
+ * Messages of {@link LatencyTolerantCommand} instances may be bundled by the transport.
  * @author Paul Ferraro
  *
  * @param <CC> command execution context
@@ -60,8 +67,14 @@ public class ChannelCommandDispatcher<CC, MC> implements CommandDispatcher<CC> {
     private final Runnable closeTask;
     private final Address localAddress;
     private final RequestOptions options;
+    private final RequestOptions bundledOptions;
+    private final boolean multicast;
 
     public ChannelCommandDispatcher(MessageDispatcher dispatcher, CommandMarshaller<CC> marshaller, MC context, Group<Address> group, Duration timeout, CommandDispatcher<CC> localDispatcher, Runnable closeTask) {
+        this(dispatcher, marshaller, context, group, timeout, false, localDispatcher, closeTask);
+    }
+
+    public ChannelCommandDispatcher(MessageDispatcher dispatcher, CommandMarshaller<CC> marshaller, MC context, Group<Address> group, Duration timeout, boolean multicast, CommandDispatcher<CC> localDispatcher, Runnable closeTask) {
         this.dispatcher = dispatcher;
         this.marshaller = marshaller;
         this.context = context;
@@ -71,6 +84,8 @@ public class ChannelCommandDispatcher<CC, MC> implements CommandDispatcher<CC> {
         this.closeTask = closeTask;
         this.localAddress = dispatcher.getChannel().getAddress();
         this.options = new RequestOptions(ResponseMode.GET_ALL, this.timeout.toMillis(), false, FILTER, Message.Flag.DONT_BUNDLE, Message.Flag.OOB);
+        this.bundledOptions = new RequestOptions(ResponseMode.GET_ALL, this.timeout.toMillis(), false, FILTER, Message.Flag.OOB);
+        this.multicast = multicast;
     }
 
     @Override
@@ -92,15 +107,19 @@ public class ChannelCommandDispatcher<CC, MC> implements CommandDispatcher<CC> {
         }
         ByteBuffer buffer = this.createBuffer(command);
         Message message = this.createMessage(buffer, address);
-        ServiceRequest<R, MC> request = new ServiceRequest<>(this.dispatcher.getCorrelator(), address, this.options, this.context);
+        ServiceRequest<R, MC> request = new ServiceRequest<>(this.dispatcher.getCorrelator(), address, this.getRequestOptions(command), this.context);
         return request.send(message);
     }
 
     @Override
     public <R> Map<Node, CompletionStage<R>> executeOnGroup(Command<R, ? super CC> command, Node... excludedMembers) throws CommandDispatcherException {
         Set<Node> excluded = (excludedMembers != null) ? new HashSet<>(Arrays.asList(excludedMembers)) : Collections.emptySet();
+        if (this.multicast) {
+            return this.multicastOnGroup(command, excluded);
+        }
         Map<Node, CompletionStage<R>> results = new ConcurrentHashMap<>();
         ByteBuffer buffer = this.createBuffer(command);
+        RequestOptions options = this.getRequestOptions(command);
         for (Node member : this.group.getMembership().getMembers()) {
             if (!excluded.contains(member)) {
                 Address address = JGroupsAddressResolver.INSTANCE.apply(member);
@@ -108,7 +127,7 @@ public class ChannelCommandDispatcher<CC, MC> implements CommandDispatcher<CC> {
                     results.put(member, this.localDispatcher.executeOnMember(command, member));
                 } else {
                     try {
-                        ServiceRequest<R, MC> request = new ServiceRequest<>(this.dispatcher.getCorrelator(), address, this.options, this.context);
+                        ServiceRequest<R, MC> request = new ServiceRequest<>(this.dispatcher.getCorrelator(), address, options, this.context);
                         Message message = this.createMessage(buffer, address);
                         CompletionStage<R> future = request.send(message);
                         results.put(member, future);
@@ -126,6 +145,49 @@ public class ChannelCommandDispatcher<CC, MC> implements CommandDispatcher<CC> {
         return results;
     }
 
+    private <R> Map<Node, CompletionStage<R>> multicastOnGroup(Command<R, ? super CC> command, Set<Node> excluded) throws CommandDispatcherException {
+        Map<Node, CompletionStage<R>> results = new ConcurrentHashMap<>();
+        List<Node> members = this.group.getMembership().getMembers();
+        Map<Address, Node> targets = new HashMap<>();
+        // Members excluded from the multicast will discard the message
+        List<Address> exclusions = new ArrayList<>(excluded.size() + 1);
+        exclusions.add(this.localAddress);
+        for (Node member : members) {
+            Address address = JGroupsAddressResolver.INSTANCE.apply(member);
+            if (excluded.contains(member)) {
+                exclusions.add(address);
+            } else if (this.localAddress.equals(address)) {
+                results.put(member, this.localDispatcher.executeOnMember(command, member));
+            } else {
+                targets.put(address, member);
+            }
+        }
+        if (!targets.isEmpty()) {
+            RequestOptions options = new RequestOptions(this.getRequestOptions(command)).exclusionList(exclusions.toArray(new Address[0])).transientFlags(Message.TransientFlag.DONT_LOOPBACK);
+            ServiceGroupRequest<R, MC> request = new ServiceGroupRequest<>(this.dispatcher.getCorrelator(), targets.keySet(), options, this.context);
+            Message message = this.createMessage(this.createBuffer(command), null);
+            try {
+                for (Map.Entry<Address, ? extends CompletionStage<R>> entry : request.send(message).entrySet()) {
+                    Node member = targets.get(entry.getKey());
+                    CompletionStage<R> future = entry.getValue();
+                    results.put(member, future);
+                    future.whenComplete(new PruneCancellationTask<>(results, member));
+                }
+            } catch (CommandDispatcherException e) {
+                // Cancel local execution
+                for (CompletionStage<R> result : results.values()) {
+                    result.toCompletableFuture().cancel(true);
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    private RequestOptions getRequestOptions(Command<?, ?> command) {
+        return (command instanceof LatencyTolerantCommand) ? this.bundledOptions : this.options;
+    }
+
     private <R> ByteBuffer createBuffer(Command<R, ? super CC> command) {
         try {
             return this.marshaller.marshal(command);
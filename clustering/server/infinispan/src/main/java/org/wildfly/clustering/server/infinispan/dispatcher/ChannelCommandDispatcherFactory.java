@@ -81,12 +81,14 @@ public class ChannelCommandDispatcherFactory implements AutoCloseableCommandDisp
     private final MessageDispatcher dispatcher;
     private final Duration timeout;
     private final Function<ClassLoader, ByteBufferMarshaller> marshallerFactory;
+    private final boolean multicast;
 
     @SuppressWarnings("resource")
     public ChannelCommandDispatcherFactory(ChannelCommandDispatcherFactoryConfiguration config) {
         this.marshaller = config.getMarshaller();
         this.timeout = config.getTimeout();
         this.marshallerFactory = config.getMarshallerFactory();
+        this.multicast = config.isMulticast();
         JChannel channel = config.getChannel();
         RequestCorrelator correlator = new CommandDispatcherRequestCorrelator(channel, this, config);
         this.dispatcher = new MessageDispatcher()
@@ -208,7 +210,7 @@ public class ChannelCommandDispatcherFactory implements AutoCloseableCommandDisp
         }
         CommandMarshaller<C> marshaller = new CommandDispatcherMarshaller<>(this.marshaller, id, factory);
         CommandDispatcher<C> localDispatcher = new LocalCommandDispatcher<>(this.getLocalMember(), commandContext);
-        return new ChannelCommandDispatcher<>(this.dispatcher, marshaller, dispatcherMarshaller, this, this.timeout, localDispatcher, () -> {
+        return new ChannelCommandDispatcher<>(this.dispatcher, marshaller, dispatcherMarshaller, this, this.timeout, this.multicast, localDispatcher, () -> {
             localDispatcher.close();
             this.contexts.remove(id);
         });
@@ -22,4 +22,12 @@ public interface ChannelCommandDispatcherFactoryConfiguration {
     ByteBufferMarshaller getMarshaller();
     Duration getTimeout();
     Function<ClassLoader, ByteBufferMarshaller> getMarshallerFactory();
+
+    /**
+     * Indicates whether commands executed on the group should be sent via a single multicast, rather than via a unicast per member.
+     * @return true, if group commands should be multicast, false otherwise
+     */
+    default boolean isMulticast() {
+        return false;
+    }
 }
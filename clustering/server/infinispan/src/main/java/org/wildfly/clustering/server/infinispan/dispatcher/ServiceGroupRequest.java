@@ -0,0 +1,142 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.server.infinispan.dispatcher;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.jgroups.Address;
+import org.jgroups.Message;
+import org.jgroups.SuspectedException;
+import org.jgroups.View;
+import org.jgroups.blocks.GroupRequest;
+import org.jgroups.blocks.RequestCorrelator;
+import org.jgroups.blocks.RequestOptions;
+import org.wildfly.clustering.dispatcher.CommandDispatcherException;
+import org.wildfly.clustering.marshalling.spi.MarshalledValue;
+
+/**
+ * Multicast request that collects the response of each target member into a separate {@link CompletionStage}.
+ * Translates a {@link NoSuchService} response, or the departure of a target member, to a {@link CancellationException}.
+ */
+public class ServiceGroupRequest<T, C> extends GroupRequest<T> {
+
+    private final Map<Address, ServiceResponse<T>> responses;
+    private final C context;
+
+    public ServiceGroupRequest(RequestCorrelator correlator, Collection<Address> targets, RequestOptions options, C context) {
+        super(correlator, targets, options);
+        this.context = context;
+        Map<Address, ServiceResponse<T>> responses = new HashMap<>();
+        for (Address target : targets) {
+            responses.put(target, new ServiceResponse<>(options.timeout()));
+        }
+        this.responses = Collections.unmodifiableMap(responses);
+        // Release this request from the correlator once every response is complete, including via timeout or cancellation
+        CompletableFuture.allOf(responses.values().toArray(new CompletableFuture<?>[0])).whenComplete((result, exception) -> this.cancel(true));
+    }
+
+    public Map<Address, ? extends CompletionStage<T>> send(Message message) throws CommandDispatcherException {
+        try {
+            this.sendRequest(message);
+            return this.responses;
+        } catch (Exception e) {
+            throw new CommandDispatcherException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void receiveResponse(Object value, Address sender, boolean exceptional) {
+        super.receiveResponse(value, sender, exceptional);
+
+        ServiceResponse<T> response = this.responses.get(sender);
+        if ((response == null) || response.isDone()) return;
+
+        if (exceptional) {
+            response.completeExceptionally((Throwable) value);
+        } else if (value instanceof NoSuchService) {
+            response.completeExceptionally(new CancellationException());
+        } else {
+            MarshalledValue<T, C> marshalledValue = (MarshalledValue<T, C>) value;
+            try {
+                response.complete(marshalledValue.get(this.context));
+            } catch (IOException e) {
+                response.completeExceptionally(e);
+            }
+        }
+    }
+
+    @Override
+    public void viewChange(View view, boolean handlePreviousSubgroups) {
+        super.viewChange(view, handlePreviousSubgroups);
+
+        if (view == null) return;
+
+        for (Map.Entry<Address, ServiceResponse<T>> entry : this.responses.entrySet()) {
+            if (!view.containsMember(entry.getKey())) {
+                entry.getValue().completeExceptionally(new CancellationException());
+            }
+        }
+    }
+
+    @Override
+    public void transportClosed() {
+        super.transportClosed();
+
+        for (ServiceResponse<T> response : this.responses.values()) {
+            response.completeExceptionally(new CancellationException());
+        }
+    }
+
+    private static class ServiceResponse<T> extends CompletableFuture<T> {
+        private final long timeout;
+
+        ServiceResponse(long timeout) {
+            this.timeout = timeout;
+        }
+
+        @Override
+        public boolean completeExceptionally(Throwable exception) {
+            return super.completeExceptionally((exception instanceof SuspectedException) ? new CancellationException() : exception);
+        }
+
+        @Override
+        public T get() throws InterruptedException, ExecutionException {
+            try {
+                // Wait at most for the configured timeout
+                // If the message was dropped by the receiver, this would otherwise block forever
+                return super.get(this.timeout, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // Auto-cancel on timeout
+                this.cancel(true);
+                throw new CancellationException(e.getLocalizedMessage());
+            }
+        }
+
+        @Override
+        public T join() {
+            try {
+                return this.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            } catch (ExecutionException e) {
+                throw new CompletionException(e.getCause());
+            }
+        }
+    }
+}
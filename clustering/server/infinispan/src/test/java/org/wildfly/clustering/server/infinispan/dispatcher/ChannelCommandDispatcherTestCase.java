@@ -0,0 +1,186 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.server.infinispan.dispatcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.jgroups.JChannel;
+import org.jgroups.Message;
+import org.jgroups.protocols.SHARED_LOOPBACK;
+import org.jgroups.protocols.SHARED_LOOPBACK_PING;
+import org.jgroups.protocols.UNICAST3;
+import org.jgroups.protocols.pbcast.GMS;
+import org.jgroups.protocols.pbcast.NAKACK2;
+import org.jgroups.protocols.pbcast.STABLE;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.dispatcher.LatencyTolerantCommand;
+import org.wildfly.clustering.group.Node;
+import org.wildfly.clustering.marshalling.jboss.TestJBossByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.protostream.SerializationContextBuilder;
+import org.wildfly.clustering.marshalling.protostream.SimpleClassLoaderMarshaller;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+
+/**
+ * Integration test for {@link ChannelCommandDispatcher}, using a group of channels connected via a shared loopback transport.
+ */
+public class ChannelCommandDispatcherTestCase {
+
+    private static final String CLUSTER = ChannelCommandDispatcherTestCase.class.getSimpleName();
+    private static final String[] MEMBERS = new String[] { "A", "B", "C" };
+
+    private final List<JChannel> channels = new ArrayList<>(MEMBERS.length);
+
+    @Before
+    public void init() throws Exception {
+        for (String member : MEMBERS) {
+            JChannel channel = new JChannel(new SHARED_LOOPBACK(), new SHARED_LOOPBACK_PING(), new NAKACK2(), new UNICAST3(), new STABLE(), new GMS().setJoinTimeout(1000L)).name(member);
+            channel.connect(CLUSTER);
+            this.channels.add(channel);
+        }
+    }
+
+    @After
+    public void destroy() {
+        for (JChannel channel : this.channels) {
+            channel.close();
+        }
+    }
+
+    @Test
+    public void unicast() throws Exception {
+        this.test(false);
+    }
+
+    @Test
+    public void multicast() throws Exception {
+        this.test(true);
+    }
+
+    private void test(boolean multicast) throws Exception {
+        List<ChannelCommandDispatcherFactory> factories = new ArrayList<>(MEMBERS.length);
+        List<CommandDispatcher<String>> dispatchers = new ArrayList<>(MEMBERS.length);
+        try {
+            for (int i = 0; i < MEMBERS.length; ++i) {
+                ChannelCommandDispatcherFactory factory = new ChannelCommandDispatcherFactory(new TestConfiguration(this.channels.get(i), multicast));
+                factories.add(factory);
+                dispatchers.add(factory.createCommandDispatcher(CLUSTER, MEMBERS[i], this.getClass().getClassLoader()));
+            }
+            CommandDispatcher<String> dispatcher = dispatchers.get(0);
+            Map<String, Node> nodes = new HashMap<>();
+            for (Node node : factories.get(0).getGroup().getMembership().getMembers()) {
+                nodes.put(node.getName(), node);
+            }
+            Assert.assertEquals(MEMBERS.length, nodes.size());
+
+            Assert.assertEquals(Map.of("A", "A", "B", "B", "C", "C"), join(dispatcher.executeOnGroup(new NameCommand())));
+            Assert.assertEquals(Map.of("A", "A", "B", "B", "C", "C"), join(dispatcher.executeOnGroup(new LatencyTolerantNameCommand())));
+            Assert.assertEquals(Map.of("A", "A", "C", "C"), join(dispatcher.executeOnGroup(new NameCommand(), nodes.get("B"))));
+            Assert.assertEquals(Map.of("B", "B"), join(dispatcher.executeOnGroup(new NameCommand(), nodes.get("A"), nodes.get("C"))));
+            Assert.assertEquals("C", dispatcher.executeOnMember(new LatencyTolerantNameCommand(), nodes.get("C")).toCompletableFuture().join());
+
+            // Members without a corresponding dispatcher are pruned from the results
+            dispatchers.remove(2).close();
+            Assert.assertEquals(Map.of("A", "A", "B", "B"), join(dispatcher.executeOnGroup(new NameCommand())));
+        } finally {
+            for (CommandDispatcher<String> dispatcher : dispatchers) {
+                dispatcher.close();
+            }
+            for (ChannelCommandDispatcherFactory factory : factories) {
+                factory.close();
+            }
+        }
+    }
+
+    private static Map<String, String> join(Map<Node, CompletionStage<String>> results) {
+        Map<String, String> names = new HashMap<>();
+        for (Map.Entry<Node, CompletionStage<String>> entry : Map.copyOf(results).entrySet()) {
+            try {
+                names.put(entry.getKey().getName(), entry.getValue().toCompletableFuture().join());
+            } catch (CancellationException e) {
+                // Ignore
+            }
+        }
+        return names;
+    }
+
+    static class NameCommand implements Command<String, String> {
+        private static final long serialVersionUID = -2431424539617040208L;
+
+        @Override
+        public String execute(String name) {
+            return name;
+        }
+    }
+
+    static class LatencyTolerantNameCommand extends NameCommand implements LatencyTolerantCommand<String, String> {
+        private static final long serialVersionUID = 3373640584563307325L;
+    }
+
+    private static class TestConfiguration implements ChannelCommandDispatcherFactoryConfiguration, Predicate<Message>, Function<ClassLoader, ByteBufferMarshaller> {
+        private final JChannel channel;
+        private final boolean multicast;
+
+        TestConfiguration(JChannel channel, boolean multicast) {
+            this.channel = channel;
+            this.multicast = multicast;
+        }
+
+        @Override
+        public Predicate<Message> getUnknownForkPredicate() {
+            return this;
+        }
+
+        @Override
+        public boolean test(Message response) {
+            return false;
+        }
+
+        @Override
+        public JChannel getChannel() {
+            return this.channel;
+        }
+
+        @Override
+        public ByteBufferMarshaller getMarshaller() {
+            ClassLoader loader = ChannelCommandDispatcherTestCase.class.getClassLoader();
+            return new ProtoStreamByteBufferMarshaller(new SerializationContextBuilder(new SimpleClassLoaderMarshaller(loader)).load(loader).build());
+        }
+
+        @Override
+        public Duration getTimeout() {
+            return Duration.ofSeconds(10);
+        }
+
+        @Override
+        public Function<ClassLoader, ByteBufferMarshaller> getMarshallerFactory() {
+            return this;
+        }
+
+        @Override
+        public ByteBufferMarshaller apply(ClassLoader loader) {
+            return TestJBossByteBufferMarshaller.INSTANCE;
+        }
+
+        @Override
+        public boolean isMulticast() {
+            return this.multicast;
+        }
+    }
+}
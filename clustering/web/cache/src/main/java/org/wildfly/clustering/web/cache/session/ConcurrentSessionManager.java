@@ -95,6 +95,31 @@ public class ConcurrentSessionManager<L, B extends Batch> implements SessionMana
         return this.manager.getActiveSessionCount();
     }
 
+    @Override
+    public long getReplicationBytesSaved() {
+        return this.manager.getReplicationBytesSaved();
+    }
+
+    @Override
+    public long getDirtyCheckHitCount() {
+        return this.manager.getDirtyCheckHitCount();
+    }
+
+    @Override
+    public long getDirtyCheckMissCount() {
+        return this.manager.getDirtyCheckMissCount();
+    }
+
+    @Override
+    public long getNearCacheHitCount() {
+        return this.manager.getNearCacheHitCount();
+    }
+
+    @Override
+    public long getNearCacheMissCount() {
+        return this.manager.getNearCacheMissCount();
+    }
+
     @Override
     public Batcher<B> getBatcher() {
         return this.manager.getBatcher();
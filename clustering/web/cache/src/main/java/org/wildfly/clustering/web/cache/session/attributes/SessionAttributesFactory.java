@@ -8,6 +8,7 @@ package org.wildfly.clustering.web.cache.session.attributes;
 import org.wildfly.clustering.ee.Creator;
 import org.wildfly.clustering.ee.Remover;
 import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationStatistics;
 
 /**
  * Factory for creating a {@link SessionAttributes} object.
@@ -15,9 +16,24 @@ import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
  * @param <V> the marshalled value type
  * @author Paul Ferraro
  */
-public interface SessionAttributesFactory<C, V> extends ImmutableSessionAttributesFactory<V>, Creator<String, V, Void>, Remover<String>, AutoCloseable {
+public interface SessionAttributesFactory<C, V> extends ImmutableSessionAttributesFactory<V>, Creator<String, V, Void>, Remover<String>, AutoCloseable, SessionAttributeReplicationStatistics {
     SessionAttributes createSessionAttributes(String id, V value, ImmutableSessionMetaData metaData, C context);
 
+    @Override
+    default long getReplicationBytesSaved() {
+        return 0L;
+    }
+
+    @Override
+    default long getDirtyCheckHitCount() {
+        return 0L;
+    }
+
+    @Override
+    default long getDirtyCheckMissCount() {
+        return 0L;
+    }
+
     @Override
     default void close() {
         // Nothing to close
@@ -19,5 +19,7 @@ public class FineSessionAttributesSerializationContextInitializer extends Abstra
     public void registerMarshallers(SerializationContext context) {
         context.registerMarshaller(new SessionAttributeMapComputeFunctionMarshaller<>());
         context.registerMarshaller(new SessionAttributeMapEntryMarshaller());
+        context.registerMarshaller(new SessionAttributeDeltaMarshaller());
+        context.registerMarshaller(new SessionAttributeMapDeltaFunctionMarshaller());
     }
 }
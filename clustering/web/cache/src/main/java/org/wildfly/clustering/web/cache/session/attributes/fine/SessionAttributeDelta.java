@@ -0,0 +1,327 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.cache.session.attributes.fine;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * A binary patch that transforms the marshalled form of a session attribute, as of the time it was loaded, into its current marshalled form.
+ * A patch is a sequence of instructions that either copy a range of bytes from the base value, or insert literal bytes.
+ * Matching ranges are located via the common prefix and suffix of both values, and via a rolling hash over fixed size blocks of the base value.
+ * A delta that does not depend on any base value is considered a full delta.
+ */
+public class SessionAttributeDelta {
+
+    // Values smaller than this are always written in full
+    static final int MIN_LENGTH = 64;
+    // Patches larger than this proportion of the target value are written in full
+    static final float MAX_RATIO = 0.5f;
+
+    private static final int BLOCK_SIZE = 16;
+    private static final int HASH_BASE = 257;
+    private static final int HASH_FACTOR = pow(HASH_BASE, BLOCK_SIZE - 1);
+
+    private static final byte COPY = 0;
+    private static final byte INSERT = 1;
+
+    /**
+     * Creates a delta that transforms the specified source value into the specified target value.
+     * Neither buffer is modified.
+     * @param source the marshalled form of the base value
+     * @param target the marshalled form of the target value
+     * @return a patch from the source to the target value, or a full delta if a patch would not be sufficiently small.
+     */
+    public static SessionAttributeDelta diff(ByteBuffer source, ByteBuffer target) {
+        int targetLength = target.remaining();
+        if (targetLength < MIN_LENGTH) {
+            return full(target);
+        }
+        byte[] base = toByteArray(source);
+        byte[] value = toByteArray(target);
+        Encoder encoder = new Encoder((int) (targetLength * MAX_RATIO));
+
+        int prefix = mismatch(base, 0, value, 0, Math.min(base.length, value.length));
+        int limit = Math.min(base.length, value.length) - prefix;
+        int suffix = 0;
+        while ((suffix < limit) && (base[base.length - suffix - 1] == value[value.length - suffix - 1])) {
+            suffix += 1;
+        }
+        encoder.copy(0, prefix);
+
+        int end = value.length - suffix;
+        Map<Integer, Integer> blocks = index(base);
+        int literal = prefix;
+        int position = prefix;
+        int hash = (position + BLOCK_SIZE <= end) ? hash(value, position) : 0;
+        while ((position + BLOCK_SIZE <= end) && !encoder.isOverflow()) {
+            Integer offset = blocks.get(hash);
+            if ((offset != null) && (mismatch(base, offset, value, position, BLOCK_SIZE) == BLOCK_SIZE)) {
+                int length = BLOCK_SIZE + mismatch(base, offset + BLOCK_SIZE, value, position + BLOCK_SIZE, Math.min(base.length - offset, end - position) - BLOCK_SIZE);
+                encoder.insert(value, literal, position - literal);
+                encoder.copy(offset, length);
+                position += length;
+                literal = position;
+                if (position + BLOCK_SIZE <= end) {
+                    hash = hash(value, position);
+                }
+            } else {
+                if (position + BLOCK_SIZE < end) {
+                    hash = (hash - value[position] * HASH_FACTOR) * HASH_BASE + value[position + BLOCK_SIZE];
+                }
+                position += 1;
+            }
+        }
+        encoder.insert(value, literal, end - literal);
+        encoder.copy(base.length - suffix, suffix);
+
+        if (encoder.isOverflow()) {
+            return new SessionAttributeDelta(value);
+        }
+        CRC32C checksum = new CRC32C();
+        checksum.update(base);
+        return new SessionAttributeDelta(base.length, (int) checksum.getValue(), value.length, encoder.toByteArray());
+    }
+
+    /**
+     * Creates a full delta for the specified target value, i.e. a delta that does not depend on any base value.
+     * @param target the marshalled form of the target value
+     * @return a full delta
+     */
+    public static SessionAttributeDelta full(ByteBuffer target) {
+        return new SessionAttributeDelta(toByteArray(target));
+    }
+
+    private final int baseLength;
+    private final int baseChecksum;
+    private final int length;
+    private final byte[] instructions;
+
+    private SessionAttributeDelta(byte[] value) {
+        this(-1, 0, value.length, encodeInsert(value));
+    }
+
+    SessionAttributeDelta(int baseLength, int baseChecksum, int length, byte[] instructions) {
+        this.baseLength = baseLength;
+        this.baseChecksum = baseChecksum;
+        this.length = length;
+        this.instructions = instructions;
+    }
+
+    /**
+     * Indicates whether or not this delta depends on a base value.
+     * @return true, if this delta does not depend on a base value, false otherwise.
+     */
+    public boolean isFull() {
+        return this.baseLength < 0;
+    }
+
+    /**
+     * Returns the length of the target value produced by this delta.
+     * @return a number of bytes
+     */
+    public int getLength() {
+        return this.length;
+    }
+
+    /**
+     * Returns the encoded size of this delta.
+     * @return a number of bytes
+     */
+    public int size() {
+        return this.instructions.length;
+    }
+
+    int getBaseLength() {
+        return this.baseLength;
+    }
+
+    int getBaseChecksum() {
+        return this.baseChecksum;
+    }
+
+    byte[] getInstructions() {
+        return this.instructions;
+    }
+
+    /**
+     * Indicates whether or not this delta can be applied to the specified base value.
+     * @param source the marshalled form of the base value, or null, if no base value exists.
+     * @return true, if this delta does not depend on a base value, or if the specified value is its base value, false otherwise.
+     */
+    public boolean isBase(ByteBuffer source) {
+        return this.isFull() || this.isBase((source != null) ? toByteArray(source) : null);
+    }
+
+    private boolean isBase(byte[] base) {
+        if ((base == null) || (base.length != this.baseLength)) {
+            return false;
+        }
+        CRC32C checksum = new CRC32C();
+        checksum.update(base);
+        return (int) checksum.getValue() == this.baseChecksum;
+    }
+
+    /**
+     * Applies this delta to the specified base value.  The specified buffer is not modified.
+     * @param source the marshalled form of the base value, or null, if no base value exists.
+     * @return the marshalled form of the target value
+     * @throws IllegalArgumentException if the specified base value is not the base value of this delta
+     */
+    public ByteBuffer apply(ByteBuffer source) {
+        byte[] base = null;
+        if (!this.isFull()) {
+            base = (source != null) ? toByteArray(source) : null;
+            if (!this.isBase(base)) {
+                throw new IllegalArgumentException();
+            }
+        }
+        byte[] result = new byte[this.length];
+        ByteBuffer instructions = ByteBuffer.wrap(this.instructions);
+        int position = 0;
+        while (instructions.hasRemaining()) {
+            byte instruction = instructions.get();
+            switch (instruction) {
+                case COPY: {
+                    int offset = readVarInt(instructions);
+                    int length = readVarInt(instructions);
+                    if (base == null) {
+                        throw new IllegalArgumentException();
+                    }
+                    System.arraycopy(base, offset, result, position, length);
+                    position += length;
+                    break;
+                }
+                case INSERT: {
+                    int length = readVarInt(instructions);
+                    instructions.get(result, position, length);
+                    position += length;
+                    break;
+                }
+                default: {
+                    throw new IllegalArgumentException(Byte.toString(instruction));
+                }
+            }
+        }
+        if (position != this.length) {
+            throw new IllegalArgumentException();
+        }
+        return ByteBuffer.wrap(result);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.instructions);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof SessionAttributeDelta)) return false;
+        SessionAttributeDelta delta = (SessionAttributeDelta) object;
+        return (this.baseLength == delta.baseLength) && (this.baseChecksum == delta.baseChecksum) && (this.length == delta.length) && Arrays.equals(this.instructions, delta.instructions);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s { base-length = %d, length = %d, size = %d }", this.getClass().getSimpleName(), this.baseLength, this.length, this.instructions.length);
+    }
+
+    private static byte[] toByteArray(ByteBuffer buffer) {
+        ByteBuffer duplicate = buffer.duplicate();
+        byte[] bytes = new byte[duplicate.remaining()];
+        duplicate.get(bytes);
+        return bytes;
+    }
+
+    private static Map<Integer, Integer> index(byte[] base) {
+        Map<Integer, Integer> blocks = new HashMap<>();
+        for (int offset = 0; offset + BLOCK_SIZE <= base.length; offset += BLOCK_SIZE) {
+            blocks.putIfAbsent(hash(base, offset), offset);
+        }
+        return blocks;
+    }
+
+    private static int hash(byte[] bytes, int offset) {
+        int hash = 0;
+        for (int i = offset; i < offset + BLOCK_SIZE; ++i) {
+            hash = hash * HASH_BASE + bytes[i];
+        }
+        return hash;
+    }
+
+    private static int pow(int base, int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; ++i) {
+            result *= base;
+        }
+        return result;
+    }
+
+    // Returns the length of the common sequence of the specified ranges
+    private static int mismatch(byte[] source, int sourceOffset, byte[] target, int targetOffset, int length) {
+        int index = Arrays.mismatch(source, sourceOffset, sourceOffset + length, target, targetOffset, targetOffset + length);
+        return (index < 0) ? length : index;
+    }
+
+    private static byte[] encodeInsert(byte[] value) {
+        Encoder encoder = new Encoder(Integer.MAX_VALUE);
+        encoder.insert(value, 0, value.length);
+        return encoder.toByteArray();
+    }
+
+    private static int readVarInt(ByteBuffer buffer) {
+        int result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            result |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return result;
+    }
+
+    private static class Encoder extends ByteArrayOutputStream {
+        private final int limit;
+
+        Encoder(int limit) {
+            this.limit = limit;
+        }
+
+        boolean isOverflow() {
+            return this.count > this.limit;
+        }
+
+        void copy(int offset, int length) {
+            if (length > 0) {
+                this.write(COPY);
+                this.writeVarInt(offset);
+                this.writeVarInt(length);
+            }
+        }
+
+        void insert(byte[] bytes, int offset, int length) {
+            if (length > 0) {
+                this.write(INSERT);
+                this.writeVarInt(length);
+                this.write(bytes, offset, length);
+            }
+        }
+
+        private void writeVarInt(int value) {
+            int remaining = value;
+            while ((remaining & ~0x7F) != 0) {
+                this.write((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            this.write(remaining);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.cache.session.attributes.fine;
+
+import java.io.IOException;
+
+import org.infinispan.protostream.descriptors.WireType;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamMarshaller;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamReader;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamWriter;
+
+/**
+ * ProtoStream marshaller for a {@link SessionAttributeDelta}.
+ */
+public class SessionAttributeDeltaMarshaller implements ProtoStreamMarshaller<SessionAttributeDelta> {
+
+    private static final int BASE_LENGTH_INDEX = 1;
+    private static final int BASE_CHECKSUM_INDEX = 2;
+    private static final int LENGTH_INDEX = 3;
+    private static final int INSTRUCTIONS_INDEX = 4;
+
+    private static final byte[] NO_INSTRUCTIONS = new byte[0];
+
+    @Override
+    public Class<? extends SessionAttributeDelta> getJavaClass() {
+        return SessionAttributeDelta.class;
+    }
+
+    @Override
+    public SessionAttributeDelta readFrom(ProtoStreamReader reader) throws IOException {
+        int baseLength = -1;
+        int baseChecksum = 0;
+        int length = 0;
+        byte[] instructions = NO_INSTRUCTIONS;
+        while (!reader.isAtEnd()) {
+            int tag = reader.readTag();
+            switch (WireType.getTagFieldNumber(tag)) {
+                case BASE_LENGTH_INDEX:
+                    baseLength = reader.readUInt32();
+                    break;
+                case BASE_CHECKSUM_INDEX:
+                    baseChecksum = reader.readSFixed32();
+                    break;
+                case LENGTH_INDEX:
+                    length = reader.readUInt32();
+                    break;
+                case INSTRUCTIONS_INDEX:
+                    instructions = reader.readByteArray();
+                    break;
+                default:
+                    reader.skipField(tag);
+            }
+        }
+        return new SessionAttributeDelta(baseLength, baseChecksum, length, instructions);
+    }
+
+    @Override
+    public void writeTo(ProtoStreamWriter writer, SessionAttributeDelta delta) throws IOException {
+        if (!delta.isFull()) {
+            writer.writeUInt32(BASE_LENGTH_INDEX, delta.getBaseLength());
+            writer.writeSFixed32(BASE_CHECKSUM_INDEX, delta.getBaseChecksum());
+        }
+        int length = delta.getLength();
+        if (length > 0) {
+            writer.writeUInt32(LENGTH_INDEX, length);
+        }
+        byte[] instructions = delta.getInstructions();
+        if (instructions.length > 0) {
+            writer.writeBytes(INSTRUCTIONS_INDEX, instructions);
+        }
+    }
+}
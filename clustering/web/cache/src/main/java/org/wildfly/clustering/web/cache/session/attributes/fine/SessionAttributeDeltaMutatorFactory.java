@@ -0,0 +1,114 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.cache.session.attributes.fine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+import org.wildfly.clustering.ee.Mutator;
+import org.wildfly.clustering.ee.MutatorFactory;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValue;
+import org.wildfly.clustering.web.cache.logging.Logger;
+
+/**
+ * Creates mutators that replicate the updated attributes of a fine granularity session as deltas of their marshalled form as of the time the session was loaded.
+ * Attributes whose marshalled form is unchanged are not replicated at all.
+ * Prior to mutation, each delta is validated against the current marshalled form of its attribute.
+ * Attributes whose marshalled form no longer matches the base value of their delta, e.g. due to a concurrent update of the session, are replicated in full.
+ */
+public class SessionAttributeDeltaMutatorFactory<K> implements MutatorFactory<K, Map<String, ByteBufferMarshalledValue<Object>>> {
+
+    private final Map<String, ByteBuffer> baselines;
+    private final Function<K, Map<String, ByteBufferMarshalledValue<Object>>> reader;
+    private final MutatorFactory<K, Map<String, SessionAttributeDelta>> deltaMutatorFactory;
+    private final MutatorFactory<K, Map<String, SessionAttributeDelta>> fullMutatorFactory;
+    private final LongConsumer savedBytesRecorder;
+
+    /**
+     * Constructs a new delta mutator factory.
+     * @param baselines the marshalled form of each attribute of the session, as of the time it was loaded
+     * @param reader reads the current marshalled attributes of a session, locking them for the remainder of the batch, if supported by the cache
+     * @param deltaMutatorFactory a factory for mutators that fail if deltas cannot be applied
+     * @param fullMutatorFactory a factory for mutators used to replicate full deltas
+     * @param savedBytesRecorder records the number of bytes saved by a given mutation
+     */
+    public SessionAttributeDeltaMutatorFactory(Map<String, ByteBuffer> baselines, Function<K, Map<String, ByteBufferMarshalledValue<Object>>> reader, MutatorFactory<K, Map<String, SessionAttributeDelta>> deltaMutatorFactory, MutatorFactory<K, Map<String, SessionAttributeDelta>> fullMutatorFactory, LongConsumer savedBytesRecorder) {
+        this.baselines = baselines;
+        this.reader = reader;
+        this.deltaMutatorFactory = deltaMutatorFactory;
+        this.fullMutatorFactory = fullMutatorFactory;
+        this.savedBytesRecorder = savedBytesRecorder;
+    }
+
+    @Override
+    public Mutator createMutator(K key, Map<String, ByteBufferMarshalledValue<Object>> updates) {
+        Map<String, SessionAttributeDelta> deltas = new TreeMap<>();
+        Map<String, ByteBuffer> targets = new TreeMap<>();
+        long savedBytes = 0;
+        for (Map.Entry<String, ByteBufferMarshalledValue<Object>> entry : updates.entrySet()) {
+            String name = entry.getKey();
+            ByteBufferMarshalledValue<Object> value = entry.getValue();
+            ByteBuffer baseline = this.baselines.get(name);
+            if (value != null) {
+                ByteBuffer target = getBuffer(value);
+                if ((baseline != null) && baseline.equals(target)) {
+                    savedBytes += target.remaining();
+                    continue;
+                }
+                deltas.put(name, (baseline != null) ? SessionAttributeDelta.diff(baseline, target) : SessionAttributeDelta.full(target));
+                targets.put(name, target);
+            } else {
+                deltas.put(name, null);
+            }
+        }
+        if (deltas.isEmpty()) {
+            this.savedBytesRecorder.accept(savedBytes);
+            return Mutator.PASSIVE;
+        }
+        long unchangedBytes = savedBytes;
+        return new Mutator() {
+            @Override
+            public void mutate() {
+                SessionAttributeDeltaMutatorFactory<K> factory = SessionAttributeDeltaMutatorFactory.this;
+                if (deltas.values().stream().allMatch(delta -> (delta == null) || delta.isFull())) {
+                    factory.fullMutatorFactory.createMutator(key, deltas).mutate();
+                    factory.savedBytesRecorder.accept(unchangedBytes);
+                    return;
+                }
+                Map<String, ByteBufferMarshalledValue<Object>> current = factory.reader.apply(key);
+                long savedBytes = unchangedBytes;
+                for (Map.Entry<String, SessionAttributeDelta> entry : deltas.entrySet()) {
+                    SessionAttributeDelta delta = entry.getValue();
+                    if ((delta != null) && !delta.isFull()) {
+                        String name = entry.getKey();
+                        ByteBufferMarshalledValue<Object> value = (current != null) ? current.get(name) : null;
+                        if ((value != null) && delta.isBase(getBuffer(value))) {
+                            savedBytes += delta.getLength() - delta.size();
+                        } else {
+                            Logger.ROOT_LOGGER.debugf("Session attribute %s of %s was concurrently updated, replicating its full marshalled form instead", name, key);
+                            entry.setValue(SessionAttributeDelta.full(targets.get(name)));
+                        }
+                    }
+                }
+                factory.deltaMutatorFactory.createMutator(key, deltas).mutate();
+                factory.savedBytesRecorder.accept(savedBytes);
+            }
+        };
+    }
+
+    private static ByteBuffer getBuffer(ByteBufferMarshalledValue<Object> value) {
+        try {
+            return value.getBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.cache.session.attributes.fine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.wildfly.clustering.ee.Mutator;
+import org.wildfly.clustering.ee.MutatorFactory;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValue;
+import org.wildfly.clustering.web.cache.session.attributes.XXHash64;
+
+/**
+ * Creates mutators that only replicate those updated attributes of a fine granularity session whose marshalled form was modified since the session was loaded.
+ * Modification is detected by comparing the {@link XXHash64} fingerprint of the marshalled form of each attribute to its fingerprint as of the time the session was loaded.
+ */
+public class SessionAttributeDirtyCheckMutatorFactory<K> implements MutatorFactory<K, Map<String, ByteBufferMarshalledValue<Object>>> {
+
+    private final Map<String, Long> fingerprints;
+    private final MutatorFactory<K, Map<String, ByteBufferMarshalledValue<Object>>> mutatorFactory;
+    private final Runnable hitRecorder;
+    private final Runnable missRecorder;
+
+    /**
+     * Constructs a new dirty checking mutator factory.
+     * @param fingerprints the fingerprint of the marshalled form of each attribute of the session, as of the time it was loaded
+     * @param mutatorFactory a factory for mutators of modified attributes
+     * @param hitRecorder records an unmodified attribute whose replication was suppressed
+     * @param missRecorder records a modified attribute
+     */
+    public SessionAttributeDirtyCheckMutatorFactory(Map<String, Long> fingerprints, MutatorFactory<K, Map<String, ByteBufferMarshalledValue<Object>>> mutatorFactory, Runnable hitRecorder, Runnable missRecorder) {
+        this.fingerprints = fingerprints;
+        this.mutatorFactory = mutatorFactory;
+        this.hitRecorder = hitRecorder;
+        this.missRecorder = missRecorder;
+    }
+
+    @Override
+    public Mutator createMutator(K key, Map<String, ByteBufferMarshalledValue<Object>> updates) {
+        Map<String, ByteBufferMarshalledValue<Object>> modified = new TreeMap<>();
+        for (Map.Entry<String, ByteBufferMarshalledValue<Object>> entry : updates.entrySet()) {
+            String name = entry.getKey();
+            ByteBufferMarshalledValue<Object> value = entry.getValue();
+            Long fingerprint = this.fingerprints.get(name);
+            if ((value != null) && (fingerprint != null)) {
+                try {
+                    ByteBuffer buffer = value.getBuffer();
+                    if (fingerprint.longValue() == XXHash64.hash(buffer)) {
+                        this.hitRecorder.run();
+                        continue;
+                    }
+                    this.missRecorder.run();
+                    // Replicate marshalled form, so that attribute is not marshalled again
+                    value = new ByteBufferMarshalledValue<>(buffer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            modified.put(name, value);
+        }
+        return !modified.isEmpty() ? this.mutatorFactory.createMutator(key, modified) : Mutator.PASSIVE;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.cache.session.attributes.fine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import org.wildfly.clustering.ee.cache.function.MapFunction;
+import org.wildfly.clustering.ee.cache.function.MapOperations;
+import org.wildfly.clustering.ee.cache.function.Operations;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValue;
+
+/**
+ * Function that applies deltas to the marshalled attributes of a fine granularity session.
+ * A null delta removes the corresponding attribute.
+ * Fails if the current marshalled form of a given attribute is not the base value of its delta.
+ */
+public class SessionAttributeMapDeltaFunction extends MapFunction<String, ByteBufferMarshalledValue<Object>, Map<String, SessionAttributeDelta>> {
+
+    @SuppressWarnings("unchecked")
+    private static final Operations<Map<String, ByteBufferMarshalledValue<Object>>> OPERATIONS = (Operations<Map<String, ByteBufferMarshalledValue<Object>>>) (Operations<?>) MapOperations.TREE;
+
+    public SessionAttributeMapDeltaFunction(Map<String, SessionAttributeDelta> operand) {
+        super(operand, OPERATIONS);
+    }
+
+    @Override
+    public void accept(Map<String, ByteBufferMarshalledValue<Object>> map, Map<String, SessionAttributeDelta> operand) {
+        for (Map.Entry<String, SessionAttributeDelta> entry : operand.entrySet()) {
+            String name = entry.getKey();
+            SessionAttributeDelta delta = entry.getValue();
+            if (delta != null) {
+                ByteBufferMarshalledValue<Object> value = !delta.isFull() ? map.get(name) : null;
+                try {
+                    ByteBuffer base = (value != null) ? value.getBuffer() : null;
+                    map.put(name, new ByteBufferMarshalledValue<>(delta.apply(base)));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            } else {
+                map.remove(name);
+            }
+        }
+    }
+}
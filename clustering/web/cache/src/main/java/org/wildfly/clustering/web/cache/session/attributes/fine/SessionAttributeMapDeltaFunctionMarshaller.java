@@ -0,0 +1,68 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.cache.session.attributes.fine;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.infinispan.protostream.descriptors.WireType;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamMarshaller;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamReader;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamWriter;
+
+/**
+ * ProtoStream marshaller for a {@link SessionAttributeMapDeltaFunction}.
+ * Each updated attribute is written as its name, immediately followed by its delta.
+ */
+public class SessionAttributeMapDeltaFunctionMarshaller implements ProtoStreamMarshaller<SessionAttributeMapDeltaFunction> {
+
+    private static final int UPDATED_NAME_INDEX = 1;
+    private static final int DELTA_INDEX = 2;
+    private static final int REMOVED_NAME_INDEX = 3;
+
+    @Override
+    public Class<? extends SessionAttributeMapDeltaFunction> getJavaClass() {
+        return SessionAttributeMapDeltaFunction.class;
+    }
+
+    @Override
+    public SessionAttributeMapDeltaFunction readFrom(ProtoStreamReader reader) throws IOException {
+        Map<String, SessionAttributeDelta> deltas = new TreeMap<>();
+        String name = null;
+        while (!reader.isAtEnd()) {
+            int tag = reader.readTag();
+            switch (WireType.getTagFieldNumber(tag)) {
+                case UPDATED_NAME_INDEX:
+                    name = reader.readString();
+                    break;
+                case DELTA_INDEX:
+                    deltas.put(name, reader.readObject(SessionAttributeDelta.class));
+                    break;
+                case REMOVED_NAME_INDEX:
+                    deltas.put(reader.readString(), null);
+                    break;
+                default:
+                    reader.skipField(tag);
+            }
+        }
+        return new SessionAttributeMapDeltaFunction(deltas);
+    }
+
+    @Override
+    public void writeTo(ProtoStreamWriter writer, SessionAttributeMapDeltaFunction function) throws IOException {
+        for (Map.Entry<String, SessionAttributeDelta> entry : function.getOperand().entrySet()) {
+            String name = entry.getKey();
+            SessionAttributeDelta delta = entry.getValue();
+            if (delta != null) {
+                writer.writeString(UPDATED_NAME_INDEX, name);
+                writer.writeObject(DELTA_INDEX, delta);
+            } else {
+                writer.writeString(REMOVED_NAME_INDEX, name);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.cache.session.attributes;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link XXHash64}.
+ */
+public class XXHash64TestCase {
+
+    @Test
+    public void test() {
+        Assert.assertEquals(0xEF46DB3751D8E999L, hash(""));
+        Assert.assertEquals(0x44BC2CF5AD770999L, hash("abc"));
+        Assert.assertEquals(0xFBCEA83C8A378BF1L, hash("Nobody inspects the spammish repetition"));
+
+        // Verify buffer position and offset are respected
+        ByteBuffer buffer = ByteBuffer.wrap("xxabcxx".getBytes(StandardCharsets.US_ASCII), 2, 3).slice();
+        Assert.assertEquals(0x44BC2CF5AD770999L, XXHash64.hash(buffer));
+        Assert.assertEquals(0, buffer.position());
+    }
+
+    private static long hash(String value) {
+        return XXHash64.hash(ByteBuffer.wrap(value.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.cache.session.attributes.fine;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.wildfly.clustering.ee.Mutator;
+import org.wildfly.clustering.ee.MutatorFactory;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValue;
+
+/**
+ * Unit test for {@link SessionAttributeDeltaMutatorFactory}.
+ */
+public class SessionAttributeDeltaMutatorFactoryTestCase {
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void test() {
+        MutatorFactory<String, Map<String, SessionAttributeDelta>> deltaMutatorFactory = mock(MutatorFactory.class);
+        MutatorFactory<String, Map<String, SessionAttributeDelta>> fullMutatorFactory = mock(MutatorFactory.class);
+        Mutator mutator = mock(Mutator.class);
+        AtomicLong savedBytes = new AtomicLong();
+        ByteBuffer baseline = createBuffer(0);
+        ByteBuffer concurrentBaseline = createBuffer(1);
+        ByteBuffer target = createBuffer(0);
+        target.put(128, (byte) -1);
+        ByteBuffer concurrentTarget = createBuffer(1);
+        concurrentTarget.put(128, (byte) -1);
+
+        Map<String, ByteBuffer> baselines = Map.of("unchanged", baseline, "changed", baseline, "concurrent", concurrentBaseline);
+        Map<String, ByteBufferMarshalledValue<Object>> current = new HashMap<>();
+        current.put("unchanged", new ByteBufferMarshalledValue<>(baseline.duplicate()));
+        current.put("changed", new ByteBufferMarshalledValue<>(baseline.duplicate()));
+        // Attribute was updated by another node since this session was loaded
+        current.put("concurrent", new ByteBufferMarshalledValue<>(createBuffer(2)));
+
+        MutatorFactory<String, Map<String, ByteBufferMarshalledValue<Object>>> factory = new SessionAttributeDeltaMutatorFactory<>(baselines, key -> current, deltaMutatorFactory, fullMutatorFactory, savedBytes::addAndGet);
+
+        // Verify that unmodified attributes are not replicated
+        Assert.assertSame(Mutator.PASSIVE, factory.createMutator("foo", Map.of("unchanged", new ByteBufferMarshalledValue<>(baseline.duplicate()))));
+        Assert.assertEquals(baseline.remaining(), savedBytes.get());
+        savedBytes.set(0);
+
+        Map<String, ByteBufferMarshalledValue<Object>> updates = new TreeMap<>();
+        updates.put("unchanged", new ByteBufferMarshalledValue<>(baseline.duplicate()));
+        updates.put("changed", new ByteBufferMarshalledValue<>(target));
+        updates.put("concurrent", new ByteBufferMarshalledValue<>(concurrentTarget));
+        updates.put("removed", null);
+
+        ArgumentCaptor<Map<String, SessionAttributeDelta>> capturedDeltas = ArgumentCaptor.forClass(Map.class);
+        when(deltaMutatorFactory.createMutator(any(), capturedDeltas.capture())).thenReturn(mutator);
+
+        factory.createMutator("foo", updates).mutate();
+
+        verify(mutator).mutate();
+        verify(fullMutatorFactory, never()).createMutator(any(), any());
+
+        Map<String, SessionAttributeDelta> deltas = capturedDeltas.getValue();
+        Assert.assertEquals(3, deltas.size());
+        Assert.assertFalse(deltas.containsKey("unchanged"));
+        Assert.assertFalse(deltas.get("changed").isFull());
+        Assert.assertEquals(target, deltas.get("changed").apply(baseline));
+        // Delta of the concurrently updated attribute was replaced by its full value before mutating
+        Assert.assertTrue(deltas.get("concurrent").isFull());
+        Assert.assertEquals(concurrentTarget, deltas.get("concurrent").apply(null));
+        Assert.assertTrue(deltas.containsKey("removed"));
+        Assert.assertNull(deltas.get("removed"));
+
+        SessionAttributeDelta delta = deltas.get("changed");
+        Assert.assertEquals(baseline.remaining() + delta.getLength() - delta.size(), savedBytes.get());
+
+        // Failure to apply validated deltas is not masked
+        doThrow(IllegalArgumentException.class).when(mutator).mutate();
+        Mutator failingMutator = factory.createMutator("foo", Map.of("changed", new ByteBufferMarshalledValue<>(target)));
+        Assert.assertThrows(IllegalArgumentException.class, failingMutator::mutate);
+        verify(fullMutatorFactory, never()).createMutator(any(), any());
+    }
+
+    private static ByteBuffer createBuffer(int seed) {
+        byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; ++i) {
+            bytes[i] = (byte) (i * 31 + seed * 7);
+        }
+        return ByteBuffer.wrap(bytes);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.cache.session.attributes.fine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wildfly.clustering.marshalling.MarshallingTester;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamTesterFactory;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValue;
+
+/**
+ * Unit test for {@link SessionAttributeDelta} and {@link SessionAttributeMapDeltaFunction}.
+ */
+public class SessionAttributeDeltaTestCase {
+
+    private final Random random = new Random(0L);
+
+    @Test
+    public void diff() {
+        byte[] source = this.randomBytes(4096);
+
+        // Modify a few bytes in the middle
+        byte[] target = source.clone();
+        target[2000] += 1;
+        target[2001] += 1;
+        this.verifyDelta(source, target);
+
+        // Insert bytes in the middle
+        byte[] inserted = new byte[source.length + 32];
+        System.arraycopy(source, 0, inserted, 0, 1000);
+        System.arraycopy(this.randomBytes(32), 0, inserted, 1000, 32);
+        System.arraycopy(source, 1000, inserted, 1032, source.length - 1000);
+        this.verifyDelta(source, inserted);
+
+        // Remove bytes from the middle
+        byte[] removed = new byte[source.length - 100];
+        System.arraycopy(source, 0, removed, 0, 1000);
+        System.arraycopy(source, 1100, removed, 1000, source.length - 1100);
+        this.verifyDelta(source, removed);
+
+        // Swap blocks of source
+        byte[] swapped = new byte[source.length];
+        System.arraycopy(source, 2048, swapped, 0, 2048);
+        System.arraycopy(source, 0, swapped, 2048, 2048);
+        this.verifyDelta(source, swapped);
+
+        // Append bytes
+        byte[] appended = Arrays.copyOf(source, source.length + 64);
+        this.verifyDelta(source, appended);
+    }
+
+    @Test
+    public void full() {
+        byte[] source = this.randomBytes(4096);
+
+        // Unrelated values
+        byte[] target = this.randomBytes(4096);
+        SessionAttributeDelta delta = SessionAttributeDelta.diff(ByteBuffer.wrap(source), ByteBuffer.wrap(target));
+        Assert.assertTrue(delta.isFull());
+        Assert.assertEquals(ByteBuffer.wrap(target), delta.apply(null));
+
+        // Small values
+        byte[] small = Arrays.copyOf(source, SessionAttributeDelta.MIN_LENGTH - 1);
+        delta = SessionAttributeDelta.diff(ByteBuffer.wrap(source), ByteBuffer.wrap(small));
+        Assert.assertTrue(delta.isFull());
+        Assert.assertEquals(ByteBuffer.wrap(small), delta.apply(ByteBuffer.wrap(source)));
+    }
+
+    @Test
+    public void mismatch() {
+        byte[] source = this.randomBytes(1024);
+        byte[] target = source.clone();
+        target[512] += 1;
+        SessionAttributeDelta delta = SessionAttributeDelta.diff(ByteBuffer.wrap(source), ByteBuffer.wrap(target));
+        Assert.assertFalse(delta.isFull());
+
+        byte[] other = source.clone();
+        other[100] += 1;
+        Assert.assertThrows(IllegalArgumentException.class, () -> delta.apply(ByteBuffer.wrap(other)));
+        Assert.assertThrows(IllegalArgumentException.class, () -> delta.apply(ByteBuffer.wrap(Arrays.copyOf(source, 1023))));
+        Assert.assertThrows(IllegalArgumentException.class, () -> delta.apply(null));
+    }
+
+    @Test
+    public void function() throws IOException {
+        byte[] source = this.randomBytes(1024);
+        byte[] target = source.clone();
+        target[512] += 1;
+        byte[] added = this.randomBytes(128);
+
+        Map<String, ByteBufferMarshalledValue<Object>> map = new TreeMap<>();
+        map.put("foo", new ByteBufferMarshalledValue<>(ByteBuffer.wrap(source)));
+        map.put("bar", new ByteBufferMarshalledValue<>(ByteBuffer.wrap(source)));
+
+        Map<String, SessionAttributeDelta> deltas = new TreeMap<>();
+        deltas.put("foo", SessionAttributeDelta.diff(ByteBuffer.wrap(source), ByteBuffer.wrap(target)));
+        deltas.put("bar", null);
+        deltas.put("baz", SessionAttributeDelta.full(ByteBuffer.wrap(added)));
+        SessionAttributeMapDeltaFunction function = new SessionAttributeMapDeltaFunction(deltas);
+
+        Map<String, ByteBufferMarshalledValue<Object>> result = function.apply(null, map);
+        Assert.assertEquals(2, result.size());
+        Assert.assertEquals(ByteBuffer.wrap(target), result.get("foo").getBuffer());
+        Assert.assertEquals(ByteBuffer.wrap(added), result.get("baz").getBuffer());
+        // Verify original map is unmodified
+        Assert.assertEquals(ByteBuffer.wrap(source), map.get("foo").getBuffer());
+        Assert.assertTrue(map.containsKey("bar"));
+
+        // Deltas cannot be applied to missing attributes
+        Assert.assertThrows(IllegalArgumentException.class, () -> function.apply(null, null));
+
+        MarshallingTester<SessionAttributeMapDeltaFunction> tester = ProtoStreamTesterFactory.createTester(List.of(new FineSessionAttributesSerializationContextInitializer()));
+        tester.test(function);
+    }
+
+    private void verifyDelta(byte[] source, byte[] target) {
+        ByteBuffer sourceBuffer = ByteBuffer.wrap(source);
+        ByteBuffer targetBuffer = ByteBuffer.wrap(target);
+        SessionAttributeDelta delta = SessionAttributeDelta.diff(sourceBuffer, targetBuffer);
+        Assert.assertFalse(delta.isFull());
+        Assert.assertTrue(delta.toString(), delta.size() < target.length * SessionAttributeDelta.MAX_RATIO);
+        Assert.assertEquals(target.length, delta.getLength());
+        Assert.assertEquals(targetBuffer, delta.apply(sourceBuffer));
+        // Verify buffers were not modified
+        Assert.assertEquals(0, sourceBuffer.position());
+        Assert.assertEquals(0, targetBuffer.position());
+    }
+
+    private byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        this.random.nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.cache.session.attributes.fine;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.wildfly.clustering.ee.Mutator;
+import org.wildfly.clustering.ee.MutatorFactory;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValue;
+import org.wildfly.clustering.web.cache.session.attributes.XXHash64;
+
+/**
+ * Unit test for {@link SessionAttributeDirtyCheckMutatorFactory}.
+ */
+public class SessionAttributeDirtyCheckMutatorFactoryTestCase {
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void test() throws IOException {
+        MutatorFactory<String, Map<String, ByteBufferMarshalledValue<Object>>> mutatorFactory = mock(MutatorFactory.class);
+        Mutator mutator = mock(Mutator.class);
+        AtomicInteger hits = new AtomicInteger();
+        AtomicInteger misses = new AtomicInteger();
+        ByteBuffer unchanged = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+        ByteBuffer changed = ByteBuffer.wrap(new byte[] { 4, 5, 6 });
+        ByteBuffer added = ByteBuffer.wrap(new byte[] { 7, 8, 9 });
+
+        Map<String, Long> fingerprints = Map.of("unchanged", XXHash64.hash(unchanged), "changed", XXHash64.hash(ByteBuffer.wrap(new byte[] { 4, 5 })), "removed", 0L);
+        MutatorFactory<String, Map<String, ByteBufferMarshalledValue<Object>>> factory = new SessionAttributeDirtyCheckMutatorFactory<>(fingerprints, mutatorFactory, hits::incrementAndGet, misses::incrementAndGet);
+
+        // Verify that unmodified attributes are not replicated
+        Assert.assertSame(Mutator.PASSIVE, factory.createMutator("foo", Map.of("unchanged", new ByteBufferMarshalledValue<>(unchanged))));
+        Assert.assertEquals(1, hits.get());
+        Assert.assertEquals(0, misses.get());
+        verify(mutatorFactory, never()).createMutator(any(), any());
+
+        Map<String, ByteBufferMarshalledValue<Object>> updates = new TreeMap<>();
+        updates.put("unchanged", new ByteBufferMarshalledValue<>(unchanged));
+        updates.put("changed", new ByteBufferMarshalledValue<>(changed));
+        updates.put("added", new ByteBufferMarshalledValue<>(added));
+        updates.put("removed", null);
+
+        ArgumentCaptor<Map<String, ByteBufferMarshalledValue<Object>>> capturedUpdates = ArgumentCaptor.forClass(Map.class);
+        when(mutatorFactory.createMutator(any(), capturedUpdates.capture())).thenReturn(mutator);
+
+        Assert.assertSame(mutator, factory.createMutator("foo", updates));
+        Assert.assertEquals(2, hits.get());
+        Assert.assertEquals(1, misses.get());
+
+        Map<String, ByteBufferMarshalledValue<Object>> modified = capturedUpdates.getValue();
+        Assert.assertEquals(3, modified.size());
+        Assert.assertFalse(modified.containsKey("unchanged"));
+        Assert.assertEquals(changed, modified.get("changed").getBuffer());
+        Assert.assertEquals(added, modified.get("added").getBuffer());
+        Assert.assertTrue(modified.containsKey("removed"));
+        Assert.assertNull(modified.get("removed"));
+    }
+}
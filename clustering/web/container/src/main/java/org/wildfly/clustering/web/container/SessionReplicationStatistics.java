@@ -0,0 +1,27 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.container;
+
+/**
+ * Replication statistics of a distributable session manager, exposed as runtime attributes of its deployment by the container.
+ */
+public interface SessionReplicationStatistics {
+
+    /**
+     * @return The number of bytes not replicated due to the replication of deltas of session attributes, rather than their full marshalled form
+     */
+    long getReplicationBytesSaved();
+
+    /**
+     * @return The number of updated session attributes whose replication was suppressed, since their marshalled form was not modified
+     */
+    long getDirtyCheckHitCount();
+
+    /**
+     * @return The number of updated session attributes that were replicated, since their marshalled form was modified
+     */
+    long getDirtyCheckMissCount();
+}
@@ -7,6 +7,8 @@ package org.wildfly.extension.clustering.web;
 
 import static org.jboss.as.controller.PersistentResourceXMLDescription.builder;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.jboss.as.clustering.controller.Attribute;
@@ -26,9 +28,10 @@ public enum DistributableWebSubsystemSchema implements PersistentSubsystemSchema
     VERSION_1_0(1, 0), // WildFly 17
     VERSION_2_0(2, 0), // WildFly 18-26.1, EAP 7.4
     VERSION_3_0(3, 0), // WildFly 27-29
-    VERSION_4_0(4, 0), // WildFly 30-present, EAP 8.0
+    VERSION_4_0(4, 0), // WildFly 30, EAP 8.0
+    VERSION_5_0(5, 0), // WildFly 31-present
     ;
-    static final DistributableWebSubsystemSchema CURRENT = VERSION_4_0;
+    static final DistributableWebSubsystemSchema CURRENT = VERSION_5_0;
 
     private final VersionedNamespace<IntVersion, DistributableWebSubsystemSchema> namespace;
 
@@ -54,7 +57,12 @@ public enum DistributableWebSubsystemSchema implements PersistentSubsystemSchema
     }
 
     private PersistentResourceXMLBuilder getInfinispanSessionManagementResourceXMLBuilder() {
-        PersistentResourceXMLBuilder builder = builder(InfinispanSessionManagementResourceDefinition.WILDCARD_PATH).addAttributes(Stream.concat(Attribute.stream(InfinispanSessionManagementResourceDefinition.Attribute.class), Attribute.stream(SessionManagementResourceDefinition.Attribute.class)));
+        Set<InfinispanSessionManagementResourceDefinition.Attribute> attributes = EnumSet.allOf(InfinispanSessionManagementResourceDefinition.Attribute.class);
+        if (!this.namespace.since(DistributableWebSubsystemSchema.VERSION_5_0)) {
+            attributes.remove(InfinispanSessionManagementResourceDefinition.Attribute.EXPIRATION_RESOLUTION);
+            attributes.remove(InfinispanSessionManagementResourceDefinition.Attribute.ATTRIBUTE_REPLICATION_MODE);
+        }
+        PersistentResourceXMLBuilder builder = builder(InfinispanSessionManagementResourceDefinition.WILDCARD_PATH).addAttributes(Stream.concat(Attribute.stream(attributes), Attribute.stream(SessionManagementResourceDefinition.Attribute.class)));
         addAffinityChildren(builder).addChild(builder(PrimaryOwnerAffinityResourceDefinition.PATH).setXmlElementName("primary-owner-affinity"));
         if (this.namespace.since(DistributableWebSubsystemSchema.VERSION_2_0)) {
             builder.addChild(builder(RankedAffinityResourceDefinition.PATH).addAttributes(Attribute.stream(RankedAffinityResourceDefinition.Attribute.class)).setXmlElementName("ranked-affinity"));
@@ -63,7 +71,11 @@ public enum DistributableWebSubsystemSchema implements PersistentSubsystemSchema
     }
 
     private PersistentResourceXMLBuilder getHotRodSessionManagementResourceXMLBuilder() {
-        return addAffinityChildren(builder(HotRodSessionManagementResourceDefinition.WILDCARD_PATH).addAttributes(Stream.concat(Attribute.stream(HotRodSessionManagementResourceDefinition.Attribute.class), Attribute.stream(SessionManagementResourceDefinition.Attribute.class))));
+        Set<HotRodSessionManagementResourceDefinition.Attribute> attributes = EnumSet.allOf(HotRodSessionManagementResourceDefinition.Attribute.class);
+        if (!this.namespace.since(DistributableWebSubsystemSchema.VERSION_5_0)) {
+            attributes.remove(HotRodSessionManagementResourceDefinition.Attribute.NEAR_CACHE_SIZE);
+        }
+        return addAffinityChildren(builder(HotRodSessionManagementResourceDefinition.WILDCARD_PATH).addAttributes(Stream.concat(Attribute.stream(attributes), Attribute.stream(SessionManagementResourceDefinition.Attribute.class))));
     }
 
     private static PersistentResourceXMLBuilder addAffinityChildren(PersistentResourceXMLBuilder builder) {
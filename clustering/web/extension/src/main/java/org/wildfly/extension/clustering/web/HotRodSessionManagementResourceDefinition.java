@@ -9,6 +9,7 @@ import java.util.function.UnaryOperator;
 
 import org.jboss.as.clustering.controller.CapabilityReference;
 import org.jboss.as.clustering.controller.SimpleResourceDescriptorConfigurator;
+import org.jboss.as.clustering.controller.validation.IntRangeValidatorBuilder;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
@@ -44,6 +45,14 @@ public class HotRodSessionManagementResourceDefinition extends SessionManagement
                 return builder.setDefaultValue(new ModelNode(16));
             }
         },
+        NEAR_CACHE_SIZE("near-cache-size", ModelType.INT) {
+            @Override
+            public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
+                return builder.setDefaultValue(new ModelNode(1000))
+                        .setValidator(new IntRangeValidatorBuilder().min(0).configure(builder).build())
+                        ;
+            }
+        },
         ;
         private final AttributeDefinition definition;
 
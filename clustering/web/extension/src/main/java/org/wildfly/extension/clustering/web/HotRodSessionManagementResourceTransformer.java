@@ -9,6 +9,7 @@ import java.util.function.Consumer;
 
 import org.jboss.as.controller.ModelVersion;
 import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 
 /**
@@ -31,5 +32,12 @@ public class HotRodSessionManagementResourceTransformer extends SessionManagemen
         builder.getAttributeBuilder()
                 .setDiscard(DiscardAttributeChecker.ALWAYS, HotRodSessionManagementResourceDefinition.Attribute.EXPIRATION_THREAD_POOL_SIZE.getName())
                 .end();
+
+        if (DistributableWebSubsystemModel.VERSION_5_0_0.requiresTransformation(version)) {
+            builder.getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, HotRodSessionManagementResourceDefinition.Attribute.NEAR_CACHE_SIZE.getName())
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, HotRodSessionManagementResourceDefinition.Attribute.NEAR_CACHE_SIZE.getName())
+                    .end();
+        }
     }
 }
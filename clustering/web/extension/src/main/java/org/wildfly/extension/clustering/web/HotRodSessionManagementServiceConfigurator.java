@@ -7,6 +7,7 @@ package org.wildfly.extension.clustering.web;
 
 import static org.wildfly.extension.clustering.web.HotRodSessionManagementResourceDefinition.Attribute.CACHE_CONFIGURATION;
 import static org.wildfly.extension.clustering.web.HotRodSessionManagementResourceDefinition.Attribute.EXPIRATION_THREAD_POOL_SIZE;
+import static org.wildfly.extension.clustering.web.HotRodSessionManagementResourceDefinition.Attribute.NEAR_CACHE_SIZE;
 import static org.wildfly.extension.clustering.web.HotRodSessionManagementResourceDefinition.Attribute.REMOTE_CACHE_CONTAINER;
 
 import org.jboss.as.controller.OperationContext;
@@ -27,6 +28,7 @@ public class HotRodSessionManagementServiceConfigurator extends SessionManagemen
     private volatile String containerName;
     private volatile String configurationName;
     private volatile int expirationThreadPoolSize;
+    private volatile int nearCacheSize;
 
     HotRodSessionManagementServiceConfigurator(PathAddress address) {
         super(address);
@@ -37,6 +39,7 @@ public class HotRodSessionManagementServiceConfigurator extends SessionManagemen
         this.containerName = REMOTE_CACHE_CONTAINER.resolveModelAttribute(context, model).asString();
         this.configurationName = CACHE_CONFIGURATION.resolveModelAttribute(context, model).asStringOrNull();
         this.expirationThreadPoolSize = EXPIRATION_THREAD_POOL_SIZE.resolveModelAttribute(context, model).asInt();
+        this.nearCacheSize = NEAR_CACHE_SIZE.resolveModelAttribute(context, model).asInt();
         return super.configure(context, model);
     }
 
@@ -59,4 +62,9 @@ public class HotRodSessionManagementServiceConfigurator extends SessionManagemen
     public int getExpirationThreadPoolSize() {
         return this.expirationThreadPoolSize;
     }
+
+    @Override
+    public int getNearCacheSize() {
+        return this.nearCacheSize;
+    }
 }
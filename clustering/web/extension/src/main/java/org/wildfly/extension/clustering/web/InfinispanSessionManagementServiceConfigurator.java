@@ -5,8 +5,12 @@
 
 package org.wildfly.extension.clustering.web;
 
+import static org.wildfly.extension.clustering.web.InfinispanSessionManagementResourceDefinition.Attribute.ATTRIBUTE_REPLICATION_MODE;
 import static org.wildfly.extension.clustering.web.InfinispanSessionManagementResourceDefinition.Attribute.CACHE;
 import static org.wildfly.extension.clustering.web.InfinispanSessionManagementResourceDefinition.Attribute.CACHE_CONTAINER;
+import static org.wildfly.extension.clustering.web.InfinispanSessionManagementResourceDefinition.Attribute.EXPIRATION_RESOLUTION;
+
+import java.time.Duration;
 
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
@@ -15,6 +19,7 @@ import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.dmr.ModelNode;
 import org.wildfly.clustering.service.ServiceConfigurator;
 import org.wildfly.clustering.web.infinispan.session.InfinispanSessionManagementConfiguration;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationMode;
 import org.wildfly.clustering.web.service.session.DistributableSessionManagementProvider;
 import org.wildfly.extension.clustering.web.session.infinispan.InfinispanSessionManagementProvider;
 
@@ -26,6 +31,8 @@ public class InfinispanSessionManagementServiceConfigurator extends SessionManag
 
     private volatile String containerName;
     private volatile String cacheName;
+    private volatile Duration expirationResolution;
+    private volatile SessionAttributeReplicationMode attributeReplicationMode;
 
     public InfinispanSessionManagementServiceConfigurator(PathAddress address) {
         super(address);
@@ -35,6 +42,8 @@ public class InfinispanSessionManagementServiceConfigurator extends SessionManag
     public ServiceConfigurator configure(OperationContext context, ModelNode model) throws OperationFailedException {
         this.containerName = CACHE_CONTAINER.resolveModelAttribute(context, model).asString();
         this.cacheName = CACHE.resolveModelAttribute(context, model).asStringOrNull();
+        this.expirationResolution = Duration.ofMillis(EXPIRATION_RESOLUTION.resolveModelAttribute(context, model).asLong());
+        this.attributeReplicationMode = SessionAttributeReplicationMode.valueOf(ATTRIBUTE_REPLICATION_MODE.resolveModelAttribute(context, model).asString());
         return super.configure(context, model);
     }
 
@@ -52,4 +61,14 @@ public class InfinispanSessionManagementServiceConfigurator extends SessionManag
     public String getCacheName() {
         return this.cacheName;
     }
+
+    @Override
+    public Duration getExpirationResolution() {
+        return this.expirationResolution;
+    }
+
+    @Override
+    public SessionAttributeReplicationMode getAttributeReplicationMode() {
+        return this.attributeReplicationMode;
+    }
 }
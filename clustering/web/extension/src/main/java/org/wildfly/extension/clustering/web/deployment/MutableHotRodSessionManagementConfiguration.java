@@ -19,6 +19,7 @@ public class MutableHotRodSessionManagementConfiguration extends MutableSessionM
     private volatile String containerName;
     private volatile String configurationName;
     private volatile int expirationThreadPoolSize = HotRodSessionManagementResourceDefinition.Attribute.EXPIRATION_THREAD_POOL_SIZE.getDefinition().getDefaultValue().asInt();
+    private volatile int nearCacheSize = HotRodSessionManagementResourceDefinition.Attribute.NEAR_CACHE_SIZE.getDefinition().getDefaultValue().asInt();
 
     /**
      * Constructs a new HotRod session management configuration.
@@ -54,4 +55,9 @@ public class MutableHotRodSessionManagementConfiguration extends MutableSessionM
     public void setExpirationThreadPoolSize(int expirationThreadPoolSize) {
         this.expirationThreadPoolSize = expirationThreadPoolSize;
     }
+
+    @Override
+    public int getNearCacheSize() {
+        return this.nearCacheSize;
+    }
 }
@@ -18,4 +18,11 @@ public interface HotRodSessionManagementConfiguration<M> extends DistributableSe
      * @return
      */
     int getExpirationThreadPoolSize();
+
+    /**
+     * Returns the maximum number of sessions retained in the near cache, when max-active-sessions is undefined.
+     * A value of 0 disables the near cache.
+     * @return the maximum number of sessions retained in the near cache
+     */
+    int getNearCacheSize();
 }
@@ -38,6 +38,7 @@ import org.wildfly.clustering.web.hotrod.session.SessionManagerNearCacheFactory;
 import org.wildfly.clustering.web.session.SessionAttributePersistenceStrategy;
 import org.wildfly.clustering.web.session.SessionManagerFactory;
 import org.wildfly.clustering.web.session.SessionManagerFactoryConfiguration;
+import org.wildfly.clustering.web.session.SessionNearCacheStatistics;
 import org.wildfly.clustering.web.session.SpecificationProvider;
 
 /**
@@ -54,6 +55,7 @@ public class HotRodSessionManagerFactoryServiceConfigurator<S, SC, AL, LC>  exte
     private final SessionManagerFactoryConfiguration<S, SC, AL, LC> factoryConfiguration;
 
     private volatile ServiceConfigurator cacheConfigurator;
+    private volatile SessionManagerNearCacheFactory nearCacheFactory;
     @SuppressWarnings("rawtypes")
     private volatile SupplierDependency<RemoteCache> cache;
 
@@ -66,7 +68,11 @@ public class HotRodSessionManagerFactoryServiceConfigurator<S, SC, AL, LC>  exte
     @Override
     public ServiceConfigurator configure(CapabilityServiceSupport support) {
         Integer maxActiveSessions = this.getMaxActiveSessions();
-        NearCacheMode mode = (maxActiveSessions != null) && (maxActiveSessions > 0) ? NearCacheMode.INVALIDATED : NearCacheMode.DISABLED;
+        // Bound near cache by max-active-sessions, if defined, otherwise by the configured near cache size
+        Integer maxNearCacheSessions = (maxActiveSessions != null) ? maxActiveSessions : Integer.valueOf(this.configuration.getNearCacheSize());
+        NearCacheMode mode = (maxNearCacheSessions > 0) ? NearCacheMode.INVALIDATED : NearCacheMode.DISABLED;
+        SessionManagerNearCacheFactory nearCacheFactory = new SessionManagerNearCacheFactory(maxNearCacheSessions);
+        this.nearCacheFactory = nearCacheFactory;
         String configurationName = this.configuration.getConfigurationName();
         String templateName = (configurationName != null) ? configurationName : DefaultTemplate.DIST_SYNC.getTemplateName();
         this.cacheConfigurator = new RemoteCacheServiceConfigurator<>(this.getServiceName().append("cache"), this.configuration.getContainerName(), this.getDeploymentName(), new Consumer<RemoteCacheConfigurationBuilder>() {
@@ -74,7 +80,7 @@ public class HotRodSessionManagerFactoryServiceConfigurator<S, SC, AL, LC>  exte
             public void accept(RemoteCacheConfigurationBuilder builder) {
                 builder.forceReturnValues(false).nearCacheMode(mode).templateName(templateName).transactionMode(TransactionMode.NONE);
                 if (mode.invalidated()) {
-                    builder.nearCacheFactory(new SessionManagerNearCacheFactory(maxActiveSessions));
+                    builder.nearCacheFactory(nearCacheFactory);
                 }
             }
         }).configure(support);
@@ -132,6 +138,11 @@ public class HotRodSessionManagerFactoryServiceConfigurator<S, SC, AL, LC>  exte
         return this.factoryConfiguration.getImmutability();
     }
 
+    @Override
+    public SessionNearCacheStatistics getNearCacheStatistics() {
+        return this.nearCacheFactory;
+    }
+
     @Override
     public <K, V> RemoteCache<K, V> getCache() {
         return this.cache.get();
@@ -4,6 +4,7 @@
  */
 package org.wildfly.extension.clustering.web.session.infinispan;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -52,6 +53,7 @@ import org.wildfly.clustering.web.infinispan.session.InfinispanSessionManagerFac
 import org.wildfly.clustering.web.infinispan.session.InfinispanSessionManagerFactoryConfiguration;
 import org.wildfly.clustering.web.infinispan.session.metadata.SessionMetaDataKey;
 import org.wildfly.clustering.web.session.SessionAttributePersistenceStrategy;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationMode;
 import org.wildfly.clustering.web.session.SessionManagerFactory;
 import org.wildfly.clustering.web.session.SessionManagerFactoryConfiguration;
 import org.wildfly.clustering.web.session.SpecificationProvider;
@@ -159,6 +161,16 @@ public class InfinispanSessionManagerFactoryServiceConfigurator<S, SC, AL, LC> e
         return this.group.get();
     }
 
+    @Override
+    public Duration getExpirationResolution() {
+        return this.configuration.getExpirationResolution();
+    }
+
+    @Override
+    public SessionAttributeReplicationMode getAttributeReplicationMode() {
+        return this.configuration.getAttributeReplicationMode();
+    }
+
     @Override
     public SessionAttributePersistenceStrategy getAttributePersistenceStrategy() {
         return this.factoryConfiguration.getAttributePersistenceStrategy();
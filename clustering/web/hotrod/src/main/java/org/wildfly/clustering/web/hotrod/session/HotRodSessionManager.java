@@ -23,6 +23,7 @@ import org.wildfly.clustering.web.hotrod.logging.Logger;
 import org.wildfly.clustering.web.session.ImmutableSession;
 import org.wildfly.clustering.web.session.Session;
 import org.wildfly.clustering.web.session.SessionManager;
+import org.wildfly.clustering.web.session.SessionNearCacheStatistics;
 import org.wildfly.common.function.Functions;
 
 /**
@@ -43,6 +44,7 @@ public class HotRodSessionManager<SC, MV, AV, LC> implements SessionManager<LC,
     private final Duration stopTimeout;
     private final Consumer<ImmutableSession> closeTask = Functions.discardingConsumer();
     private final Expiration expiration;
+    private final SessionNearCacheStatistics nearCacheStatistics;
 
     private volatile Registration expirationListenerRegistration;
 
@@ -55,6 +57,7 @@ public class HotRodSessionManager<SC, MV, AV, LC> implements SessionManager<LC,
         this.batcher = configuration.getBatcher();
         this.stopTimeout = configuration.getStopTimeout();
         this.expiration = configuration;
+        this.nearCacheStatistics = configuration.getNearCacheStatistics();
     }
 
     @Override
@@ -129,4 +132,29 @@ public class HotRodSessionManager<SC, MV, AV, LC> implements SessionManager<LC,
     public long getActiveSessionCount() {
         return this.getActiveSessions().size();
     }
+
+    @Override
+    public long getReplicationBytesSaved() {
+        return this.factory.getAttributesFactory().getReplicationBytesSaved();
+    }
+
+    @Override
+    public long getDirtyCheckHitCount() {
+        return this.factory.getAttributesFactory().getDirtyCheckHitCount();
+    }
+
+    @Override
+    public long getDirtyCheckMissCount() {
+        return this.factory.getAttributesFactory().getDirtyCheckMissCount();
+    }
+
+    @Override
+    public long getNearCacheHitCount() {
+        return this.nearCacheStatistics.getNearCacheHitCount();
+    }
+
+    @Override
+    public long getNearCacheMissCount() {
+        return this.nearCacheStatistics.getNearCacheMissCount();
+    }
 }
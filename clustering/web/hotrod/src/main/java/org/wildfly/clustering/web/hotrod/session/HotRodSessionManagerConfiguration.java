@@ -11,6 +11,7 @@ import org.wildfly.clustering.Registrar;
 import org.wildfly.clustering.ee.hotrod.HotRodConfiguration;
 import org.wildfly.clustering.web.session.ImmutableSession;
 import org.wildfly.clustering.web.session.SessionManagerConfiguration;
+import org.wildfly.clustering.web.session.SessionNearCacheStatistics;
 
 /**
  * Configuration for an {@link HotRodSessionManager}.
@@ -20,4 +21,5 @@ import org.wildfly.clustering.web.session.SessionManagerConfiguration;
 public interface HotRodSessionManagerConfiguration<C> extends SessionManagerConfiguration<C>, HotRodConfiguration {
     Registrar<Consumer<ImmutableSession>> getExpirationListenerRegistrar();
     Duration getStopTimeout();
+    SessionNearCacheStatistics getNearCacheStatistics();
 }
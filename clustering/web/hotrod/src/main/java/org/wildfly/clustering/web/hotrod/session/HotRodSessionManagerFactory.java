@@ -28,6 +28,7 @@ import org.wildfly.clustering.web.session.ImmutableSession;
 import org.wildfly.clustering.web.session.SessionManager;
 import org.wildfly.clustering.web.session.SessionManagerConfiguration;
 import org.wildfly.clustering.web.session.SessionManagerFactory;
+import org.wildfly.clustering.web.session.SessionNearCacheStatistics;
 
 /**
  * Factory for creating session managers.
@@ -42,9 +43,11 @@ public class HotRodSessionManagerFactory<S, SC, AL, LC> implements SessionManage
     private final HotRodConfiguration configuration;
     private final Registrar<Consumer<ImmutableSession>> expirationListenerRegistrar;
     private final SessionFactory<SC, SessionMetaDataEntry<LC>, ?, LC> factory;
+    private final SessionNearCacheStatistics nearCacheStatistics;
 
     public HotRodSessionManagerFactory(HotRodSessionManagerFactoryConfiguration<S, SC, AL, LC> configuration) {
         this.configuration = configuration;
+        this.nearCacheStatistics = configuration.getNearCacheStatistics();
         SessionMetaDataFactory<SessionMetaDataEntry<LC>> metaDataFactory = new HotRodSessionMetaDataFactory<>(configuration);
         HotRodSessionFactory<SC, ?, LC> sessionFactory = new HotRodSessionFactory<>(configuration, metaDataFactory, this.createSessionAttributesFactory(configuration), configuration.getLocalContextFactory());
         this.factory = sessionFactory;
@@ -55,6 +58,7 @@ public class HotRodSessionManagerFactory<S, SC, AL, LC> implements SessionManage
     public SessionManager<LC, TransactionBatch> createSessionManager(SessionManagerConfiguration<SC> configuration) {
         Duration transactionTimeout = Duration.ofMillis(this.configuration.getCache().getRemoteCacheContainer().getConfiguration().transactionTimeout());
         Registrar<Consumer<ImmutableSession>> expirationListenerRegistrar = this.expirationListenerRegistrar;
+        SessionNearCacheStatistics nearCacheStatistics = this.nearCacheStatistics;
         HotRodSessionManagerConfiguration<SC> config = new AbstractHotRodSessionManagerConfiguration<>(configuration, this.configuration) {
             @Override
             public Registrar<Consumer<ImmutableSession>> getExpirationListenerRegistrar() {
@@ -65,6 +69,11 @@ public class HotRodSessionManagerFactory<S, SC, AL, LC> implements SessionManage
             public Duration getStopTimeout() {
                 return transactionTimeout;
             }
+
+            @Override
+            public SessionNearCacheStatistics getNearCacheStatistics() {
+                return nearCacheStatistics;
+            }
         };
         return new ConcurrentSessionManager<>(new HotRodSessionManager<>(this.factory, config), ConcurrentManager::new);
     }
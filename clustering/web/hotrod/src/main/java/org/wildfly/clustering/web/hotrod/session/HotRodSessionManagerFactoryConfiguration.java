@@ -5,6 +5,7 @@
 package org.wildfly.clustering.web.hotrod.session;
 
 import org.wildfly.clustering.web.session.SessionManagerFactoryConfiguration;
+import org.wildfly.clustering.web.session.SessionNearCacheStatistics;
 
 /**
  * @param <S> the HttpSession specification type
@@ -14,4 +15,10 @@ import org.wildfly.clustering.web.session.SessionManagerFactoryConfiguration;
  * @author Paul Ferraro
  */
 public interface HotRodSessionManagerFactoryConfiguration<S, SC, AL, LC> extends SessionManagerFactoryConfiguration<S, SC, AL, LC>, HotRodSessionFactoryConfiguration {
+
+    /**
+     * Returns the statistics of the near cache of the remote cache used by this session manager factory.
+     * @return near cache statistics
+     */
+    SessionNearCacheStatistics getNearCacheStatistics();
 }
@@ -20,26 +20,42 @@ import org.wildfly.clustering.infinispan.client.near.SimpleKeyWeigher;
 import org.wildfly.clustering.web.hotrod.session.attributes.SessionAttributesKey;
 import org.wildfly.clustering.web.hotrod.session.metadata.SessionAccessMetaDataKey;
 import org.wildfly.clustering.web.hotrod.session.metadata.SessionCreationMetaDataKey;
+import org.wildfly.clustering.web.session.SessionNearCacheStatistics;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
 /**
  * A near-cache factory based on max-active-sessions.
+ * Records the hits and misses of the near caches it creates.
  * @author Paul Ferraro
  */
-public class SessionManagerNearCacheFactory implements NearCacheFactory {
+public class SessionManagerNearCacheFactory implements NearCacheFactory, SessionNearCacheStatistics {
 
     private final Integer maxActiveSessions;
+    private final StatsCounter statistics = new ConcurrentStatsCounter();
 
     public SessionManagerNearCacheFactory(Integer maxActiveSessions) {
         this.maxActiveSessions = maxActiveSessions;
     }
 
+    @Override
+    public long getNearCacheHitCount() {
+        return this.statistics.snapshot().hitCount();
+    }
+
+    @Override
+    public long getNearCacheMissCount() {
+        return this.statistics.snapshot().missCount();
+    }
+
     @Override
     public <K, V> NearCache<K, V> createNearCache(NearCacheConfiguration config, BiConsumer<K, MetadataValue<V>> removedConsumer) {
         EvictionListener<K, V> listener = (this.maxActiveSessions != null) ? new EvictionListener<>(removedConsumer, new InvalidationListener()) : null;
-        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        StatsCounter statistics = this.statistics;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats(() -> statistics);
         if (listener != null) {
             builder.executor(Runnable::run)
                     .maximumWeight(this.maxActiveSessions.longValue())
@@ -0,0 +1,73 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.hotrod.session;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.infinispan.client.hotrod.MetadataValue;
+import org.infinispan.client.hotrod.impl.MetadataValueImpl;
+import org.infinispan.client.hotrod.near.NearCache;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wildfly.clustering.web.hotrod.session.attributes.SessionAttributesKey;
+import org.wildfly.clustering.web.hotrod.session.metadata.SessionAccessMetaDataKey;
+import org.wildfly.clustering.web.hotrod.session.metadata.SessionCreationMetaDataKey;
+
+/**
+ * Unit test for {@link SessionManagerNearCacheFactory}.
+ */
+public class SessionManagerNearCacheFactoryTestCase {
+
+    @Test
+    public void test() {
+        SessionManagerNearCacheFactory factory = new SessionManagerNearCacheFactory(1);
+        List<Object> removed = new ArrayList<>();
+        NearCache<Object, Object> cache = factory.createNearCache(null, (key, value) -> removed.add(key));
+
+        Assert.assertEquals(0L, factory.getNearCacheHitCount());
+        Assert.assertEquals(0L, factory.getNearCacheMissCount());
+        Assert.assertEquals(0d, factory.getNearCacheHitRatio(), 0d);
+
+        String foo = "foo";
+        this.put(cache, new SessionCreationMetaDataKey(foo));
+        this.put(cache, new SessionAccessMetaDataKey(foo));
+        this.put(cache, new SessionAttributesKey(foo));
+
+        Assert.assertEquals(3, cache.size());
+        Assert.assertNotNull(cache.get(new SessionCreationMetaDataKey(foo)));
+        Assert.assertNotNull(cache.get(new SessionAttributesKey(foo)));
+        Assert.assertNull(cache.get(new SessionCreationMetaDataKey("bar")));
+
+        Assert.assertEquals(2L, factory.getNearCacheHitCount());
+        Assert.assertEquals(1L, factory.getNearCacheMissCount());
+        Assert.assertEquals(2d / 3d, factory.getNearCacheHitRatio(), 0d);
+
+        // Only creation meta data contributes to the size of the near cache
+        String bar = "bar";
+        this.put(cache, new SessionCreationMetaDataKey(bar));
+        this.put(cache, new SessionAccessMetaDataKey(bar));
+        this.put(cache, new SessionAttributesKey(bar));
+
+        // Eviction of creation meta data of a session must invalidate its remaining entries
+        Assert.assertEquals(3, cache.size());
+        Assert.assertEquals(3, removed.size());
+        String evicted = ((SessionCreationMetaDataKey) removed.stream().filter(SessionCreationMetaDataKey.class::isInstance).findFirst().get()).getId();
+        Assert.assertTrue(removed.contains(new SessionAccessMetaDataKey(evicted)));
+        Assert.assertTrue(removed.contains(new SessionAttributesKey(evicted)));
+
+        // Invalidation via remote cache event
+        String retained = evicted.equals(foo) ? bar : foo;
+        Assert.assertTrue(cache.remove(new SessionAttributesKey(retained)));
+        Assert.assertNull(cache.get(new SessionAttributesKey(retained)));
+        Assert.assertEquals(2, cache.size());
+    }
+
+    private void put(NearCache<Object, Object> cache, Object key) {
+        MetadataValue<Object> value = new MetadataValueImpl<>(0L, -1, 0L, -1, 0L, new Object());
+        Assert.assertTrue(cache.putIfAbsent(key, value));
+    }
+}
@@ -5,12 +5,31 @@
 
 package org.wildfly.clustering.web.infinispan.session;
 
+import java.time.Duration;
+
 import org.wildfly.clustering.ee.infinispan.InfinispanCacheConfiguration;
 import org.wildfly.clustering.web.session.DistributableSessionManagementConfiguration;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationMode;
 
 /**
  * Configuration of an Infinispan session management provider.
  * @author Paul Ferraro
  */
 public interface InfinispanSessionManagementConfiguration<M> extends DistributableSessionManagementConfiguration<M>, InfinispanCacheConfiguration {
+
+    /**
+     * Returns the resolution with which session expiration is scheduled.
+     * @return the tick duration of the timing wheel used to schedule session expiration, or zero, if session expiration is scheduled precisely.
+     */
+    default Duration getExpirationResolution() {
+        return Duration.ZERO;
+    }
+
+    /**
+     * Returns the strategy with which updated session attributes are replicated.
+     * @return a replication mode
+     */
+    default SessionAttributeReplicationMode getAttributeReplicationMode() {
+        return SessionAttributeReplicationMode.FULL;
+    }
 }
@@ -177,4 +177,31 @@ public class InfinispanSessionManager<SC, MV, AV, LC> implements SessionManager<
     public long getActiveSessionCount() {
         return this.getActiveSessions().size();
     }
+
+    @Override
+    public long getReplicationBytesSaved() {
+        return this.factory.getAttributesFactory().getReplicationBytesSaved();
+    }
+
+    @Override
+    public long getDirtyCheckHitCount() {
+        return this.factory.getAttributesFactory().getDirtyCheckHitCount();
+    }
+
+    @Override
+    public long getDirtyCheckMissCount() {
+        return this.factory.getAttributesFactory().getDirtyCheckMissCount();
+    }
+
+    @Override
+    public long getNearCacheHitCount() {
+        // Embedded caches have no near cache
+        return 0L;
+    }
+
+    @Override
+    public long getNearCacheMissCount() {
+        // Embedded caches have no near cache
+        return 0L;
+    }
 }
@@ -5,6 +5,7 @@
 package org.wildfly.clustering.web.infinispan.session;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -16,6 +17,9 @@ import org.wildfly.clustering.ee.Key;
 import org.wildfly.clustering.ee.cache.CacheProperties;
 import org.wildfly.clustering.ee.cache.ConcurrentManager;
 import org.wildfly.clustering.ee.cache.IdentifierFactory;
+import org.wildfly.clustering.ee.cache.scheduler.ScheduledEntries;
+import org.wildfly.clustering.ee.cache.scheduler.SortedScheduledEntries;
+import org.wildfly.clustering.ee.cache.scheduler.TimingWheelScheduledEntries;
 import org.wildfly.clustering.ee.cache.SimpleManager;
 import org.wildfly.clustering.ee.cache.tx.TransactionBatch;
 import org.wildfly.clustering.ee.expiration.ExpirationMetaData;
@@ -52,6 +56,7 @@ import org.wildfly.clustering.web.infinispan.session.attributes.InfinispanSessio
 import org.wildfly.clustering.web.infinispan.session.metadata.InfinispanSessionMetaDataFactory;
 import org.wildfly.clustering.web.infinispan.session.metadata.SessionMetaDataKey;
 import org.wildfly.clustering.web.infinispan.session.metadata.SessionMetaDataKeyFilter;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationMode;
 import org.wildfly.clustering.web.session.SessionManager;
 import org.wildfly.clustering.web.session.SessionManagerConfiguration;
 import org.wildfly.clustering.web.session.SessionManagerFactory;
@@ -87,7 +92,9 @@ public class InfinispanSessionManagerFactory<S, SC, AL, LC> implements SessionMa
         this.factory = new CompositeSessionFactory<>(metaDataFactory, this.createSessionAttributesFactory(config), config.getLocalContextFactory());
         this.remover = new ExpiredSessionRemover<>(this.factory);
         Cache<Key<String>, ?> cache = config.getCache();
-        CacheEntryScheduler<String, ExpirationMetaData> localScheduler = new SessionExpirationScheduler<>(config.getBatcher(), this.factory.getMetaDataFactory(), this.remover, Duration.ofMillis(cache.getCacheConfiguration().transaction().cacheStopTimeout()));
+        Duration expirationResolution = config.getExpirationResolution();
+        ScheduledEntries<String, Instant> entries = expirationResolution.isZero() ? new SortedScheduledEntries<>() : new TimingWheelScheduledEntries<>(expirationResolution);
+        CacheEntryScheduler<String, ExpirationMetaData> localScheduler = new SessionExpirationScheduler<>(config.getBatcher(), this.factory.getMetaDataFactory(), this.remover, entries, Duration.ofMillis(cache.getCacheConfiguration().transaction().cacheStopTimeout()));
         CommandDispatcherFactory dispatcherFactory = config.getCommandDispatcherFactory();
         Group group = dispatcherFactory.getGroup();
         this.scheduler = group.isSingleton() ? localScheduler : new PrimaryOwnerScheduler<>(dispatcherFactory, cache.getName(), localScheduler, new PrimaryOwnerLocator<>(cache, config.getMemberFactory()), SessionMetaDataKey::new, properties.isTransactional() ? new ScheduleWithExpirationMetaDataCommandFactory<>() : ScheduleWithTransientMetaDataCommand::new);
@@ -194,5 +201,10 @@ public class InfinispanSessionManagerFactory<S, SC, AL, LC> implements SessionMa
         public Function<String, SessionAttributeActivationNotifier> getActivationNotifierFactory() {
             return this.notifierFactory;
         }
+
+        @Override
+        public SessionAttributeReplicationMode getAttributeReplicationMode() {
+            return this.configuration.getAttributeReplicationMode();
+        }
     }
 }
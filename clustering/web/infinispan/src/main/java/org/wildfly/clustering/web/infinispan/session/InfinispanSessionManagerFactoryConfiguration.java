@@ -4,11 +4,14 @@
  */
 package org.wildfly.clustering.web.infinispan.session;
 
+import java.time.Duration;
+
 import org.infinispan.remoting.transport.Address;
 import org.wildfly.clustering.ee.infinispan.InfinispanConfiguration;
 import org.wildfly.clustering.infinispan.affinity.KeyAffinityServiceFactory;
 import org.wildfly.clustering.server.NodeFactory;
 import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationMode;
 import org.wildfly.clustering.web.session.SessionManagerFactoryConfiguration;
 
 /**
@@ -25,4 +28,20 @@ public interface InfinispanSessionManagerFactoryConfiguration<S, SC, AL, LC> ext
     CommandDispatcherFactory getCommandDispatcherFactory();
 
     NodeFactory<Address> getMemberFactory();
+
+    /**
+     * Returns the resolution with which session expiration is scheduled.
+     * @return the tick duration of the timing wheel used to schedule session expiration, or zero, if session expiration is scheduled precisely.
+     */
+    default Duration getExpirationResolution() {
+        return Duration.ZERO;
+    }
+
+    /**
+     * Returns the strategy with which updated session attributes are replicated.
+     * @return a replication mode
+     */
+    default SessionAttributeReplicationMode getAttributeReplicationMode() {
+        return SessionAttributeReplicationMode.FULL;
+    }
 }
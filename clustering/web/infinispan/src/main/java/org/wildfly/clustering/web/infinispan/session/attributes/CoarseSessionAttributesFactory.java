@@ -6,8 +6,10 @@
 package org.wildfly.clustering.web.infinispan.session.attributes;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
@@ -21,11 +23,13 @@ import org.wildfly.clustering.infinispan.listener.ListenerRegistration;
 import org.wildfly.clustering.infinispan.listener.PostActivateBlockingListener;
 import org.wildfly.clustering.infinispan.listener.PostPassivateBlockingListener;
 import org.wildfly.clustering.infinispan.listener.PrePassivateBlockingListener;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValue;
 import org.wildfly.clustering.marshalling.spi.Marshaller;
 import org.wildfly.clustering.web.cache.session.CompositeImmutableSession;
 import org.wildfly.clustering.web.cache.session.attributes.SessionAttributes;
 import org.wildfly.clustering.web.cache.session.attributes.SessionAttributesFactory;
 import org.wildfly.clustering.web.cache.session.attributes.SimpleImmutableSessionAttributes;
+import org.wildfly.clustering.web.cache.session.attributes.XXHash64;
 import org.wildfly.clustering.web.cache.session.attributes.coarse.CoarseSessionAttributes;
 import org.wildfly.clustering.web.cache.session.attributes.coarse.ImmutableSessionActivationNotifier;
 import org.wildfly.clustering.web.cache.session.attributes.coarse.SessionActivationNotifier;
@@ -35,12 +39,15 @@ import org.wildfly.clustering.web.infinispan.session.metadata.SessionMetaDataKey
 import org.wildfly.clustering.web.session.HttpSessionActivationListenerProvider;
 import org.wildfly.clustering.web.session.ImmutableSessionAttributes;
 import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationMode;
 
 /**
  * {@link SessionAttributesFactory} for coarse granularity sessions, where all session attributes are stored in a single cache entry.
+ * If configured with {@link SessionAttributeReplicationMode#DIRTY_CHECK}, the marshalled form of the session attributes of an existing session is fingerprinted as it is read from the cache,
+ * and the session attributes are only replicated if the fingerprint of their marshalled form has changed when the session is closed.
  * @author Paul Ferraro
  */
-public class CoarseSessionAttributesFactory<S, C, L, V> implements SessionAttributesFactory<C, Map<String, Object>> {
+public class CoarseSessionAttributesFactory<S, C, L, V> implements SessionAttributesFactory<C, CoarseSessionAttributesFactory.Attributes> {
 
     private final Cache<SessionAttributesKey, V> cache;
     private final Cache<SessionAttributesKey, V> writeCache;
@@ -54,6 +61,9 @@ public class CoarseSessionAttributesFactory<S, C, L, V> implements SessionAttrib
     private final ListenerRegistration evictListenerRegistration;
     private final ListenerRegistration prePassivateListenerRegistration;
     private final ListenerRegistration postActivateListenerRegistration;
+    private final boolean dirtyCheck;
+    private final LongAdder dirtyCheckHits = new LongAdder();
+    private final LongAdder dirtyCheckMisses = new LongAdder();
 
     public CoarseSessionAttributesFactory(InfinispanSessionAttributesFactoryConfiguration<S, C, L, Map<String, Object>, V> configuration) {
         this.cache = configuration.getCache();
@@ -68,6 +78,18 @@ public class CoarseSessionAttributesFactory<S, C, L, V> implements SessionAttrib
         this.prePassivateListenerRegistration = !this.properties.isPersistent() ? new PrePassivateBlockingListener<>(this.cache, this::prePassivate).register(SessionAttributesKey.class) : null;
         this.postActivateListenerRegistration = !this.properties.isPersistent() ? new PostActivateBlockingListener<>(this.cache, this::postActivate).register(SessionAttributesKey.class) : null;
         this.evictListenerRegistration = new PostPassivateBlockingListener<>(configuration.getCache(), this::cascadeEvict).register(SessionMetaDataKey.class);
+        // Fingerprints apply to the byte buffer form of marshalled values
+        this.dirtyCheck = this.properties.isMarshalling() && (configuration.getAttributeReplicationMode() == SessionAttributeReplicationMode.DIRTY_CHECK);
+    }
+
+    @Override
+    public long getDirtyCheckHitCount() {
+        return this.dirtyCheckHits.sum();
+    }
+
+    @Override
+    public long getDirtyCheckMissCount() {
+        return this.dirtyCheckMisses.sum();
     }
 
     @Override
@@ -82,32 +104,39 @@ public class CoarseSessionAttributesFactory<S, C, L, V> implements SessionAttrib
     }
 
     @Override
-    public Map<String, Object> createValue(String id, Void context) {
+    public Attributes createValue(String id, Void context) {
         Map<String, Object> attributes = new ConcurrentHashMap<>();
         try {
             V value = this.marshaller.write(attributes);
             this.writeCache.put(new SessionAttributesKey(id), value);
-            return attributes;
+            return new Attributes(attributes, null);
         } catch (IOException e) {
             throw new IllegalStateException(e);
         }
     }
 
     @Override
-    public Map<String, Object> findValue(String id) {
+    public Attributes findValue(String id) {
         return this.getValue(id, true);
     }
 
     @Override
-    public Map<String, Object> tryValue(String id) {
+    public Attributes tryValue(String id) {
         return this.getValue(id, false);
     }
 
-    private Map<String, Object> getValue(String id, boolean purgeIfInvalid) {
+    private Attributes getValue(String id, boolean purgeIfInvalid) {
         V value = this.cache.get(new SessionAttributesKey(id));
         if (value != null) {
             try {
-                return this.marshaller.read(value);
+                ByteBuffer buffer = this.dirtyCheck ? ((ByteBufferMarshalledValue<?>) value).getBuffer() : null;
+                if (buffer == null) {
+                    return new Attributes(this.marshaller.read(value), null);
+                }
+                // Fingerprint the stored marshalled form, and read from a copy, so that the cached value retains its marshalled form
+                @SuppressWarnings("unchecked")
+                V copy = (V) new ByteBufferMarshalledValue<>(buffer.duplicate());
+                return new Attributes(this.marshaller.read(copy), XXHash64.hash(buffer));
             } catch (IOException e) {
                 InfinispanWebLogger.ROOT_LOGGER.failedToActivateSession(e, id);
                 if (purgeIfInvalid) {
@@ -134,19 +163,49 @@ public class CoarseSessionAttributesFactory<S, C, L, V> implements SessionAttrib
     }
 
     @Override
-    public SessionAttributes createSessionAttributes(String id, Map<String, Object> attributes, ImmutableSessionMetaData metaData, C context) {
+    public SessionAttributes createSessionAttributes(String id, Attributes value, ImmutableSessionMetaData metaData, C context) {
+        Map<String, Object> attributes = value.getAttributes();
         try {
-            Mutator mutator = (this.properties.isTransactional() && metaData.isNew()) ? Mutator.PASSIVE : this.mutatorFactory.createMutator(new SessionAttributesKey(id), this.marshaller.write(attributes));
-            SessionActivationNotifier notifier = this.properties.isPersistent() ? new ImmutableSessionActivationNotifier<>(this.provider, new CompositeImmutableSession(id, metaData, this.createImmutableSessionAttributes(id, attributes)), context) : null;
+            SessionAttributesKey key = new SessionAttributesKey(id);
+            Long fingerprint = value.getFingerprint();
+            Mutator mutator = (this.properties.isTransactional() && metaData.isNew()) ? Mutator.PASSIVE : (fingerprint != null) ? this.createDirtyCheckMutator(key, attributes, fingerprint) : this.mutatorFactory.createMutator(key, this.marshaller.write(attributes));
+            SessionActivationNotifier notifier = this.properties.isPersistent() ? new ImmutableSessionActivationNotifier<>(this.provider, new CompositeImmutableSession(id, metaData, this.createImmutableSessionAttributes(id, value)), context) : null;
             return new CoarseSessionAttributes(attributes, mutator, this.marshaller, this.immutability, this.properties, notifier);
         } catch (IOException e) {
             throw new IllegalStateException(e);
         }
     }
 
+    private Mutator createDirtyCheckMutator(SessionAttributesKey key, Map<String, Object> attributes, long fingerprint) {
+        return new Mutator() {
+            @Override
+            public void mutate() {
+                CoarseSessionAttributesFactory<S, C, L, V> factory = CoarseSessionAttributesFactory.this;
+                try {
+                    ByteBuffer buffer = factory.getBuffer(attributes);
+                    if (XXHash64.hash(buffer) == fingerprint) {
+                        factory.dirtyCheckHits.increment();
+                    } else {
+                        factory.dirtyCheckMisses.increment();
+                        // Replicate marshalled form, so that attributes are not marshalled again
+                        @SuppressWarnings("unchecked")
+                        V value = (V) new ByteBufferMarshalledValue<>(buffer);
+                        factory.mutatorFactory.createMutator(key, value).mutate();
+                    }
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+    }
+
+    private ByteBuffer getBuffer(Map<String, Object> attributes) throws IOException {
+        return ((ByteBufferMarshalledValue<?>) this.marshaller.write(attributes)).getBuffer();
+    }
+
     @Override
-    public ImmutableSessionAttributes createImmutableSessionAttributes(String id, Map<String, Object> values) {
-        return new SimpleImmutableSessionAttributes(values);
+    public ImmutableSessionAttributes createImmutableSessionAttributes(String id, Attributes value) {
+        return new SimpleImmutableSessionAttributes(value.getAttributes());
     }
 
     private void cascadeEvict(SessionMetaDataKey key) {
@@ -172,4 +231,25 @@ public class CoarseSessionAttributesFactory<S, C, L, V> implements SessionAttrib
             InfinispanWebLogger.ROOT_LOGGER.failedToActivateSession(e, sessionId);
         }
     }
+
+    /**
+     * The attributes of a coarse granularity session, along with the fingerprint of their marshalled form as it was read from the cache, if dirty checking is enabled.
+     */
+    public static class Attributes {
+        private final Map<String, Object> attributes;
+        private final Long fingerprint;
+
+        Attributes(Map<String, Object> attributes, Long fingerprint) {
+            this.attributes = attributes;
+            this.fingerprint = fingerprint;
+        }
+
+        Map<String, Object> getAttributes() {
+            return this.attributes;
+        }
+
+        Long getFingerprint() {
+            return this.fingerprint;
+        }
+    }
 }
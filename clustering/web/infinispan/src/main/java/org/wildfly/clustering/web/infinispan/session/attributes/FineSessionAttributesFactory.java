@@ -6,12 +6,16 @@
 package org.wildfly.clustering.web.infinispan.session.attributes;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import org.infinispan.Cache;
+import org.infinispan.context.Flag;
 import org.wildfly.clustering.ee.Immutability;
 import org.wildfly.clustering.ee.MutatorFactory;
 import org.wildfly.clustering.ee.cache.CacheProperties;
@@ -20,25 +24,34 @@ import org.wildfly.clustering.infinispan.listener.ListenerRegistration;
 import org.wildfly.clustering.infinispan.listener.PostActivateBlockingListener;
 import org.wildfly.clustering.infinispan.listener.PostPassivateBlockingListener;
 import org.wildfly.clustering.infinispan.listener.PrePassivateBlockingListener;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValue;
 import org.wildfly.clustering.marshalling.spi.Marshaller;
 import org.wildfly.clustering.web.cache.session.CompositeImmutableSession;
 import org.wildfly.clustering.web.cache.session.attributes.SessionAttributes;
 import org.wildfly.clustering.web.cache.session.attributes.SessionAttributesFactory;
 import org.wildfly.clustering.web.cache.session.attributes.SimpleImmutableSessionAttributes;
+import org.wildfly.clustering.web.cache.session.attributes.XXHash64;
 import org.wildfly.clustering.web.cache.session.attributes.fine.FineSessionAttributes;
 import org.wildfly.clustering.web.cache.session.attributes.fine.ImmutableSessionAttributeActivationNotifier;
 import org.wildfly.clustering.web.cache.session.attributes.fine.SessionAttributeActivationNotifier;
+import org.wildfly.clustering.web.cache.session.attributes.fine.SessionAttributeDelta;
+import org.wildfly.clustering.web.cache.session.attributes.fine.SessionAttributeDeltaMutatorFactory;
+import org.wildfly.clustering.web.cache.session.attributes.fine.SessionAttributeDirtyCheckMutatorFactory;
 import org.wildfly.clustering.web.cache.session.attributes.fine.SessionAttributeMapComputeFunction;
+import org.wildfly.clustering.web.cache.session.attributes.fine.SessionAttributeMapDeltaFunction;
 import org.wildfly.clustering.web.infinispan.logging.InfinispanWebLogger;
 import org.wildfly.clustering.web.infinispan.session.metadata.SessionMetaDataKey;
 import org.wildfly.clustering.web.session.HttpSessionActivationListenerProvider;
 import org.wildfly.clustering.web.session.ImmutableSessionAttributes;
 import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationMode;
 
 /**
  * {@link SessionAttributesFactory} for fine granularity sessions.
  * A given session's attributes are mapped to N+1 co-located cache entries, where N is the number of session attributes.
  * A separate cache entry stores the activate attribute names for the session.
+ * If configured with {@link SessionAttributeReplicationMode#DELTA}, updated attributes are replicated as binary deltas of their marshalled form as of the time the session was loaded.
+ * If configured with {@link SessionAttributeReplicationMode#DIRTY_CHECK}, updated attributes are only replicated if the fingerprint of their marshalled form differs from its fingerprint as of the time the session was loaded.
  * @author Paul Ferraro
  */
 public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttributesFactory<C, Map<String, Object>> {
@@ -55,6 +68,13 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
     private final ListenerRegistration evictListenerRegistration;
     private final ListenerRegistration prePassivateListenerRegistration;
     private final ListenerRegistration postActivateListenerRegistration;
+    private final SessionAttributeReplicationMode mode;
+    private final Function<SessionAttributesKey, Map<String, ByteBufferMarshalledValue<Object>>> deltaReader;
+    private final MutatorFactory<SessionAttributesKey, Map<String, SessionAttributeDelta>> deltaMutatorFactory;
+    private final MutatorFactory<SessionAttributesKey, Map<String, SessionAttributeDelta>> fullDeltaMutatorFactory;
+    private final LongAdder savedBytes = new LongAdder();
+    private final LongAdder dirtyCheckHits = new LongAdder();
+    private final LongAdder dirtyCheckMisses = new LongAdder();
 
     public FineSessionAttributesFactory(InfinispanSessionAttributesFactoryConfiguration<S, C, L, Object, V> configuration) {
         this.cache = configuration.getCache();
@@ -69,6 +89,30 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
         this.prePassivateListenerRegistration = !this.properties.isPersistent() ? new PrePassivateBlockingListener<>(this.cache, this::prePassivate).register(SessionAttributesKey.class) : null;
         this.postActivateListenerRegistration = !this.properties.isPersistent() ? new PostActivateBlockingListener<>(this.cache, this::postActivate).register(SessionAttributesKey.class) : null;
         this.evictListenerRegistration = new PostPassivateBlockingListener<>(configuration.getCache(), this::cascadeEvict).register(SessionMetaDataKey.class);
+        // Deltas and fingerprints apply to the byte buffer form of marshalled values
+        this.mode = this.properties.isMarshalling() ? configuration.getAttributeReplicationMode() : SessionAttributeReplicationMode.FULL;
+        @SuppressWarnings("unchecked")
+        Cache<SessionAttributesKey, Map<String, ByteBufferMarshalledValue<Object>>> deltaCache = (Cache<SessionAttributesKey, Map<String, ByteBufferMarshalledValue<Object>>>) (Cache<?, ?>) this.cache;
+        Cache<SessionAttributesKey, Map<String, ByteBufferMarshalledValue<Object>>> readForUpdateCache = configuration.getReadForUpdateCache();
+        this.deltaReader = readForUpdateCache::get;
+        // Omit FAIL_SILENTLY so that deltas that could not be applied fail the batch
+        this.deltaMutatorFactory = (key, deltas) -> () -> deltaCache.getAdvancedCache().withFlags(Flag.IGNORE_RETURN_VALUES).compute(key, new SessionAttributeMapDeltaFunction(deltas));
+        this.fullDeltaMutatorFactory = new CacheComputeMutatorFactory<>(deltaCache, SessionAttributeMapDeltaFunction::new);
+    }
+
+    @Override
+    public long getReplicationBytesSaved() {
+        return this.savedBytes.sum();
+    }
+
+    @Override
+    public long getDirtyCheckHitCount() {
+        return this.dirtyCheckHits.sum();
+    }
+
+    @Override
+    public long getDirtyCheckMissCount() {
+        return this.dirtyCheckMisses.sum();
     }
 
     @Override
@@ -84,7 +128,7 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
 
     @Override
     public Map<String, Object> createValue(String id, Void context) {
-        return new ConcurrentHashMap<>();
+        return (this.mode != SessionAttributeReplicationMode.FULL) ? new BaselineAttributeMap() : new ConcurrentHashMap<>();
     }
 
     @Override
@@ -104,7 +148,7 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
             for (Map.Entry<String, V> entry : value.entrySet()) {
                 String attributeName = entry.getKey();
                 try {
-                    attributes.put(attributeName, this.marshaller.read(entry.getValue()));
+                    attributes.put(attributeName, this.read(attributes, attributeName, entry.getValue()));
                 } catch (IOException e) {
                     InfinispanWebLogger.ROOT_LOGGER.failedToActivateSessionAttribute(e, id, attributeName);
                     if (purgeIfInvalid) {
@@ -117,6 +161,25 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
         return attributes;
     }
 
+    private Object read(Map<String, Object> attributes, String name, V value) throws IOException {
+        ByteBuffer buffer = (this.mode != SessionAttributeReplicationMode.FULL) ? ((ByteBufferMarshalledValue<?>) value).getBuffer() : null;
+        if (buffer == null) {
+            return this.marshaller.read(value);
+        }
+        BaselineAttributeMap baselineAttributes = (BaselineAttributeMap) attributes;
+        if (this.mode == SessionAttributeReplicationMode.DIRTY_CHECK) {
+            // Capture fingerprint before reading, since reading may invalidate the buffer
+            baselineAttributes.fingerprints.put(name, XXHash64.hash(buffer));
+            return this.marshaller.read(value);
+        }
+        ByteBuffer baseline = buffer.duplicate();
+        baselineAttributes.baselines.put(name, baseline);
+        // Read from a copy, so that the cached value retains its marshalled form
+        @SuppressWarnings("unchecked")
+        V copy = (V) new ByteBufferMarshalledValue<>(baseline.duplicate());
+        return this.marshaller.read(copy);
+    }
+
     @Override
     public boolean remove(String id) {
         return this.delete(this.writeCache, id);
@@ -135,7 +198,27 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
     @Override
     public SessionAttributes createSessionAttributes(String id, Map<String, Object> attributes, ImmutableSessionMetaData metaData, C context) {
         SessionAttributeActivationNotifier notifier = this.properties.isPersistent() ? new ImmutableSessionAttributeActivationNotifier<>(this.provider, new CompositeImmutableSession(id, metaData, this.createImmutableSessionAttributes(id, attributes)), context) : null;
-        return new FineSessionAttributes<>(new SessionAttributesKey(id), attributes, this.mutatorFactory, this.marshaller, this.immutability, this.properties, notifier);
+        return new FineSessionAttributes<>(new SessionAttributesKey(id), attributes, this.createMutatorFactory(attributes), this.marshaller, this.immutability, this.properties, notifier);
+    }
+
+    @SuppressWarnings("unchecked")
+    private MutatorFactory<SessionAttributesKey, Map<String, V>> createMutatorFactory(Map<String, Object> attributes) {
+        if (attributes instanceof BaselineAttributeMap) {
+            BaselineAttributeMap baselineAttributes = (BaselineAttributeMap) attributes;
+            switch (this.mode) {
+                case DELTA: {
+                    return (MutatorFactory<SessionAttributesKey, Map<String, V>>) (MutatorFactory<SessionAttributesKey, ?>) new SessionAttributeDeltaMutatorFactory<>(baselineAttributes.baselines, this.deltaReader, this.deltaMutatorFactory, this.fullDeltaMutatorFactory, this.savedBytes::add);
+                }
+                case DIRTY_CHECK: {
+                    MutatorFactory<SessionAttributesKey, Map<String, ByteBufferMarshalledValue<Object>>> mutatorFactory = (MutatorFactory<SessionAttributesKey, Map<String, ByteBufferMarshalledValue<Object>>>) (MutatorFactory<SessionAttributesKey, ?>) this.mutatorFactory;
+                    return (MutatorFactory<SessionAttributesKey, Map<String, V>>) (MutatorFactory<SessionAttributesKey, ?>) new SessionAttributeDirtyCheckMutatorFactory<>(baselineAttributes.fingerprints, mutatorFactory, this.dirtyCheckHits::increment, this.dirtyCheckMisses::increment);
+                }
+                default: {
+                    break;
+                }
+            }
+        }
+        return this.mutatorFactory;
     }
 
     @Override
@@ -165,4 +248,14 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
             }
         }
     }
+
+    /**
+     * Session attributes that retain the marshalled form, or its fingerprint, of each attribute as of the time the session was loaded.
+     */
+    private static class BaselineAttributeMap extends ConcurrentHashMap<String, Object> {
+        private static final long serialVersionUID = 2437318398823545539L;
+
+        final transient Map<String, ByteBuffer> baselines = new TreeMap<>();
+        final transient Map<String, Long> fingerprints = new TreeMap<>();
+    }
 }
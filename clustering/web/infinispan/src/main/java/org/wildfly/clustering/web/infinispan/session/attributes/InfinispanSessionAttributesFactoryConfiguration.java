@@ -10,6 +10,7 @@ import java.util.function.Function;
 import org.wildfly.clustering.ee.infinispan.InfinispanConfiguration;
 import org.wildfly.clustering.web.cache.session.attributes.SessionAttributesFactoryConfiguration;
 import org.wildfly.clustering.web.cache.session.attributes.fine.SessionAttributeActivationNotifier;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationMode;
 
 /**
  * @param <S> the HttpSession specification type
@@ -22,4 +23,12 @@ import org.wildfly.clustering.web.cache.session.attributes.fine.SessionAttribute
 public interface InfinispanSessionAttributesFactoryConfiguration<S, C, L, V, SV> extends InfinispanConfiguration, SessionAttributesFactoryConfiguration<S, C, L, V, SV> {
 
     Function<String, SessionAttributeActivationNotifier> getActivationNotifierFactory();
+
+    /**
+     * Returns the strategy with which updated session attributes are replicated.
+     * @return a replication mode
+     */
+    default SessionAttributeReplicationMode getAttributeReplicationMode() {
+        return SessionAttributeReplicationMode.FULL;
+    }
 }
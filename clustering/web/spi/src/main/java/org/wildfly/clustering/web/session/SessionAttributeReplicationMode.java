@@ -0,0 +1,26 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.session;
+
+/**
+ * Enumerates the strategies with which the updated attributes of a session are replicated.
+ */
+public enum SessionAttributeReplicationMode {
+    /**
+     * Replicates the full marshalled form of each updated attribute.
+     */
+    FULL,
+    /**
+     * Replicates a binary delta between the marshalled form of each updated attribute and its marshalled form as of the time it was loaded.
+     * Unchanged attributes are not replicated.
+     * Only applicable to sessions whose attributes are persisted individually.
+     */
+    DELTA,
+    /**
+     * Replicates the full marshalled form of updated attributes, but only if the fingerprint of their marshalled form differs from its fingerprint as of the time it was loaded.
+     */
+    DIRTY_CHECK,
+}
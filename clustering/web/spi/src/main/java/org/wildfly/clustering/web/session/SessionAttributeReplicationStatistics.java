@@ -0,0 +1,27 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.session;
+
+/**
+ * Statistics for the replication of session attributes.
+ */
+public interface SessionAttributeReplicationStatistics {
+
+    /**
+     * @return The number of bytes not replicated due to the replication of deltas of session attributes, rather than their full marshalled form
+     */
+    long getReplicationBytesSaved();
+
+    /**
+     * @return The number of updated session attributes whose replication was suppressed, since their marshalled form was not modified
+     */
+    long getDirtyCheckHitCount();
+
+    /**
+     * @return The number of updated session attributes that were replicated, since their marshalled form was modified
+     */
+    long getDirtyCheckMissCount();
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.session;
+
+/**
+ * Statistics for the near cache of a session manager backed by a remote cache.
+ */
+public interface SessionNearCacheStatistics {
+
+    /**
+     * @return The number of session meta data and attribute reads that were served from the near cache
+     */
+    long getNearCacheHitCount();
+
+    /**
+     * @return The number of session meta data and attribute reads that required a remote invocation
+     */
+    long getNearCacheMissCount();
+
+    /**
+     * @return The ratio of near cache hits to total near cache reads, or 0 if the near cache was never read
+     */
+    default double getNearCacheHitRatio() {
+        long hits = this.getNearCacheHitCount();
+        long reads = hits + this.getNearCacheMissCount();
+        return (reads > 0) ? (double) hits / reads : 0d;
+    }
+}
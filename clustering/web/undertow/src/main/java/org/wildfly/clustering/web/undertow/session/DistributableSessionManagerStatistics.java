@@ -10,6 +10,8 @@ import java.util.concurrent.atomic.AtomicLong;
 import org.wildfly.clustering.ee.Recordable;
 import org.wildfly.clustering.web.session.ActiveSessionStatistics;
 import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationStatistics;
+import org.wildfly.clustering.web.session.SessionNearCacheStatistics;
 
 /**
  * @author Paul Ferraro
@@ -18,12 +20,16 @@ public class DistributableSessionManagerStatistics implements RecordableSessionM
 
     private final RecordableInactiveSessionStatistics inactiveSessionStatistics;
     private final ActiveSessionStatistics activeSessionStatistics;
+    private final SessionAttributeReplicationStatistics replicationStatistics;
+    private final SessionNearCacheStatistics nearCacheStatistics;
     private final Integer maxActiveSessions;
     private volatile long startTime = System.currentTimeMillis();
     private final AtomicLong createdSessionCount = new AtomicLong();
 
-    public DistributableSessionManagerStatistics(ActiveSessionStatistics activeSessionStatistics, RecordableInactiveSessionStatistics inactiveSessionStatistics, Integer maxActiveSessions) {
+    public DistributableSessionManagerStatistics(ActiveSessionStatistics activeSessionStatistics, SessionAttributeReplicationStatistics replicationStatistics, SessionNearCacheStatistics nearCacheStatistics, RecordableInactiveSessionStatistics inactiveSessionStatistics, Integer maxActiveSessions) {
         this.activeSessionStatistics = activeSessionStatistics;
+        this.replicationStatistics = replicationStatistics;
+        this.nearCacheStatistics = nearCacheStatistics;
         this.inactiveSessionStatistics = inactiveSessionStatistics;
         this.maxActiveSessions = maxActiveSessions;
         this.reset();
@@ -82,6 +88,31 @@ public class DistributableSessionManagerStatistics implements RecordableSessionM
         return this.inactiveSessionStatistics.getMeanSessionLifetime().toMillis();
     }
 
+    @Override
+    public long getReplicationBytesSaved() {
+        return this.replicationStatistics.getReplicationBytesSaved();
+    }
+
+    @Override
+    public long getDirtyCheckHitCount() {
+        return this.replicationStatistics.getDirtyCheckHitCount();
+    }
+
+    @Override
+    public long getDirtyCheckMissCount() {
+        return this.replicationStatistics.getDirtyCheckMissCount();
+    }
+
+    @Override
+    public long getNearCacheHitCount() {
+        return this.nearCacheStatistics.getNearCacheHitCount();
+    }
+
+    @Override
+    public long getNearCacheMissCount() {
+        return this.nearCacheStatistics.getNearCacheMissCount();
+    }
+
     @Override
     public long getStartTime() {
         return this.startTime;
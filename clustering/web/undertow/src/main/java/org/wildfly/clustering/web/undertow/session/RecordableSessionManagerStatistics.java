@@ -7,12 +7,15 @@ package org.wildfly.clustering.web.undertow.session;
 import io.undertow.server.session.SessionManagerStatistics;
 
 import org.wildfly.clustering.ee.Recordable;
+import org.wildfly.clustering.web.container.SessionReplicationStatistics;
 import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationStatistics;
+import org.wildfly.clustering.web.session.SessionNearCacheStatistics;
 
 /**
  * Recordable {@link SessionManagerStatistics}.
  * @author Paul Ferraro
  */
-public interface RecordableSessionManagerStatistics extends SessionManagerStatistics, Recordable<ImmutableSessionMetaData> {
+public interface RecordableSessionManagerStatistics extends SessionManagerStatistics, SessionReplicationStatistics, SessionAttributeReplicationStatistics, SessionNearCacheStatistics, Recordable<ImmutableSessionMetaData> {
     Recordable<ImmutableSessionMetaData> getInactiveSessionRecorder();
 }
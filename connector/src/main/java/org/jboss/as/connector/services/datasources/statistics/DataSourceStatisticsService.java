@@ -7,6 +7,12 @@ package org.jboss.as.connector.services.datasources.statistics;
 
 import static org.jboss.as.connector.logging.ConnectorLogger.ROOT_LOGGER;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
 import org.jboss.as.connector.dynamicresource.StatisticsResourceDefinition;
 import org.jboss.as.connector.subsystems.datasources.DataSourcesSubsystemProviders;
 import org.jboss.as.controller.PathAddress;
@@ -22,6 +28,7 @@ import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
 import org.jboss.msc.value.InjectedValue;
+import org.wildfly.extension.metrics.spi.MetricBinder;
 
 public class DataSourceStatisticsService implements Service<ManagementResourceRegistration> {
 
@@ -31,8 +38,11 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
 
     private final ManagementResourceRegistration registration;
     private final boolean statsEnabled;
+    private final PathAddress address;
+    private volatile List<Runnable> unbindTasks = Collections.emptyList();
 
     protected final InjectedValue<CommonDeployment> injectedDeploymentMD = new InjectedValue<>();
+    protected final InjectedValue<MetricBinder> injectedMetricBinder = new InjectedValue<>();
 
 
     /**
@@ -40,10 +50,18 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
      */
     public DataSourceStatisticsService(final ManagementResourceRegistration registration,
                                        final boolean statsEnabled) {
+        this(registration, statsEnabled, null);
+    }
+
+    /**
+     * create an instance whose statistics are bound to the metrics of the data source with the specified address, if a metric binder is injected *
+     */
+    public DataSourceStatisticsService(final ManagementResourceRegistration registration,
+                                       final boolean statsEnabled, final PathAddress address) {
         super();
         this.registration = registration;
         this.statsEnabled = statsEnabled;
-
+        this.address = address;
     }
 
 
@@ -75,12 +93,21 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
                                     DataSourcesSubsystemProviders.RESOURCE_NAME, poolStats));
                 }
             }
+
+            MetricBinder metricBinder = injectedMetricBinder.getOptionalValue();
+            if (metricBinder != null && address != null) {
+                // Read statistics directly when collecting metrics, rather than via a read-attribute operation per statistic
+                unbindTasks = List.of(metricBinder.bind(address.append(JDBC_STATISTICS), getNumericStatistics(jdbcStats)),
+                        metricBinder.bind(address.append(POOL_STATISTICS), getNumericStatistics(poolStats)));
+            }
         }
     }
 
     @Override
     public void stop(StopContext context) {
         synchronized (JDBC_STATISTICS) {
+            unbindTasks.forEach(Runnable::run);
+            unbindTasks = Collections.emptyList();
             if (registration != null) {
                 registration.unregisterSubModel(JDBC_STATISTICS);
                 registration.unregisterSubModel(POOL_STATISTICS);
@@ -98,6 +125,22 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
         return injectedDeploymentMD;
     }
 
+    public Injector<MetricBinder> getMetricBinderInjector() {
+        return injectedMetricBinder;
+    }
+
+    // Statistics exposed as INT or LONG metric attributes, see StatisticsResourceDefinition
+    private static Map<String, Supplier<Number>> getNumericStatistics(StatisticsPlugin plugin) {
+        Map<String, Supplier<Number>> statistics = new HashMap<>();
+        for (String name : plugin.getNames()) {
+            Class<?> type = plugin.getType(name);
+            if (type == int.class || type == long.class) {
+                statistics.put(name, () -> (Number) plugin.getValue(name));
+            }
+        }
+        return statistics;
+    }
+
 
     public static void registerStatisticsResources(Resource datasourceResource) {
         synchronized (JDBC_STATISTICS) {
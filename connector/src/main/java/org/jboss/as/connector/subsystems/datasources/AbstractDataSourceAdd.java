@@ -80,6 +80,7 @@ import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StopContext;
 import org.jboss.msc.service.ServiceTarget;
 import org.wildfly.common.function.ExceptionSupplier;
+import org.wildfly.extension.metrics.spi.MetricBinder;
 import org.wildfly.security.auth.client.AuthenticationContext;
 import org.wildfly.security.credential.source.CredentialSource;
 
@@ -376,11 +377,14 @@ public abstract class AbstractDataSourceAdd extends AbstractAddStepHandler {
         if (dataSourceController != null) {
             if (!ServiceController.State.UP.equals(dataSourceController.getState())) {
                 final boolean statsEnabled = STATISTICS_ENABLED.resolveModelAttribute(context, model).asBoolean();
-                DataSourceStatisticsService statsService = new DataSourceStatisticsService(datasourceRegistration, statsEnabled);
+                DataSourceStatisticsService statsService = new DataSourceStatisticsService(datasourceRegistration, statsEnabled, PathAddress.pathAddress(address));
                 final ServiceBuilder statsServiceSB = serviceTarget.addService(dataSourceServiceName.append(Constants.STATISTICS), statsService);
                 statsServiceSB.addAliases(dataSourceServiceNameAlias);
                 statsServiceSB.requires(dataSourceServiceName);
                 statsServiceSB.addDependency(CommonDeploymentService.getServiceName( ContextNames.bindInfoFor(jndiName)), CommonDeployment.class, statsService.getCommonDeploymentInjector());
+                if (context.hasOptionalCapability(MetricBinder.CAPABILITY_NAME, Capabilities.DATA_SOURCE_CAPABILITY.getDynamicName(dsName), null)) {
+                    statsServiceSB.addDependency(context.getCapabilityServiceName(MetricBinder.CAPABILITY_NAME, MetricBinder.class), MetricBinder.class, statsService.getMetricBinderInjector());
+                }
                 statsServiceSB.setInitialMode(ServiceController.Mode.PASSIVE);
                 statsServiceSB.install();
                 dataSourceController.setMode(ServiceController.Mode.ACTIVE);
@@ -43,6 +43,16 @@ public interface ComponentView {
      */
     Object invoke(final InterceptorContext interceptorContext) throws Exception;
 
+    /**
+     * Invoke on the component view interceptor chain of the view method with the specified index.
+     * Equivalent to {@link #invoke(InterceptorContext)}, but avoids resolving the interceptor chain of the invoked method.
+     *
+     * @param methodIndex The index of the invoked view method, as returned by {@link #getMethodIndex(Method)}
+     * @param interceptorContext The context of the invocation
+     * @return The result of the invocation
+     */
+    Object invoke(final int methodIndex, final InterceptorContext interceptorContext) throws Exception;
+
     /**
      * Get the associated component.
      *
@@ -77,6 +87,22 @@ public interface ComponentView {
      */
     Method getMethod(final String name, final String descriptor);
 
+    /**
+     * Gets the index of a view method.
+     * Indexes are assigned when the view is created and remain stable for its lifetime.
+     * @param method a method equal to a view method
+     * @return the index of the view method, or -1 if the specified method is not a view method
+     */
+    int getMethodIndex(final Method method);
+
+    /**
+     * Gets a view method based on its index
+     * @param methodIndex the index of the view method, as returned by {@link #getMethodIndex(Method)}
+     * @return The view method with the given index
+     * @throws IndexOutOfBoundsException If there is no view method with the given index
+     */
+    Method getMethod(final int methodIndex);
+
     /**
      * Provides a mechanism to attach arbitrary data to the component view
      * @param clazz The class of attachment
@@ -38,6 +38,7 @@ import static org.jboss.as.ee.logging.EeLogger.ROOT_LOGGER;
 public final class ViewService implements Service<ComponentView> {
 
     private final InjectedValue<Component> componentInjector = new InjectedValue<Component>();
+    private final Method[] methods;
     private final Map<Method, InterceptorFactory> viewInterceptorFactories;
     private final Map<Method, InterceptorFactory> clientInterceptorFactories;
     private final InterceptorFactory clientPostConstruct;
@@ -60,6 +61,8 @@ public final class ViewService implements Service<ComponentView> {
         this.proxyFactory = proxyFactory;
         final List<Method> methods = proxyFactory.getCachedMethods();
         final int methodCount = methods.size();
+        // The position of each method determines its view method index
+        this.methods = methods.toArray(new Method[methodCount]);
         clientPostConstruct = Interceptors.getChainedInterceptorFactory(viewConfiguration.getClientPostConstructInterceptors());
         clientPreDestroy = Interceptors.getChainedInterceptorFactory(viewConfiguration.getClientPreDestroyInterceptors());
         final IdentityHashMap<Method, InterceptorFactory> viewInterceptorFactories = new IdentityHashMap<Method, InterceptorFactory>(methodCount);
@@ -126,6 +129,8 @@ public final class ViewService implements Service<ComponentView> {
 
         private final Component component;
         private final Map<Method, Interceptor> viewInterceptors;
+        private final Interceptor[] indexedViewInterceptors;
+        private final Map<Method, Integer> methodIndexes;
         private final Map<MethodDescription, Method> methods;
         private final Map<Class<?>, Object> privateData;
 
@@ -134,6 +139,8 @@ public final class ViewService implements Service<ComponentView> {
             component = componentInjector.getValue();
             //we need to build the view interceptor chain
             this.viewInterceptors = new IdentityHashMap<Method, Interceptor>();
+            this.indexedViewInterceptors = new Interceptor[ViewService.this.methods.length];
+            this.methodIndexes = new HashMap<Method, Integer>();
             this.methods = new HashMap<MethodDescription, Method>();
         }
 
@@ -145,10 +152,14 @@ public final class ViewService implements Service<ComponentView> {
             //a half constructed instance
             factoryContext.getContextData().put(ComponentView.class, this);
 
-            for (Map.Entry<Method, InterceptorFactory> entry : viewInterceptorFactories.entrySet()) {
-                Method method = entry.getKey();
-                viewInterceptors.put(method, entry.getValue().create(factoryContext));
-                methods.put(new MethodDescription(method.getName(), DescriptorUtils.methodDescriptor(method)), method);
+            final Method[] methods = ViewService.this.methods;
+            for (int i = 0; i < methods.length; ++i) {
+                Method method = methods[i];
+                Interceptor interceptor = viewInterceptorFactories.get(method).create(factoryContext);
+                viewInterceptors.put(method, interceptor);
+                indexedViewInterceptors[i] = interceptor;
+                methodIndexes.putIfAbsent(method, i);
+                this.methods.put(new MethodDescription(method.getName(), DescriptorUtils.methodDescriptor(method)), method);
             }
 
         }
@@ -181,6 +192,14 @@ public final class ViewService implements Service<ComponentView> {
             return interceptor.processInvocation(interceptorContext);
         }
 
+        @Override
+        public Object invoke(final int methodIndex, final InterceptorContext interceptorContext) throws Exception {
+            if(component instanceof BasicComponent) {
+                ((BasicComponent) component).waitForComponentStart();
+            }
+            return indexedViewInterceptors[methodIndex].processInvocation(interceptorContext);
+        }
+
         public Component getComponent() {
             return component;
         }
@@ -209,6 +228,17 @@ public final class ViewService implements Service<ComponentView> {
             return method;
         }
 
+        @Override
+        public int getMethodIndex(final Method method) {
+            final Integer index = this.methodIndexes.get(method);
+            return (index != null) ? index.intValue() : -1;
+        }
+
+        @Override
+        public Method getMethod(final int methodIndex) {
+            return ViewService.this.methods[methodIndex];
+        }
+
         @Override
         public <T> T getPrivateData(final Class<T> clazz) {
             return (T) privateData.get(clazz);
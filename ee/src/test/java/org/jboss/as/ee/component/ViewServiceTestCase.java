@@ -0,0 +1,105 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.component;
+
+import static org.mockito.Mockito.mock;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.invocation.ImmediateInterceptorFactory;
+import org.jboss.invocation.InterceptorContext;
+import org.jboss.invocation.proxy.ProxyConfiguration;
+import org.jboss.invocation.proxy.ProxyFactory;
+import org.jboss.msc.service.ServiceName;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Validates the dispatching of component view invocations by view method index.
+ */
+public class ViewServiceTestCase {
+
+    private static final AtomicInteger PROXY_ID = new AtomicInteger();
+
+    public interface TestView {
+        String foo();
+
+        String foo(String value);
+
+        String bar(int value);
+    }
+
+    @Test
+    public void methodIndex() throws Exception {
+        ProxyFactory<?> proxyFactory = createProxyFactory();
+        ComponentView view = createView(proxyFactory);
+
+        Assert.assertFalse(view.getViewMethods().isEmpty());
+        for (Method method : view.getViewMethods()) {
+            int index = view.getMethodIndex(method);
+            Assert.assertTrue(method.toString(), index >= 0);
+            Assert.assertEquals(method, view.getMethod(index));
+            // Index of a method is its position within the cached methods of the proxy factory
+            Assert.assertEquals(method, proxyFactory.getCachedMethods().get(index));
+        }
+        Assert.assertTrue(view.getMethodIndex(TestView.class.getMethod("foo")) >= 0);
+        Assert.assertNotEquals(view.getMethodIndex(TestView.class.getMethod("foo")), view.getMethodIndex(TestView.class.getMethod("foo", String.class)));
+
+        // Indexes are stable across views created from the same proxy factory
+        ComponentView otherView = createView(proxyFactory);
+        for (Method method : view.getViewMethods()) {
+            Assert.assertEquals(view.getMethodIndex(method), otherView.getMethodIndex(method));
+        }
+    }
+
+    @Test
+    public void nonViewMethod() throws Exception {
+        ComponentView view = createView(createProxyFactory());
+
+        Assert.assertEquals(-1, view.getMethodIndex(String.class.getMethod("length")));
+        Assert.assertEquals(-1, view.getMethodIndex(Runnable.class.getMethod("run")));
+    }
+
+    @Test
+    public void invoke() throws Exception {
+        ComponentView view = createView(createProxyFactory());
+
+        for (Method method : view.getViewMethods()) {
+            InterceptorContext context = new InterceptorContext();
+            context.setMethod(method);
+            Assert.assertEquals(view.invoke(context), view.invoke(view.getMethodIndex(method), context));
+        }
+        for (Method method : TestView.class.getMethods()) {
+            int index = view.getMethodIndex(method);
+            InterceptorContext context = new InterceptorContext();
+            context.setMethod(view.getMethod(index));
+            Assert.assertEquals(method.toString(), view.invoke(index, context));
+        }
+    }
+
+    private static ProxyFactory<?> createProxyFactory() {
+        ProxyConfiguration<Object> configuration = new ProxyConfiguration<>();
+        configuration.setProxyName(TestView.class.getName() + "$$$view" + PROXY_ID.incrementAndGet());
+        configuration.setClassLoader(TestView.class.getClassLoader());
+        configuration.setProtectionDomain(TestView.class.getProtectionDomain());
+        configuration.setSuperClass(Object.class);
+        configuration.addAdditionalInterface(TestView.class);
+        return new ProxyFactory<>(configuration);
+    }
+
+    private static ComponentView createView(ProxyFactory<?> proxyFactory) throws Exception {
+        ViewConfiguration configuration = new ViewConfiguration(TestView.class, null, ServiceName.of("view"), proxyFactory);
+        for (Method method : proxyFactory.getCachedMethods()) {
+            // Each view interceptor chain responds with its method
+            configuration.addViewInterceptor(method, new ImmediateInterceptorFactory(context -> method.toString()), 0);
+        }
+        ViewService service = new ViewService(configuration);
+        service.getComponentInjector().inject(mock(Component.class));
+        service.start(null);
+        return service.getValue();
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.stateful.cache.simple;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stores the serialized form of passivated bean instances within a memory-mapped, local file.
+ * The file is mapped in segments, to which records are appended.
+ * A segment is reused once all of its records were read or removed.
+ * If no segment is empty, the live records of the most sparsely populated segment are compacted in place, before mapping another segment,
+ * such that long-lived records cannot pin an ever-growing number of segments.
+ * The file is deleted when this store is closed.
+ * @param <K> the bean identifier type
+ */
+class MappedPassivationStore<K> implements AutoCloseable {
+
+    static final int DEFAULT_SEGMENT_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final int segmentSize;
+    // Guarded by this
+    private final Map<K, Record> records = new HashMap<>();
+    private final List<Segment> segments = new ArrayList<>();
+    private final List<Segment> unusedSegments = new ArrayList<>();
+    private Segment currentSegment;
+    private long length;
+
+    /**
+     * Creates a passivation store backed by the specified file, which must not already exist.
+     * @param file the path of the file
+     * @param segmentSize the minimum size of each mapped segment of the file
+     * @throws IOException if the file could not be created
+     */
+    MappedPassivationStore(Path file, int segmentSize) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Writes the serialized form of the specified bean.
+     * @param id a bean identifier
+     * @param buffer the serialized bean
+     * @throws IOException if a new segment of the file could not be mapped
+     */
+    synchronized void write(K id, ByteBuffer buffer) throws IOException {
+        int length = buffer.remaining();
+        Segment segment = this.currentSegment;
+        if ((segment == null) || (segment.remaining() < length)) {
+            segment = this.findSegment(length);
+            if (this.currentSegment != null && this.currentSegment.live == 0) {
+                this.currentSegment.reset();
+                this.unusedSegments.add(this.currentSegment);
+            }
+            this.currentSegment = segment;
+        }
+        ByteBuffer target = segment.buffer.duplicate();
+        target.position(segment.position);
+        target.put(buffer);
+        Record previous = this.records.put(id, new Record(segment, segment.position, length));
+        segment.position += length;
+        segment.live += length;
+        if (previous != null) {
+            this.release(previous);
+        }
+    }
+
+    /**
+     * Reads and removes the serialized form of the specified bean.
+     * @param id a bean identifier
+     * @return the serialized bean, or null, if no such bean was passivated
+     */
+    synchronized ByteBuffer read(K id) {
+        Record record = this.records.remove(id);
+        if (record == null) return null;
+        byte[] bytes = new byte[record.length];
+        ByteBuffer source = record.segment.buffer.duplicate();
+        source.position(record.offset);
+        source.get(bytes);
+        this.release(record);
+        return ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * Removes the serialized form of the specified bean.
+     * @param id a bean identifier
+     * @return true, if the specified bean was passivated, false otherwise
+     */
+    synchronized boolean remove(K id) {
+        Record record = this.records.remove(id);
+        if (record == null) return false;
+        this.release(record);
+        return true;
+    }
+
+    /**
+     * Returns the number of beans contained in this store.
+     * @return the number of passivated beans
+     */
+    synchronized int size() {
+        return this.records.size();
+    }
+
+    /**
+     * Returns the length of the mapped file.
+     * @return the file length, in bytes
+     */
+    synchronized long length() {
+        return this.length;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        this.records.clear();
+        this.segments.clear();
+        this.unusedSegments.clear();
+        this.currentSegment = null;
+        this.channel.close();
+    }
+
+    private Segment findSegment(int length) throws IOException {
+        Iterator<Segment> segments = this.unusedSegments.iterator();
+        while (segments.hasNext()) {
+            Segment segment = segments.next();
+            if (segment.buffer.capacity() >= length) {
+                segments.remove();
+                return segment;
+            }
+        }
+        // Compact the most sparsely populated segment, if this frees at least half of the segment
+        Segment sparsest = null;
+        for (Segment segment : this.segments) {
+            if ((segment != this.currentSegment) && (segment.buffer.capacity() - segment.live >= length) && ((sparsest == null) || (segment.live < sparsest.live))) {
+                sparsest = segment;
+            }
+        }
+        if ((sparsest != null) && (sparsest.live <= sparsest.buffer.capacity() / 2)) {
+            this.compact(sparsest);
+            return sparsest;
+        }
+        // Map a new segment at the end of the file, large enough for this record
+        int capacity = Math.max(this.segmentSize, length);
+        MappedByteBuffer buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, this.length, capacity);
+        this.length += capacity;
+        Segment segment = new Segment(buffer);
+        this.segments.add(segment);
+        return segment;
+    }
+
+    /**
+     * Moves the live records of the specified segment to its beginning, in order of their offset.
+     * Since no record moves past its original offset, records are never overwritten before they are moved.
+     */
+    private void compact(Segment segment) {
+        List<Map.Entry<K, Record>> entries = new ArrayList<>();
+        for (Map.Entry<K, Record> entry : this.records.entrySet()) {
+            if (entry.getValue().segment == segment) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(Comparator.comparingInt(entry -> entry.getValue().offset));
+        ByteBuffer buffer = segment.buffer.duplicate();
+        int position = 0;
+        for (Map.Entry<K, Record> entry : entries) {
+            Record record = entry.getValue();
+            byte[] bytes = new byte[record.length];
+            buffer.position(record.offset);
+            buffer.get(bytes);
+            buffer.position(position);
+            buffer.put(bytes);
+            entry.setValue(new Record(segment, position, record.length));
+            position += record.length;
+        }
+        segment.position = position;
+    }
+
+    private void release(Record record) {
+        Segment segment = record.segment;
+        segment.live -= record.length;
+        if (segment.live == 0) {
+            segment.reset();
+            if (segment != this.currentSegment) {
+                this.unusedSegments.add(segment);
+            }
+        }
+    }
+
+    private static class Segment {
+        final MappedByteBuffer buffer;
+        int position;
+        int live;
+
+        Segment(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        int remaining() {
+            return this.buffer.capacity() - this.position;
+        }
+
+        void reset() {
+            this.position = 0;
+        }
+    }
+
+    private static class Record {
+        final Segment segment;
+        final int offset;
+        final int length;
+
+        Record(Segment segment, int offset, int length) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
@@ -5,9 +5,19 @@
 
 package org.jboss.as.ejb3.component.stateful.cache.simple;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -23,10 +33,13 @@ import org.jboss.ejb.client.NodeAffinity;
 import org.wildfly.clustering.ee.Scheduler;
 import org.wildfly.clustering.ee.cache.scheduler.LinkedScheduledEntries;
 import org.wildfly.clustering.ee.cache.scheduler.LocalScheduler;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
 
 /**
  * A simple stateful session bean cache implementation.
  * Bean instances are stored in memory and are lost on undeploy, shutdown, or server crash.
+ * If the number of active bean instances is bounded, the least recently used bean instances not currently in use are passivated to a local memory-mapped file,
+ * and reactivated on demand.
  * @author Paul Ferraro
  * @param <K> the bean identifier type
  * @param <V> the bean instance type
@@ -34,24 +47,48 @@ import org.wildfly.clustering.ee.cache.scheduler.LocalScheduler;
 public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInstance<K>> implements StatefulSessionBeanCache<K, V>, Predicate<K>, Consumer<StatefulSessionBean<K, V>> {
 
     private final Map<K, V> instances = new ConcurrentHashMap<>();
-    private final Consumer<K> remover = this.instances::remove;
+    // Active bean instances not currently in use, in least recently used order
+    private final Map<K, Boolean> idleInstances = new LinkedHashMap<>();
+    // Number of concurrent users of each active bean instance currently in use, guarded by idleInstances
+    private final Map<K, Integer> users = new HashMap<>();
+    // Bean instances currently being passivated or activated, guarded by idleInstances
+    private final Map<K, CompletableFuture<Void>> transitions = new HashMap<>();
+    private final Consumer<K> remover = this::remove;
     private final StatefulSessionBeanInstanceFactory<V> factory;
     private final Supplier<K> identifierFactory;
     private final Duration timeout;
     private final Affinity strongAffinity;
+    private final String componentName;
+    private final Integer maxActiveBeans;
+    private final ByteBufferMarshaller marshaller;
+    private final Path passivationDirectory;
 
     private volatile Scheduler<K, Instant> scheduler;
+    private volatile MappedPassivationStore<K> store;
 
     public SimpleStatefulSessionBeanCache(SimpleStatefulSessionBeanCacheConfiguration<K, V> configuration) {
         this.factory = configuration.getInstanceFactory();
         this.identifierFactory = configuration.getIdentifierFactory();
         this.timeout = configuration.getTimeout();
         this.strongAffinity = new NodeAffinity(configuration.getEnvironment().getNodeName());
+        this.componentName = configuration.getComponentName();
+        this.maxActiveBeans = configuration.getMaxActiveBeans();
+        this.marshaller = configuration.getMarshaller();
+        this.passivationDirectory = (this.maxActiveBeans != null) ? configuration.getEnvironment().getServerTempDir().toPath().resolve("ejb3") : null;
     }
 
     @Override
     public void start() {
         this.scheduler = (this.timeout != null) && !this.timeout.isZero() ? new LocalScheduler<>(new LinkedScheduledEntries<>(), this, Duration.ZERO) : null;
+        if (this.maxActiveBeans != null) {
+            try {
+                Files.createDirectories(this.passivationDirectory);
+                Path file = this.passivationDirectory.resolve(this.componentName + "-" + UUID.randomUUID() + ".passivation");
+                this.store = new MappedPassivationStore<>(file, MappedPassivationStore.DEFAULT_SEGMENT_SIZE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
     }
 
     @Override
@@ -63,6 +100,19 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
             instance.removed();
         }
         this.instances.clear();
+        synchronized (this.idleInstances) {
+            this.idleInstances.clear();
+            this.users.clear();
+        }
+        if (this.store != null) {
+            // Passivated bean instances are discarded without invoking their @PreDestroy callbacks
+            try {
+                this.store.close();
+            } catch (IOException e) {
+                EjbLogger.ROOT_LOGGER.debug(e.getLocalizedMessage(), e);
+            }
+            this.store = null;
+        }
     }
 
     @Override
@@ -77,6 +127,22 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
 
     @Override
     public void accept(StatefulSessionBean<K, V> bean) {
+        if (this.store != null) {
+            K id = bean.getId();
+            synchronized (this.idleInstances) {
+                // Bean instance is only idle once closed by all of its concurrent users
+                Integer count = this.users.get(id);
+                if (count != null) {
+                    if (count > 1) {
+                        this.users.put(id, count - 1);
+                    } else {
+                        this.users.remove(id);
+                        this.idleInstances.put(id, Boolean.TRUE);
+                    }
+                }
+            }
+            this.passivate();
+        }
         if (this.timeout != null) {
             K id = bean.getId();
             if (this.scheduler != null) {
@@ -91,13 +157,35 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
 
     @Override
     public boolean test(K id) {
-        V instance = this.instances.remove(id);
+        V instance = this.remove(id);
         if (instance != null) {
             instance.removed();
         }
         return true;
     }
 
+    private V remove(K id) {
+        if (this.store == null) return this.instances.remove(id);
+        while (true) {
+            CompletableFuture<Void> transition;
+            synchronized (this.idleInstances) {
+                transition = this.transitions.get(id);
+                if (transition == null) {
+                    this.idleInstances.remove(id);
+                    this.users.remove(id);
+                    V instance = this.instances.remove(id);
+                    if (instance == null) {
+                        // Per EJB specification, @PreDestroy is not invoked on expiration of a passivated bean
+                        this.store.remove(id);
+                    }
+                    return instance;
+                }
+            }
+            // Wait for pending passivation or activation of this bean instance to complete
+            transition.join();
+        }
+    }
+
     @Override
     public K createStatefulSessionBean() {
         if (CURRENT_GROUP.get() != null) {
@@ -107,12 +195,18 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
         V instance = this.factory.createInstance();
         K id = instance.getId();
         this.instances.put(id, instance);
+        if (this.store != null) {
+            synchronized (this.idleInstances) {
+                this.idleInstances.put(id, Boolean.TRUE);
+            }
+            this.passivate();
+        }
         return id;
     }
 
     @Override
     public StatefulSessionBean<K, V> findStatefulSessionBean(K id) {
-        V instance = this.instances.get(id);
+        V instance = (this.store != null) ? this.activate(id) : this.instances.get(id);
         if (instance == null) return null;
         if (this.scheduler != null) {
             this.scheduler.cancel(id);
@@ -127,11 +221,108 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
 
     @Override
     public int getPassiveCount() {
-        return 0;
+        MappedPassivationStore<K> store = this.store;
+        return (store != null) ? store.size() : 0;
     }
 
     @Override
     public Supplier<K> getIdentifierFactory() {
         return this.identifierFactory;
     }
+
+    /**
+     * Marks the specified bean instance as in use, activating it first, if it was passivated.
+     * While activating, the identifier is claimed by a pending transition, such that the activation callback, unmarshalling, and file access are performed without holding any lock.
+     */
+    private V activate(K id) {
+        CompletableFuture<Void> activation = new CompletableFuture<>();
+        while (true) {
+            CompletableFuture<Void> transition;
+            synchronized (this.idleInstances) {
+                transition = this.transitions.get(id);
+                if (transition == null) {
+                    V instance = this.instances.get(id);
+                    if (instance != null) {
+                        this.idleInstances.remove(id);
+                        this.users.merge(id, 1, Integer::sum);
+                        return instance;
+                    }
+                    this.transitions.put(id, activation);
+                    break;
+                }
+            }
+            // Wait for pending passivation or activation of this bean instance to complete
+            transition.join();
+        }
+        V instance = null;
+        try {
+            ByteBuffer buffer = this.store.read(id);
+            if (buffer != null) {
+                @SuppressWarnings("unchecked")
+                V activated = (V) this.marshaller.read(buffer);
+                activated.postActivate();
+                instance = activated;
+            }
+        } catch (IOException | RuntimeException e) {
+            EjbLogger.ROOT_LOGGER.statefulSessionBeanActivationFailed(e, id, this.componentName);
+        } finally {
+            synchronized (this.idleInstances) {
+                this.transitions.remove(id);
+                if (instance != null) {
+                    this.instances.put(id, instance);
+                    this.users.merge(id, 1, Integer::sum);
+                }
+            }
+            activation.complete(null);
+        }
+        return instance;
+    }
+
+    /**
+     * Passivates the least recently used idle bean instances, while the number of active bean instances exceeds the configured maximum.
+     */
+    private void passivate() {
+        while (this.instances.size() > this.maxActiveBeans) {
+            CompletableFuture<Void> passivation = new CompletableFuture<>();
+            K id;
+            V instance;
+            synchronized (this.idleInstances) {
+                Iterator<K> ids = this.idleInstances.keySet().iterator();
+                if (!ids.hasNext()) return;
+                id = ids.next();
+                ids.remove();
+                instance = this.instances.remove(id);
+                if (instance == null) continue;
+                this.transitions.put(id, passivation);
+            }
+            this.passivate(id, instance, passivation);
+        }
+    }
+
+    /**
+     * Passivates the specified bean instance, claimed by the specified pending transition.
+     * The passivation callback, marshalling, and file access are performed without holding any lock.
+     */
+    private void passivate(K id, V instance, CompletableFuture<Void> passivation) {
+        boolean passivated = false;
+        try {
+            instance.prePassivate();
+            try {
+                this.store.write(id, this.marshaller.write(instance));
+                passivated = true;
+            } catch (IOException | RuntimeException e) {
+                EjbLogger.ROOT_LOGGER.statefulSessionBeanPassivationFailed(e, id, this.componentName);
+                instance.postActivate();
+            }
+        } finally {
+            synchronized (this.idleInstances) {
+                this.transitions.remove(id);
+                if (!passivated) {
+                    // Bean instance remains active, but is no longer idle
+                    this.instances.put(id, instance);
+                }
+            }
+            passivation.complete(null);
+        }
+    }
 }
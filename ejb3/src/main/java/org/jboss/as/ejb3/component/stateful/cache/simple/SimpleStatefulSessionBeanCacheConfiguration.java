@@ -8,6 +8,7 @@ package org.jboss.as.ejb3.component.stateful.cache.simple;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCacheConfiguration;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstance;
 import org.jboss.as.server.ServerEnvironment;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
 
 /**
  * Configuration of a simple stateful session bean cache.
@@ -18,4 +19,21 @@ import org.jboss.as.server.ServerEnvironment;
 public interface SimpleStatefulSessionBeanCacheConfiguration<K, V extends StatefulSessionBeanInstance<K>> extends StatefulSessionBeanCacheConfiguration<K, V> {
 
     ServerEnvironment getEnvironment();
+
+    /**
+     * Returns the maximum number of bean instances to retain in memory, beyond which the least recently used instances are passivated.
+     * @return the maximum number of active bean instances, or null, if unbounded.
+     */
+    default Integer getMaxActiveBeans() {
+        return null;
+    }
+
+    /**
+     * Returns the marshaller used to passivate bean instances.
+     * Only used if the number of active bean instances is bounded.
+     * @return a marshaller
+     */
+    default ByteBufferMarshaller getMarshaller() {
+        return null;
+    }
 }
@@ -22,6 +22,7 @@ import org.jboss.msc.Service;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceTarget;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
 import org.wildfly.clustering.service.ServiceSupplierDependency;
 import org.wildfly.clustering.service.SimpleServiceNameProvider;
 import org.wildfly.clustering.service.SupplierDependency;
@@ -36,9 +37,17 @@ import org.wildfly.clustering.service.SupplierDependency;
 public class SimpleStatefulSessionBeanCacheFactoryServiceConfigurator<K, V extends StatefulSessionBeanInstance<K>> extends SimpleServiceNameProvider implements CapabilityServiceConfigurator, StatefulSessionBeanCacheFactory<K, V> {
 
     private final SupplierDependency<ServerEnvironment> environment = new ServiceSupplierDependency<>(ServerEnvironmentService.SERVICE_NAME);
+    private final Integer maxActiveBeans;
+    private final ByteBufferMarshaller marshaller;
 
     public SimpleStatefulSessionBeanCacheFactoryServiceConfigurator(StatefulComponentDescription description) {
+        this(description, null, null);
+    }
+
+    public SimpleStatefulSessionBeanCacheFactoryServiceConfigurator(StatefulComponentDescription description, Integer maxActiveBeans, ByteBufferMarshaller marshaller) {
         super(description.getCacheFactoryServiceName());
+        this.maxActiveBeans = maxActiveBeans;
+        this.marshaller = marshaller;
     }
 
     @Override
@@ -53,6 +62,8 @@ public class SimpleStatefulSessionBeanCacheFactoryServiceConfigurator<K, V exten
     @Override
     public StatefulSessionBeanCache<K, V> createStatefulBeanCache(StatefulSessionBeanCacheConfiguration<K, V> configuration) {
         ServerEnvironment environment = this.environment.get();
+        Integer maxActiveBeans = this.maxActiveBeans;
+        ByteBufferMarshaller marshaller = this.marshaller;
         return new SimpleStatefulSessionBeanCache<>(new SimpleStatefulSessionBeanCacheConfiguration<>() {
             @Override
             public StatefulSessionBeanInstanceFactory<V> getInstanceFactory() {
@@ -78,6 +89,16 @@ public class SimpleStatefulSessionBeanCacheFactoryServiceConfigurator<K, V exten
             public String getComponentName() {
                 return configuration.getComponentName();
             }
+
+            @Override
+            public Integer getMaxActiveBeans() {
+                return maxActiveBeans;
+            }
+
+            @Override
+            public ByteBufferMarshaller getMarshaller() {
+                return marshaller;
+            }
         });
     }
 }
@@ -6,10 +6,14 @@
 package org.jboss.as.ejb3.component.stateful.cache.simple;
 
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import org.jboss.as.clustering.controller.CapabilityServiceConfigurator;
 import org.jboss.as.clustering.controller.ResourceServiceConfigurator;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.ee.component.ComponentConfiguration;
 import org.jboss.as.ee.component.EEModuleConfiguration;
@@ -17,24 +21,48 @@ import org.jboss.as.ejb3.component.stateful.StatefulComponentDescription;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCacheProvider;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCacheProviderServiceNameProvider;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstance;
+import org.jboss.as.ejb3.subsystem.SimpleStatefulSessionBeanCacheProviderResourceDefinition;
+import org.jboss.as.server.deployment.Attachments;
 import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.dmr.ModelNode;
+import org.jboss.marshalling.MarshallingConfiguration;
+import org.jboss.marshalling.ModularClassResolver;
+import org.jboss.modules.Module;
 import org.jboss.msc.Service;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceTarget;
+import org.wildfly.clustering.marshalling.jboss.DynamicClassTable;
+import org.wildfly.clustering.marshalling.jboss.DynamicExternalizerObjectTable;
+import org.wildfly.clustering.marshalling.jboss.JBossByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.jboss.SimpleMarshallingConfigurationRepository;
+import org.wildfly.clustering.marshalling.jboss.SimpleSerializabilityChecker;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+import org.wildfly.clustering.service.ServiceConfigurator;
 
 /**
  * Configures a service that provides a simple stateful session bean cache provider.
+ * If the max-active-beans attribute is defined, the caches of passivation capable beans retain at most the specified number of bean instances in memory,
+ * beyond which the least recently used bean instances are passivated to a local file.
  * @author Paul Ferraro
  * @param <K> the bean identifier type
  * @param <V> the bean instance type
  */
 public class SimpleStatefulSessionBeanCacheProviderServiceConfigurator<K, V extends StatefulSessionBeanInstance<K>> extends StatefulSessionBeanCacheProviderServiceNameProvider implements ResourceServiceConfigurator, StatefulSessionBeanCacheProvider<K, V> {
 
+    private volatile Integer maxActiveBeans;
+
     public SimpleStatefulSessionBeanCacheProviderServiceConfigurator(PathAddress address) {
         super(address.getLastElement().getValue());
     }
 
+    @Override
+    public ServiceConfigurator configure(OperationContext context, ModelNode model) throws OperationFailedException {
+        ModelNode maxActiveBeans = SimpleStatefulSessionBeanCacheProviderResourceDefinition.Attribute.MAX_ACTIVE_BEANS.resolveModelAttribute(context, model);
+        this.maxActiveBeans = maxActiveBeans.isDefined() ? maxActiveBeans.asInt() : null;
+        return this;
+    }
+
     @Override
     public ServiceBuilder<?> build(ServiceTarget target) {
         ServiceName name = this.getServiceName();
@@ -51,11 +79,28 @@ public class SimpleStatefulSessionBeanCacheProviderServiceConfigurator<K, V exte
 
     @Override
     public CapabilityServiceConfigurator getStatefulBeanCacheFactoryServiceConfigurator(DeploymentUnit unit, StatefulComponentDescription description, ComponentConfiguration configuration) {
-        return new SimpleStatefulSessionBeanCacheFactoryServiceConfigurator<>(description);
+        if ((this.maxActiveBeans == null) || !description.isPassivationApplicable()) {
+            return new SimpleStatefulSessionBeanCacheFactoryServiceConfigurator<>(description);
+        }
+        return new SimpleStatefulSessionBeanCacheFactoryServiceConfigurator<>(description, this.maxActiveBeans, createMarshaller(unit.getAttachment(Attachments.MODULE), configuration.getComponentClass()));
     }
 
     @Override
     public boolean supportsPassivation() {
-        return false;
+        return this.maxActiveBeans != null;
+    }
+
+    private static ByteBufferMarshaller createMarshaller(Module module, Class<?> componentClass) {
+        // Bean class and its superclasses need not implement Serializable
+        Set<Class<?>> beanClasses = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Class<?> beanClass = componentClass; beanClass != Object.class; beanClass = beanClass.getSuperclass()) {
+            beanClasses.add(beanClass);
+        }
+        MarshallingConfiguration config = new MarshallingConfiguration();
+        config.setClassResolver(ModularClassResolver.getInstance(module.getModuleLoader()));
+        config.setSerializabilityChecker(new SimpleSerializabilityChecker(beanClasses));
+        config.setClassTable(new DynamicClassTable(module.getClassLoader()));
+        config.setObjectTable(new DynamicExternalizerObjectTable(module.getClassLoader()));
+        return new JBossByteBufferMarshaller(new SimpleMarshallingConfigurationRepository(config), module.getClassLoader());
     }
 }
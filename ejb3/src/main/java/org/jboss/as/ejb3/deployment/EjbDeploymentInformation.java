@@ -10,13 +10,18 @@ import static org.wildfly.common.Assert.checkNotNullParam;
 import org.jboss.as.ee.component.ComponentView;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.iiop.EjbIIOPService;
+import org.jboss.as.ejb3.remote.ObjectClonerPool;
+import org.jboss.ejb.client.EJBMethodLocator;
+import org.jboss.marshalling.cloner.ClassLoaderClassCloner;
 import org.jboss.msc.value.InjectedValue;
 
+import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Runtime information about an Jakarta Enterprise Beans in a module
@@ -35,6 +40,8 @@ public class EjbDeploymentInformation {
 
     private final InjectedValue<EjbIIOPService> iorFactory;
     private final Set<String> remoteViewClassNames = new HashSet<String>();
+    private final Map<String, Map<EJBMethodLocator, Integer>> methodIndexes = new HashMap<>();
+    private final ObjectClonerPool parameterClonerPool;
 
     /**
      * @param ejbName               The EJB name
@@ -51,6 +58,10 @@ public class EjbDeploymentInformation {
         this.componentViews = componentViews;
         this.deploymentClassLoader = deploymentClassLoader;
         this.iorFactory = iorFactory;
+        this.parameterClonerPool = new ObjectClonerPool(new ClassLoaderClassCloner(deploymentClassLoader));
+        for (String viewClassName : this.componentViews.keySet()) {
+            this.methodIndexes.put(viewClassName, new ConcurrentHashMap<>());
+        }
     }
 
     /**
@@ -76,6 +87,10 @@ public class EjbDeploymentInformation {
         }
         this.deploymentClassLoader = deploymentClassLoader;
         this.iorFactory = iorFactory;
+        this.parameterClonerPool = new ObjectClonerPool(new ClassLoaderClassCloner(deploymentClassLoader));
+        for (String viewClassName : this.componentViews.keySet()) {
+            this.methodIndexes.put(viewClassName, new ConcurrentHashMap<>());
+        }
     }
 
     public String getEjbName() {
@@ -99,6 +114,61 @@ public class EjbDeploymentInformation {
         return deploymentClassLoader;
     }
 
+    /**
+     * Returns a pool of cloners that copy objects into the deployment classloader, e.g. the parameters of a local invocation on a remote view.
+     *
+     * @return a pool of object cloners
+     */
+    public ObjectClonerPool getParameterClonerPool() {
+        return parameterClonerPool;
+    }
+
+    /**
+     * Resolves the index of the method of the specified view identified by the specified locator.
+     * Only successfully resolved methods are cached, thus the size of the cache is bounded by the number of view methods.
+     *
+     * @param viewClassName The fully qualified classname of the view
+     * @param locator       The locator of the invoked method
+     * @return the index of the view method, as per {@link ComponentView#getMethodIndex(Method)}, or -1 if the view has no such method
+     */
+    public int getMethodIndex(final String viewClassName, final EJBMethodLocator locator) {
+        final ComponentView view = getView(viewClassName);
+        final Map<EJBMethodLocator, Integer> indexes = this.methodIndexes.get(viewClassName);
+        final Integer cachedIndex = indexes.get(locator);
+        if (cachedIndex != null) {
+            return cachedIndex.intValue();
+        }
+        final Method method = findMethod(view, locator);
+        final int index = (method != null) ? view.getMethodIndex(method) : -1;
+        if (index >= 0) {
+            indexes.put(locator, index);
+        }
+        return index;
+    }
+
+    private static Method findMethod(final ComponentView componentView, final EJBMethodLocator ejbMethodLocator) {
+        final Set<Method> viewMethods = componentView.getViewMethods();
+        for (final Method method : viewMethods) {
+            if (method.getName().equals(ejbMethodLocator.getMethodName())) {
+                final Class<?>[] methodParamTypes = method.getParameterTypes();
+                if (methodParamTypes.length != ejbMethodLocator.getParameterCount()) {
+                    continue;
+                }
+                boolean found = true;
+                for (int i = 0; i < methodParamTypes.length; i++) {
+                    if (!methodParamTypes[i].getName().equals(ejbMethodLocator.getParameterTypeName(i))) {
+                        found = false;
+                        break;
+                    }
+                }
+                if (found) {
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+
     public EjbIIOPService getIorFactory() {
         return iorFactory.getOptionalValue();
     }
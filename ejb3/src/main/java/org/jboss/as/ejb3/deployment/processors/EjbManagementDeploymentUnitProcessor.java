@@ -10,11 +10,14 @@ import static org.jboss.as.server.deployment.DeploymentModelUtils.DEPLOYMENT_RES
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.capability.CapabilityServiceSupport;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.ee.component.Component;
 import org.jboss.as.ee.component.ComponentConfiguration;
 import org.jboss.as.ee.component.ComponentDescription;
 import org.jboss.as.ee.component.EEModuleConfiguration;
@@ -24,6 +27,7 @@ import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.subsystem.EJB3Extension;
 import org.jboss.as.ejb3.subsystem.EJB3SubsystemModel;
 import org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentRuntimeHandler;
+import org.jboss.as.ejb3.subsystem.deployment.EJBComponentMetricsService;
 import org.jboss.as.ejb3.subsystem.deployment.EJBComponentType;
 import org.jboss.as.ejb3.subsystem.deployment.InstalledComponent;
 import org.jboss.as.server.deployment.Attachments;
@@ -32,6 +36,8 @@ import org.jboss.as.server.deployment.DeploymentResourceSupport;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.as.server.deployment.DeploymentUnitProcessor;
+import org.jboss.msc.service.ServiceBuilder;
+import org.wildfly.extension.metrics.spi.MetricBinder;
 
 
 /**
@@ -59,7 +65,7 @@ public class EjbManagementDeploymentUnitProcessor implements DeploymentUnitProce
             try {
                 final ComponentDescription componentDescription = configuration.getComponentDescription();
                 if (componentDescription instanceof EJBComponentDescription) {
-                    installManagementResource(configuration, deploymentUnit);
+                    installManagementResource(configuration, phaseContext);
                 }
             } catch (RuntimeException e) {
                 throw EjbLogger.ROOT_LOGGER.failedToInstallManagementResource(e, configuration.getComponentName());
@@ -87,7 +93,8 @@ public class EjbManagementDeploymentUnitProcessor implements DeploymentUnitProce
         deploymentUnit.removeAttachment(EjbDeploymentAttachmentKeys.MANAGED_COMPONENTS);
     }
 
-    private void installManagementResource(ComponentConfiguration configuration, DeploymentUnit deploymentUnit) {
+    private void installManagementResource(ComponentConfiguration configuration, DeploymentPhaseContext phaseContext) {
+        final DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
         final EJBComponentType type = EJBComponentType.getComponentType(configuration);
         PathAddress addr = getComponentAddress(type, configuration, deploymentUnit);
         final AbstractEJBComponentRuntimeHandler<?> handler = type.getRuntimeHandler();
@@ -102,6 +109,15 @@ public class EjbManagementDeploymentUnitProcessor implements DeploymentUnitProce
             final PathAddress timerServiceAddress = PathAddress.pathAddress(addr.getLastElement(), EJB3SubsystemModel.TIMER_SERVICE_PATH);
             deploymentResourceSupport.registerDeploymentSubResource(EJB3Extension.SUBSYSTEM_NAME, timerServiceAddress, timerServiceResource);
         }
+
+        final CapabilityServiceSupport support = deploymentUnit.getAttachment(Attachments.CAPABILITY_SERVICE_SUPPORT);
+        if (support.hasCapability(MetricBinder.CAPABILITY_NAME)) {
+            // Bind invocation metrics to the address of this component, as resolved by the metrics subsystem
+            final PathAddress metricsAddress = getDeploymentAddress(deploymentUnit).append(addr.subAddress(addr.size() - 2));
+            final ServiceBuilder<?> builder = phaseContext.getServiceTarget().addService(description.getServiceName().append("METRICS"));
+            final Supplier<Component> component = builder.requires(description.getStartServiceName());
+            builder.setInstance(new EJBComponentMetricsService(component, support.getCapabilityServiceName(MetricBinder.CAPABILITY_NAME), metricsAddress)).install();
+        }
     }
 
     private void uninstallManagementResource(final InstalledComponent component, DeploymentUnit deploymentUnit) {
@@ -118,6 +134,13 @@ public class EjbManagementDeploymentUnitProcessor implements DeploymentUnitProce
         }
     }
 
+    private static PathAddress getDeploymentAddress(DeploymentUnit deploymentUnit) {
+        if (deploymentUnit.getParent() == null) {
+            return PathAddress.pathAddress(ModelDescriptionConstants.DEPLOYMENT, deploymentUnit.getAttachment(Attachments.MANAGEMENT_NAME));
+        }
+        return getDeploymentAddress(deploymentUnit.getParent()).append(ModelDescriptionConstants.SUBDEPLOYMENT, deploymentUnit.getName());
+    }
+
     private static PathAddress getComponentAddress(EJBComponentType type, ComponentConfiguration configuration, DeploymentUnit deploymentUnit) {
         List<PathElement> elements = new ArrayList<PathElement>();
         if (deploymentUnit.getParent() == null) {
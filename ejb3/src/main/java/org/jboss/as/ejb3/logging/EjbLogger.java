@@ -3254,4 +3254,35 @@ public interface EjbLogger extends BasicLogger {
 
     @Message(id = 536, value = "Unsupported EJB receiver protocol %s")
     IllegalArgumentException unsupportedEJBReceiverProtocol(String uriScheme);
+
+    @LogMessage(level = WARN)
+    @Message(id = 537, value = "Discarding corrupt or incomplete records of timer journal %s beyond offset %d")
+    void timerJournalTruncated(File segment, long offset);
+
+    @Message(id = 538, value = "Timer journal %s is closed")
+    IllegalStateException timerJournalClosed(File directory);
+
+    @LogMessage(level = WARN)
+    @Message(id = 539, value = "Failed to passivate stateful session bean %s of component %s, it will remain active")
+    void statefulSessionBeanPassivationFailed(@Cause Throwable cause, Object id, String componentName);
+
+    @LogMessage(level = ERROR)
+    @Message(id = 540, value = "Failed to activate stateful session bean %s of component %s")
+    void statefulSessionBeanActivationFailed(@Cause Throwable cause, Object id, String componentName);
+
+    @LogMessage(level = WARN)
+    @Message(id = 541, value = "Failed to compact timer journal %s")
+    void timerJournalCompactionFailed(File directory, @Cause Throwable cause);
+
+    @LogMessage(level = WARN)
+    @Message(id = 542, value = "Failed to delete compacted timer journal segment %s")
+    void timerJournalSegmentNotDeleted(File segment);
+
+    @LogMessage(level = WARN)
+    @Message(id = 543, value = "Timeout task %s failed")
+    void timeoutTaskFailed(Runnable task, @Cause Throwable cause);
+
+    @LogMessage(level = WARN)
+    @Message(id = 544, value = "Failed to remove timer file %s after migrating it to the timer journal. It must be deleted manually, otherwise a timer since removed from the journal will be restored from it on the next server start.")
+    void migratedTimerFileNotDeleted(File file);
 }
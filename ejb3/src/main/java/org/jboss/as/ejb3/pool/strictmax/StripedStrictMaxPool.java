@@ -0,0 +1,253 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.pool.strictmax;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.pool.AbstractPool;
+import org.jboss.as.ejb3.pool.StatelessObjectFactory;
+
+/**
+ * A pool with a maximum size, whose idle instances are cached in a number of stripes selected by the calling thread.
+ * <p/>
+ * Unlike {@link StrictMaxPool}, which acquires a semaphore permit and polls a shared queue for every invocation,
+ * a thread that finds an idle instance in its stripe neither contends with other threads nor touches any shared counter.
+ * The global count of instances that may still be created is only consulted on a cache miss.
+ * When the pool is exhausted, a thread steals idle instances from other stripes, before waiting for an instance to be released.
+ * <p/>
+ * Like {@link StrictMaxPool}, at most maxSize instances exist at any given time.
+ */
+public class StripedStrictMaxPool<T> extends AbstractPool<T> {
+
+    // Spacing between stripes, to avoid false sharing of the cache lines containing adjacent stripes
+    private static final int PADDING = 16;
+
+    private final int maxSize;
+    private final long timeout;
+    private final TimeUnit timeUnit;
+    private final AtomicReferenceArray<T> stripes;
+    private final int mask;
+    /**
+     * Idle instances that could not be cached in a stripe, or that were released while other threads were waiting.
+     */
+    private final Queue<T> pool = new ConcurrentLinkedQueue<>();
+    /**
+     * The number of instances that may still be created.
+     */
+    private final AtomicInteger permits;
+    private final LongAdder active = new LongAdder();
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final Lock lock = new ReentrantLock();
+    private final Condition released = this.lock.newCondition();
+
+    public StripedStrictMaxPool(StatelessObjectFactory<T> factory, int maxSize, long timeout, TimeUnit timeUnit) {
+        this(factory, maxSize, timeout, timeUnit, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    public StripedStrictMaxPool(StatelessObjectFactory<T> factory, int maxSize, long timeout, TimeUnit timeUnit, int stripes) {
+        super(factory);
+        this.maxSize = maxSize;
+        this.timeout = timeout;
+        this.timeUnit = timeUnit;
+        this.permits = new AtomicInteger(maxSize);
+        // Round down to a power of 2, such that no more stripes than instances exist
+        int size = Integer.highestOneBit(Math.max(1, Math.min(stripes, maxSize)));
+        this.stripes = new AtomicReferenceArray<>(size * PADDING);
+        this.mask = size - 1;
+    }
+
+    private static int stripe() {
+        long id = Thread.currentThread().getId();
+        return (int) (id ^ (id >>> 32));
+    }
+
+    private int index(int stripe) {
+        return (stripe & this.mask) * PADDING;
+    }
+
+    @Override
+    public T get() {
+        // Fast path: an idle instance cached in the stripe of this thread
+        T bean = this.stripes.getAndSet(this.index(stripe()), null);
+        if (bean == null) {
+            bean = this.acquire();
+        }
+        this.active.increment();
+        return bean;
+    }
+
+    private T acquire() {
+        T bean = this.poll();
+        if (bean != null) {
+            return bean;
+        }
+        long deadline = System.nanoTime() + this.timeUnit.toNanos(this.timeout);
+        this.waiters.incrementAndGet();
+        try {
+            while (true) {
+                this.lock.lockInterruptibly();
+                try {
+                    bean = this.poll();
+                    if (bean != null) {
+                        return bean;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw EjbLogger.ROOT_LOGGER.failedToAcquirePermit(this.timeout, this.timeUnit);
+                    }
+                    this.released.awaitNanos(remaining);
+                } finally {
+                    this.lock.unlock();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw EjbLogger.ROOT_LOGGER.acquireSemaphoreInterrupted();
+        } finally {
+            this.waiters.decrementAndGet();
+        }
+    }
+
+    /**
+     * Obtains an idle instance from the shared queue, creates a new instance if the pool is not yet exhausted,
+     * or steals an idle instance from another stripe.
+     * @return an instance, or null, if none is currently available
+     */
+    private T poll() {
+        T bean = this.pool.poll();
+        if (bean != null) {
+            return bean;
+        }
+        int permits = this.permits.get();
+        while (permits > 0) {
+            if (this.permits.compareAndSet(permits, permits - 1)) {
+                boolean created = false;
+                try {
+                    bean = this.create();
+                    created = true;
+                    return bean;
+                } finally {
+                    if (!created) {
+                        this.releasePermit();
+                    }
+                }
+            }
+            permits = this.permits.get();
+        }
+        int start = stripe();
+        for (int i = 0; i <= this.mask; ++i) {
+            bean = this.stripes.getAndSet(this.index(start + i), null);
+            if (bean != null) {
+                return bean;
+            }
+        }
+        return this.pool.poll();
+    }
+
+    @Override
+    public void release(T obj) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("Free instance: %s", this);
+        }
+        this.active.decrement();
+        // Hand instance to waiting threads via the shared queue
+        if (this.waiters.get() > 0 || !this.stripes.compareAndSet(this.index(stripe()), null, obj)) {
+            this.pool.add(obj);
+        }
+        // A thread may have started waiting since, in which case it needs to rescan the stripes
+        this.signal();
+    }
+
+    @Override
+    public void discard(T ctx) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("Discard instance %s#%s", this, ctx);
+        }
+        this.active.decrement();
+        try {
+            super.doRemove(ctx);
+        } finally {
+            this.releasePermit();
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void remove(T ctx) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("Removing instance: %s#%s", this, ctx);
+        }
+        this.active.decrement();
+        try {
+            super.doRemove(ctx);
+        } finally {
+            this.releasePermit();
+        }
+    }
+
+    private void releasePermit() {
+        this.permits.incrementAndGet();
+        this.signal();
+    }
+
+    private void signal() {
+        if (this.waiters.get() > 0) {
+            this.lock.lock();
+            try {
+                this.released.signal();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public int getCurrentSize() {
+        return this.getCreateCount() - this.getRemoveCount();
+    }
+
+    @Override
+    public int getAvailableCount() {
+        return this.maxSize - this.active.intValue();
+    }
+
+    @Override
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    @Override
+    public void setMaxSize(int maxSize) {
+        throw EjbLogger.ROOT_LOGGER.methodNotImplemented();
+    }
+
+    @Override
+    public void start() {
+    }
+
+    @Override
+    public void stop() {
+        for (int i = 0; i <= this.mask; ++i) {
+            T obj = this.stripes.getAndSet(this.index(i), null);
+            if (obj != null) {
+                this.destroy(obj);
+            }
+        }
+        for (T obj = this.pool.poll(); obj != null; obj = this.pool.poll()) {
+            this.destroy(obj);
+        }
+    }
+}
@@ -47,7 +47,6 @@ import org.jboss.ejb.client.ClusterAffinity;
 import org.jboss.ejb.client.EJBClientInvocationContext;
 import org.jboss.ejb.client.EJBIdentifier;
 import org.jboss.ejb.client.EJBLocator;
-import org.jboss.ejb.client.EJBMethodLocator;
 import org.jboss.ejb.client.EJBModuleIdentifier;
 import org.jboss.ejb.client.NodeAffinity;
 import org.jboss.ejb.client.SessionID;
@@ -146,11 +145,12 @@ final class AssociationImpl implements Association, AutoCloseable {
 
         final ComponentView componentView = ejbDeploymentInformation.getView(viewClassName);
 
-        final Method invokedMethod = findMethod(componentView, invocationRequest.getMethodLocator());
-        if (invokedMethod == null) {
+        final int methodIndex = ejbDeploymentInformation.getMethodIndex(viewClassName, invocationRequest.getMethodLocator());
+        if (methodIndex < 0) {
             invocationRequest.writeNoSuchMethod();
             return CancelHandle.NULL;
         }
+        final Method invokedMethod = componentView.getMethod(methodIndex);
 
         final Component component = componentView.getComponent();
 
@@ -210,7 +210,7 @@ final class AssociationImpl implements Association, AutoCloseable {
 
             try {
                 final Map<String, Object> contextDataHolder = new HashMap<>();
-                result = invokeMethod(componentView, invokedMethod, invocationRequest, requestContent, cancellationFlag, actualLocator, contextDataHolder);
+                result = invokeMethod(componentView, methodIndex, invokedMethod, invocationRequest, requestContent, cancellationFlag, actualLocator, contextDataHolder);
                 attachments.putAll(contextDataHolder);
             } catch (EJBComponentUnavailableException ex) {
                 // if the Jakarta Enterprise Beans are shutting down when the invocation was done, then it's as good as the Jakarta Enterprise Beans not being available. The client has to know about this as
@@ -558,7 +558,7 @@ final class AssociationImpl implements Association, AutoCloseable {
         }
     }
 
-    static Object invokeMethod(final ComponentView componentView, final Method method, final InvocationRequest incomingInvocation, final InvocationRequest.Resolved content, final CancellationFlag cancellationFlag, final EJBLocator<?> ejbLocator, Map<String, Object> contextDataHolder) throws Exception {
+    static Object invokeMethod(final ComponentView componentView, final int methodIndex, final Method method, final InvocationRequest incomingInvocation, final InvocationRequest.Resolved content, final CancellationFlag cancellationFlag, final EJBLocator<?> ejbLocator, Map<String, Object> contextDataHolder) throws Exception {
         final InterceptorContext interceptorContext = new InterceptorContext();
         interceptorContext.setParameters(content.getParameters());
         interceptorContext.setMethod(method);
@@ -608,11 +608,11 @@ final class AssociationImpl implements Association, AutoCloseable {
             if (! oneWay) {
                 interceptorContext.putPrivateData(CancellationFlag.class, cancellationFlag);
             }
-            final Object result = invokeWithIdentity(componentView, interceptorContext, securityIdentity);
+            final Object result = invokeWithIdentity(componentView, methodIndex, interceptorContext, securityIdentity);
             handleReturningContextData(contextDataHolder, interceptorContext, content);
             return result == null ? null : ((Future<?>) result).get();
         } else {
-            Object result = invokeWithIdentity(componentView, interceptorContext, securityIdentity);
+            Object result = invokeWithIdentity(componentView, methodIndex, interceptorContext, securityIdentity);
             handleReturningContextData(contextDataHolder, interceptorContext, content);
             return result;
         }
@@ -633,31 +633,8 @@ final class AssociationImpl implements Association, AutoCloseable {
         }
     }
 
-    private static Object invokeWithIdentity(final ComponentView componentView, final InterceptorContext interceptorContext, final SecurityIdentity securityIdentity) throws Exception {
-        return securityIdentity == null ? componentView.invoke(interceptorContext) : securityIdentity.runAsFunctionEx(ComponentView::invoke, componentView, interceptorContext);
-    }
-
-    private static Method findMethod(final ComponentView componentView, final EJBMethodLocator ejbMethodLocator) {
-        final Set<Method> viewMethods = componentView.getViewMethods();
-        for (final Method method : viewMethods) {
-            if (method.getName().equals(ejbMethodLocator.getMethodName())) {
-                final Class<?>[] methodParamTypes = method.getParameterTypes();
-                if (methodParamTypes.length != ejbMethodLocator.getParameterCount()) {
-                    continue;
-                }
-                boolean found = true;
-                for (int i = 0; i < methodParamTypes.length; i++) {
-                    if (!methodParamTypes[i].getName().equals(ejbMethodLocator.getParameterTypeName(i))) {
-                        found = false;
-                        break;
-                    }
-                }
-                if (found) {
-                    return method;
-                }
-            }
-        }
-        return null;
+    private static Object invokeWithIdentity(final ComponentView componentView, final int methodIndex, final InterceptorContext interceptorContext, final SecurityIdentity securityIdentity) throws Exception {
+        return securityIdentity == null ? componentView.invoke(methodIndex, interceptorContext) : securityIdentity.runAsFunctionEx((view, context) -> view.invoke(methodIndex, context), componentView, interceptorContext);
     }
 
     private static Affinity getStrongAffinity(final StatefulSessionComponent statefulSessionComponent) {
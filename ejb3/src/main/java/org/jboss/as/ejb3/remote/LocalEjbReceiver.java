@@ -9,12 +9,28 @@ import static org.jboss.as.ejb3.util.MethodInfoHelper.EMPTY_STRING_ARRAY;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -36,6 +52,7 @@ import org.jboss.ejb.client.AttachmentKey;
 import org.jboss.ejb.client.AttachmentKeys;
 import org.jboss.ejb.client.EJBClientInvocationContext;
 import org.jboss.ejb.client.EJBLocator;
+import org.jboss.ejb.client.EJBMethodLocator;
 import org.jboss.ejb.client.EJBReceiver;
 import org.jboss.ejb.client.EJBReceiverInvocationContext;
 import org.jboss.ejb.client.EJBReceiverSessionCreationContext;
@@ -44,10 +61,7 @@ import org.jboss.ejb.client.SessionID;
 import org.jboss.ejb.client.StatelessEJBLocator;
 import org.jboss.ejb.client.TransactionID;
 import org.jboss.invocation.InterceptorContext;
-import org.jboss.marshalling.cloner.ClassLoaderClassCloner;
-import org.jboss.marshalling.cloner.ClonerConfiguration;
 import org.jboss.marshalling.cloner.ObjectCloner;
-import org.jboss.marshalling.cloner.ObjectCloners;
 import org.wildfly.security.auth.server.SecurityDomain;
 import org.wildfly.security.auth.server.SecurityIdentity;
 import org.wildfly.security.manager.WildFlySecurityManager;
@@ -62,6 +76,18 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 public class LocalEjbReceiver extends EJBReceiver {
     private static final EJBReceiverInvocationContext.ResultProducer.Immediate NULL_RESULT = new EJBReceiverInvocationContext.ResultProducer.Immediate(null);
     private static final AttachmentKey<CancellationFlag> CANCELLATION_FLAG_ATTACHMENT_KEY = new AttachmentKey<>();
+    // Results are cloned into the class loader of the invoked proxy, so cloners are pooled per proxy class
+    static final ClassValue<ObjectClonerPool> RESULT_CLONER_POOLS = new ClassValue<ObjectClonerPool>() {
+        @Override
+        protected ObjectClonerPool computeValue(Class<?> proxyClass) {
+            return new ObjectClonerPool(new LocalInvocationClassCloner(WildFlySecurityManager.getClassLoaderPrivileged(proxyClass)));
+        }
+    };
+    // Immutable JDK types, whose instances are safe to share between class loaders
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class, Boolean.class, Byte.class, Short.class, Character.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, UUID.class,
+            Instant.class, LocalDate.class, LocalTime.class, LocalDateTime.class, OffsetTime.class, OffsetDateTime.class, ZonedDateTime.class,
+            Duration.class, Period.class, Year.class, YearMonth.class, MonthDay.class, ZoneOffset.class);
 
     private final DeploymentRepository deploymentRepository;
 
@@ -88,11 +114,8 @@ public class LocalEjbReceiver extends EJBReceiver {
         if (!ejb.isRemoteView(viewClass.getName())) {
             throw EjbLogger.ROOT_LOGGER.viewNotFound(viewClass.getName(), ejb.getEjbName());
         }
-        final ClonerConfiguration paramConfig = new ClonerConfiguration();
-        paramConfig.setClassCloner(new ClassLoaderClassCloner(ejb.getDeploymentClassLoader()));
-        final ObjectCloner parameterCloner = createCloner(paramConfig);
-        //TODO: this is not very efficient
-        final Method method = view.getMethod(invocation.getInvokedMethod().getName(), DescriptorUtils.methodDescriptor(invocation.getInvokedMethod()));
+        final int methodIndex = getMethodIndex(ejb, view, viewClass.getName(), invocation.getInvokedMethod());
+        final Method method = view.getMethod(methodIndex);
 
         final boolean async = view.isAsynchronous(method) || invocation.isClientAsync();
 
@@ -100,9 +123,28 @@ public class LocalEjbReceiver extends EJBReceiver {
         if (invocation.getParameters() == null) {
             parameters = EMPTY_STRING_ARRAY;
         } else {
-            parameters = new Object[invocation.getParameters().length];
-            for (int i = 0; i < parameters.length; ++i) {
-                parameters[i] = clone(method.getParameterTypes()[i], parameterCloner, invocation.getParameters()[i], allowPassByReference);
+            final Object[] invocationParameters = invocation.getParameters();
+            final Class<?>[] parameterTypes = method.getParameterTypes();
+            parameters = new Object[invocationParameters.length];
+            // Share a single cloner across all parameters of the invocation, to preserve object identity between them
+            final ObjectClonerPool parameterClonerPool = ejb.getParameterClonerPool();
+            ObjectCloner parameterCloner = null;
+            try {
+                for (int i = 0; i < parameters.length; ++i) {
+                    final Object parameter = invocationParameters[i];
+                    if (!requiresClone(parameterTypes[i], parameter, allowPassByReference)) {
+                        parameters[i] = parameter;
+                        continue;
+                    }
+                    if (parameterCloner == null) {
+                        parameterCloner = parameterClonerPool.acquire();
+                    }
+                    parameters[i] = clone(parameterCloner, parameter);
+                }
+            } finally {
+                if (parameterCloner != null) {
+                    parameterClonerPool.release(parameterCloner);
+                }
             }
         }
 
@@ -148,9 +190,7 @@ public class LocalEjbReceiver extends EJBReceiver {
             throw EjbLogger.ROOT_LOGGER.ejbNotFoundInDeployment(locator);
         }
 
-        final ClonerConfiguration config = new ClonerConfiguration();
-        config.setClassCloner(new LocalInvocationClassCloner(WildFlySecurityManager.getClassLoaderPrivileged(invocation.getInvokedProxy().getClass())));
-        final ObjectCloner resultCloner = createCloner(config);
+        final ObjectClonerPool resultClonerPool = RESULT_CLONER_POOLS.get(invocation.getInvokedProxy().getClass());
         if (async) {
             if (ejbComponent instanceof SessionBeanComponent) {
                 final CancellationFlag flag = new CancellationFlag();
@@ -178,10 +218,10 @@ public class LocalEjbReceiver extends EJBReceiver {
                     try {
                         final Object result;
                         try {
-                            result = view.invoke(interceptorContext);
+                            result = view.invoke(methodIndex, interceptorContext);
                         } catch (Exception e) {
                             // WFLY-4331 - clone the exception of an async task
-                            receiverContext.resultReady(new CloningExceptionProducer(resultCloner, e, allowPassByReference));
+                            receiverContext.resultReady(new CloningExceptionProducer(resultClonerPool, e, allowPassByReference));
                             return;
                         }
                         // if the result is null, there is no cloning needed
@@ -202,7 +242,7 @@ public class LocalEjbReceiver extends EJBReceiver {
                                     intr = true;
                                 } catch (ExecutionException e) {
                                     // WFLY-4331 - clone the exception of an async task
-                                    receiverContext.resultReady(new CloningExceptionProducer(resultCloner, e, allowPassByReference));
+                                    receiverContext.resultReady(new CloningExceptionProducer(resultClonerPool, e, allowPassByReference));
                                     return;
                                 }
                             } finally {
@@ -213,10 +253,10 @@ public class LocalEjbReceiver extends EJBReceiver {
                                 receiverContext.resultReady(NULL_RESULT);
                                 return;
                             }
-                            receiverContext.resultReady(new CloningResultProducer(invocation, resultCloner, asyncValue, allowPassByReference));
+                            receiverContext.resultReady(new CloningResultProducer(invocation, resultClonerPool, asyncValue, allowPassByReference));
                             return;
                         }
-                        receiverContext.resultReady(new CloningResultProducer(invocation, resultCloner, result, allowPassByReference));
+                        receiverContext.resultReady(new CloningResultProducer(invocation, resultClonerPool, result, allowPassByReference));
                     } finally {
                         StartupCountdown.restore(null);
                     }
@@ -239,14 +279,14 @@ public class LocalEjbReceiver extends EJBReceiver {
         } else {
             final Object result;
             try {
-                result = view.invoke(interceptorContext);
+                result = view.invoke(methodIndex, interceptorContext);
             } catch (Exception e) {
                 //we even have to clone the exception type
                 //to make sure it matches
-                receiverContext.resultReady(new CloningExceptionProducer(resultCloner, e, allowPassByReference));
+                receiverContext.resultReady(new CloningExceptionProducer(resultClonerPool, e, allowPassByReference));
                 return;
             }
-            receiverContext.resultReady(new CloningResultProducer(invocation, resultCloner, result, allowPassByReference));
+            receiverContext.resultReady(new CloningResultProducer(invocation, resultClonerPool, result, allowPassByReference));
 
             handleReturningContextData(invocation, interceptorContext);
         }
@@ -289,19 +329,19 @@ public class LocalEjbReceiver extends EJBReceiver {
 
     static final class CloningResultProducer implements EJBReceiverInvocationContext.ResultProducer {
         private final EJBClientInvocationContext invocation;
-        private final ObjectCloner resultCloner;
+        private final ObjectClonerPool resultClonerPool;
         private final Object result;
         private final boolean allowPassByReference;
 
-        CloningResultProducer(final EJBClientInvocationContext invocation, final ObjectCloner resultCloner, final Object result, final boolean allowPassByReference) {
+        CloningResultProducer(final EJBClientInvocationContext invocation, final ObjectClonerPool resultClonerPool, final Object result, final boolean allowPassByReference) {
             this.invocation = invocation;
-            this.resultCloner = resultCloner;
+            this.resultClonerPool = resultClonerPool;
             this.result = result;
             this.allowPassByReference = allowPassByReference;
         }
 
         public Object getResult() throws Exception {
-            return LocalEjbReceiver.clone(invocation.getInvokedMethod().getReturnType(), resultCloner, result, allowPassByReference);
+            return LocalEjbReceiver.clone(invocation.getInvokedMethod().getReturnType(), resultClonerPool, result, allowPassByReference);
         }
 
         public void discardResult() {
@@ -309,18 +349,18 @@ public class LocalEjbReceiver extends EJBReceiver {
     }
 
     static final class CloningExceptionProducer implements EJBReceiverInvocationContext.ResultProducer {
-        private final ObjectCloner resultCloner;
+        private final ObjectClonerPool resultClonerPool;
         private final Exception exception;
         private final boolean allowPassByReference;
 
-        CloningExceptionProducer(final ObjectCloner resultCloner, final Exception exception, final boolean allowPassByReference) {
-            this.resultCloner = resultCloner;
+        CloningExceptionProducer(final ObjectClonerPool resultClonerPool, final Exception exception, final boolean allowPassByReference) {
+            this.resultClonerPool = resultClonerPool;
             this.exception = exception;
             this.allowPassByReference = allowPassByReference;
         }
 
         public Object getResult() throws Exception {
-            throw (Exception) LocalEjbReceiver.clone(Exception.class, resultCloner, exception, allowPassByReference);
+            throw (Exception) LocalEjbReceiver.clone(Exception.class, resultClonerPool, exception, allowPassByReference);
         }
 
         public void discardResult() {
@@ -329,16 +369,6 @@ public class LocalEjbReceiver extends EJBReceiver {
 
 
 
-    private ObjectCloner createCloner(final ClonerConfiguration paramConfig) {
-        ObjectCloner parameterCloner;
-        if(WildFlySecurityManager.isChecking()) {
-            parameterCloner = WildFlySecurityManager.doUnchecked((PrivilegedAction<ObjectCloner>) () -> ObjectCloners.getSerializingObjectClonerFactory().createCloner(paramConfig));
-        } else {
-            parameterCloner = ObjectCloners.getSerializingObjectClonerFactory().createCloner(paramConfig);
-        }
-        return parameterCloner;
-    }
-
     protected SessionID createSession(final EJBReceiverSessionCreationContext receiverContext) throws Exception {
         final StatelessEJBLocator<?> statelessLocator = receiverContext.getClientInvocationContext().getLocator().asStateless();
         final EjbDeploymentInformation ejbInfo = findBean(statelessLocator);
@@ -350,18 +380,55 @@ public class LocalEjbReceiver extends EJBReceiver {
         return ((StatefulSessionComponent) component).createSession();
     }
 
-    static Object clone(final Class<?> target, final ObjectCloner cloner, final Object object, final boolean allowPassByReference) {
+    /**
+     * Resolves the index of the view method corresponding to the specified invoked method.
+     *
+     * @param ejb           the deployment information of the invoked EJB
+     * @param view          the invoked view
+     * @param viewClassName the class name of the invoked view
+     * @param invokedMethod the method invoked on the client proxy
+     * @return the index of the view method, as per {@link ComponentView#getMethodIndex(Method)}
+     */
+    static int getMethodIndex(final EjbDeploymentInformation ejb, final ComponentView view, final String viewClassName, final Method invokedMethod) {
+        final int index = view.getMethodIndex(invokedMethod);
+        if (index >= 0) {
+            return index;
+        }
+        // Invoked method is not equal to a view method, e.g. if the view class was loaded by a different class loader
+        final int resolvedIndex = ejb.getMethodIndex(viewClassName, EJBMethodLocator.forMethod(invokedMethod));
+        if (resolvedIndex >= 0) {
+            return resolvedIndex;
+        }
+        // Throws if the view has no such method
+        return view.getMethodIndex(view.getMethod(invokedMethod.getName(), DescriptorUtils.methodDescriptor(invokedMethod)));
+    }
+
+    static Object clone(final Class<?> target, final ObjectClonerPool clonerPool, final Object object, final boolean allowPassByReference) {
+        if (!requiresClone(target, object, allowPassByReference)) {
+            return object;
+        }
+        final ObjectCloner cloner = clonerPool.acquire();
+        try {
+            return clone(cloner, object);
+        } finally {
+            clonerPool.release(cloner);
+        }
+    }
+
+    private static boolean requiresClone(final Class<?> target, final Object object, final boolean allowPassByReference) {
         if (object == null) {
-            return null;
+            return false;
         }
         // don't clone primitives
         if (target.isPrimitive()) {
-            return object;
+            return false;
         }
-        if (allowPassByReference && target.isAssignableFrom(object.getClass())) {
-            return object;
+        final Class<?> objectClass = object.getClass();
+        if (allowPassByReference && target.isAssignableFrom(objectClass)) {
+            return false;
         }
-        return clone(cloner, object);
+        // don't clone immutable JDK types, nor enums of the JDK, which are visible to all class loaders
+        return !IMMUTABLE_TYPES.contains(objectClass) && !(objectClass.isEnum() && objectClass.getClassLoader() == null);
     }
 
     private static Object clone(final ObjectCloner cloner, final Object object) {
@@ -0,0 +1,57 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.remote;
+
+import java.security.PrivilegedAction;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.jboss.marshalling.cloner.ClassCloner;
+import org.jboss.marshalling.cloner.ClonerConfiguration;
+import org.jboss.marshalling.cloner.ObjectCloner;
+import org.jboss.marshalling.cloner.ObjectCloners;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * A pool of {@link ObjectCloner} instances targeting a given class loader.
+ * Cloners are not thread-safe, thus a cloner must only be used by a single invocation between {@link #acquire()} and {@link #release(ObjectCloner)}.
+ */
+public class ObjectClonerPool {
+
+    private final ClonerConfiguration configuration;
+    private final Queue<ObjectCloner> cloners = new ConcurrentLinkedQueue<>();
+
+    public ObjectClonerPool(ClassCloner classCloner) {
+        this.configuration = new ClonerConfiguration();
+        this.configuration.setClassCloner(classCloner);
+    }
+
+    /**
+     * Obtains a cloner from this pool, creating one if none are available.
+     * @return an object cloner
+     */
+    public ObjectCloner acquire() {
+        ObjectCloner cloner = this.cloners.poll();
+        return (cloner != null) ? cloner : this.createCloner();
+    }
+
+    /**
+     * Returns the specified cloner to this pool, discarding its object identity table.
+     * @param cloner a cloner previously obtained via {@link #acquire()}
+     */
+    public void release(ObjectCloner cloner) {
+        cloner.reset();
+        this.cloners.offer(cloner);
+    }
+
+    private ObjectCloner createCloner() {
+        ClonerConfiguration configuration = this.configuration;
+        if (WildFlySecurityManager.isChecking()) {
+            return WildFlySecurityManager.doUnchecked((PrivilegedAction<ObjectCloner>) () -> ObjectCloners.getSerializingObjectClonerFactory().createCloner(configuration));
+        }
+        return ObjectCloners.getSerializingObjectClonerFactory().createCloner(configuration);
+    }
+}
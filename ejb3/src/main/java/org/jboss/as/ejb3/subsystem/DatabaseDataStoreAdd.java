@@ -9,6 +9,8 @@ import java.util.Timer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
 import org.jboss.as.controller.AbstractAddStepHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.CapabilityServiceBuilder;
@@ -32,6 +34,7 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 public class DatabaseDataStoreAdd extends AbstractAddStepHandler {
 
     private static final String TIMER_SERVICE_CAPABILITY_NAME = "org.wildfly.ejb3.timer-service";
+    private static final String TRANSACTION_SYNCHRONIZATION_REGISTRY_CAPABILITY_NAME = "org.wildfly.transactions.transaction-synchronization-registry";
 
     DatabaseDataStoreAdd(AttributeDefinition... attributes) {
         super(attributes);
@@ -53,6 +56,8 @@ public class DatabaseDataStoreAdd extends AbstractAddStepHandler {
 
         int refreshInterval = DatabaseDataStoreResourceDefinition.REFRESH_INTERVAL.resolveModelAttribute(context, model).asInt();
         boolean allowExecution = DatabaseDataStoreResourceDefinition.ALLOW_EXECUTION.resolveModelAttribute(context, model).asBoolean();
+        int batchWindow = DatabaseDataStoreResourceDefinition.BATCH_WINDOW.resolveModelAttribute(context, model).asInt();
+        boolean binaryInfo = DatabaseDataStoreResourceDefinition.BINARY_INFO.resolveModelAttribute(context, model).asBoolean();
 
         final String nodeName = WildFlySecurityManager.getPropertyPrivileged(ServerEnvironment.NODE_NAME, null);
 
@@ -63,7 +68,9 @@ public class DatabaseDataStoreAdd extends AbstractAddStepHandler {
         final Supplier<ManagedReferenceFactory> dataSourceSupplier = builder.requires(ContextNames.bindInfoFor(jndiName).getBinderServiceName());
         final Supplier<ModuleLoader> moduleLoaderSupplier = builder.requires(Services.JBOSS_SERVICE_MODULE_LOADER);
         final Supplier<Timer> timerSupplier = builder.requiresCapability(TIMER_SERVICE_CAPABILITY_NAME, java.util.Timer.class);
-        final DatabaseTimerPersistence databaseTimerPersistence = new DatabaseTimerPersistence(consumer, dataSourceSupplier, moduleLoaderSupplier, timerSupplier, database, partition, nodeName, refreshInterval, allowExecution);
+        // Batched timer updates are executed on completion of their transaction
+        final Supplier<TransactionSynchronizationRegistry> txnRegistrySupplier = (batchWindow > 0) ? builder.requiresCapability(TRANSACTION_SYNCHRONIZATION_REGISTRY_CAPABILITY_NAME, TransactionSynchronizationRegistry.class) : null;
+        final DatabaseTimerPersistence databaseTimerPersistence = new DatabaseTimerPersistence(consumer, dataSourceSupplier, moduleLoaderSupplier, timerSupplier, txnRegistrySupplier, database, partition, nodeName, refreshInterval, allowExecution, batchWindow, binaryInfo);
         builder.setInstance(databaseTimerPersistence);
         builder.install();
     }
@@ -57,6 +57,7 @@ public interface EJB3SubsystemModel {
     String MAX_POOL_SIZE = "max-pool-size";
     String DERIVE_SIZE = "derive-size";
     String DERIVED_SIZE = "derived-size";
+    String STRIPED = "striped";
 
     String STRICT_MAX_BEAN_INSTANCE_POOL = "strict-max-bean-instance-pool";
 
@@ -65,6 +66,7 @@ public interface EJB3SubsystemModel {
 
     String RELATIVE_TO = "relative-to";
     String PATH = "path";
+    String FORMAT = "format";
 
     String DEFAULT_SINGLETON_BEAN_ACCESS_TIMEOUT = "default-singleton-bean-access-timeout";
     String DEFAULT_STATEFUL_BEAN_ACCESS_TIMEOUT = "default-stateful-bean-access-timeout";
@@ -72,6 +74,7 @@ public interface EJB3SubsystemModel {
     String DEFAULT_DATA_STORE = "default-data-store";
     String DEFAULT_PERSISTENT_TIMER_MANAGEMENT = "default-persistent-timer-management";
     String DEFAULT_TRANSIENT_TIMER_MANAGEMENT = "default-transient-timer-management";
+    String TIMEOUT_SCHEDULER = "timeout-scheduler";
 
     String REMOTE = "remote";
     String SERVICE = "service";
@@ -98,6 +101,7 @@ public interface EJB3SubsystemModel {
     String SIMPLE_CACHE = "simple-cache";
     String DISTRIBUTABLE_CACHE = "distributable-cache";
     String BEAN_MANAGEMENT = "bean-management";
+    String MAX_ACTIVE_BEANS = "max-active-beans";
     @Deprecated String PASSIVATION_STORE = "passivation-store";
 
     String MDB_DELIVERY_GROUP="mdb-delivery-group";
@@ -126,6 +130,8 @@ public interface EJB3SubsystemModel {
     String PARTITION  = "partition";
     String REFRESH_INTERVAL = "refresh-interval";
     String ALLOW_EXECUTION = "allow-execution";
+    String BATCH_WINDOW = "batch-window";
+    String BINARY_INFO = "binary-info";
 
     String STATIC_URLS = "static-urls";
 
@@ -18,8 +18,10 @@ public enum EJB3SubsystemXMLAttribute {
     @Deprecated ALIASES("aliases"),
     ALLOW_EXECUTION("allow-execution"),
 
+    BATCH_WINDOW("batch-window"),
     @Deprecated BEAN_CACHE("bean-cache"),
     BEAN_MANAGEMENT("bean-management"),
+    BINARY_INFO("binary-info"),
 
     @Deprecated CACHE_CONTAINER("cache-container"),
     CACHE_REF("cache-ref"),
@@ -43,6 +45,8 @@ public enum EJB3SubsystemXMLAttribute {
     ENABLE_BY_DEFAULT("enable-by-default"),
     EXCLUDE_LOCAL_RECEIVER("exclude-local-receiver"),
 
+    FORMAT(EJB3SubsystemModel.FORMAT),
+
     @Deprecated GROUPS_PATH("groups-path"),
 
     @Deprecated IDLE_TIMEOUT("idle-timeout"),
@@ -54,6 +58,7 @@ public enum EJB3SubsystemXMLAttribute {
 
     LOCAL_RECEIVER_PASS_BY_VALUE("local-receiver-pass-by-value"),
 
+    MAX_ACTIVE_BEANS(EJB3SubsystemModel.MAX_ACTIVE_BEANS),
     MAX_POOL_SIZE("max-pool-size"),
     MAX_SIZE("max-size"),
     DERIVE_SIZE("derive-size"),
@@ -77,9 +82,11 @@ public enum EJB3SubsystemXMLAttribute {
 
     @Deprecated SESSIONS_PATH("sessions-path"),
     STATIC_URLS("static-urls"),
+    STRIPED(EJB3SubsystemModel.STRIPED),
     @Deprecated SUBDIRECTORY_COUNT("subdirectory-count"),
 
     THREAD_POOL_NAME("thread-pool-name"),
+    TIMEOUT_SCHEDULER(EJB3SubsystemModel.TIMEOUT_SCHEDULER),
     TYPE("type"),
 
     USE_QUALIFIED_NAME("use-qualified-name"),
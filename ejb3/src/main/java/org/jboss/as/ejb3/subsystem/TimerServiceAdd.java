@@ -8,8 +8,11 @@ package org.jboss.as.ejb3.subsystem;
 import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
 
 import java.util.Timer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.jboss.as.controller.AbstractBoottimeAddStepHandler;
+import org.jboss.as.controller.CapabilityServiceBuilder;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.ejb3.deployment.processors.AroundTimeoutAnnotationParsingProcessor;
@@ -17,6 +20,9 @@ import org.jboss.as.ejb3.deployment.processors.TimerServiceDeploymentProcessor;
 import org.jboss.as.ejb3.deployment.processors.annotation.TimerServiceAnnotationProcessor;
 import org.jboss.as.ejb3.deployment.processors.merging.TimerMethodMergingProcessor;
 import org.jboss.as.ejb3.timerservice.TimerServiceMetaData;
+import org.jboss.as.ejb3.timerservice.scheduler.HashedWheelTimeoutScheduler;
+import org.jboss.as.ejb3.timerservice.scheduler.TimeoutScheduler;
+import org.jboss.as.ejb3.timerservice.scheduler.TimerTimeoutScheduler;
 import org.jboss.as.server.AbstractDeploymentChainStep;
 import org.jboss.as.server.DeploymentProcessorTarget;
 import org.jboss.as.server.deployment.Phase;
@@ -43,6 +49,7 @@ public class TimerServiceAdd extends AbstractBoottimeAddStepHandler {
     protected void performBoottime(final OperationContext context, ModelNode operation, final ModelNode model) throws OperationFailedException {
 
         final String threadPoolName = TimerServiceResourceDefinition.THREAD_POOL_NAME.resolveModelAttribute(context, model).asStringOrNull();
+        final TimerServiceResourceDefinition.TimeoutSchedulerType schedulerType = TimerServiceResourceDefinition.TimeoutSchedulerType.fromValue(TimerServiceResourceDefinition.TIMEOUT_SCHEDULER.resolveModelAttribute(context, model).asString());
 
         TimerServiceMetaData defaultMetaData = new TimerServiceMetaData();
         defaultMetaData.setDataStoreName(TimerServiceResourceDefinition.DEFAULT_DATA_STORE.resolveModelAttribute(context, model).asStringOrNull());
@@ -63,6 +70,20 @@ public class TimerServiceAdd extends AbstractBoottimeAddStepHandler {
 
         if (threadPoolName != null) {
             context.getCapabilityServiceTarget().addCapability(TimerServiceResourceDefinition.TIMER_SERVICE_CAPABILITY).setInstance(new TimerValueService()).install();
+
+            CapabilityServiceBuilder<?> builder = context.getCapabilityServiceTarget().addCapability(TimerServiceResourceDefinition.TIMEOUT_SCHEDULER_CAPABILITY);
+            Consumer<TimeoutScheduler> scheduler = builder.provides(TimerServiceResourceDefinition.TIMEOUT_SCHEDULER_CAPABILITY);
+            switch (schedulerType) {
+                case HASHED_WHEEL: {
+                    builder.setInstance(new HashedWheelTimeoutSchedulerService(scheduler));
+                    break;
+                }
+                default: {
+                    Supplier<Timer> timer = builder.requiresCapability(TimerServiceResourceDefinition.TIMER_SERVICE_CAPABILITY_NAME, Timer.class);
+                    builder.setInstance(new TimerTimeoutSchedulerService(scheduler, timer));
+                }
+            }
+            builder.install();
         }
     }
 
@@ -86,4 +107,49 @@ public class TimerServiceAdd extends AbstractBoottimeAddStepHandler {
             return timer;
         }
     }
+
+    private static final class TimerTimeoutSchedulerService implements org.jboss.msc.Service {
+
+        private final Consumer<TimeoutScheduler> scheduler;
+        private final Supplier<Timer> timer;
+
+        TimerTimeoutSchedulerService(Consumer<TimeoutScheduler> scheduler, Supplier<Timer> timer) {
+            this.scheduler = scheduler;
+            this.timer = timer;
+        }
+
+        @Override
+        public void start(final StartContext context) {
+            this.scheduler.accept(new TimerTimeoutScheduler(this.timer.get()));
+        }
+
+        @Override
+        public void stop(final StopContext context) {
+            this.scheduler.accept(null);
+        }
+    }
+
+    private static final class HashedWheelTimeoutSchedulerService implements org.jboss.msc.Service {
+
+        private final Consumer<TimeoutScheduler> scheduler;
+        private volatile HashedWheelTimeoutScheduler wheel;
+
+        HashedWheelTimeoutSchedulerService(Consumer<TimeoutScheduler> scheduler) {
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public void start(final StartContext context) {
+            this.wheel = new HashedWheelTimeoutScheduler();
+            this.wheel.start();
+            this.scheduler.accept(this.wheel);
+        }
+
+        @Override
+        public void stop(final StopContext context) {
+            this.scheduler.accept(null);
+            this.wheel.close();
+            this.wheel = null;
+        }
+    }
 }
@@ -12,12 +12,15 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.operations.validation.EnumValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.controller.services.path.PathManager;
 import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
+import org.jboss.as.ejb3.timerservice.scheduler.TimeoutScheduler;
 import org.jboss.as.threads.ThreadsServices;
+import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.wildfly.clustering.ejb.timer.TimerServiceRequirement;
 
@@ -45,6 +48,42 @@ public class TimerServiceResourceDefinition extends SimpleResourceDefinition {
     public static final String TIMER_SERVICE_CAPABILITY_NAME = "org.wildfly.ejb3.timer-service";
     public static final RuntimeCapability<Void> TIMER_SERVICE_CAPABILITY = RuntimeCapability.Builder.of(TIMER_SERVICE_CAPABILITY_NAME, Timer.class).build();
 
+    public static final String TIMEOUT_SCHEDULER_CAPABILITY_NAME = "org.wildfly.ejb3.timer-service.timeout-scheduler";
+    public static final RuntimeCapability<Void> TIMEOUT_SCHEDULER_CAPABILITY = RuntimeCapability.Builder.of(TIMEOUT_SCHEDULER_CAPABILITY_NAME, TimeoutScheduler.class).build();
+
+    private static final String TIMER_VALUE = "timer";
+    private static final String HASHED_WHEEL_VALUE = "hashed-wheel";
+
+    /**
+     * Enumerates the implementations used to schedule the timeouts of local timers.
+     */
+    enum TimeoutSchedulerType {
+        // A single java.util.Timer thread
+        TIMER(TIMER_VALUE),
+        // A hashed timing wheel, sharded across processors
+        HASHED_WHEEL(HASHED_WHEEL_VALUE),
+        ;
+        private final String value;
+
+        TimeoutSchedulerType(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return this.value;
+        }
+
+        static TimeoutSchedulerType fromValue(String value) {
+            switch (value) {
+                case TIMER_VALUE: return TIMER;
+                case HASHED_WHEEL_VALUE: return HASHED_WHEEL;
+                default:
+                    return valueOf(value);
+            }
+        }
+    }
+
     static final SimpleAttributeDefinition THREAD_POOL_NAME =
             new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.THREAD_POOL_NAME, ModelType.STRING)
                     .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
@@ -78,7 +117,16 @@ public class TimerServiceResourceDefinition extends SimpleResourceDefinition {
                     .setCapabilityReference(TimerServiceRequirement.TIMER_MANAGEMENT_PROVIDER.getName(), TIMER_SERVICE_CAPABILITY)
                     .build();
 
-    static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { THREAD_POOL_NAME, DEFAULT_DATA_STORE, DEFAULT_PERSISTENT_TIMER_MANAGEMENT, DEFAULT_TRANSIENT_TIMER_MANAGEMENT };
+    static final SimpleAttributeDefinition TIMEOUT_SCHEDULER =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.TIMEOUT_SCHEDULER, ModelType.STRING)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .setRequired(false)
+                    .setAllowExpression(true)
+                    .setDefaultValue(new ModelNode(TimeoutSchedulerType.TIMER.toString()))
+                    .setValidator(EnumValidator.create(TimeoutSchedulerType.class))
+                    .build();
+
+    static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { THREAD_POOL_NAME, DEFAULT_DATA_STORE, DEFAULT_PERSISTENT_TIMER_MANAGEMENT, DEFAULT_TRANSIENT_TIMER_MANAGEMENT, TIMEOUT_SCHEDULER };
 
     private final PathManager pathManager;
 
@@ -88,7 +136,7 @@ public class TimerServiceResourceDefinition extends SimpleResourceDefinition {
                 .setRemoveHandler(ReloadRequiredRemoveStepHandler.INSTANCE)
                 .setAddRestartLevel(OperationEntry.Flag.RESTART_ALL_SERVICES)
                 .setRemoveRestartLevel(OperationEntry.Flag.RESTART_ALL_SERVICES)
-                .setCapabilities(TIMER_SERVICE_CAPABILITY));
+                .setCapabilities(TIMER_SERVICE_CAPABILITY, TIMEOUT_SCHEDULER_CAPABILITY));
         this.pathManager = pathManager;
     }
 
@@ -0,0 +1,62 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.subsystem.deployment;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.ee.component.Component;
+import org.jboss.as.ejb3.component.EJBComponent;
+import org.jboss.as.ejb3.component.invocationmetrics.InvocationMetrics;
+import org.jboss.msc.Service;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
+import org.wildfly.extension.metrics.spi.MetricBinder;
+
+/**
+ * Service that binds the invocation metrics of an EJB component directly to its statistics while the component is started,
+ * such that collecting these metrics does not require a read-attribute operation per metric.
+ */
+public class EJBComponentMetricsService implements Service {
+    private final Supplier<Component> component;
+    private final ServiceName binderServiceName;
+    private final PathAddress address;
+    private volatile Runnable unbindTask;
+
+    public EJBComponentMetricsService(Supplier<Component> component, ServiceName binderServiceName, PathAddress address) {
+        this.component = component;
+        this.binderServiceName = binderServiceName;
+        this.address = address;
+    }
+
+    @Override
+    public void start(StartContext context) {
+        InvocationMetrics metrics = ((EJBComponent) this.component.get()).getInvocationMetrics();
+        Map<String, Supplier<Number>> statistics = Map.of(
+                AbstractEJBComponentResourceDefinition.EXECUTION_TIME.getName(), metrics::getExecutionTime,
+                AbstractEJBComponentResourceDefinition.INVOCATIONS.getName(), metrics::getInvocations,
+                AbstractEJBComponentResourceDefinition.PEAK_CONCURRENT_INVOCATIONS.getName(), metrics::getPeakConcurrent,
+                AbstractEJBComponentResourceDefinition.WAIT_TIME.getName(), metrics::getWaitTime);
+        ServiceController<?> controller = context.getController().getServiceContainer().getService(this.binderServiceName);
+        // Look up the binder without depending on it, such that this service never waits for the metrics subsystem
+        MetricBinder binder = (controller != null && controller.getState() == ServiceController.State.UP) ? MetricBinder.class.cast(controller.getValue()) : null;
+        if (binder != null) {
+            this.unbindTask = binder.bind(this.address, statistics);
+        }
+    }
+
+    @Override
+    public void stop(StopContext context) {
+        Runnable task = this.unbindTask;
+        if (task != null) {
+            task.run();
+            this.unbindTask = null;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
@@ -40,6 +41,7 @@ import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
 import org.jboss.as.ejb3.timerservice.persistence.database.DatabaseTimerPersistence;
 import org.jboss.as.ejb3.timerservice.schedule.CalendarBasedTimeout;
+import org.jboss.as.ejb3.timerservice.scheduler.TimeoutScheduler;
 import org.jboss.as.ejb3.timerservice.spi.AutoTimer;
 import org.jboss.as.ejb3.timerservice.spi.ManagedTimer;
 import org.jboss.as.ejb3.timerservice.spi.ManagedTimerService;
@@ -72,15 +74,20 @@ public class TimerServiceImpl implements ManagedTimerService {
     /**
      * Holds the {@link java.util.concurrent.Future} of each of the timer tasks that have been scheduled
      */
-    private final ConcurrentMap<String, java.util.TimerTask> scheduledTimerFutures = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Task> scheduledTimerFutures = new ConcurrentHashMap<>();
 
     /**
      * Key that is used to store timers that are waiting on transaction completion in the transaction local
      */
     private final Object waitingOnTxCompletionKey = new Object();
 
+    /**
+     * Timers whose state updates await a batched persist, if supported by the timer persistence
+     */
+    private final Map<String, TimerImpl> pendingPersistTimers = new LinkedHashMap<>();
+
     private final ExecutorService executor;
-    private final java.util.Timer timer;
+    private final TimeoutScheduler scheduler;
     private final TimedObjectInvoker invoker;
     private final TimerPersistence persistence;
     private final TimerServiceRegistry timerServiceRegistry;
@@ -100,7 +107,7 @@ public class TimerServiceImpl implements ManagedTimerService {
     public TimerServiceImpl(TimerServiceConfiguration configuration) {
         this.invoker = configuration.getInvoker();
         this.executor = configuration.getExecutor();
-        this.timer = configuration.getTimer();
+        this.scheduler = configuration.getTimeoutScheduler();
         this.persistence = configuration.getTimerPersistence();
         this.timerServiceRegistry = configuration.getTimerServiceRegistry();
         this.timerListener = configuration.getTimerListener();
@@ -150,12 +157,14 @@ public class TimerServiceImpl implements ManagedTimerService {
         this.timerServiceRegistry.unregisterTimerService(this);
 
         if (this.persistence != null) {
+            // Persist any pending state updates
+            new TaskPostPersistBatch().persistTimers();
             this.persistence.timerUndeployed(this.invoker.getTimedObjectId());
         }
         started = false;
         safeClose(listenerHandle);
         listenerHandle = null;
-        this.timer.purge(); //WFLY-3823
+        this.scheduler.purge(); //WFLY-3823
     }
 
     @Override
@@ -444,6 +453,8 @@ public class TimerServiceImpl implements ManagedTimerService {
                         }
                         throw e;
                     }
+                } else if (this.persistence.getBatchWindow() > 0) {
+                    this.persistTimerLater(timer);
                 } else {
                     new TaskPostPersist(timer).persistTimer();
                 }
@@ -455,6 +466,20 @@ public class TimerServiceImpl implements ManagedTimerService {
         }
     }
 
+    /**
+     * Defers the persistence of the state of the specified timer, such that the state updates of all timers
+     * of this timer service within the batch window of the timer persistence are persisted via a single transaction.
+     * Only the most recent state of a given timer is persisted.
+     */
+    private void persistTimerLater(final TimerImpl timer) {
+        synchronized (this.pendingPersistTimers) {
+            if (this.pendingPersistTimers.isEmpty()) {
+                this.scheduler.schedule(new TaskPostPersistBatch(), this.persistence.getBatchWindow());
+            }
+            this.pendingPersistTimers.put(timer.getId(), timer);
+        }
+    }
+
     public void cancelTimer(final TimerImpl timer) throws InterruptedException {
         timer.lock();
         boolean release = true;
@@ -662,7 +687,7 @@ public class TimerServiceImpl implements ManagedTimerService {
             if (delay < 0) {
                 delay = 0;
             }
-            this.timer.scheduleAtFixedRate(task, delay, intervalDuration);
+            task.schedule(this.scheduler.scheduleAtFixedRate(task, delay, intervalDuration));
         } else {
             EJB3_TIMER_LOGGER.debugv("Scheduling a single action timer {0} starting at {1} milliseconds from now", timer, delay);
             // if in past, then trigger immediately; if overdue by 5 minutes, set next expiration to current time
@@ -672,7 +697,7 @@ public class TimerServiceImpl implements ManagedTimerService {
                 }
                 delay = 0;
             }
-            this.timer.schedule(task, delay);
+            task.schedule(this.scheduler.schedule(task, delay));
         }
     }
 
@@ -912,7 +937,7 @@ public class TimerServiceImpl implements ManagedTimerService {
         }
     }
 
-    private class TaskPostPersist extends java.util.TimerTask {
+    private class TaskPostPersist implements Runnable {
         private final TimerImpl timer;
         private long delta = 0;
         private long nextExpirationPristine = 0;
@@ -954,7 +979,7 @@ public class TimerServiceImpl implements ManagedTimerService {
                     if (delta == 0L) {
                         delta = nextExpirationDelay / (1L + MAX_RETRY.longValue());
                     }
-                    TimerServiceImpl.this.timer.schedule(new TaskPostPersist(timer, delta, nextExpirationPristine), delta);
+                    TimerServiceImpl.this.scheduler.schedule(new TaskPostPersist(timer, delta, nextExpirationPristine), delta);
                 } else {
                     EJB3_TIMER_LOGGER.exceptionPersistPostTimerState(timer, e);
                 }
@@ -962,10 +987,51 @@ public class TimerServiceImpl implements ManagedTimerService {
         }
     }
 
-    private class Task extends java.util.TimerTask {
+    /**
+     * Persists the pending state updates of the timers of this timer service via a single transaction.
+     * If this transaction fails, the state of each timer is persisted individually.
+     */
+    private class TaskPostPersistBatch implements Runnable {
+
+        @Override
+        public void run() {
+            executor.submit(this::persistTimers);
+        }
+
+        void persistTimers() {
+            final List<TimerImpl> timers;
+            synchronized (pendingPersistTimers) {
+                if (pendingPersistTimers.isEmpty()) return;
+                timers = new ArrayList<>(pendingPersistTimers.values());
+                pendingPersistTimers.clear();
+            }
+            final ContextTransactionManager transactionManager = ContextTransactionManager.getInstance();
+            try {
+                transactionManager.begin();
+                for (TimerImpl timer : timers) {
+                    persistence.persistTimer(timer);
+                }
+                transactionManager.commit();
+            } catch (Exception e) {
+                try {
+                    transactionManager.rollback();
+                } catch (Exception ee) {
+                    // omit;
+                }
+                EJB3_TIMER_LOGGER.debugf(e, "Failed to persist batch of %d timers, persisting each individually", timers.size());
+                for (TimerImpl timer : timers) {
+                    new TaskPostPersist(timer).persistTimer();
+                }
+            }
+        }
+    }
+
+    private class Task implements Runnable {
 
         private final TimerTask delegate;
         private final ControlPoint controlPoint;
+        private volatile TimeoutScheduler.Timeout timeout;
+        private volatile boolean cancelled = false;
         /**
          * This is true if a task is queued up to be run by the request controller,
          * used to stop timer tasks banking up when the container is suspended.
@@ -997,10 +1063,19 @@ public class TimerServiceImpl implements ManagedTimerService {
             }
         }
 
-        @Override
+        void schedule(TimeoutScheduler.Timeout timeout) {
+            this.timeout = timeout;
+            // Handle cancellation that raced with scheduling
+            if (this.cancelled) {
+                timeout.cancel();
+            }
+        }
+
         public boolean cancel() {
+            this.cancelled = true;
             delegate.cancel();
-            return super.cancel();
+            TimeoutScheduler.Timeout timeout = this.timeout;
+            return (timeout != null) && timeout.cancel();
         }
     }
 
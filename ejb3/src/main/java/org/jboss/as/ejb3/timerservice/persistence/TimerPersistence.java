@@ -35,6 +35,15 @@ public interface TimerPersistence {
      */
     void persistTimer(TimerImpl timer);
 
+    /**
+     * Returns the period, in milliseconds, within which the state updates of timers may be coalesced
+     * and persisted via a single transaction.
+     * @return a period in milliseconds, or 0, if every update should be persisted immediately
+     */
+    default int getBatchWindow() {
+        return 0;
+    }
+
     /**
      * Invoked before running a timer in order to determine if this node should run the timer.
      * @param timer The timer
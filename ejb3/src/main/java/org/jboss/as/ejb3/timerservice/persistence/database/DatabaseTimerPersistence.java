@@ -10,13 +10,13 @@ import static org.jboss.as.ejb3.util.MethodInfoHelper.EMPTY_STRING_ARRAY;
 import static org.jboss.as.ejb3.timerservice.persistence.TimeoutMethod.TIMER_PARAM_1;
 import static org.jboss.as.ejb3.timerservice.persistence.TimeoutMethod.TIMER_PARAM_1_ARRAY;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
@@ -25,8 +25,11 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
 import java.sql.Types;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
@@ -34,6 +37,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -45,6 +49,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import jakarta.ejb.ScheduleExpression;
 import javax.sql.DataSource;
@@ -52,7 +57,10 @@ import jakarta.transaction.HeuristicMixedException;
 import jakarta.transaction.HeuristicRollbackException;
 import jakarta.transaction.NotSupportedException;
 import jakarta.transaction.RollbackException;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
 import jakarta.transaction.SystemException;
+import jakarta.transaction.TransactionSynchronizationRegistry;
 
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.timerservice.CalendarTimer;
@@ -63,7 +71,7 @@ import org.jboss.as.ejb3.timerservice.persistence.TimeoutMethod;
 import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
 import org.jboss.as.naming.ManagedReference;
 import org.jboss.as.naming.ManagedReferenceFactory;
-import org.jboss.marshalling.InputStreamByteInput;
+import org.jboss.marshalling.ByteBufferInput;
 import org.jboss.marshalling.Marshaller;
 import org.jboss.marshalling.MarshallerFactory;
 import org.jboss.marshalling.MarshallingConfiguration;
@@ -93,10 +101,13 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private final Supplier<ManagedReferenceFactory> dataSourceSupplier;
     private final Supplier<ModuleLoader> moduleLoaderSupplier;
     private final Supplier<Timer> timerSupplier;
+    private final Supplier<TransactionSynchronizationRegistry> txnRegistrySupplier;
     private final Map<String, TimerChangeListener> changeListeners = Collections.synchronizedMap(new HashMap<String, TimerChangeListener>());
 
 
     private final Map<String, Set<String>> knownTimerIds = new HashMap<>();
+    /** Key of the batch of timer updates stored in the transaction local */
+    private final Object updateBatchKey = new Object();
 
     /** Identifier for the database dialect to be used for the timer-sql.properties */
     private String database;
@@ -108,6 +119,10 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private final int refreshInterval;
     /** Flag whether this instance should execute persistent timers*/
     private final boolean allowExecution;
+    /** Interval in millis within which timer updates are coalesced into a single transaction and batch; batching is disabled if not positive*/
+    private final int batchWindow;
+    /** Flag whether timer info is stored as raw bytes in a binary column, rather than as Base64 text*/
+    private final boolean binaryInfo;
     private volatile ManagedReference managedReference;
     private volatile DataSource dataSource;
     private volatile Properties sql;
@@ -140,8 +155,15 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private static final String DELETE_TIMER = "delete-timer";
     private static final String UPDATE_RUNNING = "update-running";
     private static final String GET_TIMER_INFO = "get-timer-info";
+    private static final String LOAD_TIMER_STATES = "load-timer-states";
+    private static final String BINARY_INFO_TYPE = "binary-info-type";
     /** The format for scheduler start and end date*/
     private static final String SCHEDULER_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
+    private static final DateTimeFormatter SCHEDULER_DATE_FORMATTER = DateTimeFormatter.ofPattern(SCHEDULER_DATE_FORMAT, Locale.ROOT);
+    /** Pattern to pickout the type of the INFO column of the create-table statement */
+    private static final Pattern INFO_COLUMN_PATTERN = Pattern.compile("(\\bINFO )\\w+(\\(\\d+\\))?");
+    /** Maximum number of timers loaded by a single query during refresh */
+    private static final int REFRESH_BATCH_SIZE = 100;
     /** Pattern to pickout MSSQL */
     private static final Pattern MSSQL_PATTERN = Pattern.compile("(sqlserver|microsoft|mssql)");
 
@@ -172,15 +194,28 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
                                     final Supplier<ModuleLoader> moduleLoaderSupplier,
                                     final Supplier<Timer> timerSupplier,
                                     final String database, String partition, String nodeName, int refreshInterval, boolean allowExecution) {
+        this(dbConsumer, dataSourceSupplier, moduleLoaderSupplier, timerSupplier, null, database, partition, nodeName, refreshInterval, allowExecution, 0, false);
+    }
+
+    public DatabaseTimerPersistence(final Consumer<DatabaseTimerPersistence> dbConsumer,
+                                    final Supplier<ManagedReferenceFactory> dataSourceSupplier,
+                                    final Supplier<ModuleLoader> moduleLoaderSupplier,
+                                    final Supplier<Timer> timerSupplier,
+                                    final Supplier<TransactionSynchronizationRegistry> txnRegistrySupplier,
+                                    final String database, String partition, String nodeName, int refreshInterval, boolean allowExecution,
+                                    int batchWindow, boolean binaryInfo) {
         this.dbConsumer = dbConsumer;
         this.dataSourceSupplier = dataSourceSupplier;
         this.moduleLoaderSupplier = moduleLoaderSupplier;
         this.timerSupplier = timerSupplier;
+        this.txnRegistrySupplier = txnRegistrySupplier;
         this.database = database;
         this.partition = partition;
         this.nodeName = nodeName;
         this.refreshInterval = refreshInterval;
         this.allowExecution = allowExecution;
+        this.batchWindow = batchWindow;
+        this.binaryInfo = binaryInfo;
     }
 
     @Override
@@ -267,6 +302,13 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
                 iterator.remove();
             }
         }
+
+        // Use a binary type for the INFO column of a new table
+        if (binaryInfo) {
+            final String type = sql.getProperty(BINARY_INFO_TYPE, "BLOB");
+            final Matcher matcher = INFO_COLUMN_PATTERN.matcher(sql.getProperty(CREATE_TABLE));
+            sql.setProperty(CREATE_TABLE, matcher.replaceFirst("$1" + Matcher.quoteReplacement(type)));
+        }
     }
 
     /**
@@ -477,8 +519,37 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         }
     }
 
+    @Override
+    public int getBatchWindow() {
+        return batchWindow;
+    }
+
     @Override
     public void persistTimer(final TimerImpl timerEntity) {
+        if (batchWindow > 0) {
+            final TransactionSynchronizationRegistry registry = txnRegistrySupplier.get();
+            if (registry.getTransactionStatus() == Status.STATUS_ACTIVE) {
+                UpdateBatch updateBatch = (UpdateBatch) registry.getResource(updateBatchKey);
+                if (timerEntity.getState() == TimerState.CANCELED ||
+                        timerEntity.getState() == TimerState.EXPIRED) {
+                    // Any pending update of this timer is superseded by its deletion, and must not be applied after it
+                    if (updateBatch != null) {
+                        updateBatch.cancel(timerEntity.getId());
+                    }
+                } else {
+                    if (updateBatch == null) {
+                        updateBatch = new UpdateBatch();
+                        registry.putResource(updateBatchKey, updateBatch);
+                        registry.registerInterposedSynchronization(updateBatch);
+                    }
+                    synchronized (this) {
+                        knownTimerIds.get(timerEntity.getTimedObjectId()).add(timerEntity.getId());
+                    }
+                    updateBatch.update(new TimerUpdate(timerEntity));
+                    return;
+                }
+            }
+        }
         Connection connection = null;
         PreparedStatement statement = null;
         try {
@@ -500,15 +571,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
                 }
                 String updateTimer = sql.getProperty(UPDATE_TIMER);
                 statement = connection.prepareStatement(updateTimer);
-                statement.setTimestamp(1, timestamp(timerEntity.getNextExpiration()));
-                statement.setTimestamp(2, timestamp(timerEntity.getPreviousRun()));
-                statement.setString(3, timerEntity.getState().name());
-                setNodeName(timerEntity.getState(), statement, 4);
-                // WHERE CLAUSE
-                statement.setString(5, timerEntity.getTimedObjectId());
-                statement.setString(6, timerEntity.getId());
-                statement.setString(7, partition);
-                statement.setString(8, nodeName);   // only persist if this node or empty
+                new TimerUpdate(timerEntity).setParameters(statement);
                 statement.execute();
             }
         } catch (SQLException e) {
@@ -739,7 +802,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         builder.setNextDate(resultSet.getTimestamp(5));
         builder.setPreviousRun(resultSet.getTimestamp(6));
 //        builder.setPrimaryKey(deSerialize(resultSet.getString(7)));
-        builder.setInfo((Serializable) deSerialize(resultSet.getString(8)));
+        builder.setInfo(getInfo(resultSet, 8));
         builder.setTimerState(timerState != null ? timerState : TimerState.valueOf(resultSet.getString(9)));
         builder.setPersistent(true);
 
@@ -766,7 +829,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         statement.setTimestamp(5, timestamp(timerEntity.getNextExpiration()));
         statement.setTimestamp(6, timestamp(timerEntity.getPreviousRun()));
         statement.setString(7, null);
-        statement.setString(8, serialize(timerEntity.getTimerInfo()));
+        setInfo(statement, 8, marshal(timerEntity.getTimerInfo()));
         statement.setString(9, timerEntity.getState().name());
 
         if (timerEntity instanceof CalendarTimer) {
@@ -815,7 +878,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         String createTimer = sql.getProperty(CREATE_AUTO_TIMER);
         Connection connection = null;
         PreparedStatement statement = null;
-        final String timerInfoString = serialize(timer.getTimerInfo());
+        final byte[] timerInfo = marshal(timer.getTimerInfo());
         final Method timeoutMethod = timer.getTimeoutMethod();
         final String timeoutMethodClassName = timeoutMethod.getDeclaringClass().getName();
         final String timeoutMethodParam = timeoutMethod.getParameterCount() == 0 ? null : TIMER_PARAM_1;
@@ -830,7 +893,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             statement.setString(1, timer.getId());
             statement.setString(2, timer.getTimedObjectId());
             statement.setTimestamp(3, timestamp(timer.getNextExpiration()));
-            statement.setString(4, timerInfoString);
+            setInfo(statement, 4, timerInfo);
             statement.setString(5, exp.getSecond());
             statement.setString(6, exp.getMinute());
             statement.setString(7, exp.getHour());
@@ -910,7 +973,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             statement.setString(2, timer.getId());
             resultSet = statement.executeQuery();
             if (resultSet.next()) {
-                result = (Serializable) deSerialize(resultSet.getString(1));
+                result = getInfo(resultSet, 1);
             }
         } catch (SQLException e) {
             EjbLogger.EJB3_TIMER_LOGGER.failedToRetrieveTimerInfo(timer, e);
@@ -948,7 +1011,25 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         return true;
     }
 
-    private String serialize(final Serializable serializable) {
+    /**
+     * Sets the marshalled timer info as a statement parameter, either as raw bytes or as Base64 text, depending on the configuration.
+     */
+    private void setInfo(final PreparedStatement statement, final int index, final byte[] info) throws SQLException {
+        if (binaryInfo) {
+            statement.setBytes(index, info);
+        } else {
+            statement.setString(index, info != null ? Base64.getEncoder().encodeToString(info) : null);
+        }
+    }
+
+    /**
+     * Reads the timer info from a result set column, stored either as raw bytes or as Base64 text, depending on the configuration.
+     */
+    private Serializable getInfo(final ResultSet resultSet, final int index) throws SQLException {
+        return (Serializable) (binaryInfo ? unmarshal(resultSet.getBytes(index)) : deSerialize(resultSet.getString(index)));
+    }
+
+    private byte[] marshal(final Serializable serializable) {
         if (serializable == null) {
             return null;
         }
@@ -962,24 +1043,28 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
-        return Base64.getEncoder().encodeToString(out.toByteArray());
+        return out.toByteArray();
     }
 
     public Object deSerialize(final String data) throws SQLException {
         if (data == null) {
             return null;
         }
-        InputStream in = new ByteArrayInputStream(Base64.getDecoder().decode(data));
+        return unmarshal(Base64.getDecoder().decode(data));
+    }
+
+    private Object unmarshal(final byte[] data) {
+        if (data == null) {
+            return null;
+        }
         try {
             final Unmarshaller unmarshaller = factory.createUnmarshaller(configuration);
-            unmarshaller.start(new InputStreamByteInput(in));
+            unmarshaller.start(new ByteBufferInput(ByteBuffer.wrap(data)));
             Object ret = unmarshaller.readObject();
             unmarshaller.finish();
             return ret;
         } catch (IOException | ClassNotFoundException e) {
             throw new RuntimeException(e);
-        } finally {
-            safeClose(in);
         }
     }
 
@@ -987,7 +1072,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         if (date == null) {
             return null;
         }
-        return new SimpleDateFormat(SCHEDULER_DATE_FORMAT).format(date);
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()).format(SCHEDULER_DATE_FORMATTER);
     }
 
     /** Convert the stored date-string from database back to Date */
@@ -996,8 +1081,10 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             return null;
         }
         try {
-            return new SimpleDateFormat(SCHEDULER_DATE_FORMAT).parse(date);
-        } catch (ParseException e) {
+            // Like SimpleDateFormat, ignore any trailing text, e.g. fractional seconds
+            final LocalDateTime dateTime = LocalDateTime.from(SCHEDULER_DATE_FORMATTER.parse(date, new ParsePosition(0)));
+            return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+        } catch (DateTimeException e) {
             EjbLogger.EJB3_TIMER_LOGGER.scheduleExpressionDateFromTimerPersistenceInvalid(timerId, e.getMessage());
             return null;
         }
@@ -1029,6 +1116,93 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         }
     }
 
+    /**
+     * The parameters of the update-timer statement for a given timer, captured at the time the timer was persisted.
+     */
+    private class TimerUpdate {
+        final String timedObjectId;
+        final String id;
+        final Date nextExpiration;
+        final Date previousRun;
+        final TimerState state;
+
+        TimerUpdate(final TimerImpl timer) {
+            this.timedObjectId = timer.getTimedObjectId();
+            this.id = timer.getId();
+            this.nextExpiration = timer.getNextExpiration();
+            this.previousRun = timer.getPreviousRun();
+            this.state = timer.getState();
+        }
+
+        void setParameters(final PreparedStatement statement) throws SQLException {
+            statement.setTimestamp(1, timestamp(nextExpiration));
+            statement.setTimestamp(2, timestamp(previousRun));
+            statement.setString(3, state.name());
+            setNodeName(state, statement, 4);
+            // WHERE CLAUSE
+            statement.setString(5, timedObjectId);
+            statement.setString(6, id);
+            statement.setString(7, partition);
+            statement.setString(8, nodeName);   // only persist if this node or empty
+        }
+    }
+
+    /**
+     * Coalesces the timer updates issued within a given transaction, and executes them via a single JDBC batch
+     * before the transaction completes, such that they commit or roll back with it.
+     * Only the most recent update of a given timer is executed.
+     * A transaction is only ever associated with a single thread at a time, thus no synchronization is required.
+     */
+    private class UpdateBatch implements Synchronization {
+        private final Map<String, TimerUpdate> updates = new LinkedHashMap<>();
+
+        void update(final TimerUpdate update) {
+            updates.put(update.id, update);
+        }
+
+        /**
+         * Discards any pending update of the specified timer.
+         */
+        void cancel(final String timerId) {
+            updates.remove(timerId);
+        }
+
+        @Override
+        public void beforeCompletion() {
+            if (updates.isEmpty()) {
+                return;
+            }
+            Connection connection = null;
+            PreparedStatement statement = null;
+            try {
+                connection = dataSource.getConnection();
+                statement = connection.prepareStatement(sql.getProperty(UPDATE_TIMER));
+                for (TimerUpdate update : updates.values()) {
+                    update.setParameters(statement);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            } catch (SQLException e) {
+                // Causes the transaction to roll back
+                throw new RuntimeException(e);
+            } finally {
+                updates.clear();
+                safeClose(statement);
+                safeClose(connection);
+            }
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            updates.clear();
+        }
+    }
+
+    /**
+     * Synchronizes the in-memory timers with the database.
+     * Rather than reloading every timer, each refresh first queries only the identifiers and states of the persistent timers,
+     * and then loads, in batches, only those timers that are unknown to this node, or whose in-memory state diverged from the database.
+     */
     private class RefreshTask extends TimerTask {
 
         private volatile AtomicBoolean running = new AtomicBoolean();
@@ -1050,53 +1224,85 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
                         synchronized (DatabaseTimerPersistence.this) {
                             existing = new HashSet<>(knownTimerIds.get(timedObjectId));
                         }
-                        String loadTimer = sql.getProperty(LOAD_ALL_TIMERS);
                         Connection connection = null;
                         PreparedStatement statement = null;
                         ResultSet resultSet = null;
                         try {
                             connection = dataSource.getConnection();
-                            statement = connection.prepareStatement(loadTimer);
+                            statement = connection.prepareStatement(sql.getProperty(LOAD_TIMER_STATES));
                             statement.setString(1, timedObjectId);
                             statement.setString(2, partition);
                             resultSet = statement.executeQuery();
                             final TimerServiceImpl timerService = listener.getTimerService();
+                            // Timers to load, mapped to their invalid in-memory counterpart, if any
+                            final Map<String, TimerImpl> changed = new LinkedHashMap<>();
                             while (resultSet.next()) {
-                                String id = null;
-                                try {
-                                    id = resultSet.getString(1);
-                                    if (!existing.remove(id)) {
-                                        final Holder holder = timerFromResult(resultSet, timerService, id, null);
-                                        if(holder != null) {
-                                            synchronized (DatabaseTimerPersistence.this) {
-                                                knownTimerIds.get(timedObjectId).add(id);
-                                                listener.timerAdded(holder.timer);
+                                final String id = resultSet.getString(1);
+                                if (!existing.remove(id)) {
+                                    changed.put(id, null);
+                                } else {
+                                    TimerImpl oldTimer = timerService.getTimer(id);
+                                    // if it is already in memory but it is not in sync we have a problem
+                                    // remove and add -> the probable cause is db glitch
+                                    boolean invalidMemoryTimer = oldTimer != null && !TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(oldTimer.getState());
+
+                                    // if timers memory - db are in non intersect subsets of valid/invalid states. we put them in sync
+                                    if (invalidMemoryTimer) {
+                                        try {
+                                            TimerState dbTimerState = TimerState.valueOf(resultSet.getString(2));
+                                            if (TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(dbTimerState)) {
+                                                changed.put(id, oldTimer);
                                             }
+                                        } catch (IllegalArgumentException e) {
+                                            EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, id, e);
                                         }
-                                    } else {
-                                        TimerImpl oldTimer = timerService.getTimer(id);
-                                        // if it is already in memory but it is not in sync we have a problem
-                                        // remove and add -> the probable cause is db glitch
-                                        boolean invalidMemoryTimer = oldTimer != null && !TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(oldTimer.getState());
-
-                                        // if timers memory - db are in non intersect subsets of valid/invalid states. we put them in sync
-                                        if (invalidMemoryTimer) {
-                                            TimerState dbTimerState = TimerState.valueOf(resultSet.getString(9));
-                                            boolean validDBTimer = TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(dbTimerState);
-                                            if (validDBTimer) {
-                                                final Holder holder = timerFromResult(resultSet, timerService, id, dbTimerState);
-                                                if (holder != null) {
-                                                    synchronized (DatabaseTimerPersistence.this) {
-                                                        knownTimerIds.get(timedObjectId).add(id);
-                                                        listener.timerSync(oldTimer, holder.timer);
-                                                    }
+                                    }
+                                }
+                            }
+                            safeClose(resultSet);
+                            resultSet = null;
+                            safeClose(statement);
+                            statement = null;
+
+                            final List<String> ids = new ArrayList<>(changed.keySet());
+                            for (int i = 0; i < ids.size(); i += REFRESH_BATCH_SIZE) {
+                                final List<String> batch = ids.subList(i, Math.min(i + REFRESH_BATCH_SIZE, ids.size()));
+                                statement = connection.prepareStatement(loadTimersStatement(batch.size()));
+                                statement.setString(1, timedObjectId);
+                                statement.setString(2, partition);
+                                for (int j = 0; j < batch.size(); ++j) {
+                                    statement.setString(j + 3, batch.get(j));
+                                }
+                                resultSet = statement.executeQuery();
+                                while (resultSet.next()) {
+                                    String id = null;
+                                    try {
+                                        id = resultSet.getString(1);
+                                        final TimerImpl oldTimer = changed.get(id);
+                                        final TimerState dbTimerState = TimerState.valueOf(resultSet.getString(9));
+                                        if (oldTimer != null && !TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(dbTimerState)) {
+                                            // database state changed since it was queried
+                                            continue;
+                                        }
+                                        final Holder holder = timerFromResult(resultSet, timerService, id, dbTimerState);
+                                        if (holder != null) {
+                                            synchronized (DatabaseTimerPersistence.this) {
+                                                knownTimerIds.get(timedObjectId).add(id);
+                                                if (oldTimer == null) {
+                                                    listener.timerAdded(holder.timer);
+                                                } else {
+                                                    listener.timerSync(oldTimer, holder.timer);
                                                 }
                                             }
                                         }
+                                    } catch (Exception e) {
+                                        EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, id, e);
                                     }
-                                } catch (Exception e) {
-                                    EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(resultSet.getString(2), id, e);
                                 }
+                                safeClose(resultSet);
+                                resultSet = null;
+                                safeClose(statement);
+                                statement = null;
                             }
 
                             synchronized (DatabaseTimerPersistence.this) {
@@ -1123,6 +1329,17 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             }
 
         }
+
+        /**
+         * Returns the load-all-timers statement, restricted to the specified number of timer ids.
+         */
+        private String loadTimersStatement(final int count) {
+            final StringBuilder builder = new StringBuilder(sql.getProperty(LOAD_ALL_TIMERS)).append(" AND ID IN (?");
+            for (int i = 1; i < count; ++i) {
+                builder.append(", ?");
+            }
+            return builder.append(')').toString();
+        }
     }
 
 
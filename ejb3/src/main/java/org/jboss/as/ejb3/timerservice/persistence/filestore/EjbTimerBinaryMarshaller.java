@@ -0,0 +1,212 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.Date;
+import jakarta.ejb.ScheduleExpression;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.timerservice.CalendarTimer;
+import org.jboss.as.ejb3.timerservice.TimerImpl;
+import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
+import org.jboss.as.ejb3.timerservice.TimerState;
+import org.jboss.as.ejb3.timerservice.persistence.TimeoutMethod;
+import org.jboss.marshalling.ByteBufferInput;
+import org.jboss.marshalling.Marshaller;
+import org.jboss.marshalling.MarshallerFactory;
+import org.jboss.marshalling.MarshallingConfiguration;
+import org.jboss.marshalling.OutputStreamByteOutput;
+import org.jboss.marshalling.Unmarshaller;
+
+/**
+ * Compact binary representation of persistent timers, as stored in a {@link TimerJournal}.
+ * Contains the same fields as {@link EjbTimerXmlPersister}, but stores the timer info as raw marshalled bytes.
+ */
+public class EjbTimerBinaryMarshaller {
+
+    static final String DELETED_TIMER_ID = "deleted-timer";
+
+    private static final byte VERSION = 1;
+    private static final byte TIMER = 0;
+    private static final byte CALENDAR_TIMER = 1;
+
+    private final MarshallerFactory factory;
+    private final MarshallingConfiguration configuration;
+
+    public EjbTimerBinaryMarshaller(MarshallerFactory factory, MarshallingConfiguration configuration) {
+        this.factory = factory;
+        this.configuration = configuration;
+    }
+
+    /**
+     * Serializes the specified timer.
+     * @param timer a timer
+     * @return the serialized timer
+     * @throws IOException if the timer info could not be marshalled
+     */
+    public byte[] write(TimerImpl timer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(VERSION);
+            output.writeByte((timer instanceof CalendarTimer) ? CALENDAR_TIMER : TIMER);
+            output.writeUTF(timer.getTimedObjectId());
+            output.writeUTF(timer.getId());
+            output.writeUTF(timer.getState().name());
+            writeDate(output, timer.getInitialExpiration());
+            writeDate(output, timer.getNextExpiration());
+            writeDate(output, timer.getPreviousRun());
+            if (timer instanceof CalendarTimer) {
+                CalendarTimer calendarTimer = (CalendarTimer) timer;
+                ScheduleExpression expression = calendarTimer.getScheduleExpression();
+                writeString(output, expression.getSecond());
+                writeString(output, expression.getMinute());
+                writeString(output, expression.getHour());
+                writeString(output, expression.getDayOfWeek());
+                writeString(output, expression.getDayOfMonth());
+                writeString(output, expression.getMonth());
+                writeString(output, expression.getYear());
+                writeDate(output, expression.getStart());
+                writeDate(output, expression.getEnd());
+                writeString(output, expression.getTimezone());
+                output.writeBoolean(calendarTimer.isAutoTimer());
+                if (calendarTimer.isAutoTimer()) {
+                    Method method = calendarTimer.getTimeoutMethod();
+                    output.writeUTF(method.getDeclaringClass().getName());
+                    output.writeUTF(method.getName());
+                    Class<?>[] parameterTypes = method.getParameterTypes();
+                    output.writeByte(parameterTypes.length);
+                    for (Class<?> parameterType : parameterTypes) {
+                        output.writeUTF(parameterType.getName());
+                    }
+                }
+            } else {
+                output.writeLong(timer.getInterval());
+            }
+            Serializable info = timer.getTimerInfo();
+            if (info != null) {
+                ByteArrayOutputStream marshalled = new ByteArrayOutputStream();
+                try (Marshaller marshaller = this.factory.createMarshaller(this.configuration)) {
+                    marshaller.start(new OutputStreamByteOutput(marshalled));
+                    marshaller.writeObject(info);
+                    marshaller.finish();
+                }
+                output.writeInt(marshalled.size());
+                marshalled.writeTo(output);
+            } else {
+                output.writeInt(-1);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Deserializes a timer.
+     * If the timeout method of an automatic timer no longer exists, the returned timer has the identifier {@value #DELETED_TIMER_ID}.
+     * @param payload a serialized timer
+     * @param timerService the timer service of the timer
+     * @param classLoader the class loader used to resolve the timeout method of an automatic timer
+     * @return the deserialized timer
+     * @throws IOException if the timer could not be read
+     * @throws ClassNotFoundException if the timer info could not be unmarshalled
+     */
+    public TimerImpl read(byte[] payload, TimerServiceImpl timerService, ClassLoader classLoader) throws IOException, ClassNotFoundException {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte version = input.readByte();
+            if (version != VERSION) {
+                throw new IOException(Byte.toString(version));
+            }
+            boolean calendar = input.readByte() == CALENDAR_TIMER;
+            CalendarTimer.Builder calendarBuilder = calendar ? CalendarTimer.builder() : null;
+            TimerImpl.Builder builder = calendar ? calendarBuilder : TimerImpl.builder();
+            builder.setPersistent(true);
+            builder.setTimedObjectId(input.readUTF());
+            builder.setId(input.readUTF());
+            builder.setTimerState(TimerState.valueOf(input.readUTF()));
+            builder.setInitialDate(readDate(input));
+            builder.setNextDate(readDate(input));
+            builder.setPreviousRun(readDate(input));
+            if (calendar) {
+                ScheduleExpression expression = new ScheduleExpression();
+                expression.second(readString(input));
+                expression.minute(readString(input));
+                expression.hour(readString(input));
+                expression.dayOfWeek(readString(input));
+                expression.dayOfMonth(readString(input));
+                expression.month(readString(input));
+                expression.year(readString(input));
+                expression.start(readDate(input));
+                expression.end(readDate(input));
+                expression.timezone(readString(input));
+                calendarBuilder.setScheduleExpression(expression);
+                boolean autoTimer = input.readBoolean();
+                calendarBuilder.setAutoTimer(autoTimer);
+                if (autoTimer) {
+                    String className = input.readUTF();
+                    String methodName = input.readUTF();
+                    String[] parameterTypes = new String[input.readUnsignedByte()];
+                    for (int i = 0; i < parameterTypes.length; ++i) {
+                        parameterTypes[i] = input.readUTF();
+                    }
+                    Method timeoutMethod = CalendarTimer.getTimeoutMethod(new TimeoutMethod(className, methodName, parameterTypes), classLoader);
+                    if (timeoutMethod != null) {
+                        calendarBuilder.setTimeoutMethod(timeoutMethod);
+                    } else {
+                        EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(builder.getTimedObjectId(), builder.getId(), null);
+                        builder.setId(DELETED_TIMER_ID);
+                    }
+                }
+            } else {
+                builder.setRepeatInterval(input.readLong());
+            }
+            int infoLength = input.readInt();
+            if (infoLength >= 0) {
+                builder.setInfo((Serializable) this.unmarshal(input, infoLength));
+            }
+            return builder.build(timerService);
+        }
+    }
+
+    private Object unmarshal(DataInput input, int length) throws IOException, ClassNotFoundException {
+        byte[] data = new byte[length];
+        input.readFully(data);
+        try (Unmarshaller unmarshaller = this.factory.createUnmarshaller(this.configuration)) {
+            unmarshaller.start(new ByteBufferInput(ByteBuffer.wrap(data)));
+            return unmarshaller.readObject();
+        }
+    }
+
+    private static void writeDate(DataOutput output, Date date) throws IOException {
+        output.writeBoolean(date != null);
+        if (date != null) {
+            output.writeLong(date.getTime());
+        }
+    }
+
+    private static Date readDate(DataInput input) throws IOException {
+        return input.readBoolean() ? new Date(input.readLong()) : null;
+    }
+
+    private static void writeString(DataOutput output, String value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInput input) throws IOException {
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+}
@@ -14,6 +14,7 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.FilePermission;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Constructor;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
@@ -21,6 +22,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.Lock;
@@ -59,6 +61,11 @@ import org.wildfly.transaction.client.ContextTransactionManager;
 /**
  * File based persistent timer store.
  * <p/>
+ * By default, each timer is stored as a separate XML file, within a directory per timed object.
+ * Alternatively, timers may be stored in a single append-only {@link TimerJournal}, which avoids rewriting and re-parsing
+ * timer files on every change, and syncs concurrent changes to disk as a group.
+ * Existing timer files of a timed object are migrated into the journal when its timers are first loaded.
+ * <p/>
  * TODO: this is fairly hackey at the moment, it should be registered as an XA resource to support proper XA semantics
  *
  * @author Stuart Douglas
@@ -67,6 +74,9 @@ public class FileTimerPersistence implements TimerPersistence, Service {
 
     private static final FilePermission FILE_PERMISSION = new FilePermission("<<ALL FILES>>", "read,write,delete");
     private static final XMLInputFactory INPUT_FACTORY = XMLInputFactory.newInstance();
+    // Kept apart from the per timed object directories, so that segment names cannot collide with timed object identifiers
+    private static final String JOURNAL_DIRECTORY = ".journal";
+    private static final String MIGRATED_SUFFIX = ".migrated";
 
     private final boolean createIfNotExists;
     private MarshallerFactory factory;
@@ -77,17 +87,35 @@ public class FileTimerPersistence implements TimerPersistence, Service {
     private final Supplier<PathManager> pathManagerSupplier;
     private final String path;
     private final String pathRelativeTo;
+    private final boolean journaled;
     private File baseDir;
+    private TimerJournal journal;
+    private EjbTimerBinaryMarshaller marshaller;
     private PathManager.Callback.Handle callbackHandle;
 
     private final ConcurrentMap<String, Lock> locks = new ConcurrentHashMap<String, Lock>();
     private final ConcurrentMap<String, String> directories = new ConcurrentHashMap<String, String>();
+    private final Set<String> migrated = ConcurrentHashMap.newKeySet();
 
     public FileTimerPersistence(final Consumer<FileTimerPersistence> consumer,
                                 final Supplier<TransactionSynchronizationRegistry> txnRegistrySupplier,
                                 final Supplier<ModuleLoader> moduleLoaderSupplier,
                                 final Supplier<PathManager> pathManagerSupplier,
                                 final boolean createIfNotExists, final String path, final String pathRelativeTo) {
+        this(consumer, txnRegistrySupplier, moduleLoaderSupplier, pathManagerSupplier, createIfNotExists, path, pathRelativeTo, false);
+    }
+
+    /**
+     * Creates a file based timer store.
+     *
+     * @param journaled whether timers are stored in an append-only journal rather than as individual XML files
+     */
+    public FileTimerPersistence(final Consumer<FileTimerPersistence> consumer,
+                                final Supplier<TransactionSynchronizationRegistry> txnRegistrySupplier,
+                                final Supplier<ModuleLoader> moduleLoaderSupplier,
+                                final Supplier<PathManager> pathManagerSupplier,
+                                final boolean createIfNotExists, final String path, final String pathRelativeTo,
+                                final boolean journaled) {
         this.consumer = consumer;
         this.txnRegistrySupplier = txnRegistrySupplier;
         this.moduleLoaderSupplier = moduleLoaderSupplier;
@@ -99,6 +127,7 @@ public class FileTimerPersistence implements TimerPersistence, Service {
         this.createIfNotExists = createIfNotExists;
         this.path = path;
         this.pathRelativeTo = pathRelativeTo;
+        this.journaled = journaled;
     }
 
     @Override
@@ -140,6 +169,15 @@ public class FileTimerPersistence implements TimerPersistence, Service {
         if (!baseDir.isDirectory()) {
             throw EJB3_TIMER_LOGGER.invalidTimerFileStoreDir(baseDir);
         }
+        if (journaled) {
+            marshaller = new EjbTimerBinaryMarshaller(factory, configuration);
+            journal = new TimerJournal(new File(baseDir, JOURNAL_DIRECTORY), TimerJournal.DEFAULT_SEGMENT_SIZE);
+            try {
+                journal.open();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
     }
 
     @Override
@@ -147,6 +185,12 @@ public class FileTimerPersistence implements TimerPersistence, Service {
         consumer.accept(null);
         locks.clear();
         directories.clear();
+        migrated.clear();
+        if (journal != null) {
+            journal.close();
+            journal = null;
+            marshaller = null;
+        }
         if (callbackHandle != null) {
             callbackHandle.remove();
         }
@@ -203,6 +247,10 @@ public class FileTimerPersistence implements TimerPersistence, Service {
             if (status == Status.STATUS_NO_TRANSACTION ||
                     status == Status.STATUS_UNKNOWN || isBeforeCompletion()
                     || status == Status.STATUS_COMMITTED) {
+                if (journal != null) {
+                    writeJournal(timer, newTimer);
+                    return;
+                }
                 Map<String, TimerImpl> map = getTimers(timer.getTimedObjectId(), timer.getTimerService());
                 if (timer.getState() == TimerState.CANCELED ||
                         timer.getState() == TimerState.EXPIRED) {
@@ -262,6 +310,9 @@ public class FileTimerPersistence implements TimerPersistence, Service {
         final Lock lock = getLock(timedObjectId);
         try {
             lock.lock();
+            if (journal != null) {
+                return loadTimersFromJournal(timedObjectId, timerService);
+            }
             final Map<String, TimerImpl> timers = getTimers(timedObjectId, timerService);
 
             final List<TimerImpl> entities = new ArrayList<TimerImpl>();
@@ -447,7 +498,9 @@ public class FileTimerPersistence implements TimerPersistence, Service {
                     }
                     try {
                         lock.lock();
-                        if (status == Status.STATUS_COMMITTED) {
+                        if (status == Status.STATUS_COMMITTED && journal != null) {
+                            writeJournal(timer, newTimer);
+                        } else if (status == Status.STATUS_COMMITTED) {
                             final Map<String, TimerImpl> map = getTimers(timer.getTimedObjectId(), timer.getTimerService());
                             if (timer.getState() == TimerState.CANCELED ||
                                     timer.getState() == TimerState.EXPIRED) {
@@ -471,6 +524,93 @@ public class FileTimerPersistence implements TimerPersistence, Service {
 
     }
 
+    private List<TimerImpl> loadTimersFromJournal(String timedObjectId, TimerServiceImpl timerService) {
+        migrateToJournal(timedObjectId, timerService);
+        final ClassLoader classLoader = timerService.getInvoker().getClassLoader();
+        final List<TimerImpl> entities = new ArrayList<TimerImpl>();
+        for (Map.Entry<String, byte[]> entry : journal.getTimers(timedObjectId).entrySet()) {
+            try {
+                TimerImpl timer = marshaller.read(entry.getValue(), timerService, classLoader);
+                if (timer.getId().equals(EjbTimerBinaryMarshaller.DELETED_TIMER_ID)) {
+                    try {
+                        journal.remove(timedObjectId, entry.getKey());
+                    } catch (IOException e) {
+                        EJB3_TIMER_LOGGER.debugf(e, "Failed to remove deleted timer %s from journal", entry.getKey());
+                    }
+                    continue;
+                }
+                entities.add(mostRecentEntityVersion(timer));
+            } catch (IOException | ClassNotFoundException | RuntimeException e) {
+                EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, entry.getKey(), e);
+            }
+        }
+        return entities;
+    }
+
+    /**
+     * Writes the specified timer to the journal, or removes it if is cancelled or expired. Should be called under lock.
+     */
+    private void writeJournal(TimerImpl timer, boolean newTimer) {
+        final String timedObjectId = timer.getTimedObjectId();
+        migrateToJournal(timedObjectId, timer.getTimerService());
+        try {
+            if (timer.getState() == TimerState.CANCELED ||
+                    timer.getState() == TimerState.EXPIRED) {
+                journal.remove(timedObjectId, timer.getId());
+            } else if (newTimer || journal.contains(timedObjectId, timer.getId())) {
+                //if it is not a new timer and is not in the journal then it has
+                //been removed by another thread.
+                journal.put(timedObjectId, timer.getId(), marshaller.write(timer));
+            }
+        } catch (IOException e) {
+            EJB3_TIMER_LOGGER.failedToPersistTimer(timer, e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Moves any timers of the specified timed object stored as individual files into the journal. Should be called under lock.
+     * Timers already contained in the journal are never overwritten by their timer file, since the journal holds their most recent state.
+     * Migrated timer files are renamed before they are deleted, so that a timer file that cannot be deleted is never migrated again.
+     */
+    private void migrateToJournal(String timedObjectId, TimerServiceImpl timerService) {
+        if (migrated.contains(timedObjectId)) {
+            return;
+        }
+        final File directory = new File(baseDir, timedObjectId.replace(File.separator, "-"));
+        if (directory.isDirectory()) {
+            for (TimerImpl timer : loadTimersFromFile(timedObjectId, timerService).values()) {
+                if (journal.contains(timedObjectId, timer.getId())) {
+                    continue;
+                }
+                try {
+                    journal.put(timedObjectId, timer.getId(), marshaller.write(timer));
+                } catch (IOException e) {
+                    EJB3_TIMER_LOGGER.failedToPersistTimer(timer, e);
+                    // Retain the timer files and retry on next access, so that no timer is lost
+                    return;
+                }
+            }
+            final File[] timerFiles = directory.listFiles();
+            if (timerFiles != null) {
+                for (File timerFile : timerFiles) {
+                    if (timerFile.getName().endsWith(".xml")) {
+                        final File migratedFile = new File(directory, timerFile.getName() + MIGRATED_SUFFIX);
+                        if (timerFile.renameTo(migratedFile)) {
+                            // No longer recognized as a timer file, so failure to delete is harmless
+                            migratedFile.delete();
+                        } else if (!timerFile.delete()) {
+                            EJB3_TIMER_LOGGER.migratedTimerFileNotDeleted(timerFile);
+                        }
+                    }
+                }
+            } else {
+                EJB3_TIMER_LOGGER.migratedTimerFileNotDeleted(directory);
+            }
+        }
+        migrated.add(timedObjectId);
+    }
+
     private void writeFile(TimerImpl timer) {
         final File file = fileName(timer.getTimedObjectId(), timer.getId());
 
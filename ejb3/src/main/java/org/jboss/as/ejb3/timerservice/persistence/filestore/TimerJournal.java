@@ -0,0 +1,487 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.EJB3_TIMER_LOGGER;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, segmented journal of persistent timers.
+ * <p>
+ * Every change to a timer appends a checksummed record to the current segment file.
+ * Appends are performed by a dedicated writer thread, which writes all records queued since its last flush
+ * and then forces them to disk with a single sync, completing the callers of the whole batch at once (i.e. group commit).
+ * The latest payload of every live timer is kept in an in-memory index, so reads never touch the disk.
+ * The index is only updated once the records of a batch are durable; if a batch cannot be written, it is truncated from the journal.
+ * Once a journal accumulates more superseded records than live ones, the writer thread compacts it by writing the live timers
+ * into a fresh segment and deleting all previous segments.
+ * </p>
+ * <p>
+ * On {@link #open()}, the segments are replayed in order to rebuild the index.
+ * A torn or corrupt record, e.g. from a crash mid-write, ends the replay of its segment, and is truncated.
+ * </p>
+ */
+class TimerJournal implements AutoCloseable {
+
+    static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+    private static final String SEGMENT_PREFIX = "timers-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    // Length and checksum of a record
+    private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES;
+
+    private final File directory;
+    private final long segmentSize;
+    private final ConcurrentMap<String, ConcurrentMap<String, Entry>> index = new ConcurrentHashMap<>();
+    private final BlockingQueue<Append> queue = new LinkedBlockingQueue<>();
+    // Size of all records of live timers
+    private final AtomicLong liveBytes = new AtomicLong();
+    private volatile Thread writer;
+
+    // Only accessed by the writer thread, after open()
+    private FileChannel channel;
+    private long sequence;
+    private long position;
+    // Size of all records in all segments
+    private long totalBytes;
+
+    /**
+     * Creates a timer journal.
+     * @param directory the directory containing the segments of this journal
+     * @param segmentSize the size beyond which a segment is rolled over; also the minimum journal size that triggers compaction
+     */
+    TimerJournal(File directory, long segmentSize) {
+        if (segmentSize <= 0) throw new IllegalArgumentException(Long.toString(segmentSize));
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Replays the segments of this journal and starts its writer thread.
+     * @throws IOException if the journal could not be read
+     */
+    synchronized void open() throws IOException {
+        if (this.writer != null) return;
+        if (!this.directory.isDirectory() && !this.directory.mkdirs()) {
+            throw EJB3_TIMER_LOGGER.failToCreateTimerFileStoreDir(this.directory);
+        }
+        this.sequence = 0;
+        this.position = 0;
+        this.totalBytes = 0;
+        TreeMap<Long, File> segments = this.segments();
+        for (Map.Entry<Long, File> segment : segments.entrySet()) {
+            this.replay(segment.getValue());
+            this.sequence = segment.getKey();
+        }
+        if (segments.isEmpty()) {
+            this.channel = openSegment(this.segment(this.sequence));
+        } else {
+            this.channel = FileChannel.open(segments.lastEntry().getValue().toPath(), StandardOpenOption.WRITE);
+            this.position = this.channel.size();
+            this.channel.position(this.position);
+        }
+        Thread thread = new Thread(this::run, "EJB timer journal " + this.directory.getPath());
+        thread.setDaemon(true);
+        this.writer = thread;
+        thread.start();
+    }
+
+    /**
+     * Stops the writer thread of this journal, once all pending appends are written.
+     */
+    @Override
+    public synchronized void close() {
+        Thread thread;
+        synchronized (this.queue) {
+            thread = this.writer;
+            if (thread == null) return;
+            this.queue.add(Append.CLOSE);
+            this.writer = null;
+        }
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        this.index.clear();
+        this.liveBytes.set(0);
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the payloads of the live timers of the specified timed object.
+     * @param timedObjectId a timed object identifier
+     * @return an unmodifiable map of payloads, keyed by timer identifier
+     */
+    Map<String, byte[]> getTimers(String timedObjectId) {
+        Map<String, Entry> entries = this.index.get(timedObjectId);
+        if (entries == null) return Collections.emptyMap();
+        Map<String, byte[]> timers = new TreeMap<>();
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            timers.put(entry.getKey(), entry.getValue().payload);
+        }
+        return Collections.unmodifiableMap(timers);
+    }
+
+    /**
+     * Indicates whether the specified timer is live.
+     * @param timedObjectId a timed object identifier
+     * @param timerId a timer identifier
+     * @return true, if the specified timer was put, but not yet removed
+     */
+    boolean contains(String timedObjectId, String timerId) {
+        Map<String, Entry> entries = this.index.get(timedObjectId);
+        return (entries != null) && entries.containsKey(timerId);
+    }
+
+    /**
+     * Durably records the payload of the specified timer, blocking until it is synced to disk.
+     * @param timedObjectId a timed object identifier
+     * @param timerId a timer identifier
+     * @param payload the serialized timer
+     * @throws IOException if the record could not be written
+     */
+    void put(String timedObjectId, String timerId, byte[] payload) throws IOException {
+        byte[] record = encode(PUT, timedObjectId, timerId, payload);
+        this.append(new Append(record, timedObjectId, timerId, new Entry(payload, record.length)));
+    }
+
+    /**
+     * Durably records the removal of the specified timer, blocking until it is synced to disk.
+     * Removing a timer that is not live is a no-op.
+     * @param timedObjectId a timed object identifier
+     * @param timerId a timer identifier
+     * @throws IOException if the record could not be written
+     */
+    void remove(String timedObjectId, String timerId) throws IOException {
+        if (!this.contains(timedObjectId, timerId)) return;
+        byte[] record = encode(REMOVE, timedObjectId, timerId, null);
+        this.append(new Append(record, timedObjectId, timerId, null));
+    }
+
+    private void append(Append append) throws IOException {
+        synchronized (this.queue) {
+            if (this.writer == null) {
+                throw EJB3_TIMER_LOGGER.timerJournalClosed(this.directory);
+            }
+            this.queue.add(append);
+        }
+        try {
+            append.future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private void index(String timedObjectId, String timerId, Entry entry) {
+        Entry previous;
+        if (entry != null) {
+            previous = this.index.computeIfAbsent(timedObjectId, key -> new ConcurrentHashMap<>()).put(timerId, entry);
+            this.liveBytes.addAndGet(entry.size);
+        } else {
+            Map<String, Entry> entries = this.index.get(timedObjectId);
+            previous = (entries != null) ? entries.remove(timerId) : null;
+        }
+        if (previous != null) {
+            this.liveBytes.addAndGet(-previous.size);
+        }
+    }
+
+    private void run() {
+        List<Append> batch = new ArrayList<>();
+        try {
+            boolean closed = false;
+            while (!closed) {
+                batch.add(this.queue.take());
+                this.queue.drainTo(batch);
+                long position = this.position;
+                long totalBytes = this.totalBytes;
+                IOException failure = null;
+                try {
+                    for (Append append : batch) {
+                        if (append == Append.CLOSE) {
+                            closed = true;
+                        } else {
+                            this.write(append.record);
+                        }
+                    }
+                    this.channel.force(false);
+                } catch (IOException e) {
+                    failure = e;
+                    this.truncate(position, totalBytes);
+                }
+                for (Append append : batch) {
+                    if (append == Append.CLOSE) continue;
+                    if (failure == null) {
+                        // Records are durable, so apply them to the index, in order
+                        this.index(append.timedObjectId, append.timerId, append.entry);
+                        append.future.complete(null);
+                    } else {
+                        append.future.completeExceptionally(failure);
+                    }
+                }
+                batch.clear();
+                if (failure == null) {
+                    try {
+                        if ((this.totalBytes > this.segmentSize) && (this.liveBytes.get() < this.totalBytes / 2)) {
+                            this.compact();
+                        } else if (this.position >= this.segmentSize) {
+                            this.roll();
+                        }
+                    } catch (IOException e) {
+                        EJB3_TIMER_LOGGER.timerJournalCompactionFailed(this.directory, e);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                this.channel.close();
+            } catch (IOException e) {
+                EJB3_TIMER_LOGGER.debugf(e, "Failed to close timer journal %s", this.directory);
+            }
+        }
+    }
+
+    private void write(byte[] record) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        while (buffer.hasRemaining()) {
+            this.position += this.channel.write(buffer);
+        }
+        this.totalBytes += record.length;
+    }
+
+    /**
+     * Discards any records written beyond the specified position of the current segment.
+     */
+    private void truncate(long position, long totalBytes) {
+        try {
+            this.channel.truncate(position);
+            this.channel.position(position);
+            this.position = position;
+            this.totalBytes = totalBytes;
+        } catch (IOException e) {
+            // Any partially written record will fail its checksum on replay
+            EJB3_TIMER_LOGGER.debugf(e, "Failed to truncate timer journal %s", this.directory);
+        }
+    }
+
+    /**
+     * Continues the journal in a new segment.
+     * The current segment remains in use if the new segment could not be created.
+     */
+    private void roll() throws IOException {
+        FileChannel channel = openSegment(this.segment(this.sequence + 1));
+        this.channel.close();
+        this.channel = channel;
+        this.sequence += 1;
+        this.position = 0;
+    }
+
+    /**
+     * Rewrites the live timers into a new segment, then deletes all previous segments.
+     * Records of changes queued concurrently will be appended to the new segment, after the compacted records.
+     * The previous segments remain in use if the new segment could not be written.
+     */
+    private void compact() throws IOException {
+        long obsolete = this.sequence;
+        File file = this.segment(obsolete + 1);
+        FileChannel channel = openSegment(file);
+        long totalBytes = 0;
+        try {
+            for (Map.Entry<String, ConcurrentMap<String, Entry>> entries : this.index.entrySet()) {
+                for (Map.Entry<String, Entry> entry : entries.getValue().entrySet()) {
+                    ByteBuffer buffer = ByteBuffer.wrap(encode(PUT, entries.getKey(), entry.getKey(), entry.getValue().payload));
+                    totalBytes += buffer.remaining();
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                }
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            channel.close();
+            if (!file.delete()) {
+                EJB3_TIMER_LOGGER.debugf("Failed to delete incomplete timer journal segment %s", file);
+            }
+            throw e;
+        }
+        this.channel.close();
+        this.channel = channel;
+        this.sequence = obsolete + 1;
+        this.position = totalBytes;
+        this.totalBytes = totalBytes;
+        for (Map.Entry<Long, File> segment : this.segments().headMap(obsolete, true).entrySet()) {
+            if (!segment.getValue().delete()) {
+                EJB3_TIMER_LOGGER.timerJournalSegmentNotDeleted(segment.getValue());
+            }
+        }
+    }
+
+    private void replay(File segment) throws IOException {
+        long valid = 0;
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(segment)))) {
+            CRC32 checksum = new CRC32();
+            while (true) {
+                int length;
+                try {
+                    length = input.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                int crc = input.readInt();
+                if (length <= 0 || length > segment.length() - valid - HEADER_SIZE) {
+                    throw new EOFException();
+                }
+                byte[] body = new byte[length];
+                input.readFully(body);
+                checksum.reset();
+                checksum.update(body);
+                if ((int) checksum.getValue() != crc) {
+                    throw new EOFException();
+                }
+                this.apply(body);
+                valid += HEADER_SIZE + length;
+            }
+        } catch (EOFException e) {
+            EJB3_TIMER_LOGGER.timerJournalTruncated(segment, valid);
+            try (FileChannel channel = FileChannel.open(segment.toPath(), StandardOpenOption.WRITE)) {
+                channel.truncate(valid);
+            }
+        }
+        this.totalBytes += valid;
+    }
+
+    private void apply(byte[] body) throws IOException {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(body))) {
+            byte type = input.readByte();
+            String timedObjectId = input.readUTF();
+            String timerId = input.readUTF();
+            if (type == PUT) {
+                byte[] payload = new byte[input.readInt()];
+                input.readFully(payload);
+                this.index(timedObjectId, timerId, new Entry(payload, HEADER_SIZE + body.length));
+            } else {
+                this.index(timedObjectId, timerId, null);
+            }
+        }
+    }
+
+    private TreeMap<Long, File> segments() {
+        TreeMap<Long, File> segments = new TreeMap<>();
+        File[] files = this.directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                String name = file.getName();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    try {
+                        segments.put(Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()), 16), file);
+                    } catch (NumberFormatException e) {
+                        // Not a segment
+                    }
+                }
+            }
+        }
+        return segments;
+    }
+
+    private File segment(long sequence) {
+        return new File(this.directory, String.format("%s%016x%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+    }
+
+    private static FileChannel openSegment(File file) throws IOException {
+        return FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static byte[] encode(byte type, String timedObjectId, String timerId, byte[] payload) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(HEADER_SIZE + 128 + ((payload != null) ? payload.length : 0));
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            // Reserve header
+            output.writeLong(0);
+            output.writeByte(type);
+            output.writeUTF(timedObjectId);
+            output.writeUTF(timerId);
+            if (payload != null) {
+                output.writeInt(payload.length);
+                output.write(payload);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] record = bytes.toByteArray();
+        CRC32 checksum = new CRC32();
+        checksum.update(record, HEADER_SIZE, record.length - HEADER_SIZE);
+        ByteBuffer.wrap(record).putInt(record.length - HEADER_SIZE).putInt((int) checksum.getValue());
+        return record;
+    }
+
+    private static class Entry {
+        final byte[] payload;
+        // Size of the journal record containing this entry
+        final int size;
+
+        Entry(byte[] payload, int size) {
+            this.payload = payload;
+            this.size = size;
+        }
+    }
+
+    private static class Append {
+        static final Append CLOSE = new Append(null, null, null, null);
+
+        final byte[] record;
+        final String timedObjectId;
+        final String timerId;
+        // The index entry of a PUT record, or null, for a REMOVE record
+        final Entry entry;
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        Append(byte[] record, String timedObjectId, String timerId, Entry entry) {
+            this.record = record;
+            this.timedObjectId = timedObjectId;
+            this.timerId = timerId;
+            this.entry = entry;
+        }
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.scheduler;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.EJB3_TIMER_LOGGER;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link TimeoutScheduler} based on a hashed timing wheel, sharded across a number of worker threads.
+ * Scheduling and cancellation are O(1), and never contend with the expiration of other timeouts.
+ * Cancelled timeouts are removed from the wheel by the worker thread on its next tick, so they do not linger until their deadline.
+ * Each worker expires the timeouts of a tick as a batch; the expired tasks themselves are expected to dispatch any real work to an executor.
+ */
+public class HashedWheelTimeoutScheduler implements TimeoutScheduler, AutoCloseable {
+
+    public static final long DEFAULT_TICK_DURATION = 10;
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final Shard[] shards;
+    private final Thread[] threads;
+    private final AtomicInteger index = new AtomicInteger();
+
+    /**
+     * Creates a scheduler using one shard per available processor and the default tick duration and wheel size.
+     */
+    public HashedWheelTimeoutScheduler() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_TICK_DURATION, TimeUnit.MILLISECONDS, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Creates a scheduler.
+     * @param shards the number of wheels, each serviced by a dedicated thread
+     * @param tickDuration the duration of a single tick of a wheel, i.e. the resolution of this scheduler
+     * @param unit the unit of the tick duration
+     * @param wheelSize the number of buckets per wheel, rounded up to the next power of 2
+     */
+    public HashedWheelTimeoutScheduler(int shards, long tickDuration, TimeUnit unit, int wheelSize) {
+        if (shards <= 0) {
+            throw new IllegalArgumentException(Integer.toString(shards));
+        }
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException(Long.toString(tickDuration));
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException(Integer.toString(wheelSize));
+        }
+        long tickNanos = unit.toNanos(tickDuration);
+        int buckets = Integer.highestOneBit(wheelSize);
+        if (buckets < wheelSize) {
+            buckets <<= 1;
+        }
+        this.shards = new Shard[shards];
+        this.threads = new Thread[shards];
+        for (int i = 0; i < shards; ++i) {
+            this.shards[i] = new Shard(tickNanos, buckets);
+            this.threads[i] = new Thread(this.shards[i], "EJB timer wheel " + (i + 1));
+            this.threads[i].setDaemon(true);
+        }
+    }
+
+    /**
+     * Starts the worker threads of this scheduler.
+     */
+    public void start() {
+        for (Thread thread : this.threads) {
+            thread.start();
+        }
+    }
+
+    /**
+     * Stops the worker threads of this scheduler.  Any outstanding timeouts are discarded.
+     */
+    @Override
+    public void close() {
+        for (Thread thread : this.threads) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public Timeout schedule(Runnable task, long delay) {
+        return this.schedule(task, delay, 0);
+    }
+
+    @Override
+    public Timeout scheduleAtFixedRate(Runnable task, long delay, long period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException(Long.toString(period));
+        }
+        return this.schedule(task, delay, period);
+    }
+
+    private Timeout schedule(Runnable task, long delay, long period) {
+        if (delay < 0) {
+            throw new IllegalArgumentException(Long.toString(delay));
+        }
+        // Distribute timeouts across shards round-robin
+        Shard shard = this.shards[Math.floorMod(this.index.getAndIncrement(), this.shards.length)];
+        WheelTimeout timeout = new WheelTimeout(shard, task, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay), TimeUnit.MILLISECONDS.toNanos(period));
+        shard.pending.add(timeout);
+        return timeout;
+    }
+
+    @Override
+    public void purge() {
+        // Cancelled timeouts are already removed by each shard on its next tick
+    }
+
+    /**
+     * Returns the number of timeouts currently scheduled, including those not yet transferred to a wheel.
+     * @return the number of scheduled timeouts
+     */
+    public int size() {
+        int size = 0;
+        for (Shard shard : this.shards) {
+            size += shard.size.get();
+        }
+        return size;
+    }
+
+    private static class Shard implements Runnable {
+        final BlockingQueue<WheelTimeout> pending = new LinkedBlockingQueue<>();
+        final Queue<WheelTimeout> cancelled = new ConcurrentLinkedQueue<>();
+        final AtomicInteger size = new AtomicInteger();
+        private final long tickNanos;
+        private final Bucket[] wheel;
+        private final int mask;
+        private final long start = System.nanoTime();
+        // Only accessed by worker thread
+        private long tick = 0;
+        private int count = 0;
+
+        Shard(long tickNanos, int wheelSize) {
+            this.tickNanos = tickNanos;
+            this.wheel = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; ++i) {
+                this.wheel[i] = new Bucket();
+            }
+            this.mask = wheelSize - 1;
+        }
+
+        @Override
+        public void run() {
+            List<WheelTimeout> expired = new ArrayList<>();
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    long deadline = this.start + (this.tick + 1) * this.tickNanos;
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        this.removeCancelled();
+                        this.wheel[(int) (this.tick & this.mask)].expire(expired);
+                        this.count -= expired.size();
+                        // Advance before running tasks, so that rescheduled periodic timeouts land in a future bucket
+                        this.tick += 1;
+                        for (WheelTimeout timeout : expired) {
+                            if (timeout.expire()) {
+                                if (timeout.period > 0) {
+                                    this.transfer(timeout);
+                                } else {
+                                    this.size.decrementAndGet();
+                                }
+                            }
+                        }
+                        expired.clear();
+                    } else {
+                        // If the wheel is empty, there is no reason to tick, so wait for the next timeout
+                        WheelTimeout timeout = (this.count == 0) ? this.pending.take() : this.pending.poll(remaining, TimeUnit.NANOSECONDS);
+                        if (timeout != null) {
+                            if (this.count == 0) {
+                                // Fast forward the idle wheel to the current tick
+                                this.tick = Math.max(this.tick, (System.nanoTime() - this.start) / this.tickNanos);
+                            }
+                            this.transfer(timeout);
+                            WheelTimeout next = this.pending.poll();
+                            while (next != null) {
+                                this.transfer(next);
+                                next = this.pending.poll();
+                            }
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void transfer(WheelTimeout timeout) {
+            if (timeout.isCancelled()) {
+                return;
+            }
+            // Expire at the first tick that ends on or after the deadline of this timeout
+            long ticks = Math.max(this.tick, Math.floorDiv(timeout.deadline - this.start + this.tickNanos - 1, this.tickNanos) - 1);
+            timeout.rounds = (ticks - this.tick) / this.wheel.length;
+            this.wheel[(int) (ticks & this.mask)].add(timeout);
+            this.count += 1;
+        }
+
+        private void removeCancelled() {
+            WheelTimeout timeout = this.cancelled.poll();
+            while (timeout != null) {
+                Bucket bucket = timeout.bucket;
+                if (bucket != null) {
+                    bucket.remove(timeout);
+                    this.count -= 1;
+                }
+                timeout = this.cancelled.poll();
+            }
+        }
+    }
+
+    /**
+     * Doubly-linked list of the timeouts of a wheel slot, only accessed by the worker thread of its shard.
+     */
+    private static class Bucket {
+        private WheelTimeout head;
+        private WheelTimeout tail;
+
+        void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            if (this.head == null) {
+                this.head = this.tail = timeout;
+            } else {
+                this.tail.next = timeout;
+                timeout.previous = this.tail;
+                this.tail = timeout;
+            }
+        }
+
+        void remove(WheelTimeout timeout) {
+            WheelTimeout next = timeout.next;
+            if (timeout.previous != null) {
+                timeout.previous.next = next;
+            }
+            if (next != null) {
+                next.previous = timeout.previous;
+            }
+            if (timeout == this.head) {
+                this.head = next;
+            }
+            if (timeout == this.tail) {
+                this.tail = timeout.previous;
+            }
+            timeout.previous = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        void expire(List<WheelTimeout> expired) {
+            WheelTimeout timeout = this.head;
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                if (timeout.rounds <= 0) {
+                    this.remove(timeout);
+                    expired.add(timeout);
+                } else {
+                    timeout.rounds -= 1;
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    private static class WheelTimeout implements Timeout {
+        private static final int SCHEDULED = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Shard shard;
+        private final Runnable task;
+        final long period;
+        private final AtomicInteger state = new AtomicInteger(SCHEDULED);
+        // Only accessed by worker thread
+        long deadline;
+        long rounds;
+        Bucket bucket;
+        WheelTimeout previous;
+        WheelTimeout next;
+
+        WheelTimeout(Shard shard, Runnable task, long deadline, long period) {
+            this.shard = shard;
+            this.task = task;
+            this.deadline = deadline;
+            this.period = period;
+            shard.size.incrementAndGet();
+        }
+
+        boolean isCancelled() {
+            return this.state.get() == CANCELLED;
+        }
+
+        /**
+         * Runs the task of this timeout, unless it was cancelled.
+         * @return true, if the task was run, false if this timeout was cancelled.
+         */
+        boolean expire() {
+            if ((this.period > 0) ? this.state.get() != SCHEDULED : !this.state.compareAndSet(SCHEDULED, EXPIRED)) {
+                return false;
+            }
+            try {
+                this.task.run();
+            } catch (Throwable e) {
+                EJB3_TIMER_LOGGER.timeoutTaskFailed(this.task, e);
+            }
+            this.deadline += this.period;
+            return true;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!this.state.compareAndSet(SCHEDULED, CANCELLED)) {
+                return false;
+            }
+            this.shard.size.decrementAndGet();
+            this.shard.cancelled.add(this);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.scheduler;
+
+/**
+ * Schedules the timeout tasks of the timers of a timer service.
+ * Scheduled tasks are expected to be short-lived, i.e. they should hand off any real work to an executor.
+ */
+public interface TimeoutScheduler {
+
+    /**
+     * Schedules the specified task for a single execution after the specified delay.
+     * @param task a timeout task
+     * @param delay a delay in milliseconds
+     * @return a handle for cancelling the scheduled task
+     */
+    Timeout schedule(Runnable task, long delay);
+
+    /**
+     * Schedules the specified task for repeated fixed-rate execution, beginning after the specified delay.
+     * @param task a timeout task
+     * @param delay a delay in milliseconds
+     * @param period the time in milliseconds between successive executions
+     * @return a handle for cancelling the scheduled task
+     */
+    Timeout scheduleAtFixedRate(Runnable task, long delay, long period);
+
+    /**
+     * Removes any cancelled tasks still retained by this scheduler.
+     */
+    void purge();
+
+    /**
+     * A handle to a scheduled task.
+     */
+    interface Timeout {
+        /**
+         * Cancels the scheduled task.
+         * @return true, if the task was cancelled before its (next) execution, false otherwise.
+         */
+        boolean cancel();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.scheduler;
+
+import java.util.Timer;
+import java.util.TimerTask;
+
+/**
+ * {@link TimeoutScheduler} backed by a single {@link Timer} thread.
+ */
+public class TimerTimeoutScheduler implements TimeoutScheduler {
+
+    private final Timer timer;
+
+    public TimerTimeoutScheduler(Timer timer) {
+        this.timer = timer;
+    }
+
+    @Override
+    public Timeout schedule(Runnable task, long delay) {
+        TimerTimeout timeout = new TimerTimeout(task);
+        this.timer.schedule(timeout, delay);
+        return timeout;
+    }
+
+    @Override
+    public Timeout scheduleAtFixedRate(Runnable task, long delay, long period) {
+        TimerTimeout timeout = new TimerTimeout(task);
+        this.timer.scheduleAtFixedRate(timeout, delay, period);
+        return timeout;
+    }
+
+    @Override
+    public void purge() {
+        this.timer.purge();
+    }
+
+    private static class TimerTimeout extends TimerTask implements Timeout {
+        private final Runnable task;
+
+        TimerTimeout(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            this.task.run();
+        }
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.stateful.cache.simple;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBean;
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstance;
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstanceFactory;
+import org.jboss.as.server.ServerEnvironment;
+import org.jboss.marshalling.MarshallingConfiguration;
+import org.jboss.marshalling.SimpleClassResolver;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.wildfly.clustering.marshalling.jboss.JBossByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.jboss.SimpleMarshallingConfigurationRepository;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+
+/**
+ * Validates the passivation of bean instances by a {@link SimpleStatefulSessionBeanCache} with a bounded number of active beans.
+ */
+public class SimpleStatefulSessionBeanCacheTestCase {
+
+    private static final Set<UUID> REMOVED = ConcurrentHashMap.newKeySet();
+    private static volatile Consumer<UUID> prePassivateListener = id -> { };
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void unbounded() {
+        SimpleStatefulSessionBeanCache<UUID, TestBean> cache = this.createCache(null);
+        cache.start();
+        try {
+            for (int i = 0; i < 10; ++i) {
+                cache.createStatefulSessionBean();
+            }
+            Assert.assertEquals(10, cache.getActiveCount());
+            Assert.assertEquals(0, cache.getPassiveCount());
+        } finally {
+            cache.stop();
+        }
+    }
+
+    @Test
+    public void passivation() {
+        SimpleStatefulSessionBeanCache<UUID, TestBean> cache = this.createCache(2);
+        cache.start();
+        try {
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < 5; ++i) {
+                ids.add(cache.createStatefulSessionBean());
+            }
+            Assert.assertEquals(2, cache.getActiveCount());
+            Assert.assertEquals(3, cache.getPassiveCount());
+
+            // Least recently used bean was passivated, and is reactivated on access
+            StatefulSessionBean<UUID, TestBean> bean = cache.findStatefulSessionBean(ids.get(0));
+            Assert.assertNotNull(bean);
+            Assert.assertEquals(ids.get(0), bean.getId());
+            Assert.assertEquals(1, bean.getInstance().passivations);
+            Assert.assertEquals(1, bean.getInstance().activations);
+            Assert.assertEquals(3, cache.getActiveCount());
+            Assert.assertEquals(2, cache.getPassiveCount());
+            bean.getInstance().value = "foo";
+            bean.close();
+
+            Assert.assertEquals(2, cache.getActiveCount());
+            Assert.assertEquals(3, cache.getPassiveCount());
+
+            // Most recently used bean remains active
+            bean = cache.findStatefulSessionBean(ids.get(0));
+            Assert.assertEquals(1, bean.getInstance().passivations);
+            Assert.assertEquals("foo", bean.getInstance().value);
+
+            // Beans in use are never passivated
+            List<StatefulSessionBean<UUID, TestBean>> beans = new ArrayList<>();
+            for (UUID id : ids.subList(1, 5)) {
+                beans.add(cache.findStatefulSessionBean(id));
+            }
+            Assert.assertEquals(5, cache.getActiveCount());
+            Assert.assertEquals(0, cache.getPassiveCount());
+            // Only the closed bean can be passivated
+            bean.close();
+            Assert.assertEquals(4, cache.getActiveCount());
+            Assert.assertEquals(1, cache.getPassiveCount());
+
+            for (StatefulSessionBean<UUID, TestBean> active : beans) {
+                active.close();
+            }
+            Assert.assertEquals(2, cache.getActiveCount());
+            Assert.assertEquals(3, cache.getPassiveCount());
+
+            // Removal of a passivated bean
+            bean = cache.findStatefulSessionBean(ids.get(0));
+            bean.remove();
+            Assert.assertTrue(REMOVED.contains(ids.get(0)));
+            Assert.assertNull(cache.findStatefulSessionBean(ids.get(0)));
+            Assert.assertEquals(4, cache.getActiveCount() + cache.getPassiveCount());
+
+            // Expiration of a passivated bean
+            UUID passivated = ids.get(1);
+            Assert.assertTrue(cache.test(passivated));
+            Assert.assertFalse(REMOVED.contains(passivated));
+            Assert.assertNull(cache.findStatefulSessionBean(passivated));
+            Assert.assertEquals(3, cache.getActiveCount() + cache.getPassiveCount());
+        } finally {
+            cache.stop();
+        }
+        Assert.assertEquals(0, cache.getActiveCount());
+        Assert.assertEquals(0, cache.getPassiveCount());
+    }
+
+    @Test
+    public void overlappingLookups() {
+        SimpleStatefulSessionBeanCache<UUID, TestBean> cache = this.createCache(1);
+        cache.start();
+        try {
+            UUID id = cache.createStatefulSessionBean();
+            StatefulSessionBean<UUID, TestBean> bean1 = cache.findStatefulSessionBean(id);
+            StatefulSessionBean<UUID, TestBean> bean2 = cache.findStatefulSessionBean(id);
+            Assert.assertSame(bean1.getInstance(), bean2.getInstance());
+
+            // Bean is still in use by its other user, and must not be passivated
+            bean1.close();
+            cache.createStatefulSessionBean();
+            Assert.assertEquals(0, bean2.getInstance().passivations);
+            Assert.assertEquals(1, cache.getActiveCount());
+            Assert.assertEquals(1, cache.getPassiveCount());
+
+            // Bean is idle once closed by all of its users
+            bean2.close();
+            cache.createStatefulSessionBean();
+            Assert.assertEquals(1, bean2.getInstance().passivations);
+            Assert.assertEquals(1, cache.getActiveCount());
+            Assert.assertEquals(2, cache.getPassiveCount());
+        } finally {
+            cache.stop();
+        }
+    }
+
+    @Test
+    public void lookupDuringPassivation() throws InterruptedException, ExecutionException, TimeoutException {
+        SimpleStatefulSessionBeanCache<UUID, TestBean> cache = this.createCache(1);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        CountDownLatch passivating = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        cache.start();
+        try {
+            UUID other = cache.createStatefulSessionBean();
+            UUID passivated = cache.createStatefulSessionBean();
+            Assert.assertEquals(1, cache.getPassiveCount());
+            prePassivateListener = id -> {
+                if (id.equals(passivated)) {
+                    passivating.countDown();
+                    try {
+                        resume.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            };
+            Future<UUID> creation = executor.submit(cache::createStatefulSessionBean);
+            Assert.assertTrue(passivating.await(10, TimeUnit.SECONDS));
+
+            // Passivation of one bean instance must not block the activation of another
+            StatefulSessionBean<UUID, TestBean> otherBean = cache.findStatefulSessionBean(other);
+            Assert.assertNotNull(otherBean);
+            Assert.assertEquals(1, otherBean.getInstance().activations);
+
+            Future<StatefulSessionBean<UUID, TestBean>> lookup = executor.submit(() -> cache.findStatefulSessionBean(passivated));
+
+            resume.countDown();
+            UUID created = creation.get(10, TimeUnit.SECONDS);
+            StatefulSessionBean<UUID, TestBean> bean = lookup.get(10, TimeUnit.SECONDS);
+            // Lookup waits for pending passivation, then reactivates the bean instance
+            Assert.assertNotNull(bean);
+            Assert.assertEquals(passivated, bean.getId());
+            Assert.assertEquals(1, bean.getInstance().passivations);
+            Assert.assertEquals(1, bean.getInstance().activations);
+            Assert.assertNotNull(created);
+            bean.close();
+            otherBean.close();
+        } finally {
+            prePassivateListener = id -> { };
+            resume.countDown();
+            executor.shutdownNow();
+            cache.stop();
+        }
+    }
+
+    @Test
+    public void store() throws IOException {
+        int segmentSize = 1024;
+        try (MappedPassivationStore<Integer> store = new MappedPassivationStore<>(this.folder.getRoot().toPath().resolve("test.passivation"), segmentSize)) {
+            for (int i = 0; i < 1000; ++i) {
+                byte[] bytes = new byte[100 + (i % 10)];
+                bytes[0] = (byte) i;
+                store.write(i, ByteBuffer.wrap(bytes));
+                if (i >= 10) {
+                    ByteBuffer buffer = store.read(i - 10);
+                    Assert.assertEquals(100 + ((i - 10) % 10), buffer.remaining());
+                    Assert.assertEquals((byte) (i - 10), buffer.get(0));
+                }
+            }
+            Assert.assertEquals(10, store.size());
+            // Segments are reused once empty
+            Assert.assertTrue(String.valueOf(store.length()), store.length() <= 4 * segmentSize);
+
+            // Records larger than a segment
+            store.write(-1, ByteBuffer.wrap(new byte[segmentSize * 2]));
+            Assert.assertEquals(segmentSize * 2, store.read(-1).remaining());
+            Assert.assertNull(store.read(-1));
+            Assert.assertFalse(store.remove(-1));
+            Assert.assertTrue(store.remove(999));
+            Assert.assertEquals(9, store.size());
+        }
+    }
+
+    @Test
+    public void compaction() throws IOException {
+        int segmentSize = 1024;
+        try (MappedPassivationStore<Integer> store = new MappedPassivationStore<>(this.folder.getRoot().toPath().resolve("compaction.passivation"), segmentSize)) {
+            // Every 20th record is long-lived, such that no segment ever becomes empty
+            for (int i = 0; i < 10000; ++i) {
+                byte[] bytes = new byte[100];
+                bytes[0] = (byte) i;
+                store.write(i, ByteBuffer.wrap(bytes));
+                if ((i >= 10) && ((i - 10) % 20 != 0)) {
+                    Assert.assertTrue(store.remove(i - 10));
+                }
+            }
+            Assert.assertEquals(510, store.size());
+            // Live records occupy 51000 bytes
+            Assert.assertTrue(String.valueOf(store.length()), store.length() <= 128 * segmentSize);
+            for (int i = 0; i < 10000; i += 20) {
+                ByteBuffer buffer = store.read(i);
+                Assert.assertNotNull(Integer.toString(i), buffer);
+                Assert.assertEquals(100, buffer.remaining());
+                Assert.assertEquals((byte) i, buffer.get(0));
+            }
+        }
+    }
+
+    private SimpleStatefulSessionBeanCache<UUID, TestBean> createCache(Integer maxActiveBeans) {
+        ServerEnvironment environment = mock(ServerEnvironment.class);
+        when(environment.getNodeName()).thenReturn("node");
+        when(environment.getServerTempDir()).thenReturn(this.folder.getRoot());
+        MarshallingConfiguration config = new MarshallingConfiguration();
+        config.setClassResolver(new SimpleClassResolver(TestBean.class.getClassLoader()));
+        ByteBufferMarshaller marshaller = new JBossByteBufferMarshaller(new SimpleMarshallingConfigurationRepository(config), TestBean.class.getClassLoader());
+        return new SimpleStatefulSessionBeanCache<>(new SimpleStatefulSessionBeanCacheConfiguration<>() {
+            @Override
+            public String getComponentName() {
+                return "test";
+            }
+
+            @Override
+            public Supplier<UUID> getIdentifierFactory() {
+                return UUID::randomUUID;
+            }
+
+            @Override
+            public StatefulSessionBeanInstanceFactory<TestBean> getInstanceFactory() {
+                return TestBean::new;
+            }
+
+            @Override
+            public Duration getTimeout() {
+                return null;
+            }
+
+            @Override
+            public ServerEnvironment getEnvironment() {
+                return environment;
+            }
+
+            @Override
+            public Integer getMaxActiveBeans() {
+                return maxActiveBeans;
+            }
+
+            @Override
+            public ByteBufferMarshaller getMarshaller() {
+                return marshaller;
+            }
+        });
+    }
+
+    static class TestBean implements StatefulSessionBeanInstance<UUID>, Serializable {
+        private static final long serialVersionUID = -5311092581591284460L;
+
+        private final UUID id = UUID.randomUUID();
+        int passivations = 0;
+        int activations = 0;
+        String value = null;
+
+        @Override
+        public UUID getId() {
+            return this.id;
+        }
+
+        @Override
+        public void prePassivate() {
+            this.passivations += 1;
+            prePassivateListener.accept(this.id);
+        }
+
+        @Override
+        public void postActivate() {
+            this.activations += 1;
+        }
+
+        @Override
+        public void removed() {
+            REMOVED.add(this.id);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.pool.strictmax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.pool.Pool;
+import org.jboss.as.ejb3.pool.common.MockBean;
+import org.jboss.as.ejb3.pool.common.MockFactory;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link StripedStrictMaxPool}.
+ */
+public class StripedStrictMaxUnitTestCase {
+
+    @Test
+    public void test1() {
+        MockBean.reset();
+        Pool<MockBean> pool = new StripedStrictMaxPool<>(new MockFactory(), 10, 1, TimeUnit.SECONDS);
+        pool.start();
+
+        MockBean[] beans = new MockBean[10];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+        assertEquals(0, pool.getAvailableCount());
+
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+            beans[i] = null;
+        }
+        assertEquals(10, pool.getAvailableCount());
+
+        pool.stop();
+
+        assertEquals(10, MockBean.getPostConstructs());
+        assertEquals(10, MockBean.getPreDestroys());
+    }
+
+    @Test
+    public void testReuse() {
+        MockBean.reset();
+        Pool<MockBean> pool = new StripedStrictMaxPool<>(new MockFactory(), 10, 1, TimeUnit.SECONDS);
+        pool.start();
+
+        MockBean bean = pool.get();
+        pool.release(bean);
+        // Same thread should obtain the instance cached in its stripe
+        for (int i = 0; i < 100; i++) {
+            MockBean next = pool.get();
+            assertSame(bean, next);
+            pool.release(next);
+        }
+
+        pool.stop();
+
+        assertEquals(1, MockBean.getPostConstructs());
+        assertEquals(1, MockBean.getPreDestroys());
+    }
+
+    /**
+     * More threads than the pool size.
+     */
+    @Test
+    public void testMultiThread() throws Exception {
+        MockBean.reset();
+        final Pool<MockBean> pool = new StripedStrictMaxPool<>(new MockFactory(), 10, 60, TimeUnit.SECONDS);
+        pool.start();
+
+        final CountDownLatch in = new CountDownLatch(1);
+        final CountDownLatch ready = new CountDownLatch(10);
+        final AtomicInteger used = new AtomicInteger(0);
+
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                results.add(service.submit(() -> {
+                    MockBean bean = pool.get();
+                    ready.countDown();
+                    in.await();
+                    pool.release(bean);
+                    used.incrementAndGet();
+                    return null;
+                }));
+            }
+
+            ready.await(120, TimeUnit.SECONDS);
+            in.countDown();
+
+            for (Future<?> result : results) {
+                result.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            service.shutdown();
+        }
+
+        pool.stop();
+
+        assertEquals(20, used.intValue());
+        assertEquals(10, MockBean.getPostConstructs());
+        assertEquals(10, MockBean.getPreDestroys());
+    }
+
+    /**
+     * Many threads repeatedly acquiring and releasing instances from a small pool.
+     */
+    @Test
+    public void testContention() throws Exception {
+        MockBean.reset();
+        final Pool<MockBean> pool = new StripedStrictMaxPool<>(new MockFactory(), 4, 60, TimeUnit.SECONDS, 16);
+        pool.start();
+
+        final AtomicInteger concurrent = new AtomicInteger();
+        final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        ExecutorService service = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(service.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        MockBean bean = pool.get();
+                        maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                        concurrent.decrementAndGet();
+                        pool.release(bean);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            service.shutdown();
+        }
+
+        pool.stop();
+
+        assertTrue(Integer.toString(maxConcurrent.get()), maxConcurrent.get() <= 4);
+        assertTrue(Integer.toString(MockBean.getPostConstructs()), MockBean.getPostConstructs() <= 4);
+        assertEquals(MockBean.getPostConstructs(), MockBean.getPreDestroys());
+    }
+
+    @Test
+    public void testDiscard() {
+        MockBean.reset();
+        Pool<MockBean> pool = new StripedStrictMaxPool<>(new MockFactory(), 1, 1, TimeUnit.SECONDS);
+        pool.start();
+
+        pool.discard(pool.get());
+        // Discarding an instance must allow a new instance to be created
+        pool.release(pool.get());
+
+        pool.stop();
+
+        assertEquals(2, MockBean.getPostConstructs());
+        assertEquals(2, MockBean.getPreDestroys());
+    }
+
+    @Test
+    public void testTooMany() {
+        MockBean.reset();
+        Pool<MockBean> pool = new StripedStrictMaxPool<>(new MockFactory(), 10, 1, TimeUnit.SECONDS);
+        pool.start();
+
+        MockBean[] beans = new MockBean[10];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+
+        try {
+            pool.get();
+            fail("should have thrown an exception");
+        } catch (Exception e) {
+            assertEquals(EjbLogger.ROOT_LOGGER.failedToAcquirePermit(1, TimeUnit.SECONDS).getMessage(), e.getMessage());
+        }
+
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+            beans[i] = null;
+        }
+
+        pool.stop();
+
+        assertEquals(10, MockBean.getPostConstructs());
+        assertEquals(10, MockBean.getPreDestroys());
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.remote;
+
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.ee.component.Component;
+import org.jboss.as.ee.component.ComponentView;
+import org.jboss.as.ee.component.ViewConfiguration;
+import org.jboss.as.ee.component.ViewService;
+import org.jboss.as.ejb3.deployment.EjbDeploymentInformation;
+import org.jboss.ejb.client.EJBMethodLocator;
+import org.jboss.invocation.ImmediateInterceptorFactory;
+import org.jboss.invocation.InterceptorContext;
+import org.jboss.invocation.proxy.ProxyConfiguration;
+import org.jboss.invocation.proxy.ProxyFactory;
+import org.jboss.marshalling.cloner.ObjectCloner;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.value.InjectedValue;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Validates the resolution of the invoked view method of a local invocation, and the cloning of its parameters and result.
+ */
+public class LocalEjbReceiverTestCase {
+
+    private static final AtomicInteger PROXY_ID = new AtomicInteger();
+
+    public interface TestView {
+        String foo();
+
+        String foo(String value);
+    }
+
+    @Test
+    public void methodIndex() throws Exception {
+        ComponentView view = createView();
+        EjbDeploymentInformation ejb = createDeploymentInformation(view);
+
+        for (Method method : TestView.class.getMethods()) {
+            int index = LocalEjbReceiver.getMethodIndex(ejb, view, TestView.class.getName(), method);
+            Assert.assertEquals(view.getMethodIndex(method), index);
+            Assert.assertEquals(method, view.getMethod(index));
+
+            // Dispatch by index reaches the interceptors of the invoked method
+            InterceptorContext context = new InterceptorContext();
+            context.setMethod(view.getMethod(index));
+            Assert.assertEquals(method.toString(), view.invoke(index, context));
+        }
+    }
+
+    @Test
+    public void methodIndexOfForeignViewClass() throws Exception {
+        ComponentView view = createView();
+        EjbDeploymentInformation ejb = createDeploymentInformation(view);
+
+        // The view class of the client proxy may be loaded by a different class loader than the view class of the component
+        Class<?> foreignViewClass = new IsolatedClassLoader(TestView.class).loadClass(TestView.class.getName());
+        Assert.assertNotSame(TestView.class, foreignViewClass);
+
+        for (Method method : foreignViewClass.getMethods()) {
+            Assert.assertEquals(-1, view.getMethodIndex(method));
+            int index = LocalEjbReceiver.getMethodIndex(ejb, view, TestView.class.getName(), method);
+            Assert.assertEquals(TestView.class.getMethod(method.getName(), method.getParameterTypes()), view.getMethod(index));
+        }
+    }
+
+    @Test
+    public void unknownMethod() throws Exception {
+        ComponentView view = createView();
+        EjbDeploymentInformation ejb = createDeploymentInformation(view);
+
+        Assert.assertThrows(RuntimeException.class, () -> LocalEjbReceiver.getMethodIndex(ejb, view, TestView.class.getName(), Runnable.class.getMethod("run")));
+    }
+
+    @Test
+    public void deploymentMethodIndex() throws Exception {
+        ComponentView view = createView();
+        EjbDeploymentInformation ejb = createDeploymentInformation(view);
+
+        // Resolve each locator repeatedly, such that subsequent lookups hit the cached index
+        for (int i = 0; i < 2; ++i) {
+            for (Method method : TestView.class.getMethods()) {
+                Assert.assertEquals(view.getMethodIndex(method), ejb.getMethodIndex(TestView.class.getName(), EJBMethodLocator.forMethod(method)));
+            }
+        }
+        // Overloaded methods resolve to distinct indexes
+        Assert.assertNotEquals(ejb.getMethodIndex(TestView.class.getName(), new EJBMethodLocator("foo")), ejb.getMethodIndex(TestView.class.getName(), new EJBMethodLocator("foo", String.class.getName())));
+
+        // Locators of methods absent from the view consistently resolve to no index
+        for (int i = 0; i < 2; ++i) {
+            Assert.assertEquals(-1, ejb.getMethodIndex(TestView.class.getName(), new EJBMethodLocator("foo", Integer.class.getName())));
+            Assert.assertEquals(-1, ejb.getMethodIndex(TestView.class.getName(), new EJBMethodLocator("bar")));
+        }
+    }
+
+    @Test
+    public void independentClones() {
+        ObjectClonerPool pool = LocalEjbReceiver.RESULT_CLONER_POOLS.get(TestView.class);
+        Assert.assertSame(pool, LocalEjbReceiver.RESULT_CLONER_POOLS.get(TestView.class));
+
+        TestValue value = new TestValue(1);
+        List<TestValue> values = new ArrayList<>(List.of(value, value));
+
+        // Each clone uses a cloner released by the previous clone, whose object identity table must not retain the previous copy
+        @SuppressWarnings("unchecked")
+        List<TestValue> copy1 = (List<TestValue>) LocalEjbReceiver.clone(List.class, pool, values, false);
+        @SuppressWarnings("unchecked")
+        List<TestValue> copy2 = (List<TestValue>) LocalEjbReceiver.clone(List.class, pool, values, false);
+
+        Assert.assertNotSame(values, copy1);
+        Assert.assertNotSame(values, copy2);
+        Assert.assertNotSame(copy1, copy2);
+        Assert.assertNotSame(value, copy1.get(0));
+        Assert.assertNotSame(copy1.get(0), copy2.get(0));
+        // Shared references within a single object graph remain shared
+        Assert.assertSame(copy1.get(0), copy1.get(1));
+
+        copy1.get(0).value = 2;
+        Assert.assertEquals(1, value.value);
+        Assert.assertEquals(1, copy2.get(0).value);
+    }
+
+    @Test
+    public void concurrentClones() {
+        ObjectClonerPool pool = LocalEjbReceiver.RESULT_CLONER_POOLS.get(TestView.class);
+        TestValue value = new TestValue(1);
+
+        // Cloners acquired concurrently from the same pool are distinct, and produce independent copies
+        ObjectCloner cloner1 = pool.acquire();
+        ObjectCloner cloner2 = pool.acquire();
+        try {
+            Assert.assertNotSame(cloner1, cloner2);
+            Object copy1 = cloner1.clone(value);
+            Object copy2 = cloner2.clone(value);
+            Assert.assertNotSame(value, copy1);
+            Assert.assertNotSame(value, copy2);
+            Assert.assertNotSame(copy1, copy2);
+        } catch (IOException | ClassNotFoundException e) {
+            throw new AssertionError(e);
+        } finally {
+            pool.release(cloner1);
+            pool.release(cloner2);
+        }
+    }
+
+    @Test
+    public void immutableTypes() {
+        ObjectClonerPool pool = LocalEjbReceiver.RESULT_CLONER_POOLS.get(TestView.class);
+
+        for (Object value : List.of("foo", 1, BigInteger.ONE, BigDecimal.ONE)) {
+            Assert.assertSame(value, LocalEjbReceiver.clone(Object.class, pool, value, false));
+        }
+
+        // Subclasses of immutable types are not necessarily immutable
+        MutableBigInteger integer = new MutableBigInteger("1");
+        Object integerCopy = LocalEjbReceiver.clone(BigInteger.class, pool, integer, false);
+        Assert.assertNotSame(integer, integerCopy);
+        Assert.assertSame(MutableBigInteger.class, integerCopy.getClass());
+        Assert.assertEquals(integer, integerCopy);
+        integer.label = "bar";
+        Assert.assertEquals("foo", ((MutableBigInteger) integerCopy).label);
+
+        MutableBigDecimal decimal = new MutableBigDecimal("1.0");
+        Object decimalCopy = LocalEjbReceiver.clone(BigDecimal.class, pool, decimal, false);
+        Assert.assertNotSame(decimal, decimalCopy);
+        Assert.assertSame(MutableBigDecimal.class, decimalCopy.getClass());
+        Assert.assertEquals(decimal, decimalCopy);
+        decimal.label = "bar";
+        Assert.assertEquals("foo", ((MutableBigDecimal) decimalCopy).label);
+    }
+
+    @SuppressWarnings("deprecation")
+    static EjbDeploymentInformation createDeploymentInformation(ComponentView view) {
+        InjectedValue<ComponentView> value = new InjectedValue<>();
+        value.inject(view);
+        return new EjbDeploymentInformation("test", new InjectedValue<>(), Map.of(TestView.class.getName(), value), Map.of(), LocalEjbReceiverTestCase.class.getClassLoader(), new InjectedValue<>());
+    }
+
+    static ComponentView createView() throws Exception {
+        ProxyConfiguration<Object> proxyConfiguration = new ProxyConfiguration<>();
+        proxyConfiguration.setProxyName(TestView.class.getName() + "$$$view" + PROXY_ID.incrementAndGet());
+        proxyConfiguration.setClassLoader(TestView.class.getClassLoader());
+        proxyConfiguration.setProtectionDomain(TestView.class.getProtectionDomain());
+        proxyConfiguration.setSuperClass(Object.class);
+        proxyConfiguration.addAdditionalInterface(TestView.class);
+        ProxyFactory<?> proxyFactory = new ProxyFactory<>(proxyConfiguration);
+        ViewConfiguration configuration = new ViewConfiguration(TestView.class, null, ServiceName.of("view"), proxyFactory);
+        for (Method method : proxyFactory.getCachedMethods()) {
+            // Each view interceptor chain responds with its method
+            configuration.addViewInterceptor(method, new ImmediateInterceptorFactory(context -> method.toString()), 0);
+        }
+        ViewService service = new ViewService(configuration);
+        service.getComponentInjector().inject(mock(Component.class));
+        service.start(null);
+        return service.getValue();
+    }
+
+    public static class TestValue implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        int value;
+
+        TestValue(int value) {
+            this.value = value;
+        }
+    }
+
+    public static class MutableBigInteger extends BigInteger {
+        private static final long serialVersionUID = 1L;
+
+        String label = "foo";
+
+        MutableBigInteger(String value) {
+            super(value);
+        }
+    }
+
+    public static class MutableBigDecimal extends BigDecimal {
+        private static final long serialVersionUID = 1L;
+
+        String label = "foo";
+
+        MutableBigDecimal(String value) {
+            super(value);
+        }
+    }
+
+    /**
+     * Defines its own copy of a given class, delegating only to the bootstrap class loader otherwise.
+     */
+    private static class IsolatedClassLoader extends ClassLoader {
+        private final Class<?> targetClass;
+
+        IsolatedClassLoader(Class<?> targetClass) {
+            super(null);
+            this.targetClass = targetClass;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            String resource = name.substring(name.lastIndexOf('.') + 1) + ".class";
+            try (InputStream input = this.targetClass.getResourceAsStream(resource)) {
+                byte[] bytes = input.readAllBytes();
+                return this.defineClass(name, bytes, 0, bytes.length);
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+}
@@ -67,7 +67,7 @@ public class Ejb3SubsystemUnitTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-ejb3_10_0.xsd";
+        return "schema/wildfly-ejb3_11_0.xsd";
     }
 
     @Test
@@ -253,6 +253,7 @@ public class Ejb3SubsystemUnitTestCase extends AbstractSubsystemBaseTest {
         assertEquals(20, remote.get("channel-creation-options").asPropertyList().get(0).getValue().get("value").resolve().asInt());
 
         final ModelNode timerService = ejb3.get("service", "timer-service");
+        assertEquals("hashed-wheel", timerService.get("timeout-scheduler").resolve().asString());
         final String fileDataStorePath = timerService.get("file-data-store").asPropertyList().get(0).getValue().get("path").resolve().asString();
         assertEquals("timer-service-data", fileDataStorePath);
 
@@ -22,6 +22,7 @@ import org.jboss.as.subsystem.test.KernelServices;
 import org.jboss.as.subsystem.test.KernelServicesBuilder;
 import org.jboss.dmr.ModelNode;
 import org.junit.Assert;
+import org.junit.Test;
 
 /**
  * Test cases for transformers used in the EJB3 subsystem.
@@ -69,7 +70,7 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-ejb3_10_0.xsd";
+        return "schema/wildfly-ejb3_11_0.xsd";
     }
 
     /*
@@ -116,7 +117,7 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
                 buildDynamicCapabilityName("org.wildfly.remoting.connector", "http-remoting-connector"),
                 buildDynamicCapabilityName("org.wildfly.remoting.connector", "remoting-connector"),
                 buildDynamicCapabilityName("org.wildfly.clustering.infinispan.cache-container", "not-ejb"),
-                buildDynamicCapabilityName("org.wildfly.ejb3.timer-service.timer-persistence-service", "file-data-store"),
+                buildDynamicCapabilityName("org.wildfly.clustering.ejb.timer-management-provider", "persistent"),
                 buildDynamicCapabilityName("org.wildfly.ejb3.mdb-delivery-group", "1"),
                 buildDynamicCapabilityName("org.wildfly.ejb3.mdb-delivery-group", "2"),
                 buildDynamicCapabilityName("org.wildfly.ejb3.mdb-delivery-group", "3"),
@@ -148,6 +149,21 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
         FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
         PathAddress subsystemAddress = PathAddress.pathAddress(EJB3Extension.SUBSYSTEM_PATH);
 
+        // need to include all changes from current to 10.0.0
+        if (EJB3Model.VERSION_10_0_0.requiresTransformation(version)) {
+            // reject a simple-cache with max-active-beans
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.SIMPLE_CACHE_PATH), new FailedOperationTransformationConfig.NewAttributesConfig(SimpleStatefulSessionBeanCacheProviderResourceDefinition.Attribute.MAX_ACTIVE_BEANS.getDefinition()));
+            // reject a striped strict-max-bean-instance-pool
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.STRICT_MAX_BEAN_INSTANCE_POOL_PATH), new FailedOperationTransformationConfig.NewAttributesConfig(StrictMaxPoolResourceDefinition.STRIPED));
+            PathAddress timerServiceAddress = subsystemAddress.append(EJB3SubsystemModel.TIMER_SERVICE_PATH);
+            // reject a non-default timeout-scheduler
+            config.addFailedAttribute(timerServiceAddress, new FailedOperationTransformationConfig.NewAttributesConfig(TimerServiceResourceDefinition.TIMEOUT_SCHEDULER));
+            // reject a non-default file-data-store format
+            config.addFailedAttribute(timerServiceAddress.append(EJB3SubsystemModel.FILE_DATA_STORE_PATH), new FailedOperationTransformationConfig.NewAttributesConfig(FileDataStoreResourceDefinition.FORMAT));
+            // reject a non-default database-data-store batch-window or binary-info
+            config.addFailedAttribute(timerServiceAddress.append(EJB3SubsystemModel.DATABASE_DATA_STORE_PATH), new FailedOperationTransformationConfig.NewAttributesConfig(DatabaseDataStoreResourceDefinition.BATCH_WINDOW, DatabaseDataStoreResourceDefinition.BINARY_INFO));
+        }
+
         // need to include all changes from current to 9.0.0
         if (EJB3Model.VERSION_9_0_0.requiresTransformation(version)) {
             // reject the resource /subsystem=ejb3/simple-cache
@@ -160,6 +176,11 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
         return config;
     }
 
+    @Test
+    public void testRejectionsEAP800() throws Exception {
+        testRejections(EJB3Model.VERSION_10_0_0.getVersion(), ModelTestControllerVersion.EAP_8_0_0, formatWildflySubsystemArtifact(ModelTestControllerVersion.EAP_8_0_0));
+    }
+
     /*
      * Class to fix up some irredeemable errors in the legacy model before comparison
      */
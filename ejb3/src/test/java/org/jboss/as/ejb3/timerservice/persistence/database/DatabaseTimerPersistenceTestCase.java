@@ -5,14 +5,48 @@
 
 package org.jboss.as.ejb3.timerservice.persistence.database;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
-
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.Transaction;
+import jakarta.transaction.TransactionManager;
+
+import org.jboss.as.ejb3.timerservice.TimerImpl;
+import org.jboss.as.ejb3.timerservice.TimerServiceConfiguration;
+import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
+import org.jboss.as.ejb3.timerservice.TimerState;
+import org.jboss.as.ejb3.timerservice.scheduler.TimeoutScheduler;
+import org.jboss.as.ejb3.timerservice.spi.TimedObjectInvoker;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.wildfly.transaction.client.ContextTransactionSynchronizationRegistry;
+import org.wildfly.transaction.client.LocalTransactionContext;
+import org.wildfly.transaction.client.spi.LocalTransactionProvider;
 
 public class DatabaseTimerPersistenceTestCase {
 
@@ -168,4 +202,148 @@ public class DatabaseTimerPersistenceTestCase {
         Assert.assertEquals("sybase", field.get(object));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void schedulerDateTest() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
+        final Method format = object.getClass().getDeclaredMethod("schedulerDateAsString", Date.class);
+        format.setAccessible(true);
+        final Method parse = object.getClass().getDeclaredMethod("stringAsSchedulerDate", String.class, String.class);
+        parse.setAccessible(true);
+
+        // Scheduler dates are stored with a resolution of seconds
+        final Date date = new Date((System.currentTimeMillis() / 1000) * 1000);
+        final String value = (String) format.invoke(object, date);
+        Assert.assertEquals(date, parse.invoke(object, value, "timer"));
+
+        // Trailing text, e.g. fractional seconds appended by the database, is ignored
+        Assert.assertEquals(date, parse.invoke(object, value + ".0", "timer"));
+
+        Assert.assertNull(format.invoke(object, (Date) null));
+        Assert.assertNull(parse.invoke(object, null, "timer"));
+        Assert.assertNull(parse.invoke(object, "invalid", "timer"));
+    }
+
+    @Test
+    public void binaryInfoColumnTest() throws NoSuchFieldException, IllegalAccessException {
+        final Field patternField = object.getClass().getDeclaredField("INFO_COLUMN_PATTERN");
+        patternField.setAccessible(true);
+        final Pattern pattern = (Pattern) patternField.get(null);
+
+        Assert.assertEquals("CREATE TABLE JBOSS_EJB_TIMER (PRIMARY_KEY VARCHAR, INFO BYTEA, TIMER_STATE VARCHAR)",
+                pattern.matcher("CREATE TABLE JBOSS_EJB_TIMER (PRIMARY_KEY VARCHAR, INFO VARCHAR, TIMER_STATE VARCHAR)").replaceFirst("$1BYTEA"));
+        Assert.assertEquals("CREATE TABLE JBOSS_EJB_TIMER (PRIMARY_KEY VARCHAR(255), INFO IMAGE, TIMER_STATE VARCHAR(255))",
+                pattern.matcher("CREATE TABLE JBOSS_EJB_TIMER (PRIMARY_KEY VARCHAR(255), INFO VARCHAR(16384), TIMER_STATE VARCHAR(255))").replaceFirst("$1IMAGE"));
+    }
+
+    @Test
+    public void batchedUpdatesTest() throws Exception {
+        // Without a batch window, each state update is executed via a separate statement and transaction
+        Assert.assertEquals(11, this.persistTimerUpdates(0));
+        // Otherwise, all updates within the batch window are executed via a single batch and transaction
+        Assert.assertEquals(1, this.persistTimerUpdates(1000));
+    }
+
+    /**
+     * Persists 11 state updates of 10 timers via a {@link TimerServiceImpl}, and returns the number of executed statements.
+     */
+    private int persistTimerUpdates(int batchWindow) throws Exception {
+        AtomicInteger transactions = new AtomicInteger();
+        AtomicInteger status = new AtomicInteger(Status.STATUS_NO_TRANSACTION);
+        Map<Object, Object> resources = new HashMap<>();
+        List<Synchronization> synchronizations = new ArrayList<>();
+        Transaction transaction = mock(Transaction.class);
+        when(transaction.getStatus()).then(invocation -> status.get());
+        AtomicReference<Transaction> current = new AtomicReference<>();
+        TransactionManager transactionManager = mock(TransactionManager.class);
+        when(transactionManager.getTransaction()).then(invocation -> current.get());
+        when(transactionManager.suspend()).then(invocation -> current.getAndSet(null));
+        doAnswer(invocation -> {
+            current.set(invocation.getArgument(0));
+            return null;
+        }).when(transactionManager).resume(any());
+        // Commits the transaction associated with the current thread
+        doAnswer(invocation -> {
+            for (Synchronization synchronization : synchronizations) {
+                synchronization.beforeCompletion();
+            }
+            status.set(Status.STATUS_COMMITTED);
+            for (Synchronization synchronization : synchronizations) {
+                synchronization.afterCompletion(Status.STATUS_COMMITTED);
+            }
+            synchronizations.clear();
+            resources.clear();
+            current.set(null);
+            return null;
+        }).when(transactionManager).commit();
+        LocalTransactionProvider provider = mock(LocalTransactionProvider.class);
+        when(provider.getTransactionManager()).thenReturn(transactionManager);
+        when(provider.createNewTransaction(anyInt())).then(invocation -> {
+            transactions.incrementAndGet();
+            status.set(Status.STATUS_ACTIVE);
+            return transaction;
+        });
+        when(provider.getResource(any(), any())).then(invocation -> resources.get(invocation.getArgument(1)));
+        doAnswer(invocation -> resources.put(invocation.getArgument(1), invocation.getArgument(2))).when(provider).putResource(any(), any(), any());
+        doAnswer(invocation -> synchronizations.add(invocation.getArgument(1))).when(provider).registerInterposedSynchronization(any(), any());
+
+        AtomicInteger statements = new AtomicInteger();
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.execute()).then(invocation -> statements.incrementAndGet() > 0);
+        when(statement.executeBatch()).then(invocation -> {
+            statements.incrementAndGet();
+            return new int[0];
+        });
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(any())).thenReturn(statement);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        DatabaseTimerPersistence persistence = new DatabaseTimerPersistence(null, null, null, null, ContextTransactionSynchronizationRegistry::getInstance, "", "part", "nodeA", 0, true, batchWindow, false);
+        Field dataSourceField = DatabaseTimerPersistence.class.getDeclaredField("dataSource");
+        dataSourceField.setAccessible(true);
+        dataSourceField.set(persistence, dataSource);
+        Field sqlField = DatabaseTimerPersistence.class.getDeclaredField("sql");
+        sqlField.setAccessible(true);
+        Properties sql = new Properties();
+        sql.setProperty("update-timer", "update...");
+        sqlField.set(persistence, sql);
+        persistence.timerDeployed("foo");
+
+        TimedObjectInvoker invoker = mock(TimedObjectInvoker.class);
+        when(invoker.getTimedObjectId()).thenReturn("foo");
+        ExecutorService executor = mock(ExecutorService.class);
+        when(executor.submit(any(Runnable.class))).then(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        });
+        List<Runnable> scheduled = new ArrayList<>();
+        TimeoutScheduler scheduler = mock(TimeoutScheduler.class);
+        when(scheduler.schedule(any(), anyLong())).then(invocation -> {
+            scheduled.add(invocation.getArgument(0));
+            return mock(TimeoutScheduler.Timeout.class);
+        });
+        TimerServiceConfiguration configuration = mock(TimerServiceConfiguration.class);
+        when(configuration.getInvoker()).thenReturn(invoker);
+        when(configuration.getExecutor()).thenReturn(executor);
+        when(configuration.getTimeoutScheduler()).thenReturn(scheduler);
+        when(configuration.getTimerPersistence()).thenReturn(persistence);
+        TimerServiceImpl service = new TimerServiceImpl(configuration);
+
+        new LocalTransactionContext(provider).runCallable(() -> {
+            List<TimerImpl> timers = new ArrayList<>();
+            for (int i = 0; i < 10; ++i) {
+                TimerImpl timer = TimerImpl.builder().setId(Integer.toString(i)).setTimedObjectId("foo").setPersistent(true)
+                        .setInitialDate(new Date()).setNextDate(new Date()).setTimerState(TimerState.ACTIVE).build(service);
+                timers.add(timer);
+                service.persistTimer(timer, false);
+            }
+            timers.get(0).setTimerState(TimerState.IN_TIMEOUT, Thread.currentThread());
+            service.persistTimer(timers.get(0), false);
+                        for (Runnable task : scheduled) {
+                task.run();
+            }
+            return null;
+        });
+        Assert.assertEquals(statements.get(), transactions.get());
+        return statements.get();
+    }
+}
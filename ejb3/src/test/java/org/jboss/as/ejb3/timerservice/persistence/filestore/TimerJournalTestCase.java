@@ -0,0 +1,158 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link TimerJournal}.
+ */
+public class TimerJournalTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void replay() throws IOException {
+        File directory = this.folder.newFolder();
+        try (TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_SEGMENT_SIZE)) {
+            journal.open();
+            journal.put("foo", "1", bytes("a"));
+            journal.put("foo", "2", bytes("b"));
+            journal.put("bar", "1", bytes("c"));
+            journal.put("foo", "1", bytes("d"));
+            journal.remove("foo", "2");
+
+            assertTimers(journal);
+        }
+        try (TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_SEGMENT_SIZE)) {
+            journal.open();
+            assertTimers(journal);
+        }
+    }
+
+    private static void assertTimers(TimerJournal journal) {
+        Map<String, byte[]> timers = journal.getTimers("foo");
+        Assert.assertEquals(1, timers.size());
+        Assert.assertArrayEquals(bytes("d"), timers.get("1"));
+        Assert.assertTrue(journal.contains("foo", "1"));
+        Assert.assertFalse(journal.contains("foo", "2"));
+        Assert.assertArrayEquals(bytes("c"), journal.getTimers("bar").get("1"));
+        Assert.assertTrue(journal.getTimers("baz").isEmpty());
+    }
+
+    @Test
+    public void tornTail() throws IOException {
+        File directory = this.folder.newFolder();
+        try (TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_SEGMENT_SIZE)) {
+            journal.open();
+            journal.put("foo", "1", bytes("a"));
+            journal.put("foo", "2", bytes("b"));
+        }
+        File[] segments = directory.listFiles();
+        Assert.assertEquals(1, segments.length);
+        // Simulate a crash in the middle of writing the last record
+        try (RandomAccessFile file = new RandomAccessFile(segments[0], "rw")) {
+            file.setLength(file.length() - 1);
+        }
+        try (TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_SEGMENT_SIZE)) {
+            journal.open();
+            Assert.assertEquals(1, journal.getTimers("foo").size());
+            Assert.assertTrue(journal.contains("foo", "1"));
+            // Subsequent appends must follow the last valid record
+            journal.put("foo", "3", bytes("c"));
+        }
+        try (TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_SEGMENT_SIZE)) {
+            journal.open();
+            Assert.assertEquals(2, journal.getTimers("foo").size());
+            Assert.assertArrayEquals(bytes("c"), journal.getTimers("foo").get("3"));
+        }
+    }
+
+    @Test
+    public void compaction() throws IOException {
+        File directory = this.folder.newFolder();
+        int segmentSize = 1024;
+        try (TimerJournal journal = new TimerJournal(directory, segmentSize)) {
+            journal.open();
+            // Repeatedly update the same few timers, such that most records are superseded
+            for (int i = 0; i < 1000; ++i) {
+                journal.put("foo", Integer.toString(i % 4), bytes(Integer.toString(i)));
+            }
+            journal.remove("foo", "0");
+        }
+        long size = 0;
+        for (File segment : directory.listFiles()) {
+            size += segment.length();
+        }
+        // Without compaction, the journal would contain 1000+ records
+        Assert.assertTrue(Long.toString(size), size < 4 * segmentSize);
+        try (TimerJournal journal = new TimerJournal(directory, segmentSize)) {
+            journal.open();
+            Map<String, byte[]> timers = journal.getTimers("foo");
+            Assert.assertEquals(3, timers.size());
+            Assert.assertArrayEquals(bytes("997"), timers.get("1"));
+            Assert.assertArrayEquals(bytes("998"), timers.get("2"));
+            Assert.assertArrayEquals(bytes("999"), timers.get("3"));
+        }
+    }
+
+    @Test
+    public void concurrent() throws Exception {
+        File directory = this.folder.newFolder();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_SEGMENT_SIZE)) {
+            journal.open();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; ++i) {
+                String timedObjectId = Integer.toString(i);
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 50; ++j) {
+                        journal.put(timedObjectId, Integer.toString(j), bytes(timedObjectId));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        try (TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_SEGMENT_SIZE)) {
+            journal.open();
+            for (int i = 0; i < 8; ++i) {
+                Assert.assertEquals(50, journal.getTimers(Integer.toString(i)).size());
+            }
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void closed() throws IOException {
+        TimerJournal journal = new TimerJournal(this.folder.newFolder(), TimerJournal.DEFAULT_SEGMENT_SIZE);
+        journal.open();
+        journal.close();
+        journal.put("foo", "1", bytes("a"));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.scheduler;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link HashedWheelTimeoutScheduler}.
+ */
+public class HashedWheelTimeoutSchedulerTestCase {
+
+    private HashedWheelTimeoutScheduler scheduler;
+
+    @Before
+    public void init() {
+        // Use a small wheel to exercise multiple rounds
+        this.scheduler = new HashedWheelTimeoutScheduler(2, 1, TimeUnit.MILLISECONDS, 8);
+        this.scheduler.start();
+    }
+
+    @After
+    public void destroy() {
+        this.scheduler.close();
+    }
+
+    @Test
+    public void schedule() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(100);
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; ++i) {
+            this.scheduler.schedule(latch::countDown, 50);
+        }
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50);
+        waitForSize(0);
+    }
+
+    @Test
+    public void cancel() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        TimeoutScheduler.Timeout timeout = this.scheduler.schedule(count::incrementAndGet, 20);
+        Assert.assertEquals(1, this.scheduler.size());
+        Assert.assertTrue(timeout.cancel());
+        Assert.assertFalse(timeout.cancel());
+        Assert.assertEquals(0, this.scheduler.size());
+
+        CountDownLatch latch = new CountDownLatch(1);
+        this.scheduler.schedule(latch::countDown, 40);
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(0, count.get());
+    }
+
+    @Test
+    public void expired() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        TimeoutScheduler.Timeout timeout = this.scheduler.schedule(latch::countDown, 0);
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        waitForSize(0);
+        Assert.assertFalse(timeout.cancel());
+    }
+
+    @Test
+    public void scheduleAtFixedRate() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(5);
+        TimeoutScheduler.Timeout timeout = this.scheduler.scheduleAtFixedRate(latch::countDown, 5, 10);
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(1, this.scheduler.size());
+        Assert.assertTrue(timeout.cancel());
+        Assert.assertEquals(0, this.scheduler.size());
+    }
+
+    private void waitForSize(int size) throws InterruptedException {
+        for (int i = 0; (i < 100) && (this.scheduler.size() != size); ++i) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(size, this.scheduler.size());
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jpa.service;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Executor that limits the number of tasks concurrently running on a delegate executor.
+ * Tasks submitted beyond this limit are queued, rather than blocking the submitting thread,
+ * and are dispatched to their delegate executor as running tasks complete.
+ *
+ * Used to bound the number of persistence units bootstrapping concurrently.
+ * Executors sharing the same {@link Limit} are bounded collectively, regardless of their delegate executor.
+ */
+class BoundedExecutor implements Executor {
+
+    private final Executor executor;
+    private final Limit limit;
+
+    BoundedExecutor(Executor executor, int maxConcurrency) {
+        this(executor, new Limit(maxConcurrency));
+    }
+
+    BoundedExecutor(Executor executor, Limit limit) {
+        this.executor = executor;
+        this.limit = limit;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        this.limit.execute(this.executor, task);
+    }
+
+    /**
+     * The maximum number of concurrently running tasks, shared by any number of bounded executors.
+     */
+    static class Limit {
+        private final Semaphore permits;
+        private final Queue<Map.Entry<Executor, Runnable>> tasks = new ConcurrentLinkedQueue<>();
+
+        Limit(int maxConcurrency) {
+            this.permits = new Semaphore(maxConcurrency);
+        }
+
+        void execute(Executor executor, Runnable task) {
+            this.tasks.add(new AbstractMap.SimpleImmutableEntry<>(executor, task));
+            this.dispatch();
+        }
+
+        private void dispatch() {
+            while (!this.tasks.isEmpty() && this.permits.tryAcquire()) {
+                Map.Entry<Executor, Runnable> entry = this.tasks.poll();
+                if (entry == null) {
+                    // Another thread dispatched the remaining tasks
+                    this.permits.release();
+                    continue;
+                }
+                Runnable task = entry.getValue();
+                Runnable boundedTask = new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            task.run();
+                        } finally {
+                            Limit.this.permits.release();
+                            Limit.this.dispatch();
+                        }
+                    }
+                };
+                try {
+                    entry.getKey().execute(boundedTask);
+                } catch (RejectedExecutionException e) {
+                    boundedTask.run();
+                }
+            }
+        }
+    }
+}
@@ -11,6 +11,7 @@ import java.util.HashSet;
 import java.util.Locale;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
@@ -51,6 +52,8 @@ public class JPAService implements Service<Void> {
 
     private static volatile String defaultDataSourceName = null;
     private static volatile ExtendedPersistenceInheritance defaultExtendedPersistenceInheritance = null;
+    private static volatile Integer maxConcurrentBootstraps = null;
+    private static volatile BoundedExecutor.Limit bootstrapLimit = null;
     private static final Set<String> existingResourceDescriptionResolver = new HashSet<>();
     private final CacheDeploymentHelper cacheDeploymentHelper = new CacheDeploymentHelper();
 
@@ -74,13 +77,35 @@ public class JPAService implements Service<Void> {
         JPAService.defaultExtendedPersistenceInheritance = defaultExtendedPersistenceInheritance;
     }
 
+    public static void setMaxConcurrentBootstraps(Integer maxConcurrentBootstraps) {
+        ROOT_LOGGER.tracef("JPAService.setMaxConcurrentBootstraps(%s), previous value = %s", maxConcurrentBootstraps, JPAService.maxConcurrentBootstraps);
+        JPAService.maxConcurrentBootstraps = maxConcurrentBootstraps;
+        bootstrapLimit = (maxConcurrentBootstraps != null) ? new BoundedExecutor.Limit(maxConcurrentBootstraps) : null;
+    }
+
+    /**
+     * Returns the executor on which persistence units should be bootstrapped.
+     * If the Jakarta Persistence subsystem limits the number of concurrently bootstrapping persistence units,
+     * the returned executor dispatches bootstrap tasks to the specified executor only while below this limit.
+     * The limit is shared by all returned executors, irrespective of the specified executor.
+     *
+     * @param executor the executor used to bootstrap persistence units
+     * @return an executor for bootstrapping persistence units
+     */
+    public static Executor getBootstrapExecutor(Executor executor) {
+        BoundedExecutor.Limit limit = bootstrapLimit;
+        return (limit != null) ? new BoundedExecutor(executor, limit) : executor;
+    }
+
     public static void addService(
             final ServiceTarget target,
             final String defaultDataSourceName,
-            final ExtendedPersistenceInheritance defaultExtendedPersistenceInheritance) {
+            final ExtendedPersistenceInheritance defaultExtendedPersistenceInheritance,
+            final Integer maxConcurrentBootstraps) {
         JPAService jpaService = new JPAService();
         setDefaultDataSourceName(defaultDataSourceName);
         setDefaultExtendedPersistenceInheritance(defaultExtendedPersistenceInheritance);
+        setMaxConcurrentBootstraps(maxConcurrentBootstraps);
         final ServiceBuilder sb = target.addService(SERVICE_NAME, jpaService);
         sb.setInitialMode(ServiceController.Mode.ACTIVE);
         sb.requires(JPAUserTransactionListenerService.SERVICE_NAME);
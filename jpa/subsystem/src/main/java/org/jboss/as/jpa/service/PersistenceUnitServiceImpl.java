@@ -205,7 +205,7 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
 
         };
         try {
-            executor.execute(task);
+            JPAService.getBootstrapExecutor(executor).execute(task);
         } catch (RejectedExecutionException e) {
             task.run();
         } finally {
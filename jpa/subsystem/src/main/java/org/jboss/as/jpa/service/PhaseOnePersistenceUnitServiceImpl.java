@@ -123,7 +123,7 @@ public class PhaseOnePersistenceUnitServiceImpl implements Service<PhaseOnePersi
             }
         };
         try {
-            executor.execute(task);
+            JPAService.getBootstrapExecutor(executor).execute(task);
         } catch (RejectedExecutionException e) {
             task.run();
         } finally {
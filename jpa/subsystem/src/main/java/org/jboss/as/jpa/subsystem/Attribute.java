@@ -15,7 +15,8 @@ enum Attribute {
 
     UNKNOWN(null),
     DEFAULT_DATASOURCE_NAME(CommonAttributes.DEFAULT_DATASOURCE),
-    DEFAULT_EXTENDEDPERSISTENCEINHERITANCE_NAME(CommonAttributes.DEFAULT_EXTENDEDPERSISTENCE_INHERITANCE),;
+    DEFAULT_EXTENDEDPERSISTENCEINHERITANCE_NAME(CommonAttributes.DEFAULT_EXTENDEDPERSISTENCE_INHERITANCE),
+    MAX_CONCURRENT_BOOTSTRAPS(CommonAttributes.MAX_CONCURRENT_BOOTSTRAPS),;
     private final String name;
 
     Attribute(final String name) {
@@ -14,6 +14,7 @@ import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
@@ -53,6 +54,14 @@ public class JPADefinition extends SimpleResourceDefinition {
                     .setDefaultValue(new ModelNode(ExtendedPersistenceInheritance.DEEP.toString()))
                     .build();
 
+    protected static final SimpleAttributeDefinition MAX_CONCURRENT_BOOTSTRAPS =
+            new SimpleAttributeDefinitionBuilder(CommonAttributes.MAX_CONCURRENT_BOOTSTRAPS, ModelType.INT, true)
+                    .setAllowExpression(true)
+                    .setXmlName(CommonAttributes.MAX_CONCURRENT_BOOTSTRAPS)
+                    .setValidator(new IntRangeValidator(1, true, true))
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
     JPADefinition() {
         super(getParameters());
     }
@@ -71,6 +80,7 @@ public class JPADefinition extends SimpleResourceDefinition {
     public void registerAttributes(ManagementResourceRegistration registration) {
         registration.registerReadWriteAttribute(DEFAULT_DATASOURCE, null, new ReloadRequiredWriteAttributeHandler(DEFAULT_DATASOURCE));
         registration.registerReadWriteAttribute(DEFAULT_EXTENDEDPERSISTENCE_INHERITANCE, null, new ReloadRequiredWriteAttributeHandler(DEFAULT_EXTENDEDPERSISTENCE_INHERITANCE));
+        registration.registerReadWriteAttribute(MAX_CONCURRENT_BOOTSTRAPS, null, new ReloadRequiredWriteAttributeHandler(MAX_CONCURRENT_BOOTSTRAPS));
     }
 
     @Override
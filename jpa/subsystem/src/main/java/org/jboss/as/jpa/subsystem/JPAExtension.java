@@ -52,7 +52,7 @@ public class JPAExtension implements Extension {
         }
         return new StandardResourceDescriptionResolver(prefix.toString(), RESOURCE_NAME, JPAExtension.class.getClassLoader(), true, false);
     }
-    private static final ModelVersion CURRENT_MODEL_VERSION = ModelVersion.create(1, 2, 0);
+    static final ModelVersion CURRENT_MODEL_VERSION = ModelVersion.create(1, 3, 0);
 
 
     @Override
@@ -60,7 +60,7 @@ public class JPAExtension implements Extension {
         SubsystemRegistration registration = context.registerSubsystem(SUBSYSTEM_NAME, CURRENT_MODEL_VERSION);
         final ManagementResourceRegistration nodeRegistration = registration.registerSubsystemModel(new JPADefinition());
         nodeRegistration.registerOperationHandler(GenericSubsystemDescribeHandler.DEFINITION, GenericSubsystemDescribeHandler.INSTANCE);
-        registration.registerXMLElementWriter(new JPASubsystemElementParser1_1());
+        registration.registerXMLElementWriter(new JPASubsystemElementParser1_2());
 
 
 
@@ -77,11 +77,12 @@ public class JPAExtension implements Extension {
 
     @Override
     public void initializeParsers(ExtensionParsingContext context) {
+        context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JPA_1_2.getUriString(), JPASubsystemElementParser1_2::new);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JPA_1_1.getUriString(), JPASubsystemElementParser1_1::new);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JPA_1_0.getUriString(), JPASubsystemElementParser1_0::new);
     }
 
-    static class JPASubsystemElementParser1_1 implements XMLStreamConstants, XMLElementReader<List<ModelNode>>,
+    static class JPASubsystemElementParser1_2 implements XMLStreamConstants, XMLElementReader<List<ModelNode>>,
         XMLElementWriter<SubsystemMarshallingContext> {
 
         /**
@@ -92,10 +93,9 @@ public class JPAExtension implements Extension {
             ModelNode subsystemAdd = null;
             while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
                 final Element element = Element.forName(reader.getLocalName());
-                Namespace readerNS = Namespace.forUri(reader.getNamespaceURI());
 
                 if (element == Element.JPA) {
-                    subsystemAdd = parseJPA(reader, readerNS);
+                    subsystemAdd = parseJPA(reader);
                 } else {
                     throw ParseUtils.unexpectedElement(reader);
                 }
@@ -106,7 +106,7 @@ public class JPAExtension implements Extension {
             list.add(subsystemAdd);
         }
 
-        private ModelNode parseJPA(XMLExtendedStreamReader reader, Namespace readerNS) throws XMLStreamException {
+        private ModelNode parseJPA(XMLExtendedStreamReader reader) throws XMLStreamException {
             final ModelNode operation = Util.createAddOperation(PathAddress.pathAddress(PathElement.pathElement(SUBSYSTEM, SUBSYSTEM_NAME)));
 
             int count = reader.getAttributeCount();
@@ -121,6 +121,9 @@ public class JPAExtension implements Extension {
                     case DEFAULT_EXTENDEDPERSISTENCEINHERITANCE_NAME:
                         JPADefinition.DEFAULT_EXTENDEDPERSISTENCE_INHERITANCE.parseAndSetParameter(value, operation, reader);
                         break;
+                    case MAX_CONCURRENT_BOOTSTRAPS:
+                        JPADefinition.MAX_CONCURRENT_BOOTSTRAPS.parseAndSetParameter(value, operation, reader);
+                        break;
                     default: {
                         throw ParseUtils.unexpectedAttribute(reader, i);
                     }
@@ -140,15 +143,67 @@ public class JPAExtension implements Extension {
             XMLStreamException {
 
             ModelNode node = context.getModelNode();
-            context.startSubsystemElement(Namespace.JPA_1_1.getUriString(), false);
+            context.startSubsystemElement(Namespace.JPA_1_2.getUriString(), false);
             writer.writeStartElement(Element.JPA.getLocalName());
             JPADefinition.DEFAULT_DATASOURCE.marshallAsAttribute(node, writer);
             JPADefinition.DEFAULT_EXTENDEDPERSISTENCE_INHERITANCE.marshallAsAttribute(node, writer);
+            JPADefinition.MAX_CONCURRENT_BOOTSTRAPS.marshallAsAttribute(node, writer);
             writer.writeEndElement();
             writer.writeEndElement();
         }
     }
 
+    static class JPASubsystemElementParser1_1 implements XMLStreamConstants, XMLElementReader<List<ModelNode>> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void readElement(XMLExtendedStreamReader reader, List<ModelNode> list) throws XMLStreamException {
+            ModelNode subsystemAdd = null;
+            while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
+                final Element element = Element.forName(reader.getLocalName());
+                Namespace readerNS = Namespace.forUri(reader.getNamespaceURI());
+
+                if (element == Element.JPA) {
+                    subsystemAdd = parseJPA(reader, readerNS);
+                } else {
+                    throw ParseUtils.unexpectedElement(reader);
+                }
+            }
+            if (subsystemAdd == null) {
+                throw ParseUtils.missingRequiredElement(reader, Collections.singleton(Element.JPA.getLocalName()));
+            }
+            list.add(subsystemAdd);
+        }
+
+        private ModelNode parseJPA(XMLExtendedStreamReader reader, Namespace readerNS) throws XMLStreamException {
+            final ModelNode operation = Util.createAddOperation(PathAddress.pathAddress(PathElement.pathElement(SUBSYSTEM, SUBSYSTEM_NAME)));
+
+            int count = reader.getAttributeCount();
+            for (int i = 0; i < count; i++) {
+                final String value = reader.getAttributeValue(i);
+                final Attribute attribute = Attribute.forName(reader.getAttributeLocalName(i));
+                switch (attribute) {
+                    case DEFAULT_DATASOURCE_NAME: {
+                        JPADefinition.DEFAULT_DATASOURCE.parseAndSetParameter(value, operation, reader);
+                        break;
+                    }
+                    case DEFAULT_EXTENDEDPERSISTENCEINHERITANCE_NAME:
+                        JPADefinition.DEFAULT_EXTENDEDPERSISTENCE_INHERITANCE.parseAndSetParameter(value, operation, reader);
+                        break;
+                    default: {
+                        throw ParseUtils.unexpectedAttribute(reader, i);
+                    }
+                }
+            }
+            // Require no content
+            ParseUtils.requireNoContent(reader);
+
+            return operation;
+        }
+    }
+
     static class JPASubsystemElementParser1_0 implements XMLStreamConstants, XMLElementReader<List<ModelNode>> {
 
         /**
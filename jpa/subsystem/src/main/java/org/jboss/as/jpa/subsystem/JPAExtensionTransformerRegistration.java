@@ -0,0 +1,43 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jpa.subsystem;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
+import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
+import org.jboss.as.controller.transform.description.ChainedTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
+
+/**
+ * Registers the transformers of the Jakarta Persistence subsystem for legacy model versions.
+ */
+public class JPAExtensionTransformerRegistration implements ExtensionTransformerRegistration {
+
+    static final ModelVersion VERSION_1_2_0 = ModelVersion.create(1, 2, 0);
+
+    @Override
+    public String getSubsystemName() {
+        return JPAExtension.SUBSYSTEM_NAME;
+    }
+
+    @Override
+    public void registerTransformers(SubsystemTransformerRegistration subsystemRegistration) {
+        ChainedTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(subsystemRegistration.getCurrentSubsystemVersion());
+
+        registerV1_2Transformers(builder.createBuilder(JPAExtension.CURRENT_MODEL_VERSION, VERSION_1_2_0));
+
+        builder.buildAndRegister(subsystemRegistration, new ModelVersion[] { VERSION_1_2_0 });
+    }
+
+    private static void registerV1_2Transformers(ResourceTransformationDescriptionBuilder subsystem) {
+        subsystem.getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, JPADefinition.MAX_CONCURRENT_BOOTSTRAPS)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, JPADefinition.MAX_CONCURRENT_BOOTSTRAPS);
+    }
+}
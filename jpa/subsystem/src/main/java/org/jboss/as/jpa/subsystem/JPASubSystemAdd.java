@@ -6,6 +6,7 @@ package org.jboss.as.jpa.subsystem;
 
 import static org.jboss.as.jpa.subsystem.JPADefinition.DEFAULT_DATASOURCE;
 import static org.jboss.as.jpa.subsystem.JPADefinition.DEFAULT_EXTENDEDPERSISTENCE_INHERITANCE;
+import static org.jboss.as.jpa.subsystem.JPADefinition.MAX_CONCURRENT_BOOTSTRAPS;
 
 import org.jboss.as.controller.AbstractBoottimeAddStepHandler;
 import org.jboss.as.controller.OperationContext;
@@ -49,7 +50,7 @@ class JPASubSystemAdd extends AbstractBoottimeAddStepHandler {
     public static final JPASubSystemAdd INSTANCE = new JPASubSystemAdd();
 
     private JPASubSystemAdd() {
-        super(DEFAULT_DATASOURCE, DEFAULT_EXTENDEDPERSISTENCE_INHERITANCE);
+        super(DEFAULT_DATASOURCE, DEFAULT_EXTENDEDPERSISTENCE_INHERITANCE, MAX_CONCURRENT_BOOTSTRAPS);
     }
 
     protected void performBoottime(final OperationContext context, final ModelNode operation, final ModelNode model) throws
@@ -105,9 +106,10 @@ class JPASubSystemAdd extends AbstractBoottimeAddStepHandler {
 
         final String dataSourceName = DEFAULT_DATASOURCE.resolveModelAttribute(context, model).asStringOrNull();
         final ExtendedPersistenceInheritance defaultExtendedPersistenceInheritance = ExtendedPersistenceInheritance.valueOf(DEFAULT_EXTENDEDPERSISTENCE_INHERITANCE.resolveModelAttribute(context, model).asString());
+        final ModelNode maxConcurrentBootstraps = MAX_CONCURRENT_BOOTSTRAPS.resolveModelAttribute(context, model);
 
         final ServiceTarget target = context.getServiceTarget();
-        JPAService.addService(target, dataSourceName, defaultExtendedPersistenceInheritance);
+        JPAService.addService(target, dataSourceName, defaultExtendedPersistenceInheritance, maxConcurrentBootstraps.isDefined() ? maxConcurrentBootstraps.asInt() : null);
         JPAUserTransactionListenerService.addService(target);
 
     }
@@ -0,0 +1,138 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jpa.service;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Simulates the bootstrap of a number of persistence units, verifying that a {@link BoundedExecutor} limits the number of
+ * concurrently bootstrapping persistence units, and reports the total startup time for various concurrency limits.
+ */
+public class BoundedExecutorTestCase {
+
+    private static final Logger LOGGER = Logger.getLogger(BoundedExecutorTestCase.class);
+    private static final int PERSISTENCE_UNITS = 12;
+    private static final long BOOTSTRAP_MILLIS = 50;
+
+    private ExecutorService executor;
+
+    @Before
+    public void init() {
+        // Like the server executor, the delegate executor is itself unbounded
+        this.executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void destroy() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void serial() throws InterruptedException {
+        this.bootstrap(1);
+    }
+
+    @Test
+    public void bounded() throws InterruptedException {
+        this.bootstrap(4);
+    }
+
+    @Test
+    public void unbounded() throws InterruptedException {
+        this.bootstrap(PERSISTENCE_UNITS);
+    }
+
+    @Test
+    public void rejected() throws InterruptedException {
+        this.executor.shutdown();
+        BoundedExecutor executor = new BoundedExecutor(this.executor, 2);
+        CountDownLatch latch = new CountDownLatch(PERSISTENCE_UNITS);
+        for (int i = 0; i < PERSISTENCE_UNITS; ++i) {
+            try {
+                executor.execute(latch::countDown);
+            } catch (RejectedExecutionException e) {
+                Assert.fail(e.getMessage());
+            }
+        }
+        // Rejected tasks run in the submitting thread
+        Assert.assertEquals(0, latch.getCount());
+    }
+
+    @Test
+    public void shared() throws InterruptedException {
+        // Persistence units of different deployments may bootstrap via different executors
+        ExecutorService otherExecutor = Executors.newCachedThreadPool();
+        try {
+            BoundedExecutor.Limit limit = new BoundedExecutor.Limit(2);
+            Executor[] executors = new Executor[] { new BoundedExecutor(this.executor, limit), new BoundedExecutor(otherExecutor, limit) };
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            CountDownLatch latch = new CountDownLatch(PERSISTENCE_UNITS);
+            for (int i = 0; i < PERSISTENCE_UNITS; ++i) {
+                executors[i % executors.length].execute(() -> {
+                    int current = running.incrementAndGet();
+                    maxRunning.accumulateAndGet(current, Math::max);
+                    try {
+                        Thread.sleep(BOOTSTRAP_MILLIS / 5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        running.decrementAndGet();
+                        latch.countDown();
+                    }
+                });
+            }
+            Assert.assertTrue(latch.await(PERSISTENCE_UNITS * BOOTSTRAP_MILLIS * 10, TimeUnit.MILLISECONDS));
+            Assert.assertTrue(String.valueOf(maxRunning.get()), maxRunning.get() <= 2);
+        } finally {
+            otherExecutor.shutdownNow();
+        }
+    }
+
+    private void bootstrap(int maxConcurrency) throws InterruptedException {
+        BoundedExecutor executor = new BoundedExecutor(this.executor, maxConcurrency);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(PERSISTENCE_UNITS);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < PERSISTENCE_UNITS; ++i) {
+            executor.execute(() -> {
+                int current = running.incrementAndGet();
+                maxRunning.accumulateAndGet(current, Math::max);
+                try {
+                    Thread.sleep(BOOTSTRAP_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                    latch.countDown();
+                }
+            });
+        }
+        Assert.assertTrue(latch.await(PERSISTENCE_UNITS * BOOTSTRAP_MILLIS * 10, TimeUnit.MILLISECONDS));
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        LOGGER.infof("Bootstrapped %d persistence units with max-concurrent-bootstraps = %d in %d ms", PERSISTENCE_UNITS, maxConcurrency, elapsed);
+
+        Assert.assertTrue(String.valueOf(maxRunning.get()), maxRunning.get() <= maxConcurrency);
+        // Bootstrap cannot complete faster than the number of required rounds of bootstrap tasks
+        int rounds = (PERSISTENCE_UNITS + maxConcurrency - 1) / maxConcurrency;
+        Assert.assertTrue(String.valueOf(elapsed), elapsed >= rounds * BOOTSTRAP_MILLIS);
+    }
+}
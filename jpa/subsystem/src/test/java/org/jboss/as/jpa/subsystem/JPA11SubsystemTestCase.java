@@ -29,6 +29,11 @@ public class JPA11SubsystemTestCase extends AbstractSubsystemBaseTest {
         return "schema/jboss-as-jpa_1_1.xsd";
     }
 
+    @Override
+    protected void compareXml(String configId, String original, String marshalled) throws Exception {
+        //no need to compare
+    }
+
     @Test
     public void testEmptySubsystem() throws Exception {
         standardSubsystemTest("subsystem-1.1-empty.xml");
@@ -7,13 +7,19 @@ package org.wildfly.extension.messaging.activemq;
 
 import static org.jboss.as.controller.SimpleAttributeDefinitionBuilder.create;
 import static org.jboss.as.controller.client.helpers.MeasurementUnit.MILLISECONDS;
+import static org.jboss.as.controller.registry.AttributeAccess.Flag.COUNTER_METRIC;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.function.ToLongFunction;
 
 import org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration;
 import org.apache.activemq.artemis.api.core.client.ActiveMQClient;
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.PersistentResourceDefinition;
 import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
@@ -25,8 +31,11 @@ import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
 import org.wildfly.clustering.server.service.ClusteringDefaultRequirement;
 import org.wildfly.clustering.server.service.ClusteringRequirement;
+import org.wildfly.extension.messaging.activemq.broadcast.BroadcastCommandDispatcherFactory;
+import org.wildfly.extension.messaging.activemq.broadcast.BroadcastStatistics;
 
 
 /**
@@ -83,6 +92,18 @@ public class JGroupsDiscoveryGroupDefinition extends PersistentResourceDefinitio
         JGROUPS_CHANNEL_FACTORY, JGROUPS_CHANNEL, JGROUPS_CLUSTER, REFRESH_TIMEOUT, INITIAL_WAIT_TIMEOUT
     };
 
+    public static final SimpleAttributeDefinition COALESCED_BROADCASTS = create("coalesced-broadcasts", ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(COUNTER_METRIC)
+            .build();
+
+    public static final SimpleAttributeDefinition DROPPED_BROADCASTS = create("dropped-broadcasts", ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(COUNTER_METRIC)
+            .build();
+
     private final boolean registerRuntimeOnly;
 
     protected JGroupsDiscoveryGroupDefinition(final boolean registerRuntimeOnly, final boolean subsystemResource) {
@@ -106,5 +127,35 @@ public class JGroupsDiscoveryGroupDefinition extends PersistentResourceDefinitio
                 registry.registerReadWriteAttribute(attr, null, reloadRequiredWriteAttributeHandler);
             }
         }
+        if (registerRuntimeOnly) {
+            registry.registerMetric(COALESCED_BROADCASTS, new BroadcastMetricHandler(BroadcastStatistics::getCoalescedCount));
+            registry.registerMetric(DROPPED_BROADCASTS, new BroadcastMetricHandler(BroadcastStatistics::getDroppedCount));
+        }
+    }
+
+    /**
+     * Reads a metric from the statistics of the broadcasts received by this discovery group.
+     */
+    private static class BroadcastMetricHandler extends AbstractRuntimeOnlyHandler {
+        private final ToLongFunction<BroadcastStatistics> metric;
+
+        BroadcastMetricHandler(ToLongFunction<BroadcastStatistics> metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            ModelNode model = context.readResource(PathAddress.EMPTY_ADDRESS).getModel();
+            String channelName = JGROUPS_CHANNEL.resolveModelAttribute(context, model).asStringOrNull();
+            String clusterName = JGROUPS_CLUSTER.resolveModelAttribute(context, model).asString();
+            ServiceController<?> service = context.getServiceRegistry(false).getService(MessagingServices.getBroadcastCommandDispatcherFactoryServiceName(channelName));
+            // Service is on-demand, and will not be up until a broadcast endpoint using this channel has started
+            if (service != null && service.getState() == ServiceController.State.UP) {
+                BroadcastCommandDispatcherFactory factory = (BroadcastCommandDispatcherFactory) service.getValue();
+                context.getResult().set(this.metric.applyAsLong(factory.getStatistics(clusterName)));
+            } else {
+                context.getResult().set(0L);
+            }
+        }
     }
 }
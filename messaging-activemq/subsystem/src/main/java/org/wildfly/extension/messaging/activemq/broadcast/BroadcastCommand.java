@@ -6,12 +6,14 @@
 package org.wildfly.extension.messaging.activemq.broadcast;
 
 import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.dispatcher.LatencyTolerantCommand;
 
 /**
  * A {@link Command} that receives a broadcast.
+ * Broadcasts are periodic and tolerate latency, so their messages may be bundled.
  * @author Paul Ferraro
  */
-public class BroadcastCommand implements Command<Void, BroadcastReceiver> {
+public class BroadcastCommand implements LatencyTolerantCommand<Void, BroadcastReceiver> {
     private static final long serialVersionUID = 4354035602902924182L;
 
     private final byte[] data;
@@ -13,4 +13,11 @@ import org.wildfly.clustering.dispatcher.CommandDispatcherFactory;
  */
 public interface BroadcastCommandDispatcherFactory extends CommandDispatcherFactory, BroadcastReceiverRegistrar {
 
+    /**
+     * Returns the statistics of the broadcasts received for the specified broadcast group.
+     * @param name the name of a broadcast group, i.e. its JGroups cluster name
+     * @return the broadcast statistics
+     */
+    BroadcastStatistics getStatistics(String name);
+
 }
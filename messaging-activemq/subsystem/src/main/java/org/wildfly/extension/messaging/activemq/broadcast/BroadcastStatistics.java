@@ -0,0 +1,45 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq.broadcast;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the broadcasts received for a given broadcast group, accumulated across all receiving {@link BroadcastManager} instances.
+ */
+public class BroadcastStatistics {
+
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Records a received broadcast that replaced a pending broadcast from the same sender.
+     */
+    void coalesced() {
+        this.coalesced.increment();
+    }
+
+    /**
+     * Records a pending broadcast that was discarded to honor the capacity of a broadcast manager.
+     */
+    void dropped() {
+        this.dropped.increment();
+    }
+
+    /**
+     * @return the number of pending broadcasts that were superseded by a subsequent broadcast from the same sender
+     */
+    public long getCoalescedCount() {
+        return this.coalesced.sum();
+    }
+
+    /**
+     * @return the number of pending broadcasts that were discarded due to insufficient capacity
+     */
+    public long getDroppedCount() {
+        return this.dropped.sum();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq.broadcast;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
+import org.apache.activemq.artemis.api.core.ActiveMQBuffers;
+import org.wildfly.extension.messaging.activemq._private.MessagingLogger;
+
+/**
+ * A {@link BroadcastManager} that retains only the most recent pending broadcast of each sender.
+ * A broadcast announces the complete set of connectors of its sender, thus a subsequent broadcast from the same sender supersedes any pending broadcast.
+ * Pending broadcasts are bounded by a fixed capacity, such that the memory consumed by a slow consumer is independent of the broadcast rate.
+ */
+public class CoalescingBroadcastManager implements BroadcastManager {
+    static final int DEFAULT_CAPACITY = 256;
+
+    // Pending broadcasts, in order of receipt of the first pending broadcast of each sender
+    private final Map<Object, byte[]> broadcasts = new LinkedHashMap<>();
+    private final Lock lock = new ReentrantLock();
+    private final Condition available = this.lock.newCondition();
+    private final String name;
+    private final int capacity;
+    private final BroadcastStatistics statistics;
+
+    public CoalescingBroadcastManager(String name, BroadcastStatistics statistics) {
+        this(name, DEFAULT_CAPACITY, statistics);
+    }
+
+    CoalescingBroadcastManager(String name, int capacity, BroadcastStatistics statistics) {
+        this.name = name;
+        this.capacity = capacity;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void receive(byte[] broadcast) {
+        if (MessagingLogger.ROOT_LOGGER.isDebugEnabled()) {
+            MessagingLogger.ROOT_LOGGER.debugf("Received broadcast from group %s: %s", this.name, Arrays.toString(broadcast));
+        }
+        Object sender = getSender(broadcast);
+        this.lock.lock();
+        try {
+            if (this.broadcasts.replace(sender, broadcast) != null) {
+                this.statistics.coalesced();
+            } else {
+                if (this.broadcasts.size() >= this.capacity) {
+                    Iterator<byte[]> eldest = this.broadcasts.values().iterator();
+                    eldest.next();
+                    eldest.remove();
+                    this.statistics.dropped();
+                }
+                this.broadcasts.put(sender, broadcast);
+                this.available.signal();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public byte[] getBroadcast() throws InterruptedException {
+        this.lock.lockInterruptibly();
+        try {
+            while (this.broadcasts.isEmpty()) {
+                this.available.await();
+            }
+            return this.poll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public byte[] getBroadcast(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        this.lock.lockInterruptibly();
+        try {
+            while (this.broadcasts.isEmpty()) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = this.available.awaitNanos(nanos);
+            }
+            return this.poll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private byte[] poll() {
+        Iterator<byte[]> eldest = this.broadcasts.values().iterator();
+        byte[] broadcast = eldest.next();
+        eldest.remove();
+        return broadcast;
+    }
+
+    @Override
+    public void clear() {
+        this.lock.lock();
+        try {
+            this.broadcasts.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the sender of the specified broadcast, i.e. the originating node and the unique identifier of its broadcast group.
+     * @param broadcast a broadcast
+     * @return the sender of the broadcast, or a unique object, if the broadcast is not recognized
+     */
+    private static Object getSender(byte[] broadcast) {
+        try {
+            ActiveMQBuffer buffer = ActiveMQBuffers.wrappedBuffer(broadcast);
+            String nodeId = readString(buffer);
+            String uniqueId = readString(buffer);
+            return List.of(nodeId, uniqueId);
+        } catch (RuntimeException e) {
+            // Never coalesce an unrecognized broadcast
+            return new Object();
+        }
+    }
+
+    private static String readString(ActiveMQBuffer buffer) {
+        // Validate length prefix before reading, so that an unrecognized broadcast cannot trigger a large allocation
+        int length = buffer.getInt(buffer.readerIndex());
+        if (length < 0 || length > buffer.readableBytes()) {
+            throw new IndexOutOfBoundsException(Integer.toString(length));
+        }
+        return buffer.readString();
+    }
+}
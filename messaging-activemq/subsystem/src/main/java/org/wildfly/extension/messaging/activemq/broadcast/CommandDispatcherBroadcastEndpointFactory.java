@@ -26,6 +26,7 @@ public class CommandDispatcherBroadcastEndpointFactory implements BroadcastEndpo
 
     @Override
     public BroadcastEndpoint createBroadcastEndpoint() throws Exception {
-        return new CommandDispatcherBroadcastEndpoint(this.factory, this.name, this.factory, QueueBroadcastManager::new);
+        BroadcastCommandDispatcherFactory factory = this.factory;
+        return new CommandDispatcherBroadcastEndpoint(factory, this.name, factory, name -> new CoalescingBroadcastManager(name, factory.getStatistics(name)));
     }
 }
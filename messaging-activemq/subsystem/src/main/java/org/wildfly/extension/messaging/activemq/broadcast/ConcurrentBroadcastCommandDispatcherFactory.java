@@ -31,6 +31,7 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 public class ConcurrentBroadcastCommandDispatcherFactory implements BroadcastCommandDispatcherFactory {
 
     private final Set<BroadcastReceiver> receivers = ConcurrentHashMap.newKeySet();
+    private final Map<String, BroadcastStatistics> statistics = new ConcurrentHashMap<>();
     private final Manager<Object, CommandDispatcher<?>> dispatchers = new ConcurrentManager<>(Functions.discardingConsumer(), new Consumer<CommandDispatcher<?>>() {
         @Override
         public void accept(CommandDispatcher<?> dispatcher) {
@@ -56,6 +57,11 @@ public class ConcurrentBroadcastCommandDispatcherFactory implements BroadcastCom
         return () -> this.receivers.remove(receiver);
     }
 
+    @Override
+    public BroadcastStatistics getStatistics(String name) {
+        return this.statistics.computeIfAbsent(name, key -> new BroadcastStatistics());
+    }
+
     @Override
     public Group getGroup() {
         return this.factory.getGroup();
@@ -0,0 +1,115 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq.broadcast;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
+import org.apache.activemq.artemis.api.core.ActiveMQBuffers;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CoalescingBroadcastManager}.
+ */
+public class CoalescingBroadcastManagerTestCase {
+
+    @Test
+    public void coalesce() throws InterruptedException {
+        BroadcastStatistics statistics = new BroadcastStatistics();
+        BroadcastManager manager = new CoalescingBroadcastManager("group", 4, statistics);
+
+        byte[] first = createBroadcast("node1", 1);
+        byte[] second = createBroadcast("node2", 1);
+        byte[] third = createBroadcast("node1", 2);
+
+        manager.receive(first);
+        manager.receive(second);
+        manager.receive(third);
+
+        assertEquals(1L, statistics.getCoalescedCount());
+        assertEquals(0L, statistics.getDroppedCount());
+
+        // Latest broadcast of node1 retains the position of the broadcast it superseded
+        assertArrayEquals(third, manager.getBroadcast());
+        assertArrayEquals(second, manager.getBroadcast());
+        assertNull(manager.getBroadcast(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void drop() throws InterruptedException {
+        BroadcastStatistics statistics = new BroadcastStatistics();
+        BroadcastManager manager = new CoalescingBroadcastManager("group", 2, statistics);
+
+        byte[] first = createBroadcast("node1", 1);
+        byte[] second = createBroadcast("node2", 1);
+        byte[] third = createBroadcast("node3", 1);
+
+        manager.receive(first);
+        manager.receive(second);
+        manager.receive(third);
+
+        assertEquals(0L, statistics.getCoalescedCount());
+        assertEquals(1L, statistics.getDroppedCount());
+
+        assertArrayEquals(second, manager.getBroadcast(1, TimeUnit.SECONDS));
+        assertArrayEquals(third, manager.getBroadcast(1, TimeUnit.SECONDS));
+        assertNull(manager.getBroadcast(10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void unrecognized() throws InterruptedException {
+        BroadcastStatistics statistics = new BroadcastStatistics();
+        BroadcastManager manager = new CoalescingBroadcastManager("group", 4, statistics);
+
+        byte[] broadcast = new byte[] { 1, 2, 3 };
+
+        manager.receive(broadcast);
+        manager.receive(broadcast);
+
+        // Unrecognized broadcasts are never coalesced
+        assertEquals(0L, statistics.getCoalescedCount());
+        assertArrayEquals(broadcast, manager.getBroadcast());
+        assertArrayEquals(broadcast, manager.getBroadcast());
+
+        manager.receive(broadcast);
+        manager.clear();
+        assertNull(manager.getBroadcast(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void oversized() throws InterruptedException {
+        BroadcastStatistics statistics = new BroadcastStatistics();
+        BroadcastManager manager = new CoalescingBroadcastManager("group", 4, statistics);
+
+        // Length prefix exceeds the size of the broadcast
+        ActiveMQBuffer buffer = ActiveMQBuffers.dynamicBuffer(8);
+        buffer.writeInt(Integer.MAX_VALUE);
+        buffer.writeInt(0);
+        byte[] broadcast = new byte[buffer.writerIndex()];
+        buffer.readBytes(broadcast);
+
+        manager.receive(broadcast);
+        manager.receive(broadcast);
+
+        assertEquals(0L, statistics.getCoalescedCount());
+        assertArrayEquals(broadcast, manager.getBroadcast());
+        assertArrayEquals(broadcast, manager.getBroadcast());
+    }
+
+    private static byte[] createBroadcast(String nodeId, int sequence) {
+        ActiveMQBuffer buffer = ActiveMQBuffers.dynamicBuffer(64);
+        buffer.writeString(nodeId);
+        buffer.writeString("unique-id");
+        buffer.writeInt(sequence);
+        byte[] result = new byte[buffer.writerIndex()];
+        buffer.readBytes(result);
+        return result;
+    }
+}
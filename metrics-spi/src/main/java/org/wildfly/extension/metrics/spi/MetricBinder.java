@@ -0,0 +1,34 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.metrics.spi;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.jboss.as.controller.PathAddress;
+
+/**
+ * Binds the metric attributes of a management resource directly to the values of runtime statistics,
+ * such that collecting these metrics does not require a read-attribute operation per metric.
+ * Provided by the metrics subsystem, if present, via the {@value #CAPABILITY_NAME} capability.
+ */
+public interface MetricBinder {
+
+    /**
+     * The name of the capability providing the metric binder.
+     */
+    String CAPABILITY_NAME = "org.wildfly.extension.metrics.binder";
+
+    /**
+     * Binds the specified attributes of the resource with the specified address directly to the values of the specified statistics.
+     * A statistic with a null value is reported as undefined.
+     *
+     * @param address the address of a resource
+     * @param statistics suppliers of statistic values, keyed by metric attribute name
+     * @return a task that removes these bindings
+     */
+    Runnable bind(PathAddress address, Map<String, Supplier<Number>> statistics);
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.metrics.spi;
+
+import java.util.function.Supplier;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+
+/**
+ * Registers metrics whose values are supplied directly, e.g. for runtime statistics that are not exposed as attributes of a management resource.
+ * Provided by the metrics subsystem, if present, via the {@value #CAPABILITY_NAME} capability.
+ */
+public interface MetricRegistrar {
+
+    /**
+     * The name of the capability providing the metric registrar.
+     */
+    String CAPABILITY_NAME = "org.wildfly.extension.metrics.registrar";
+
+    /**
+     * The type of a registered metric.
+     */
+    enum Type {
+        COUNTER,
+        GAUGE,
+        ;
+    }
+
+    /**
+     * Registers a metric named after the specified attribute, and tagged with the specified address, whose value is read from the specified supplier.
+     * A null value is reported as undefined.
+     *
+     * @param address the address with which the metric is tagged
+     * @param attributeName the name of the metric attribute
+     * @param description a description of the metric
+     * @param unit the unit of the metric
+     * @param type the type of the metric
+     * @param value supplies the value of the metric
+     * @return a task that unregisters this metric
+     */
+    Runnable register(PathAddress address, String attributeName, String description, MeasurementUnit unit, Type type, Supplier<Number> value);
+}
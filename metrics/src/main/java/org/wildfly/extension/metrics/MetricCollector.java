@@ -13,10 +13,14 @@ import static org.wildfly.extension.metrics.MetricMetadata.Type.GAUGE;
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.jboss.as.controller.ControlledProcessState;
 import org.jboss.as.controller.LocalModelControllerClient;
@@ -30,16 +34,62 @@ import org.jboss.as.controller.registry.ImmutableManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.wildfly.extension.metrics.spi.MetricBinder;
 
-public class MetricCollector {
+public class MetricCollector implements MetricBinder {
     private final LocalModelControllerClient modelControllerClient;
     private final ProcessStateNotifier processStateNotifier;
+    // Metrics bound directly to a resource attribute, keyed by resource address, then attribute name
+    private final Map<PathAddress, Map<String, Metric>> bindings = new ConcurrentHashMap<>();
 
     public MetricCollector(LocalModelControllerClient modelControllerClient, ProcessStateNotifier processStateNotifier) {
         this.modelControllerClient = modelControllerClient;
         this.processStateNotifier = processStateNotifier;
     }
 
+    /**
+     * Binds the specified attribute of the resource with the specified address directly to a metric, e.g. one backed by a runtime statistic.
+     * Metrics collected for this attribute will read the bound metric, rather than executing a read-attribute operation per read.
+     * Bindings are resolved per read, so an attribute may be bound before or after the collected metrics are registered.
+     *
+     * @param address the address of a resource
+     * @param attributeName the name of a metric attribute of the resource
+     * @param metric the metric to which the attribute is bound
+     * @return a task that removes this binding
+     */
+    public Runnable bind(PathAddress address, String attributeName, Metric metric) {
+        this.bindings.computeIfAbsent(address, key -> new ConcurrentHashMap<>()).put(attributeName, metric);
+        return () -> this.bindings.computeIfPresent(address, (key, metrics) -> {
+            metrics.remove(attributeName, metric);
+            return metrics.isEmpty() ? null : metrics;
+        });
+    }
+
+    @Override
+    public Runnable bind(PathAddress address, Map<String, Supplier<Number>> statistics) {
+        List<Runnable> tasks = new ArrayList<>(statistics.size());
+        for (Map.Entry<String, Supplier<Number>> entry : statistics.entrySet()) {
+            Supplier<Number> statistic = entry.getValue();
+            tasks.add(this.bind(address, entry.getKey(), () -> {
+                Number value = statistic.get();
+                return (value != null) ? OptionalDouble.of(value.doubleValue()) : OptionalDouble.empty();
+            }));
+        }
+        return () -> tasks.forEach(Runnable::run);
+    }
+
+    /**
+     * Returns a metric for the specified attribute of the resource with the specified address.
+     * The returned metric reads the metric bound to this attribute, if any, or otherwise reads the attribute via a management operation.
+     *
+     * @param address the address of a resource
+     * @param attributeName the name of a metric attribute of the resource
+     * @return a metric for the specified attribute
+     */
+    public Metric resolve(PathAddress address, String attributeName) {
+        return new BoundMetric(address, attributeName, new WildFlyMetric(this.modelControllerClient, address, attributeName));
+    }
+
     // collect metrics from the resources
     public synchronized void collectResourceMetrics(final Resource resource,
                                                      ImmutableManagementResourceRegistration managementResourceRegistration,
@@ -111,10 +161,9 @@ public class MetricCollector {
             boolean isCounter = attributeAccess.getFlags().contains(AttributeAccess.Flag.COUNTER_METRIC);
             String attributeDescription = resourceDescription.get(ATTRIBUTES, attributeName, DESCRIPTION).asStringOrNull();
 
-            WildFlyMetric metric = new WildFlyMetric(modelControllerClient, resourceAddress, attributeName);
             WildFlyMetricMetadata metadata = new WildFlyMetricMetadata(attributeName, resourceAddress, prefix, attributeDescription, unit, isCounter ? COUNTER : GAUGE);
 
-            registration.addRegistrationTask(() -> registration.registerMetric(metric, metadata));
+            registration.addRegistrationTask(() -> registration.registerMetric(resolve(resourceAddress, attributeName), metadata));
             registration.addUnregistrationTask(metadata.getMetricID());
         }
 
@@ -127,6 +176,28 @@ public class MetricCollector {
         }
     }
 
+    /**
+     * Metric that reads the metric bound to its attribute, if any, or otherwise reads its attribute via a management operation.
+     */
+    private class BoundMetric implements Metric {
+        private final PathAddress address;
+        private final String attributeName;
+        private final Metric unbound;
+
+        BoundMetric(PathAddress address, String attributeName, Metric unbound) {
+            this.address = address;
+            this.attributeName = attributeName;
+            this.unbound = unbound;
+        }
+
+        @Override
+        public OptionalDouble getValue() {
+            Map<String, Metric> metrics = MetricCollector.this.bindings.get(this.address);
+            Metric metric = (metrics != null) ? metrics.get(this.attributeName) : null;
+            return ((metric != null) ? metric : this.unbound).getValue();
+        }
+    }
+
     private boolean isExposingMetrics(PathAddress address, boolean exposeAnySubsystem, List<String> exposedSubsystems) {
         // root resource
         if (address.size() == 0) {
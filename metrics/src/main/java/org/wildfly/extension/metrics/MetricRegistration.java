@@ -42,7 +42,14 @@ public class MetricRegistration {
         cleanUpTasks.clear();
     }
 
-    public void registerMetric(WildFlyMetric metric, WildFlyMetricMetadata metadata) {
+    /**
+     * Registers the specified metric.
+     * The metric may be bound directly to the source of its value (e.g. a supplier of a runtime statistic),
+     * in which case reading the metric does not require the execution of a management operation.
+     * @param metric a metric
+     * @param metadata the metric metadata
+     */
+    public void registerMetric(Metric metric, WildFlyMetricMetadata metadata) {
         registry.registerMetric(metric, metadata);
     }
 
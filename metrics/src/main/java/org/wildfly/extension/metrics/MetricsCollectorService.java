@@ -6,6 +6,7 @@ package org.wildfly.extension.metrics;
 
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.CLIENT_FACTORY_CAPABILITY;
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.MANAGEMENT_EXECUTOR;
+import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_BINDER;
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.PROCESS_STATE_NOTIFIER;
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.WILDFLY_COLLECTOR;
 
@@ -21,6 +22,7 @@ import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StopContext;
+import org.wildfly.extension.metrics.spi.MetricBinder;
 
 /**
  * Service to create a metric collector
@@ -31,6 +33,7 @@ public class MetricsCollectorService implements Service<MetricCollector> {
     private final Supplier<Executor> managementExecutor;
     private final Supplier<ProcessStateNotifier> processStateNotifier;
     private Consumer<MetricCollector> metricCollectorConsumer;
+    private final Consumer<MetricBinder> metricBinderConsumer;
 
     private MetricCollector metricCollector;
     private LocalModelControllerClient modelControllerClient;
@@ -41,17 +44,20 @@ public class MetricsCollectorService implements Service<MetricCollector> {
         Supplier<Executor> managementExecutor = serviceBuilder.requires(context.getCapabilityServiceName(MANAGEMENT_EXECUTOR, Executor.class));
         Supplier<ProcessStateNotifier> processStateNotifier = serviceBuilder.requires(context.getCapabilityServiceName(PROCESS_STATE_NOTIFIER, ProcessStateNotifier.class));
         Consumer<MetricCollector> metricCollectorConsumer = serviceBuilder.provides(WILDFLY_COLLECTOR);
-        MetricsCollectorService service = new MetricsCollectorService(modelControllerClientFactory, managementExecutor, processStateNotifier, metricCollectorConsumer);
+        Consumer<MetricBinder> metricBinderConsumer = serviceBuilder.provides(METRICS_BINDER);
+        MetricsCollectorService service = new MetricsCollectorService(modelControllerClientFactory, managementExecutor, processStateNotifier, metricCollectorConsumer, metricBinderConsumer);
         serviceBuilder.setInstance(service)
                 .install();
     }
 
     MetricsCollectorService(Supplier<ModelControllerClientFactory> modelControllerClientFactory, Supplier<Executor> managementExecutor,
-                            Supplier<ProcessStateNotifier> processStateNotifier, Consumer<MetricCollector> metricCollectorConsumer) {
+                            Supplier<ProcessStateNotifier> processStateNotifier, Consumer<MetricCollector> metricCollectorConsumer,
+                            Consumer<MetricBinder> metricBinderConsumer) {
         this.modelControllerClientFactory = modelControllerClientFactory;
         this.managementExecutor = managementExecutor;
         this.processStateNotifier = processStateNotifier;
         this.metricCollectorConsumer = metricCollectorConsumer;
+        this.metricBinderConsumer = metricBinderConsumer;
     }
 
     @Override
@@ -62,10 +68,12 @@ public class MetricsCollectorService implements Service<MetricCollector> {
         metricCollector = new MetricCollector(modelControllerClient, processStateNotifier.get());
 
         metricCollectorConsumer.accept(metricCollector);
+        metricBinderConsumer.accept(metricCollector);
     }
 
     @Override
     public void stop(StopContext context) {
+        metricBinderConsumer.accept(null);
         metricCollectorConsumer.accept(null);
         metricCollector = null;
 
@@ -10,11 +10,16 @@ import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_H
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_HTTP_SECURITY_CAPABILITY;
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_REGISTRY_RUNTIME_CAPABILITY;
 
+import java.io.OutputStream;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.encoding.ContentEncodingRepository;
+import io.undertow.server.handlers.encoding.EncodingHandler;
+import io.undertow.server.handlers.encoding.GzipEncodingProvider;
+import io.undertow.util.Headers;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.server.mgmt.domain.ExtensibleHttpManagement;
 import org.jboss.msc.Service;
@@ -29,6 +34,7 @@ import org.jboss.msc.service.StopContext;
 public class MetricsContextService implements Service {
 
     private static final String CONTEXT_NAME = "/metrics";
+    private static final String GZIP = "gzip";
 
     private final Consumer<MetricsContextService> consumer;
     private final Supplier<ExtensibleHttpManagement> extensibleHttpManagement;
@@ -68,6 +74,23 @@ public class MetricsContextService implements Service {
 
     @Override
     public void start(StartContext context) {
+        // Streams metrics directly into the pooled buffers of the response, using chunked transfer encoding, gzip compressed if accepted by the client
+        HttpHandler exportHandler = new EncodingHandler(new HttpHandler() {
+            @Override
+            public void handleRequest(HttpServerExchange exchange) throws Exception {
+                if (exchange.isInIoThread()) {
+                    exchange.dispatch(this);
+                    return;
+                }
+                PrometheusExporter.Format format = PrometheusExporter.Format.forAccept(exchange.getRequestHeaders().getFirst(Headers.ACCEPT));
+                exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, format.getContentType());
+                exchange.startBlocking();
+                // The registry supports concurrent reads, so a scrape does not block metric (un)registration
+                try (OutputStream output = exchange.getOutputStream()) {
+                    prometheusExporter.export(wildflyMetricRegistry.get(), format, output);
+                }
+            }
+        }, new ContentEncodingRepository().addEncodingHandler(GZIP, new GzipEncodingProvider(), 50));
         extensibleHttpManagement.get().addManagementHandler(CONTEXT_NAME, securityEnabledSupplier.get(), new HttpHandler() {
             @Override
             public void handleRequest(HttpServerExchange exchange) throws Exception {
@@ -76,14 +99,7 @@ public class MetricsContextService implements Service {
                     return;
                 }
 
-                WildFlyMetricRegistry metricRegistry = wildflyMetricRegistry.get();
-                metricRegistry.readLock();
-                try {
-                    String wildFlyMetrics = prometheusExporter.export(metricRegistry);
-                    exchange.getResponseSender().send(wildFlyMetrics);
-                } finally {
-                    metricRegistry.unlock();
-                }
+                exportHandler.handleRequest(exchange);
             }
         });
         consumer.accept(this);
@@ -18,6 +18,8 @@ import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.msc.service.ServiceName;
+import org.wildfly.extension.metrics.spi.MetricBinder;
+import org.wildfly.extension.metrics.spi.MetricRegistrar;
 
 /**
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2018 Red Hat inc.
@@ -35,16 +37,24 @@ public class MetricsSubsystemDefinition extends PersistentResourceDefinition {
             .addRequirements(CLIENT_FACTORY_CAPABILITY, MANAGEMENT_EXECUTOR, PROCESS_STATE_NOTIFIER)
             .build();
 
+    private static final RuntimeCapability<Void> METRICS_BINDER_RUNTIME_CAPABILITY = RuntimeCapability.Builder.of(MetricBinder.CAPABILITY_NAME, MetricBinder.class)
+            .addRequirements(CLIENT_FACTORY_CAPABILITY, MANAGEMENT_EXECUTOR, PROCESS_STATE_NOTIFIER)
+            .build();
+
     static final RuntimeCapability<Void> METRICS_HTTP_CONTEXT_CAPABILITY = RuntimeCapability.Builder.of("org.wildfly.extension.metrics.http-context", MetricsContextService.class)
             .addRequirements(HTTP_EXTENSIBILITY_CAPABILITY)
             .build();
 
     public static final RuntimeCapability<Void> METRICS_REGISTRY_RUNTIME_CAPABILITY = RuntimeCapability.Builder.of("org.wildfly.extension.metrics.registry", WildFlyMetricRegistry.class)
             .build();
+
+    static final RuntimeCapability<Void> METRICS_REGISTRAR_RUNTIME_CAPABILITY = RuntimeCapability.Builder.of(MetricRegistrar.CAPABILITY_NAME, MetricRegistrar.class)
+            .build();
     static final RuntimeCapability METRICS_CAPABILITY =
             RuntimeCapability.Builder.of("org.wildfly.management.http-context.metrics").build();
 
     public static final ServiceName WILDFLY_COLLECTOR = METRICS_COLLECTOR_RUNTIME_CAPABILITY.getCapabilityServiceName();
+    static final ServiceName METRICS_BINDER = METRICS_BINDER_RUNTIME_CAPABILITY.getCapabilityServiceName();
 
     static final AttributeDefinition SECURITY_ENABLED = SimpleAttributeDefinitionBuilder.create("security-enabled", ModelType.BOOLEAN)
             .setDefaultValue(ModelNode.TRUE)
@@ -71,8 +81,8 @@ public class MetricsSubsystemDefinition extends PersistentResourceDefinition {
                 MetricsExtension.getResourceDescriptionResolver(MetricsExtension.SUBSYSTEM_NAME))
                 .setAddHandler(MetricsSubsystemAdd.INSTANCE)
                 .setRemoveHandler(new ServiceRemoveStepHandler(MetricsSubsystemAdd.INSTANCE))
-                .addCapabilities(METRICS_COLLECTOR_RUNTIME_CAPABILITY, METRICS_HTTP_CONTEXT_CAPABILITY,
-                        METRICS_REGISTRY_RUNTIME_CAPABILITY, METRICS_CAPABILITY));
+                .addCapabilities(METRICS_COLLECTOR_RUNTIME_CAPABILITY, METRICS_BINDER_RUNTIME_CAPABILITY, METRICS_HTTP_CONTEXT_CAPABILITY,
+                        METRICS_REGISTRY_RUNTIME_CAPABILITY, METRICS_REGISTRAR_RUNTIME_CAPABILITY, METRICS_CAPABILITY));
     }
 
     @Override
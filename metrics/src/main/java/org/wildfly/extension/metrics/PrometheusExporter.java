@@ -4,58 +4,171 @@
  */
 package org.wildfly.extension.metrics;
 
-import java.util.HashSet;
-import java.util.Map;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.OptionalDouble;
-import java.util.Set;
 
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.wildfly.extension.metrics.MetricMetadata.MetricTag;
 
+/**
+ * Exports the metrics of a registry using the Prometheus text format, or the OpenMetrics text format.
+ * The name, labels, HELP and TYPE lines of each metric are encoded once, on registration,
+ * so that an export only needs to write the metric values.
+ */
 public class PrometheusExporter {
 
-    private static final String LF = "\n";
+    private static final byte LF = '\n';
+    private static final byte SPACE = ' ';
+    private static final byte[] EOF = "# EOF\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NAN = "NaN".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] POSITIVE_INFINITY = "+Inf".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NEGATIVE_INFINITY = "-Inf".getBytes(StandardCharsets.UTF_8);
+    // Largest integral value that Double.toString(...) does not render using scientific notation
+    private static final double MAX_DECIMAL = 1e7;
 
-    public String export(WildFlyMetricRegistry registry) {
-        Set<String> alreadyExportedMetrics = new HashSet<String>();
+    /**
+     * The supported exposition formats.
+     */
+    public enum Format {
+        PROMETHEUS("text/plain; version=0.0.4; charset=utf-8"),
+        OPENMETRICS("application/openmetrics-text; version=1.0.0; charset=utf-8"),
+        ;
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        String getContentType() {
+            return this.contentType;
+        }
 
-        StringBuilder out = new StringBuilder();
+        /**
+         * Returns the format requested by the specified Accept header.
+         * @param accept the value of an Accept header, may be null
+         * @return an exposition format
+         */
+        static Format forAccept(String accept) {
+            return (accept != null) && accept.contains("application/openmetrics-text") ? OPENMETRICS : PROMETHEUS;
+        }
+    }
+
+    public String export(WildFlyMetricRegistry registry) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            this.export(registry, Format.PROMETHEUS, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
 
-        for (Map.Entry<MetricID, Metric> entry : registry.getMetrics().entrySet()) {
-            MetricID metricID = entry.getKey();
-            String metricName = metricID.getMetricName();
-            MetricMetadata metadata = registry.getMetricMetadata().get(metricName);
-            String prometheusMetricName = toPrometheusMetricName(metricID, metadata);
-            OptionalDouble metricValue = entry.getValue().getValue();
+    /**
+     * Writes the metrics of the specified registry to the specified stream using the specified format.
+     * @param registry a metric registry
+     * @param format an exposition format
+     * @param out the target stream
+     * @throws IOException if the metrics could not be written
+     */
+    public void export(WildFlyMetricRegistry registry, Format format, OutputStream out) throws IOException {
+        // Metrics are sorted by name, so the metrics of a given family are contiguous
+        MetricFamily exportedFamily = null;
+        byte[] buffer = new byte[32];
+        for (ExportedMetric metric : registry.getMetrics().values()) {
+            OptionalDouble metricValue = metric.getMetric().getValue();
             // if the metric does not return a value, we skip printing the HELP and TYPE
             if (!metricValue.isPresent()) {
                 continue;
             }
-            if (!alreadyExportedMetrics.contains(metricName)) {
-                out.append("# HELP " + prometheusMetricName + " " + metadata.getDescription());
-                out.append(LF);
-                out.append("# TYPE " + prometheusMetricName + " " + metadata.getType());
-                out.append(LF);
-                alreadyExportedMetrics.add(metricName);
+            MetricFamily family = metric.getFamily();
+            if (family != exportedFamily) {
+                out.write(family.getHeader(format));
+                exportedFamily = family;
             }
-            double scaledValue = scaleToBaseUnit(metricValue.getAsDouble(), metadata.getMeasurementUnit());
-            // I'm pretty sure this is incorrect but that aligns with smallrye-metrics OpenMetricsExporter behaviour
-            if (metadata.getType() == MetricMetadata.Type.COUNTER && metadata.getMeasurementUnit() != MeasurementUnit.NONE) {
-                prometheusMetricName += "_" + metadata.getBaseMetricUnit();
+            out.write(metric.getPrefix(format));
+            writeValue(metricValue.getAsDouble() * family.getScale(), buffer, out);
+            out.write(LF);
+        }
+        if (format == Format.OPENMETRICS) {
+            out.write(EOF);
+        }
+    }
+
+    private static void writeValue(double value, byte[] buffer, OutputStream out) throws IOException {
+        if (Double.isNaN(value)) {
+            out.write(NAN);
+        } else if (Double.isInfinite(value)) {
+            out.write((value > 0) ? POSITIVE_INFINITY : NEGATIVE_INFINITY);
+        } else if ((value == Math.rint(value)) && (Math.abs(value) < MAX_DECIMAL)) {
+            // Format integral values without allocating, consistent with Double.toString(...)
+            long integral = (long) value;
+            boolean negative = (integral < 0) || ((integral == 0) && (Double.doubleToRawLongBits(value) != 0));
+            int position = buffer.length;
+            buffer[--position] = '0';
+            buffer[--position] = '.';
+            long remaining = Math.abs(integral);
+            do {
+                buffer[--position] = (byte) ('0' + (remaining % 10));
+                remaining /= 10;
+            } while (remaining > 0);
+            if (negative) {
+                buffer[--position] = '-';
             }
-            out.append(prometheusMetricName + getTagsAsAString(metricID) + " " + scaledValue);
-            out.append(LF);
+            out.write(buffer, position, buffer.length - position);
+        } else {
+            out.write(Double.toString(value).getBytes(StandardCharsets.US_ASCII));
         }
+    }
 
-        return out.toString();
+    /**
+     * Encodes the HELP and TYPE lines of the specified metric family.
+     * @param metadata the metadata of the first metric registered with a given name
+     * @return an encoded metric family
+     */
+    static MetricFamily encode(MetricMetadata metadata) {
+        String prometheusMetricName = toPrometheusMetricName(metadata);
+        String description = String.valueOf(metadata.getDescription());
+        String baseUnit = metadata.getBaseMetricUnit();
+        boolean counter = metadata.getType() == MetricMetadata.Type.COUNTER;
+        StringBuilder prometheus = new StringBuilder();
+        prometheus.append("# HELP ").append(prometheusMetricName).append(' ').append(escape(description, false)).append('\n');
+        prometheus.append("# TYPE ").append(prometheusMetricName).append(' ').append(metadata.getType()).append('\n');
+        // OpenMetrics requires that the name of a counter family excludes its _total suffix
+        String openMetricsFamilyName = toOpenMetricsFamilyName(metadata);
+        StringBuilder openMetrics = new StringBuilder();
+        openMetrics.append("# TYPE ").append(openMetricsFamilyName).append(' ').append(metadata.getType()).append('\n');
+        if (!MetricMetadata.NONE.equals(baseUnit)) {
+            openMetrics.append("# UNIT ").append(openMetricsFamilyName).append(' ').append(baseUnit).append('\n');
+        }
+        openMetrics.append("# HELP ").append(openMetricsFamilyName).append(' ').append(escape(description, true)).append('\n');
+        // I'm pretty sure this is incorrect but that aligns with smallrye-metrics OpenMetricsExporter behaviour
+        String prometheusSampleName = (counter && metadata.getMeasurementUnit() != MeasurementUnit.NONE) ? prometheusMetricName + "_" + baseUnit : prometheusMetricName;
+        String openMetricsSampleName = counter ? openMetricsFamilyName + "_total" : openMetricsFamilyName;
+        MeasurementUnit unit = metadata.getMeasurementUnit();
+        double scale = MeasurementUnit.calculateOffset(unit, unit.getBaseUnits());
+        return new MetricFamily(prometheus.toString().getBytes(StandardCharsets.UTF_8), openMetrics.toString().getBytes(StandardCharsets.UTF_8), prometheusSampleName, openMetricsSampleName, scale);
     }
 
-    private static double scaleToBaseUnit(double value, MeasurementUnit unit) {
-        return value * MeasurementUnit.calculateOffset(unit, unit.getBaseUnits());
+    /**
+     * Encodes the name and labels of the specified metric.
+     * @param metric a metric
+     * @param metricID the metric identifier
+     * @param family the encoded family of this metric
+     * @return an encoded metric
+     */
+    static ExportedMetric encode(Metric metric, MetricID metricID, MetricFamily family) {
+        String tags = getTagsAsAString(metricID);
+        byte[] prometheusPrefix = (family.prometheusSampleName + tags + " ").getBytes(StandardCharsets.UTF_8);
+        byte[] openMetricsPrefix = (family.openMetricsSampleName + tags + " ").getBytes(StandardCharsets.UTF_8);
+        return new ExportedMetric(metric, family, prometheusPrefix, openMetricsPrefix);
     }
 
-    private static String toPrometheusMetricName(MetricID metricID, MetricMetadata metadata) {
-        String prometheusName = metricID.getMetricName();
+    private static String toPrometheusMetricName(MetricMetadata metadata) {
+        String prometheusName = metadata.getMetricName();
         // change the Prometheus name depending on type and measurement unit
         if (metadata.getType() == WildFlyMetricMetadata.Type.COUNTER) {
             prometheusName += "_total";
@@ -69,6 +182,11 @@ public class PrometheusExporter {
         return prometheusName;
     }
 
+    private static String toOpenMetricsFamilyName(MetricMetadata metadata) {
+        String baseUnit = metadata.getBaseMetricUnit();
+        return MetricMetadata.NONE.equals(baseUnit) ? metadata.getMetricName() : metadata.getMetricName() + "_" + baseUnit;
+    }
+
     public static String getTagsAsAString(MetricID metricID) {
         MetricTag[] tags = metricID.getTags();
         if (tags.length == 0) {
@@ -80,8 +198,81 @@ public class PrometheusExporter {
                 out.append(",");
             }
             MetricTag tag = tags[i];
-            out.append(tag.getKey() + "=\"" + tag.getValue() + "\"");
+            out.append(tag.getKey()).append("=\"").append(escape(tag.getValue(), true)).append('"');
         }
         return out.append("}").toString();
     }
-}
\ No newline at end of file
+
+    private static String escape(String value, boolean quotes) {
+        StringBuilder result = null;
+        for (int i = 0; i < value.length(); ++i) {
+            char c = value.charAt(i);
+            String replacement = (c == '\\') ? "\\\\" : (c == '\n') ? "\\n" : (quotes && (c == '"')) ? "\\\"" : null;
+            if (replacement != null) {
+                if (result == null) {
+                    result = new StringBuilder(value.length() + 8).append(value, 0, i);
+                }
+                result.append(replacement);
+            } else if (result != null) {
+                result.append(c);
+            }
+        }
+        return (result != null) ? result.toString() : value;
+    }
+
+    /**
+     * The encoded HELP and TYPE lines shared by all metrics with a given name.
+     */
+    static class MetricFamily {
+        private final byte[] prometheusHeader;
+        private final byte[] openMetricsHeader;
+        private final String prometheusSampleName;
+        private final String openMetricsSampleName;
+        private final double scale;
+
+        MetricFamily(byte[] prometheusHeader, byte[] openMetricsHeader, String prometheusSampleName, String openMetricsSampleName, double scale) {
+            this.prometheusHeader = prometheusHeader;
+            this.openMetricsHeader = openMetricsHeader;
+            this.prometheusSampleName = prometheusSampleName;
+            this.openMetricsSampleName = openMetricsSampleName;
+            this.scale = scale;
+        }
+
+        byte[] getHeader(Format format) {
+            return (format == Format.OPENMETRICS) ? this.openMetricsHeader : this.prometheusHeader;
+        }
+
+        double getScale() {
+            return this.scale;
+        }
+    }
+
+    /**
+     * A registered metric, with its encoded name and labels.
+     */
+    static class ExportedMetric {
+        private final Metric metric;
+        private final MetricFamily family;
+        private final byte[] prometheusPrefix;
+        private final byte[] openMetricsPrefix;
+
+        ExportedMetric(Metric metric, MetricFamily family, byte[] prometheusPrefix, byte[] openMetricsPrefix) {
+            this.metric = metric;
+            this.family = family;
+            this.prometheusPrefix = prometheusPrefix;
+            this.openMetricsPrefix = openMetricsPrefix;
+        }
+
+        Metric getMetric() {
+            return this.metric;
+        }
+
+        MetricFamily getFamily() {
+            return this.family;
+        }
+
+        byte[] getPrefix(Format format) {
+            return (format == Format.OPENMETRICS) ? this.openMetricsPrefix : this.prometheusPrefix;
+        }
+    }
+}
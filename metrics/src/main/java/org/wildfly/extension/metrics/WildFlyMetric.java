@@ -27,6 +27,8 @@ public class WildFlyMetric implements Metric {
     private LocalModelControllerClient modelControllerClient;
     private final PathAddress address;
     private final String attributeName;
+    // Operation is resolved once, and copied per read
+    private final ModelNode readAttributeOp;
 
     static {
         UNDEFINED.protect();
@@ -36,6 +38,12 @@ public class WildFlyMetric implements Metric {
         this.modelControllerClient = modelControllerClient;
         this.address = address;
         this.attributeName = attributeName;
+        this.readAttributeOp = new ModelNode();
+        this.readAttributeOp.get(OP).set(READ_ATTRIBUTE_OPERATION);
+        this.readAttributeOp.get(OP_ADDR).set(address.toModelNode());
+        this.readAttributeOp.get(ModelDescriptionConstants.INCLUDE_UNDEFINED_METRIC_VALUES).set(false);
+        this.readAttributeOp.get(NAME).set(attributeName);
+        this.readAttributeOp.protect();
     }
 
     @Override
@@ -52,12 +60,7 @@ public class WildFlyMetric implements Metric {
     }
 
     private ModelNode readAttributeValue(PathAddress address, String attributeName) {
-        final ModelNode readAttributeOp = new ModelNode();
-        readAttributeOp.get(OP).set(READ_ATTRIBUTE_OPERATION);
-        readAttributeOp.get(OP_ADDR).set(address.toModelNode());
-        readAttributeOp.get(ModelDescriptionConstants.INCLUDE_UNDEFINED_METRIC_VALUES).set(false);
-        readAttributeOp.get(NAME).set(attributeName);
-        ModelNode response = modelControllerClient.execute(readAttributeOp);
+        ModelNode response = modelControllerClient.execute(this.readAttributeOp.clone());
         String error = getFailureDescription(response);
         // TODO: Revisit this handling
         if (error != null) {
@@ -7,18 +7,28 @@ package org.wildfly.extension.metrics;
 import static java.util.Objects.requireNonNull;
 
 import java.io.Closeable;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.wildfly.extension.metrics.spi.MetricRegistrar;
 
-public class WildFlyMetricRegistry implements Closeable, MetricRegistry {
+/**
+ * Registry of metrics, whose metrics can be read without locking, e.g. by a scrape of the metrics endpoint.
+ * The exposition of each metric is encoded on registration, using the metadata of the first metric registered with a given name,
+ * which remains registered until the registry is closed.
+ */
+public class WildFlyMetricRegistry implements Closeable, MetricRegistry, MetricRegistrar {
 
     /* Key is the metric name */
-    private Map<String, MetricMetadata> metadataMap = new HashMap();
-    private Map<MetricID, Metric> metricMap = new TreeMap<>();
+    private final Map<String, PrometheusExporter.MetricFamily> familyMap = new ConcurrentHashMap<>();
+    private final Map<MetricID, PrometheusExporter.ExportedMetric> metricMap = new ConcurrentSkipListMap<>();
     private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
 
@@ -28,20 +38,16 @@ public class WildFlyMetricRegistry implements Closeable, MetricRegistry {
         lock.writeLock().lock();
         try {
             metricMap.clear();
-            metadataMap.clear();
+            familyMap.clear();
         } finally {
             lock.writeLock().unlock();
         }
     }
 
-    Map<MetricID, Metric> getMetrics() {
+    Map<MetricID, PrometheusExporter.ExportedMetric> getMetrics() {
         return metricMap;
     }
 
-    Map<String, MetricMetadata> getMetricMetadata() {
-        return metadataMap;
-    }
-
     @Override
     public synchronized void registerMetric(Metric metric, MetricMetadata metadata) {
         requireNonNull(metadata);
@@ -50,15 +56,24 @@ public class WildFlyMetricRegistry implements Closeable, MetricRegistry {
         lock.writeLock().lock();
         try {
             MetricID metricID = metadata.getMetricID();
-            if (!metadataMap.containsKey(metadata.getMetricName())) {
-                metadataMap.put(metadata.getMetricName(), metadata);
-            }
-            metricMap.put(metricID, metric);
+            PrometheusExporter.MetricFamily family = familyMap.computeIfAbsent(metadata.getMetricName(), name -> PrometheusExporter.encode(metadata));
+            metricMap.put(metricID, PrometheusExporter.encode(metric, metricID, family));
         } finally {
             lock.writeLock().unlock();
         }
     }
 
+    @Override
+    public Runnable register(PathAddress address, String attributeName, String description, MeasurementUnit unit, MetricRegistrar.Type type, Supplier<Number> value) {
+        MetricMetadata metadata = new WildFlyMetricMetadata(attributeName, address, null, description, unit, (type == MetricRegistrar.Type.COUNTER) ? MetricMetadata.Type.COUNTER : MetricMetadata.Type.GAUGE);
+        this.registerMetric(() -> {
+            Number number = value.get();
+            return (number != null) ? OptionalDouble.of(number.doubleValue()) : OptionalDouble.empty();
+        }, metadata);
+        MetricID metricID = metadata.getMetricID();
+        return () -> this.unregister(metricID);
+    }
+
     @Override
     public void unregister(MetricID metricID) {
         lock.writeLock().lock();
@@ -4,6 +4,7 @@
  */
 package org.wildfly.extension.metrics;
 
+import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_REGISTRAR_RUNTIME_CAPABILITY;
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_REGISTRY_RUNTIME_CAPABILITY;
 
 import java.io.IOException;
@@ -28,7 +29,7 @@ public class WildFlyMetricRegistryService implements Service<WildFlyMetricRegist
     static void install(OperationContext context) {
         ServiceBuilder<?> serviceBuilder = context.getServiceTarget().addService(METRICS_REGISTRY_RUNTIME_CAPABILITY.getCapabilityServiceName());
 
-        Consumer<WildFlyMetricRegistry> registry = serviceBuilder.provides(METRICS_REGISTRY_RUNTIME_CAPABILITY.getCapabilityServiceName());
+        Consumer<WildFlyMetricRegistry> registry = serviceBuilder.provides(METRICS_REGISTRY_RUNTIME_CAPABILITY.getCapabilityServiceName(), METRICS_REGISTRAR_RUNTIME_CAPABILITY.getCapabilityServiceName());
         serviceBuilder.setInstance(new WildFlyMetricRegistryService(registry)).install();
     }
 
@@ -0,0 +1,338 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.metrics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.LocalModelControllerClient;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.RunningMode;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.capability.registry.RuntimeCapabilityRegistry;
+import org.jboss.as.controller.client.Operation;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.descriptions.NonResolvingResourceDescriptionResolver;
+import org.jboss.as.controller.extension.ExtensionRegistry;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.subsystem.test.AbstractSubsystemTest;
+import org.jboss.as.subsystem.test.AdditionalInitialization;
+import org.jboss.as.subsystem.test.KernelServices;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.logging.Logger;
+import org.jboss.threads.AsyncFuture;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Validates the export of a registry of 5000 metrics, read via management operations or bound directly to their values,
+ * as well as the memory allocated per scrape and scrapes concurrent with registration.
+ * The duration of a scrape is measured by the PrometheusExporterBenchmark of the benchmarks module.
+ */
+public class PrometheusExporterTestCase extends AbstractSubsystemTest {
+
+    private static final Logger LOGGER = Logger.getLogger(PrometheusExporterTestCase.class);
+    private static final int METRICS = 5000;
+    private static final int SCRAPES = 20;
+    private static final String ATTRIBUTE_NAME = "active-count";
+
+    private final AtomicInteger reads = new AtomicInteger();
+
+    public PrometheusExporterTestCase() {
+        super(MetricsExtension.SUBSYSTEM_NAME, new MetricsExtension());
+    }
+
+    @Test
+    public void operation() throws Exception {
+        LocalModelControllerClient client = this.createClient();
+        String result = this.scrape(index -> new WildFlyMetric(client, address(index), ATTRIBUTE_NAME));
+        // Each scrape reads each metric once
+        Assert.assertEquals(METRICS * 2, this.reads.get());
+        Assert.assertTrue(result.contains("test_active_count{index=\"0\"} 42.0"));
+    }
+
+    @Test
+    public void bound() throws Exception {
+        MetricCollector collector = new MetricCollector(this.createClient(), null);
+        for (int i = 0; i < METRICS; ++i) {
+            collector.bind(address(i), Map.of(ATTRIBUTE_NAME, () -> 42));
+        }
+        String result = this.scrape(index -> collector.resolve(address(index), ATTRIBUTE_NAME));
+        Assert.assertEquals(0, this.reads.get());
+        Assert.assertTrue(result.contains("test_active_count{index=\"0\"} 42.0"));
+    }
+
+    @Test
+    public void binding() throws Exception {
+        MetricCollector collector = new MetricCollector(this.createClient(), null);
+        Metric metric = collector.resolve(address(0), ATTRIBUTE_NAME);
+        Assert.assertEquals(42, metric.getValue().getAsDouble(), 0);
+        Assert.assertEquals(1, this.reads.get());
+
+        // Binding established after registration of a metric is used by subsequent reads
+        AtomicReference<Number> value = new AtomicReference<>(1);
+        Runnable unbind = collector.bind(address(0), Map.of(ATTRIBUTE_NAME, value::get));
+        Assert.assertEquals(1, metric.getValue().getAsDouble(), 0);
+        value.set(2L);
+        Assert.assertEquals(2, metric.getValue().getAsDouble(), 0);
+        value.set(null);
+        Assert.assertFalse(metric.getValue().isPresent());
+        // Bindings are specific to an address
+        Assert.assertEquals(42, collector.resolve(address(1), ATTRIBUTE_NAME).getValue().getAsDouble(), 0);
+        Assert.assertEquals(2, this.reads.get());
+
+        // Once unbound, reads fall back to a management operation
+        unbind.run();
+        Assert.assertEquals(42, metric.getValue().getAsDouble(), 0);
+        Assert.assertEquals(3, this.reads.get());
+    }
+
+    @Test
+    public void direct() {
+        String result = this.scrape(index -> () -> OptionalDouble.of(42));
+        Assert.assertTrue(result.contains("test_active_count{index=\"0\"} 42.0"));
+    }
+
+    @Test
+    public void allocation() throws IOException {
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        OptionalDouble value = OptionalDouble.of(42);
+        for (int i = 0; i < METRICS; ++i) {
+            registry.registerMetric(() -> value, metadata(i));
+        }
+        PrometheusExporter exporter = new PrometheusExporter();
+        OutputStream output = OutputStream.nullOutputStream();
+        // Warm up
+        exporter.export(registry, PrometheusExporter.Format.PROMETHEUS, output);
+
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+            long threadId = Thread.currentThread().getId();
+            long start = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < SCRAPES; ++i) {
+                exporter.export(registry, PrometheusExporter.Format.PROMETHEUS, output);
+            }
+            long allocated = (threads.getThreadAllocatedBytes(threadId) - start) / SCRAPES;
+
+            LOGGER.infof("Scrape of %d metrics allocated %d bytes", METRICS, allocated);
+            // Scrape should not allocate per metric, i.e. transient strings of the exposition
+            Assert.assertTrue(String.valueOf(allocated), allocated < METRICS * 16);
+        }
+        registry.close();
+    }
+
+    @Test
+    public void openMetrics() throws IOException {
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        PathAddress address = PathAddress.pathAddress(PathElement.pathElement("subsystem", "test"), PathElement.pathElement("pool", "a\\\"b"));
+        registry.registerMetric(() -> OptionalDouble.of(2500), new WildFlyMetricMetadata("wait-time", address, null, "Total \"wait\" time\nin ms", MeasurementUnit.MILLISECONDS, MetricMetadata.Type.COUNTER));
+        registry.registerMetric(() -> OptionalDouble.of(0.5), new WildFlyMetricMetadata("usage", address, null, "Usage", MeasurementUnit.NONE, MetricMetadata.Type.GAUGE));
+        registry.registerMetric(() -> OptionalDouble.of(Double.POSITIVE_INFINITY), new WildFlyMetricMetadata("limit", address, null, "Limit", MeasurementUnit.NONE, MetricMetadata.Type.GAUGE));
+        registry.registerMetric(OptionalDouble::empty, new WildFlyMetricMetadata("missing", address, null, "Missing", MeasurementUnit.NONE, MetricMetadata.Type.GAUGE));
+        PrometheusExporter exporter = new PrometheusExporter();
+
+        Assert.assertEquals(String.join("\n",
+                "# HELP test_limit Limit",
+                "# TYPE test_limit gauge",
+                "test_limit{pool=\"a\\\\\\\"b\"} +Inf",
+                "# HELP test_usage Usage",
+                "# TYPE test_usage gauge",
+                "test_usage{pool=\"a\\\\\\\"b\"} 0.5",
+                "# HELP test_wait_time_total Total \"wait\" time\\nin ms",
+                "# TYPE test_wait_time_total counter",
+                "test_wait_time_total_seconds{pool=\"a\\\\\\\"b\"} 2.5",
+                ""), exporter.export(registry));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exporter.export(registry, PrometheusExporter.Format.OPENMETRICS, output);
+        Assert.assertEquals(String.join("\n",
+                "# TYPE test_limit gauge",
+                "# HELP test_limit Limit",
+                "test_limit{pool=\"a\\\\\\\"b\"} +Inf",
+                "# TYPE test_usage gauge",
+                "# HELP test_usage Usage",
+                "test_usage{pool=\"a\\\\\\\"b\"} 0.5",
+                "# TYPE test_wait_time_seconds counter",
+                "# UNIT test_wait_time_seconds seconds",
+                "# HELP test_wait_time_seconds Total \\\"wait\\\" time\\nin ms",
+                "test_wait_time_seconds_total{pool=\"a\\\\\\\"b\"} 2.5",
+                "# EOF",
+                ""), output.toString(StandardCharsets.UTF_8));
+
+        Assert.assertSame(PrometheusExporter.Format.OPENMETRICS, PrometheusExporter.Format.forAccept("application/openmetrics-text; version=1.0.0,text/plain;version=0.0.4;q=0.5"));
+        Assert.assertSame(PrometheusExporter.Format.PROMETHEUS, PrometheusExporter.Format.forAccept("text/plain"));
+        Assert.assertSame(PrometheusExporter.Format.PROMETHEUS, PrometheusExporter.Format.forAccept(null));
+        registry.close();
+    }
+
+    @Test
+    public void values() {
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        double[] values = new double[] { 0, -0d, 1, -1, 9_999_999, 10_000_000, -123_456, 0.1, Double.NaN, Double.NEGATIVE_INFINITY, Long.MAX_VALUE };
+        for (int i = 0; i < values.length; ++i) {
+            double value = values[i];
+            registry.registerMetric(() -> OptionalDouble.of(value), metadata(i));
+        }
+        List<String> lines = List.of(new PrometheusExporter().export(registry).split("\n"));
+        // Includes HELP and TYPE
+        Assert.assertEquals(values.length + 2, lines.size());
+        for (int i = 0; i < values.length; ++i) {
+            String expected = Double.isNaN(values[i]) ? "NaN" : Double.isInfinite(values[i]) ? "-Inf" : Double.toString(values[i]);
+            String line = String.format("test_active_count{index=\"%d\"} %s", i, expected);
+            Assert.assertTrue(line, lines.contains(line));
+        }
+        registry.close();
+    }
+
+    @Test
+    public void concurrentRegistration() throws Exception {
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        PrometheusExporter exporter = new PrometheusExporter();
+        AtomicBoolean registering = new AtomicBoolean(true);
+        // Scrapes must neither block nor fail while metrics are (un)registered
+        CompletableFuture<Void> registration = CompletableFuture.runAsync(() -> {
+            try {
+                for (int i = 0; i < METRICS; ++i) {
+                    WildFlyMetricMetadata metadata = metadata(i);
+                    registry.registerMetric(() -> OptionalDouble.of(1), metadata);
+                    if (i % 2 == 0) {
+                        registry.unregister(metadata.getMetricID());
+                    }
+                }
+            } finally {
+                registering.set(false);
+            }
+        });
+        while (registering.get()) {
+            exporter.export(registry);
+        }
+        registration.get(1, TimeUnit.MINUTES);
+
+        String result = exporter.export(registry);
+        Assert.assertFalse(result.contains("test_active_count{index=\"0\"}"));
+        Assert.assertTrue(result.contains("test_active_count{index=\"1\"} 1.0"));
+        Assert.assertEquals(1, result.split("# TYPE ", -1).length - 1);
+        registry.close();
+    }
+
+    private String scrape(IntFunction<Metric> factory) {
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        for (int i = 0; i < METRICS; ++i) {
+            registry.registerMetric(factory.apply(i), metadata(i));
+        }
+        PrometheusExporter exporter = new PrometheusExporter();
+        String result = exporter.export(registry);
+        // A subsequent scrape of unchanged metrics yields the same exposition
+        Assert.assertEquals(result, exporter.export(registry));
+        registry.close();
+        return result;
+    }
+
+    private static PathAddress address(int index) {
+        return PathAddress.pathAddress(PathElement.pathElement("index", String.valueOf(index)));
+    }
+
+    private static WildFlyMetricMetadata metadata(int index) {
+        return new WildFlyMetricMetadata(ATTRIBUTE_NAME, address(index), "test", "The number of active things", MeasurementUnit.NONE, MetricMetadata.Type.GAUGE);
+    }
+
+    /**
+     * Creates a client of a management controller with {@value #METRICS} resources, each with a metric attribute.
+     */
+    private LocalModelControllerClient createClient() throws Exception {
+        KernelServices services = this.createKernelServicesBuilder(new StatisticsInitialization(this.reads)).setSubsystemXml(this.readResource("subsystem_1_0.xml")).build();
+        Assert.assertTrue(services.isSuccessfulBoot());
+        return new KernelServicesClient(services);
+    }
+
+    private static class StatisticsInitialization extends AdditionalInitialization {
+        private final AtomicInteger reads;
+
+        StatisticsInitialization(AtomicInteger reads) {
+            this.reads = reads;
+        }
+
+        @Override
+        protected RunningMode getRunningMode() {
+            return RunningMode.ADMIN_ONLY;
+        }
+
+        @Override
+        protected boolean isValidateOperations() {
+            // Validation would otherwise dominate the duration of a read-attribute operation
+            return false;
+        }
+
+        @Override
+        protected void initializeExtraSubystemsAndModel(ExtensionRegistry extensionRegistry, Resource rootResource, ManagementResourceRegistration rootRegistration, RuntimeCapabilityRegistry capabilityRegistry) {
+            ManagementResourceRegistration registration = rootRegistration.registerSubModel(new SimpleResourceDefinition(PathElement.pathElement("index"), NonResolvingResourceDescriptionResolver.INSTANCE));
+            AttributeDefinition attribute = new SimpleAttributeDefinitionBuilder(ATTRIBUTE_NAME, ModelType.INT).setStorageRuntime().build();
+            registration.registerMetric(attribute, (context, operation) -> {
+                this.reads.incrementAndGet();
+                context.getResult().set(42);
+            });
+            for (int i = 0; i < METRICS; ++i) {
+                rootResource.registerChild(address(i).getLastElement(), Resource.Factory.create(true));
+            }
+        }
+    }
+
+    /**
+     * Client that executes operations via the management controller of a test kernel.
+     */
+    private static class KernelServicesClient implements LocalModelControllerClient {
+        private final KernelServices services;
+
+        KernelServicesClient(KernelServices services) {
+            this.services = services;
+        }
+
+        @Override
+        public ModelNode execute(ModelNode operation) {
+            return this.services.executeOperation(operation);
+        }
+
+        @Override
+        public OperationResponse executeOperation(Operation operation, OperationMessageHandler messageHandler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AsyncFuture<ModelNode> executeAsync(Operation operation, OperationMessageHandler messageHandler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AsyncFuture<OperationResponse> executeOperationAsync(Operation operation, OperationMessageHandler messageHandler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.microprofile.health;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.wildfly.extension.microprofile.health._private.MicroProfileHealthLogger;
+
+/**
+ * Evaluates health checks concurrently via an executor, whose responses are awaited up to a configurable timeout.
+ * The response of a registered health check may be cached for a configurable duration per health check type,
+ * during which time concurrent and subsequent evaluations of that health check share the same response.
+ * Since a health check may be provided for multiple health check types, health checks are registered per type.
+ */
+class HealthCheckEvaluator {
+
+    private final Executor executor;
+    private final long timeout;
+    private final Map<HealthCheckType, Long> cacheDurations;
+    private final HealthCheckMetricsRegistrar registrar;
+    private final Map<HealthCheckType, Map<HealthCheck, Registration>> registrations = new EnumMap<>(HealthCheckType.class);
+
+    /**
+     * Creates a health check evaluator.
+     * @param executor the executor used to call health checks
+     * @param timeout the duration, in milliseconds, to wait for the response of a health check, or 0, to wait indefinitely
+     * @param cacheDurations the duration, in milliseconds, to cache health check responses, per health check type
+     * @param registrar registers metrics for each registered health check
+     */
+    HealthCheckEvaluator(Executor executor, long timeout, Map<HealthCheckType, Long> cacheDurations, HealthCheckMetricsRegistrar registrar) {
+        this.executor = executor;
+        this.timeout = TimeUnit.MILLISECONDS.toNanos(timeout);
+        this.cacheDurations = cacheDurations;
+        this.registrar = registrar;
+        for (HealthCheckType type : HealthCheckType.values()) {
+            this.registrations.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Registers a health check for a given type, enabling caching of its responses and statistics of its evaluations.
+     * @param check a health check
+     * @param type the health check type
+     * @param deployment the name of the deployment providing the health check, or null, if provided by the server
+     * @param name the name of the health check
+     */
+    void register(HealthCheck check, HealthCheckType type, String deployment, String name) {
+        HealthCheckStatistics statistics = new HealthCheckStatistics();
+        long cacheDuration = TimeUnit.MILLISECONDS.toNanos(this.cacheDurations.getOrDefault(type, 0L));
+        Runnable unregistration = this.registrar.register(type, deployment, name, statistics);
+        Registration previous = this.registrations.get(type).put(check, new Registration(name, cacheDuration, statistics, unregistration));
+        if (previous != null) {
+            previous.unregistration.run();
+        }
+    }
+
+    /**
+     * Unregisters a health check for a given type.
+     * @param check a health check
+     * @param type the health check type
+     */
+    void unregister(HealthCheck check, HealthCheckType type) {
+        Registration registration = this.registrations.get(type).remove(check);
+        if (registration != null) {
+            registration.unregistration.run();
+        }
+    }
+
+    /**
+     * Unregisters all health checks.
+     */
+    void close() {
+        for (Map.Entry<HealthCheckType, Map<HealthCheck, Registration>> entry : this.registrations.entrySet()) {
+            for (HealthCheck check : entry.getValue().keySet()) {
+                this.unregister(check, entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Begins the evaluation of the specified health check, using the specified class loader as the thread context class loader.
+     * @param check a health check
+     * @param type the type for which the health check is evaluated, or null, if the health check is not registered for a specific type
+     * @param loader the class loader of the module providing the health check
+     * @return an evaluation, whose response can be awaited via {@link #await(HealthCheck, Evaluation)}
+     */
+    Evaluation evaluate(HealthCheck check, HealthCheckType type, ClassLoader loader) {
+        Registration registration = (type != null) ? this.registrations.get(type).get(check) : null;
+        if ((registration == null) || (registration.cacheDuration <= 0)) {
+            return this.submit(check, loader, registration);
+        }
+        synchronized (registration) {
+            Evaluation evaluation = registration.evaluation;
+            if (evaluation != null) {
+                // Share a pending evaluation, or a completed evaluation that has not yet expired
+                if (!evaluation.future.isDone()) {
+                    return evaluation;
+                }
+                if (!evaluation.future.isCancelled() && (System.nanoTime() - registration.expiration < 0)) {
+                    registration.statistics.recordCacheHit();
+                    return evaluation;
+                }
+            }
+            evaluation = this.submit(check, loader, registration);
+            registration.evaluation = evaluation;
+            return evaluation;
+        }
+    }
+
+    /**
+     * Awaits the response of the specified evaluation.
+     * If no response is available within the configured timeout, the evaluation is cancelled, and a DOWN response is returned.
+     * @param check the evaluated health check
+     * @param evaluation an evaluation
+     * @return the health check response
+     * @throws RuntimeException if the health check failed
+     */
+    HealthCheckResponse await(HealthCheck check, Evaluation evaluation) {
+        Registration registration = evaluation.registration;
+        try {
+            if (this.timeout <= 0) {
+                return evaluation.future.get();
+            }
+            long remaining = evaluation.deadline - System.nanoTime();
+            return evaluation.future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | CancellationException e) {
+            // Interrupt the health check, so that it does not occupy an executor thread indefinitely
+            evaluation.future.cancel(true);
+            String name = (registration != null) ? registration.name : check.getClass().getName();
+            if (registration != null) {
+                registration.statistics.recordTimeout();
+            }
+            MicroProfileHealthLogger.LOGGER.healthCheckTimeout(name, TimeUnit.NANOSECONDS.toMillis(this.timeout));
+            return HealthCheckResponse.named(name).down().withData("timeout", TimeUnit.NANOSECONDS.toMillis(this.timeout)).build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            evaluation.future.cancel(true);
+            throw new CancellationException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private Evaluation submit(HealthCheck check, ClassLoader loader, Registration registration) {
+        FutureTask<HealthCheckResponse> task = new FutureTask<>(() -> {
+            // use the classloader of the deployment's module instead of the TCCL (which is the server's ModuleClassLoader
+            // to ensure that any resources that checks the TCCL (such as MP Config) will use the correct one
+            // when the health checks are called.
+            Thread thread = Thread.currentThread();
+            ClassLoader oldTCCL = thread.getContextClassLoader();
+            long start = System.nanoTime();
+            try {
+                thread.setContextClassLoader(loader);
+                return check.call();
+            } finally {
+                thread.setContextClassLoader(oldTCCL);
+                if (registration != null) {
+                    long end = System.nanoTime();
+                    registration.statistics.recordEvaluation(end - start);
+                    // Expiration is set prior to the completion of this evaluation
+                    registration.expiration = end + registration.cacheDuration;
+                }
+            }
+        });
+        Evaluation evaluation = new Evaluation(task, System.nanoTime() + this.timeout, registration);
+        try {
+            this.executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // e.g. executor is shutting down, so evaluate on the calling thread
+            task.run();
+        }
+        return evaluation;
+    }
+
+    /**
+     * A pending, or completed, evaluation of a health check.
+     */
+    static class Evaluation {
+        final Future<HealthCheckResponse> future;
+        final long deadline;
+        final Registration registration;
+
+        Evaluation(Future<HealthCheckResponse> future, long deadline, Registration registration) {
+            this.future = future;
+            this.deadline = deadline;
+            this.registration = registration;
+        }
+    }
+
+    private static class Registration {
+        final String name;
+        final long cacheDuration;
+        final HealthCheckStatistics statistics;
+        final Runnable unregistration;
+        // Guarded by this
+        Evaluation evaluation;
+        volatile long expiration;
+
+        Registration(String name, long cacheDuration, HealthCheckStatistics statistics, Runnable unregistration) {
+            this.name = name;
+            this.cacheDuration = cacheDuration;
+            this.statistics = statistics;
+            this.unregistration = unregistration;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.microprofile.health;
+
+/**
+ * Exposes the statistics of a registered health check as metrics.
+ */
+interface HealthCheckMetricsRegistrar {
+
+    HealthCheckMetricsRegistrar NONE = (type, deployment, name, statistics) -> () -> {};
+
+    /**
+     * Registers metrics for the specified health check statistics.
+     * @param type the health check type
+     * @param deployment the name of the deployment providing the health check, or null, if provided by the server
+     * @param name the name of the health check
+     * @param statistics the health check statistics
+     * @return a task that unregisters these metrics
+     */
+    Runnable register(HealthCheckType type, String deployment, String name, HealthCheckStatistics statistics);
+}
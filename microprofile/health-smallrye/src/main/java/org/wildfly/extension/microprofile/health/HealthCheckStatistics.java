@@ -0,0 +1,64 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.microprofile.health;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the evaluations of a registered health check.
+ */
+class HealthCheckStatistics {
+
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder evaluationTime = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+
+    void recordEvaluation(long nanos) {
+        this.evaluations.increment();
+        this.evaluationTime.add(nanos);
+    }
+
+    void recordTimeout() {
+        this.timeouts.increment();
+    }
+
+    void recordCacheHit() {
+        this.cacheHits.increment();
+    }
+
+    /**
+     * Returns the number of times the health check was called.
+     * @return the number of evaluations
+     */
+    long getEvaluations() {
+        return this.evaluations.sum();
+    }
+
+    /**
+     * Returns the cumulative duration of the calls to the health check.
+     * @return the evaluation time, in nanoseconds
+     */
+    long getEvaluationTime() {
+        return this.evaluationTime.sum();
+    }
+
+    /**
+     * Returns the number of times the health check did not respond within the configured timeout.
+     * @return the number of timeouts
+     */
+    long getTimeouts() {
+        return this.timeouts.sum();
+    }
+
+    /**
+     * Returns the number of times a cached response of the health check was reported.
+     * @return the number of cache hits
+     */
+    long getCacheHits() {
+        return this.cacheHits.sum();
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.microprofile.health;
+
+import java.util.Locale;
+
+/**
+ * Enumerates the types of health checks, whose evaluation can be configured independently.
+ */
+enum HealthCheckType {
+    SERVER,
+    LIVENESS,
+    READINESS,
+    STARTUP,
+    ;
+    private final String name = this.name().toLowerCase(Locale.ENGLISH);
+
+    /**
+     * Returns the name of this type, as used by configuration properties and metric labels.
+     * @return the name of this type
+     */
+    String getName() {
+        return this.name;
+    }
+}
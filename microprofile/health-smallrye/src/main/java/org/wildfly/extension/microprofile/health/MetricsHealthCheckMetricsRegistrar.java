@@ -0,0 +1,54 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.microprofile.health;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DEPLOYMENT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.wildfly.extension.metrics.spi.MetricRegistrar;
+
+/**
+ * Registers the statistics of each health check as metrics of the metrics subsystem.
+ * Only used if the metrics registrar capability is present.
+ */
+class MetricsHealthCheckMetricsRegistrar implements HealthCheckMetricsRegistrar {
+
+    private final MetricRegistrar registrar;
+
+    MetricsHealthCheckMetricsRegistrar(MetricRegistrar registrar) {
+        this.registrar = registrar;
+    }
+
+    @Override
+    public Runnable register(HealthCheckType type, String deployment, String name, HealthCheckStatistics statistics) {
+        List<PathElement> elements = new ArrayList<>(4);
+        elements.add(PathElement.pathElement(SUBSYSTEM, MicroProfileHealthExtension.SUBSYSTEM_NAME));
+        if (deployment != null) {
+            elements.add(PathElement.pathElement(DEPLOYMENT, deployment));
+        }
+        elements.add(PathElement.pathElement("type", type.getName()));
+        elements.add(PathElement.pathElement("check", name));
+        PathAddress address = PathAddress.pathAddress(elements);
+
+        List<Runnable> registrations = new ArrayList<>(4);
+        registrations.add(this.register(address, "check-evaluations", "The number of times this health check was called", MeasurementUnit.NONE, statistics, HealthCheckStatistics::getEvaluations));
+        registrations.add(this.register(address, "check-evaluation-time", "The cumulative duration of the calls to this health check", MeasurementUnit.NANOSECONDS, statistics, HealthCheckStatistics::getEvaluationTime));
+        registrations.add(this.register(address, "check-timeouts", "The number of times this health check did not respond within the configured timeout", MeasurementUnit.NONE, statistics, HealthCheckStatistics::getTimeouts));
+        registrations.add(this.register(address, "check-cache-hits", "The number of times a cached response of this health check was reported", MeasurementUnit.NONE, statistics, HealthCheckStatistics::getCacheHits));
+        return () -> registrations.forEach(Runnable::run);
+    }
+
+    private Runnable register(PathAddress address, String attributeName, String description, MeasurementUnit unit, HealthCheckStatistics statistics, ToLongFunction<HealthCheckStatistics> value) {
+        return this.registrar.register(address, attributeName, description, unit, MetricRegistrar.Type.COUNTER, () -> value.applyAsLong(statistics));
+    }
+}
@@ -7,6 +7,7 @@ package org.wildfly.extension.microprofile.health;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import jakarta.json.Json;
@@ -19,6 +20,7 @@ import io.smallrye.health.SmallRyeHealth;
 import org.eclipse.microprofile.health.HealthCheck;
 import org.eclipse.microprofile.health.HealthCheckResponse;
 import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.jboss.modules.ModuleClassLoader;
 import org.wildfly.extension.microprofile.health._private.MicroProfileHealthLogger;
 
 
@@ -38,6 +40,7 @@ public class MicroProfileHealthReporter {
     private final HealthCheck emptyDeploymentLivenessCheck;
     private final HealthCheck emptyDeploymentReadinessCheck;
     private final HealthCheck emptyDeploymentStartupCheck;
+    private final HealthCheckEvaluator evaluator;
 
     private boolean userChecksProcessed = false;
 
@@ -62,30 +65,41 @@ public class MicroProfileHealthReporter {
     public MicroProfileHealthReporter(String emptyLivenessChecksStatus, String emptyReadinessChecksStatus,
                                       String emptyStartupChecksStatus, boolean defaultServerProceduresDisabled,
                                       String defaultReadinessEmptyResponse, String defaultStartupEmptyResponse) {
+        // Evaluates health checks sequentially on the calling thread
+        this(emptyLivenessChecksStatus, emptyReadinessChecksStatus, emptyStartupChecksStatus, defaultServerProceduresDisabled,
+                defaultReadinessEmptyResponse, defaultStartupEmptyResponse, new HealthCheckEvaluator(Runnable::run, 0, Map.of(), HealthCheckMetricsRegistrar.NONE));
+    }
+
+    MicroProfileHealthReporter(String emptyLivenessChecksStatus, String emptyReadinessChecksStatus,
+                               String emptyStartupChecksStatus, boolean defaultServerProceduresDisabled,
+                               String defaultReadinessEmptyResponse, String defaultStartupEmptyResponse,
+                               HealthCheckEvaluator evaluator) {
         this.emptyDeploymentLivenessCheck  = new EmptyDeploymentCheckStatus("empty-liveness-checks", emptyLivenessChecksStatus);
         this.emptyDeploymentReadinessCheck  = new EmptyDeploymentCheckStatus("empty-readiness-checks", emptyReadinessChecksStatus);
         this.emptyDeploymentStartupCheck  = new EmptyDeploymentCheckStatus("empty-startup-checks", emptyStartupChecksStatus);
         this.defaultServerProceduresDisabled = defaultServerProceduresDisabled;
         this.defaultReadinessEmptyResponse = defaultReadinessEmptyResponse;
         this.defaultStartupEmptyResponse = defaultStartupEmptyResponse;
+        this.evaluator = evaluator;
     }
 
     public SmallRyeHealth getHealth() {
-        HashMap<HealthCheck, ClassLoader> deploymentChecks = new HashMap<>();
-        deploymentChecks.putAll(healthChecks);
-        deploymentChecks.putAll(livenessChecks);
-        deploymentChecks.putAll(readinessChecks);
-        deploymentChecks.putAll(startupChecks);
+        // A health check provided for multiple types is evaluated once
+        Map<HealthCheck, HealthCheckEvaluator.Evaluation> deploymentEvaluations = new LinkedHashMap<>();
+        evaluate(healthChecks, null, deploymentEvaluations);
+        evaluate(livenessChecks, HealthCheckType.LIVENESS, deploymentEvaluations);
+        evaluate(readinessChecks, HealthCheckType.READINESS, deploymentEvaluations);
+        evaluate(startupChecks, HealthCheckType.STARTUP, deploymentEvaluations);
 
         HashMap<HealthCheck, ClassLoader> serverChecks= new HashMap<>();
         serverChecks.putAll(serverReadinessChecks);
-        if (deploymentChecks.size() == 0 && !defaultServerProceduresDisabled) {
+        if (deploymentEvaluations.size() == 0 && !defaultServerProceduresDisabled) {
             serverChecks.put(emptyDeploymentLivenessCheck, Thread.currentThread().getContextClassLoader());
             serverChecks.put(emptyDeploymentReadinessCheck, Thread.currentThread().getContextClassLoader());
             serverChecks.put(emptyDeploymentStartupCheck, Thread.currentThread().getContextClassLoader());
         }
 
-        return getHealth(serverChecks, deploymentChecks);
+        return getHealth(evaluate(serverChecks, HealthCheckType.SERVER), deploymentEvaluations, HealthCheckResponse.Status.UP);
     }
 
     public SmallRyeHealth getLiveness() {
@@ -95,7 +109,7 @@ public class MicroProfileHealthReporter {
         } else {
             serverChecks = Collections.emptyMap();
         }
-        return getHealth(serverChecks, livenessChecks);
+        return getHealth(serverChecks, livenessChecks, HealthCheckType.LIVENESS);
     }
 
     public SmallRyeHealth getReadiness() {
@@ -103,44 +117,53 @@ public class MicroProfileHealthReporter {
         serverChecks.putAll(serverReadinessChecks);
         if (readinessChecks.size() == 0) {
             if (defaultServerProceduresDisabled) {
-                return getHealth(serverChecks, readinessChecks,
+                return getHealth(serverChecks, readinessChecks, HealthCheckType.READINESS,
                     userChecksProcessed ? HealthCheckResponse.Status.UP :
                         HealthCheckResponse.Status.valueOf(defaultReadinessEmptyResponse));
             } else {
                 serverChecks.put(emptyDeploymentReadinessCheck, Thread.currentThread().getContextClassLoader());
-                return getHealth(serverChecks, readinessChecks);
+                return getHealth(serverChecks, readinessChecks, HealthCheckType.READINESS);
             }
         }
-        return getHealth(serverChecks, readinessChecks);
+        return getHealth(serverChecks, readinessChecks, HealthCheckType.READINESS);
     }
 
     public SmallRyeHealth getStartup() {
         Map<HealthCheck, ClassLoader> serverChecks = Collections.emptyMap();
         if (startupChecks.size() == 0) {
             if (defaultServerProceduresDisabled) {
-                return getHealth(serverChecks, startupChecks,
+                return getHealth(serverChecks, startupChecks, HealthCheckType.STARTUP,
                     userChecksProcessed ? HealthCheckResponse.Status.UP :
                         HealthCheckResponse.Status.valueOf(defaultStartupEmptyResponse));
             } else {
                 serverChecks = Collections.singletonMap(emptyDeploymentStartupCheck, Thread.currentThread().getContextClassLoader());
-                return getHealth(serverChecks, startupChecks);
+                return getHealth(serverChecks, startupChecks, HealthCheckType.STARTUP);
             }
         }
-        return getHealth(serverChecks, startupChecks);
+        return getHealth(serverChecks, startupChecks, HealthCheckType.STARTUP);
     }
 
-    private SmallRyeHealth getHealth(Map<HealthCheck, ClassLoader> serverChecks, Map<HealthCheck, ClassLoader> deploymentChecks) {
-        return getHealth(serverChecks, deploymentChecks, HealthCheckResponse.Status.UP);
+    private SmallRyeHealth getHealth(Map<HealthCheck, ClassLoader> serverChecks, Map<HealthCheck, ClassLoader> deploymentChecks, HealthCheckType type) {
+        return getHealth(serverChecks, deploymentChecks, type, HealthCheckResponse.Status.UP);
     }
 
     private SmallRyeHealth getHealth(Map<HealthCheck, ClassLoader> serverChecks, Map<HealthCheck,
-        ClassLoader> deploymentChecks, HealthCheckResponse.Status defaultStatus) {
+        ClassLoader> deploymentChecks, HealthCheckType type, HealthCheckResponse.Status defaultStatus) {
+        // Begin the evaluation of all checks, before awaiting any response
+        Map<HealthCheck, HealthCheckEvaluator.Evaluation> serverEvaluations = evaluate(serverChecks, HealthCheckType.SERVER);
+        Map<HealthCheck, HealthCheckEvaluator.Evaluation> deploymentEvaluations = evaluate(deploymentChecks, type);
+
+        return getHealth(serverEvaluations, deploymentEvaluations, defaultStatus);
+    }
+
+    private SmallRyeHealth getHealth(Map<HealthCheck, HealthCheckEvaluator.Evaluation> serverEvaluations,
+        Map<HealthCheck, HealthCheckEvaluator.Evaluation> deploymentEvaluations, HealthCheckResponse.Status defaultStatus) {
         JsonArrayBuilder results = Json.createArrayBuilder();
         HealthCheckResponse.Status status = defaultStatus;
 
-        status = processChecks(serverChecks, results, status);
+        status = processChecks(serverEvaluations, results, status);
 
-        status = processChecks(deploymentChecks, results, status);
+        status = processChecks(deploymentEvaluations, results, status);
 
         JsonObjectBuilder builder = Json.createObjectBuilder();
 
@@ -158,27 +181,33 @@ public class MicroProfileHealthReporter {
         return new SmallRyeHealth(build);
     }
 
-    private HealthCheckResponse.Status processChecks(Map<HealthCheck, ClassLoader> checks, JsonArrayBuilder results, HealthCheckResponse.Status status) {
-        if (checks != null) {
-            for (Map.Entry<HealthCheck, ClassLoader> entry : checks.entrySet()) {
-                // use the classloader of the deployment's module instead of the TCCL (which is the server's ModuleClassLoader
-                // to ensure that any resources that checks the TCCL (such as MP Config) will use the correct one
-                // when the health checks are called.
-                final ClassLoader oldTCCL = Thread.currentThread().getContextClassLoader();
-                try {
-                    Thread.currentThread().setContextClassLoader(entry.getValue());
-                    status = fillCheck(entry.getKey(), results, status);
-                } finally {
-                    Thread.currentThread().setContextClassLoader(oldTCCL);
-                }
+    private Map<HealthCheck, HealthCheckEvaluator.Evaluation> evaluate(Map<HealthCheck, ClassLoader> checks, HealthCheckType type) {
+        if (checks == null) {
+            return Collections.emptyMap();
+        }
+        Map<HealthCheck, HealthCheckEvaluator.Evaluation> evaluations = new LinkedHashMap<>();
+        evaluate(checks, type, evaluations);
+        return evaluations;
+    }
+
+    private void evaluate(Map<HealthCheck, ClassLoader> checks, HealthCheckType type, Map<HealthCheck, HealthCheckEvaluator.Evaluation> evaluations) {
+        for (Map.Entry<HealthCheck, ClassLoader> entry : checks.entrySet()) {
+            if (!evaluations.containsKey(entry.getKey())) {
+                evaluations.put(entry.getKey(), evaluator.evaluate(entry.getKey(), type, entry.getValue()));
             }
         }
+    }
+
+    private HealthCheckResponse.Status processChecks(Map<HealthCheck, HealthCheckEvaluator.Evaluation> evaluations, JsonArrayBuilder results, HealthCheckResponse.Status status) {
+        for (Map.Entry<HealthCheck, HealthCheckEvaluator.Evaluation> entry : evaluations.entrySet()) {
+            status = fillCheck(entry.getKey(), entry.getValue(), results, status);
+        }
 
         return status;
     }
 
-    private HealthCheckResponse.Status fillCheck(HealthCheck check, JsonArrayBuilder results, HealthCheckResponse.Status globalOutcome) {
-        JsonObject each = jsonObject(check);
+    private HealthCheckResponse.Status fillCheck(HealthCheck check, HealthCheckEvaluator.Evaluation evaluation, JsonArrayBuilder results, HealthCheckResponse.Status globalOutcome) {
+        JsonObject each = jsonObject(check, evaluation);
         results.add(each);
         if (globalOutcome == HealthCheckResponse.Status.UP) {
             String status = each.getString("status");
@@ -189,9 +218,9 @@ public class MicroProfileHealthReporter {
         return globalOutcome;
     }
 
-    private JsonObject jsonObject(HealthCheck check) {
+    private JsonObject jsonObject(HealthCheck check, HealthCheckEvaluator.Evaluation evaluation) {
         try {
-            return jsonObject(check.call());
+            return jsonObject(evaluator.await(check, evaluation));
         } catch (RuntimeException e) {
             // Log Stacktrace to server log so an error is not just in Health Check response
             MicroProfileHealthLogger.LOGGER.error("Error processing Health Checks", e);
@@ -236,38 +265,64 @@ public class MicroProfileHealthReporter {
 
     public void addReadinessCheck(HealthCheck check, ClassLoader moduleClassLoader) {
         if (check != null) {
+            evaluator.register(check, HealthCheckType.READINESS, getDeploymentName(moduleClassLoader), check.getClass().getName());
             readinessChecks.put(check, moduleClassLoader);
         }
     }
 
     public void addServerReadinessCheck(HealthCheck check, ClassLoader moduleClassLoader) {
         if (check != null) {
-            serverReadinessChecks.put(check, moduleClassLoader);
+            addServerReadinessCheck(check.getClass().getName(), check, moduleClassLoader);
         }
     }
 
+    void addServerReadinessCheck(String name, HealthCheck check, ClassLoader moduleClassLoader) {
+        evaluator.register(check, HealthCheckType.SERVER, null, name);
+        serverReadinessChecks.put(check, moduleClassLoader);
+    }
+
     public void removeReadinessCheck(HealthCheck check) {
         readinessChecks.remove(check);
+        evaluator.unregister(check, HealthCheckType.READINESS);
     }
 
     public void addLivenessCheck(HealthCheck check, ClassLoader moduleClassLoader) {
         if (check != null) {
+            evaluator.register(check, HealthCheckType.LIVENESS, getDeploymentName(moduleClassLoader), check.getClass().getName());
             livenessChecks.put(check, moduleClassLoader);
         }
     }
 
     public void removeLivenessCheck(HealthCheck check) {
         livenessChecks.remove(check);
+        evaluator.unregister(check, HealthCheckType.LIVENESS);
     }
 
     public void addStartupCheck(HealthCheck check, ClassLoader moduleClassLoader) {
         if (check != null) {
+            evaluator.register(check, HealthCheckType.STARTUP, getDeploymentName(moduleClassLoader), check.getClass().getName());
             startupChecks.put(check, moduleClassLoader);
         }
     }
 
     public void removeStartupCheck(HealthCheck check) {
         startupChecks.remove(check);
+        evaluator.unregister(check, HealthCheckType.STARTUP);
+    }
+
+    /**
+     * Unregisters the statistics of all health checks.
+     */
+    void close() {
+        evaluator.close();
+    }
+
+    private static String getDeploymentName(ClassLoader moduleClassLoader) {
+        if (moduleClassLoader instanceof ModuleClassLoader) {
+            String name = ((ModuleClassLoader) moduleClassLoader).getModule().getName();
+            return name.startsWith("deployment.") ? name.substring("deployment.".length()) : name;
+        }
+        return null;
     }
 
     public void setUserChecksProcessed(boolean userChecksProcessed) {
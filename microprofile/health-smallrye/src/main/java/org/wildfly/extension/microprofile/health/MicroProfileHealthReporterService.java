@@ -8,10 +8,17 @@ package org.wildfly.extension.microprofile.health;
 import static org.wildfly.extension.microprofile.health.MicroProfileHealthSubsystemDefinition.HEALTH_SERVER_PROBE_CAPABILITY;
 import static org.wildfly.extension.microprofile.health.MicroProfileHealthSubsystemDefinition.MICROPROFILE_HEALTH_REPORTER_CAPABILITY;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import io.smallrye.health.ResponseProvider;
 import io.smallrye.health.SmallRyeHealthReporter;
+import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.health.HealthCheck;
 import org.eclipse.microprofile.health.HealthCheckResponse;
@@ -26,6 +33,7 @@ import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StopContext;
 import org.wildfly.extension.health.ServerProbe;
 import org.wildfly.extension.health.ServerProbesService;
+import org.wildfly.extension.metrics.spi.MetricRegistrar;
 
 /**
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2018 Red Hat inc.
@@ -33,8 +41,15 @@ import org.wildfly.extension.health.ServerProbesService;
  */
 public class MicroProfileHealthReporterService implements Service<MicroProfileHealthReporter> {
 
+    // Configuration properties of the evaluation of health checks
+    static final String MAX_CONCURRENT_CHECKS = "wildfly.health.max-concurrent-checks";
+    static final String CHECK_TIMEOUT = "wildfly.health.check-timeout";
+    static final String CACHE_DURATION_PREFIX = "wildfly.health.cache-duration.";
+
     private static MicroProfileHealthReporter healthReporter;
     private Supplier<ServerProbesService> serverProbesService;
+    private final Supplier<MetricRegistrar> metricRegistrar;
+    private ThreadPoolExecutor executor;
     private String emptyLivenessChecksStatus;
     private String emptyReadinessChecksStatus;
     private String emptyStartupChecksStatus;
@@ -45,15 +60,18 @@ public class MicroProfileHealthReporterService implements Service<MicroProfileHe
                 .addCapability(RuntimeCapability.Builder.of(MICROPROFILE_HEALTH_REPORTER_CAPABILITY, SmallRyeHealthReporter.class).build());
 
         Supplier<ServerProbesService> serverProbesService = serviceBuilder.requires(ServiceName.parse(HEALTH_SERVER_PROBE_CAPABILITY));
+        // Expose health check statistics via the metrics subsystem, if present
+        Supplier<MetricRegistrar> metricRegistrar = context.hasOptionalCapability(MetricRegistrar.CAPABILITY_NAME, MICROPROFILE_HEALTH_REPORTER_CAPABILITY, null) ? serviceBuilder.requires(context.getCapabilityServiceName(MetricRegistrar.CAPABILITY_NAME, MetricRegistrar.class)) : null;
 
-        serviceBuilder.setInstance(new MicroProfileHealthReporterService(serverProbesService, emptyLivenessChecksStatus,
+        serviceBuilder.setInstance(new MicroProfileHealthReporterService(serverProbesService, metricRegistrar, emptyLivenessChecksStatus,
             emptyReadinessChecksStatus, emptyStartupChecksStatus))
                 .install();
     }
 
-    private MicroProfileHealthReporterService(Supplier<ServerProbesService> serverProbesService, String emptyLivenessChecksStatus,
+    private MicroProfileHealthReporterService(Supplier<ServerProbesService> serverProbesService, Supplier<MetricRegistrar> metricRegistrar, String emptyLivenessChecksStatus,
                                               String emptyReadinessChecksStatus, String emptyStartupChecksStatus) {
         this.serverProbesService = serverProbesService;
+        this.metricRegistrar = metricRegistrar;
         this.emptyLivenessChecksStatus = emptyLivenessChecksStatus;
         this.emptyReadinessChecksStatus = emptyReadinessChecksStatus;
         this.emptyStartupChecksStatus = emptyStartupChecksStatus;
@@ -69,20 +87,44 @@ public class MicroProfileHealthReporterService implements Service<MicroProfileHe
         final String defaultStartupEmptyResponse = ConfigProvider.getConfig().getOptionalValue("mp.health.default.startup.empty.response", String.class).orElse("DOWN");
         healthReporter = new MicroProfileHealthReporter(emptyLivenessChecksStatus, emptyReadinessChecksStatus,
             emptyStartupChecksStatus, defaultServerProceduresDisabled,
-            defaultReadinessEmptyResponse, defaultStartupEmptyResponse);
+            defaultReadinessEmptyResponse, defaultStartupEmptyResponse, createEvaluator(ConfigProvider.getConfig()));
 
         if (!defaultServerProceduresDisabled) {
             ClassLoader tccl = Thread.currentThread().getContextClassLoader();
             for (ServerProbe serverProbe : serverProbesService.get().getServerProbes()) {
-                healthReporter.addServerReadinessCheck(wrap(serverProbe), tccl);
+                healthReporter.addServerReadinessCheck(serverProbe.getName(), wrap(serverProbe), tccl);
             }
         }
 
         HealthCheckResponse.setResponseProvider(new ResponseProvider());
     }
 
+    private HealthCheckEvaluator createEvaluator(Config config) {
+        // Health checks are evaluated concurrently, by a bounded number of threads
+        int maxConcurrentChecks = config.getOptionalValue(MAX_CONCURRENT_CHECKS, Integer.class).orElse(Runtime.getRuntime().availableProcessors());
+        // A check that does not respond within this timeout, in milliseconds, is reported as DOWN
+        long timeout = config.getOptionalValue(CHECK_TIMEOUT, Long.class).orElse(0L);
+        // The response of a check may be cached for a duration, in milliseconds, configured per check type
+        Map<HealthCheckType, Long> cacheDurations = new EnumMap<>(HealthCheckType.class);
+        for (HealthCheckType type : HealthCheckType.values()) {
+            config.getOptionalValue(CACHE_DURATION_PREFIX + type.getName(), Long.class).ifPresent(duration -> cacheDurations.put(type, duration));
+        }
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrentChecks, maxConcurrentChecks, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), task -> {
+            Thread thread = new Thread(task, "health-check-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.allowCoreThreadTimeOut(true);
+        HealthCheckMetricsRegistrar registrar = (this.metricRegistrar != null) ? new MetricsHealthCheckMetricsRegistrar(this.metricRegistrar.get()) : HealthCheckMetricsRegistrar.NONE;
+        return new HealthCheckEvaluator(this.executor, timeout, cacheDurations, registrar);
+    }
+
     @Override
     public void stop(StopContext context) {
+        healthReporter.close();
+        this.executor.shutdownNow();
+        this.executor = null;
         healthReporter = null;
         HealthCheckResponse.setResponseProvider(null);
     }
@@ -52,4 +52,8 @@ public interface MicroProfileHealthLogger extends BasicLogger {
     @Message(id = 6, value = "")
     OperationFailedException seeDownstream();
     */
+
+    @LogMessage(level = WARN)
+    @Message(id = 7, value = "Health check %s did not respond within %d ms")
+    void healthCheckTimeout(String name, long timeout);
 }
@@ -0,0 +1,206 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.microprofile.health;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.smallrye.health.ResponseProvider;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Validates the concurrent, time-bounded and cached evaluation of health checks.
+ */
+public class HealthCheckEvaluatorTestCase {
+
+    private static final int CHECKS = 8;
+    private static final long CHECK_MILLIS = 100;
+
+    private ExecutorService executor;
+
+    @Before
+    public void init() {
+        HealthCheckResponse.setResponseProvider(new ResponseProvider());
+        this.executor = Executors.newFixedThreadPool(CHECKS);
+    }
+
+    @After
+    public void destroy() {
+        this.executor.shutdownNow();
+        HealthCheckResponse.setResponseProvider(null);
+    }
+
+    @Test
+    public void concurrent() {
+        HealthCheckEvaluator evaluator = new HealthCheckEvaluator(this.executor, 0, Map.of(), HealthCheckMetricsRegistrar.NONE);
+        // Every check waits for all checks to be called, which can only happen if they are evaluated concurrently
+        CountDownLatch latch = new CountDownLatch(CHECKS);
+        List<HealthCheck> checks = new ArrayList<>(CHECKS);
+        for (int i = 0; i < CHECKS; ++i) {
+            checks.add(new LatchCheck("latch-" + i, latch));
+        }
+
+        List<HealthCheckResponse> responses = evaluate(evaluator, HealthCheckType.LIVENESS, checks);
+
+        for (HealthCheckResponse response : responses) {
+            Assert.assertEquals(response.getName(), HealthCheckResponse.Status.UP, response.getStatus());
+        }
+    }
+
+    @Test
+    public void timeout() {
+        List<HealthCheckStatistics> statistics = new ArrayList<>();
+        HealthCheckMetricsRegistrar registrar = (type, deployment, name, stats) -> {
+            statistics.add(stats);
+            return () -> statistics.remove(stats);
+        };
+        HealthCheckEvaluator evaluator = new HealthCheckEvaluator(this.executor, CHECK_MILLIS, Map.of(), registrar);
+        SlowCheck slow = new SlowCheck("slow", TimeUnit.MINUTES.toMillis(1));
+        SlowCheck fast = new SlowCheck("fast", 0);
+        evaluator.register(slow, HealthCheckType.LIVENESS, null, "slow");
+        evaluator.register(fast, HealthCheckType.LIVENESS, null, "fast");
+        Assert.assertEquals(2, statistics.size());
+
+        long start = System.nanoTime();
+        List<HealthCheckResponse> responses = evaluate(evaluator, HealthCheckType.LIVENESS, List.of(slow, fast));
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assert.assertTrue(String.valueOf(elapsed), elapsed < TimeUnit.SECONDS.toMillis(10));
+        Assert.assertEquals("slow", responses.get(0).getName());
+        Assert.assertEquals(HealthCheckResponse.Status.DOWN, responses.get(0).getStatus());
+        Assert.assertEquals(HealthCheckResponse.Status.UP, responses.get(1).getStatus());
+        Assert.assertEquals(1, statistics.get(0).getTimeouts());
+        Assert.assertEquals(0, statistics.get(1).getTimeouts());
+        Assert.assertEquals(1, statistics.get(1).getEvaluations());
+
+        evaluator.close();
+        Assert.assertTrue(statistics.isEmpty());
+    }
+
+    @Test
+    public void cache() {
+        HealthCheckEvaluator evaluator = new HealthCheckEvaluator(this.executor, 0, Map.of(HealthCheckType.READINESS, TimeUnit.MINUTES.toMillis(1)), HealthCheckMetricsRegistrar.NONE);
+        SlowCheck cached = new SlowCheck("cached", 0);
+        SlowCheck uncached = new SlowCheck("uncached", 0);
+        SlowCheck unregistered = new SlowCheck("unregistered", 0);
+        evaluator.register(cached, HealthCheckType.READINESS, "foo.war", "cached");
+        evaluator.register(uncached, HealthCheckType.LIVENESS, "foo.war", "uncached");
+
+        for (int i = 0; i < 3; ++i) {
+            evaluate(evaluator, HealthCheckType.READINESS, List.of(cached, unregistered));
+            evaluate(evaluator, HealthCheckType.LIVENESS, List.of(uncached));
+        }
+
+        Assert.assertEquals(1, cached.calls.get());
+        Assert.assertEquals(3, uncached.calls.get());
+        Assert.assertEquals(3, unregistered.calls.get());
+
+        // Responses are no longer cached once unregistered
+        evaluator.unregister(cached, HealthCheckType.READINESS);
+        evaluate(evaluator, HealthCheckType.READINESS, List.of(cached));
+        Assert.assertEquals(2, cached.calls.get());
+    }
+
+    @Test
+    public void multipleTypes() {
+        List<HealthCheckStatistics> statistics = new ArrayList<>();
+        HealthCheckMetricsRegistrar registrar = (type, deployment, name, stats) -> {
+            statistics.add(stats);
+            return () -> statistics.remove(stats);
+        };
+        HealthCheckEvaluator evaluator = new HealthCheckEvaluator(this.executor, 0, Map.of(HealthCheckType.READINESS, TimeUnit.MINUTES.toMillis(1)), registrar);
+        // e.g. a health check annotated with both @Liveness and @Readiness
+        SlowCheck check = new SlowCheck("check", 0);
+        evaluator.register(check, HealthCheckType.LIVENESS, "foo.war", "check");
+        evaluator.register(check, HealthCheckType.READINESS, "foo.war", "check");
+        Assert.assertEquals(2, statistics.size());
+
+        for (int i = 0; i < 3; ++i) {
+            evaluate(evaluator, HealthCheckType.READINESS, List.of(check));
+            evaluate(evaluator, HealthCheckType.LIVENESS, List.of(check));
+        }
+        // Only readiness responses are cached
+        Assert.assertEquals(4, check.calls.get());
+        Assert.assertEquals(3, statistics.get(0).getEvaluations());
+        Assert.assertEquals(1, statistics.get(1).getEvaluations());
+
+        // Unregistering one type retains the registration of the other
+        evaluator.unregister(check, HealthCheckType.LIVENESS);
+        Assert.assertEquals(1, statistics.size());
+        evaluate(evaluator, HealthCheckType.READINESS, List.of(check));
+        Assert.assertEquals(4, check.calls.get());
+
+        evaluator.close();
+        Assert.assertTrue(statistics.isEmpty());
+    }
+
+    private static List<HealthCheckResponse> evaluate(HealthCheckEvaluator evaluator, HealthCheckType type, List<HealthCheck> checks) {
+        List<HealthCheckEvaluator.Evaluation> evaluations = new ArrayList<>(checks.size());
+        for (HealthCheck check : checks) {
+            evaluations.add(evaluator.evaluate(check, type, HealthCheckEvaluatorTestCase.class.getClassLoader()));
+        }
+        List<HealthCheckResponse> responses = new ArrayList<>(checks.size());
+        for (int i = 0; i < checks.size(); ++i) {
+            responses.add(evaluator.await(checks.get(i), evaluations.get(i)));
+        }
+        return responses;
+    }
+
+    private static class SlowCheck implements HealthCheck {
+        private final String name;
+        private final long millis;
+        final AtomicInteger calls = new AtomicInteger();
+
+        SlowCheck(String name, long millis) {
+            this.name = name;
+            this.millis = millis;
+        }
+
+        @Override
+        public HealthCheckResponse call() {
+            this.calls.incrementAndGet();
+            try {
+                Thread.sleep(this.millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return HealthCheckResponse.down(this.name);
+            }
+            return HealthCheckResponse.up(this.name);
+        }
+    }
+
+    private static class LatchCheck implements HealthCheck {
+        private final String name;
+        private final CountDownLatch latch;
+
+        LatchCheck(String name, CountDownLatch latch) {
+            this.name = name;
+            this.latch = latch;
+        }
+
+        @Override
+        public HealthCheckResponse call() {
+            this.latch.countDown();
+            try {
+                return this.latch.await(10, TimeUnit.SECONDS) ? HealthCheckResponse.up(this.name) : HealthCheckResponse.down(this.name);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return HealthCheckResponse.down(this.name);
+            }
+        }
+    }
+}
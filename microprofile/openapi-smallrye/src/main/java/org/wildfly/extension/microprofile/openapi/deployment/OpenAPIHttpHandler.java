@@ -5,20 +5,27 @@
 
 package org.wildfly.extension.microprofile.openapi.deployment;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
+import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 import jakarta.ws.rs.core.MediaType;
 
@@ -29,7 +36,10 @@ import io.smallrye.openapi.runtime.io.Format;
 import io.smallrye.openapi.runtime.io.OpenApiSerializer;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.util.ETag;
+import io.undertow.util.ETagUtils;
 import io.undertow.util.HeaderMap;
+import io.undertow.util.HeaderValues;
 import io.undertow.util.Headers;
 import io.undertow.util.HttpString;
 import io.undertow.util.Methods;
@@ -37,6 +47,8 @@ import io.undertow.util.StatusCodes;
 
 /**
  * {@link HttpHandler} for the Open API endpoint.
+ * Each format of the OpenAPI document is rendered once, on construction, and served from a cached buffer,
+ * gzip compressed if accepted by the client, with an {@link ETag} to support conditional requests.
  * @author Michael Edgar
  * @author Paul Ferraro
  */
@@ -48,6 +60,8 @@ public class OpenAPIHttpHandler implements HttpHandler {
     private static final Map<MediaType, Format> ACCEPTED_TYPES = new LinkedHashMap<>();
     private static final Map<String, Format> FORMATS = new HashMap<>();
     private static final String FORMAT = "format";
+    private static final String GZIP = "gzip";
+    private static final String VARY = String.join(",", Headers.ACCEPT_STRING, Headers.ACCEPT_CHARSET_STRING, Headers.ACCEPT_ENCODING_STRING);
 
     static {
         for (Format format : EnumSet.allOf(Format.class)) {
@@ -56,10 +70,19 @@ public class OpenAPIHttpHandler implements HttpHandler {
         }
     }
 
-    private final OpenAPI model;
+    private final Map<Format, String> documents = new EnumMap<>(Format.class);
+    private final Map<Format, Document> encodedDocuments = new EnumMap<>(Format.class);
+    private final Map<Format, Document> compressedDocuments = new EnumMap<>(Format.class);
 
     public OpenAPIHttpHandler(OpenAPI model) {
-        this.model = model;
+        for (Format format : EnumSet.allOf(Format.class)) {
+            String document = serialize(model, format);
+            byte[] content = document.getBytes(StandardCharsets.UTF_8);
+            String tag = digest(content);
+            this.documents.put(format, document);
+            this.encodedDocuments.put(format, new Document(direct(content), new ETag(false, tag), null));
+            this.compressedDocuments.put(format, new Document(direct(gzip(content)), new ETag(false, tag + "-" + GZIP), GZIP));
+        }
     }
 
     @Override
@@ -103,13 +126,25 @@ public class OpenAPIHttpHandler implements HttpHandler {
             // Use format preferred by Accept header if unambiguous, otherwise determine format from query parameter
             Format format = (preferredTypes.size() == 1) ? ACCEPTED_TYPES.get(preferredTypes.get(0)) : parseFormatParameter(exchange);
 
-            byte[] result = OpenApiSerializer.serialize(this.model, format).getBytes(charset);
+            Document document = charset.equals(StandardCharsets.UTF_8) ? (acceptsGzip(exchange) ? this.compressedDocuments.get(format) : this.encodedDocuments.get(format)) : this.encode(format, charset);
 
             responseHeaders.put(Headers.CONTENT_TYPE, format.getMimeType());
-            responseHeaders.put(Headers.CONTENT_LENGTH, result.length);
+            responseHeaders.put(Headers.VARY, VARY);
+            responseHeaders.put(Headers.ETAG, document.tag.toString());
+
+            if (!ETagUtils.handleIfNoneMatch(exchange, document.tag, true)) {
+                exchange.setStatusCode(StatusCodes.NOT_MODIFIED);
+                return;
+            }
+
+            if (document.encoding != null) {
+                responseHeaders.put(Headers.CONTENT_ENCODING, document.encoding);
+            }
+            responseHeaders.put(Headers.CONTENT_LENGTH, document.content.remaining());
 
             if (requestMethod.equals(Methods.GET)) {
-                exchange.getResponseSender().send(ByteBuffer.wrap(result));
+                // Send a view of the cached buffer, rather than a copy
+                exchange.getResponseSender().send(document.content.duplicate());
             }
         } else if (requestMethod.equals(Methods.OPTIONS)) {
             responseHeaders.put(Headers.ALLOW, ALLOW_METHODS);
@@ -118,6 +153,83 @@ public class OpenAPIHttpHandler implements HttpHandler {
         }
     }
 
+    private Document encode(Format format, Charset charset) {
+        // Encodings other than UTF-8 are not cached
+        Document document = this.encodedDocuments.get(format);
+        byte[] content = this.documents.get(format).getBytes(charset);
+        return new Document(ByteBuffer.wrap(content), new ETag(false, document.tag.getTag() + "-" + charset.name()), null);
+    }
+
+    private static ByteBuffer direct(byte[] content) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(content.length).put(content);
+        return buffer.flip().asReadOnlyBuffer();
+    }
+
+    private static String serialize(OpenAPI model, Format format) {
+        try {
+            return OpenApiSerializer.serialize(model, format);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(content.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    private static String digest(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServerExchange exchange) {
+        HeaderValues headerValues = exchange.getRequestHeaders().get(Headers.ACCEPT_ENCODING);
+        if (headerValues == null) return false;
+
+        for (String headerValue : headerValues) {
+            for (String value : headerValue.split(",")) {
+                String[] parameters = value.split(";");
+                if (parameters[0].trim().equalsIgnoreCase(GZIP)) {
+                    // Gzip is unacceptable if its quality is 0
+                    for (int i = 1; i < parameters.length; ++i) {
+                        String parameter = parameters[i].trim();
+                        if (parameter.startsWith("q=")) {
+                            try {
+                                return Float.parseFloat(parameter.substring(2)) > 0;
+                            } catch (NumberFormatException e) {
+                                return false;
+                            }
+                        }
+                    }
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static class Document {
+        final ByteBuffer content;
+        final ETag tag;
+        final String encoding;
+
+        Document(ByteBuffer content, ETag tag, String encoding) {
+            this.content = content;
+            this.tag = tag;
+            this.encoding = encoding;
+        }
+    }
+
     private static final Comparator<MediaType> MEDIA_TYPE_SORTER = new Comparator<>() {
         @Override
         public int compare(MediaType type1, MediaType type2) {
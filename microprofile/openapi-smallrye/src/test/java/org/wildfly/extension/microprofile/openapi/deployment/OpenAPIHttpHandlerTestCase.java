@@ -0,0 +1,93 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.microprofile.openapi.deployment;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.undertow.Undertow;
+import io.undertow.util.Headers;
+import io.undertow.util.StatusCodes;
+
+/**
+ * Validates the conditional and compressed responses of the {@link OpenAPIHttpHandler}.
+ */
+public class OpenAPIHttpHandlerTestCase {
+
+    private Undertow server;
+    private URI uri;
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Before
+    public void init() {
+        OpenAPI model = OASFactory.createOpenAPI().openapi("3.0.3").info(OASFactory.createInfo().title("test").version("1.0"));
+        this.server = Undertow.builder().addHttpListener(0, "localhost").setHandler(new OpenAPIHttpHandler(model)).build();
+        this.server.start();
+        InetSocketAddress address = (InetSocketAddress) this.server.getListenerInfo().get(0).getAddress();
+        this.uri = URI.create(String.format("http://localhost:%d/openapi?format=JSON", address.getPort()));
+    }
+
+    @After
+    public void destroy() {
+        this.server.stop();
+    }
+
+    @Test
+    public void etag() throws IOException, InterruptedException {
+        HttpResponse<String> response = this.client.send(HttpRequest.newBuilder(this.uri).build(), HttpResponse.BodyHandlers.ofString());
+        Assert.assertEquals(StatusCodes.OK, response.statusCode());
+        Assert.assertTrue(response.body(), response.body().contains("\"title\" : \"test\""));
+        String tag = response.headers().firstValue(Headers.ETAG_STRING).orElse(null);
+        Assert.assertNotNull(tag);
+
+        // Subsequent requests are served from the same cached document
+        Assert.assertEquals(response.body(), this.client.send(HttpRequest.newBuilder(this.uri).build(), HttpResponse.BodyHandlers.ofString()).body());
+
+        HttpResponse<String> notModified = this.client.send(HttpRequest.newBuilder(this.uri).header(Headers.IF_NONE_MATCH_STRING, tag).build(), HttpResponse.BodyHandlers.ofString());
+        Assert.assertEquals(StatusCodes.NOT_MODIFIED, notModified.statusCode());
+        Assert.assertEquals(tag, notModified.headers().firstValue(Headers.ETAG_STRING).orElse(null));
+        Assert.assertTrue(notModified.body().isEmpty());
+
+        HttpResponse<String> modified = this.client.send(HttpRequest.newBuilder(this.uri).header(Headers.IF_NONE_MATCH_STRING, "\"stale\"").build(), HttpResponse.BodyHandlers.ofString());
+        Assert.assertEquals(StatusCodes.OK, modified.statusCode());
+        Assert.assertEquals(response.body(), modified.body());
+
+        // YAML document has a distinct tag
+        HttpResponse<String> yaml = this.client.send(HttpRequest.newBuilder(this.uri).header(Headers.ACCEPT_STRING, "application/yaml").build(), HttpResponse.BodyHandlers.ofString());
+        Assert.assertEquals(StatusCodes.OK, yaml.statusCode());
+        Assert.assertNotEquals(tag, yaml.headers().firstValue(Headers.ETAG_STRING).orElse(null));
+    }
+
+    @Test
+    public void gzip() throws IOException, InterruptedException {
+        String expected = this.client.send(HttpRequest.newBuilder(this.uri).build(), HttpResponse.BodyHandlers.ofString()).body();
+
+        HttpResponse<byte[]> response = this.client.send(HttpRequest.newBuilder(this.uri).header(Headers.ACCEPT_ENCODING_STRING, "deflate, gzip;q=0.8").build(), HttpResponse.BodyHandlers.ofByteArray());
+        Assert.assertEquals(StatusCodes.OK, response.statusCode());
+        Assert.assertEquals("gzip", response.headers().firstValue(Headers.CONTENT_ENCODING_STRING).orElse(null));
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            Assert.assertEquals(expected, new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        HttpResponse<String> identity = this.client.send(HttpRequest.newBuilder(this.uri).header(Headers.ACCEPT_ENCODING_STRING, "gzip;q=0").build(), HttpResponse.BodyHandlers.ofString());
+        Assert.assertFalse(identity.headers().firstValue(Headers.CONTENT_ENCODING_STRING).isPresent());
+        Assert.assertEquals(expected, identity.body());
+    }
+}
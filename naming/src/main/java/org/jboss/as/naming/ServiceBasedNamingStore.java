@@ -11,9 +11,12 @@ import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.naming.Binding;
 import javax.naming.CannotProceedException;
@@ -48,6 +51,10 @@ public class ServiceBasedNamingStore implements NamingStore {
 
     private ConcurrentSkipListSet<ServiceName> boundServices = new ConcurrentSkipListSet<ServiceName>();
 
+    // Resolved bindings of previous lookups, invalidated whenever a binding is added or removed
+    private final Map<Name, ResolvedBinding> resolvedBindings = new ConcurrentHashMap<>();
+    private final AtomicLong bindingsVersion = new AtomicLong();
+
     public ServiceBasedNamingStore(final ServiceRegistry serviceRegistry, final ServiceName serviceNameBase) {
         this.serviceRegistry = serviceRegistry;
         this.serviceNameBase = serviceNameBase;
@@ -62,13 +69,30 @@ public class ServiceBasedNamingStore implements NamingStore {
         if (name.isEmpty()) {
             return new NamingContext(EMPTY_NAME, this, null);
         }
+        final ResolvedBinding binding = this.resolvedBindings.get(name);
+        if (binding != null) {
+            if (dereference && binding.instance != null) {
+                return binding.instance;
+            }
+            final Object obj = lookup(name, binding.controller, dereference);
+            if (obj != null) {
+                return obj;
+            }
+        }
+        // Read version prior to resolving binding, so that we can detect a concurrent invalidation
+        final long version = this.bindingsVersion.get();
         final ServiceName lookupName = buildServiceName(name);
-        Object obj = lookup(name.toString(), lookupName, dereference);
-        if (obj == null) {
+        final ServiceController<?> controller = serviceRegistry.getService(lookupName);
+        Object obj = lookup(name, controller, dereference);
+        if (obj != null) {
+            if (boundServices.contains(lookupName)) {
+                resolved(name, controller, dereference ? obj : null, version);
+            }
+        } else {
             final ServiceName lower = boundServices.lower(lookupName);
             if (lower != null && lower.isParentOf(lookupName)) {
                 // Parent might be a reference or a link
-                obj = lookup(name.toString(), lower, dereference);
+                obj = lookup(name, lower, dereference);
                 //if the lower is a context that has been explicitly bound then
                 //we do not return a resolve result, as this will result in an
                 //infinite loop
@@ -106,9 +130,39 @@ public class ServiceBasedNamingStore implements NamingStore {
         return cpe;
     }
 
-    private Object lookup(final String name, final ServiceName lookupName, boolean dereference) throws NamingException {
+    /**
+     * Caches the resolved binding of the specified name, unless bindings were added or removed since the specified version.
+     */
+    @SuppressWarnings("deprecation")
+    private void resolved(final Name name, final ServiceController<?> controller, final Object dereferenced, final long version) {
+        Object instance = null;
+        try {
+            // Instances of immutable reference factories can be cached
+            if (dereferenced != null && controller.getValue() instanceof ImmediateManagedReferenceFactory) {
+                instance = dereferenced;
+            }
+        } catch (IllegalStateException e) {
+            return;
+        }
+        final Name key = (Name) name.clone();
+        final ResolvedBinding binding = new ResolvedBinding(controller, instance);
+        this.resolvedBindings.put(key, binding);
+        if (this.bindingsVersion.get() != version) {
+            this.resolvedBindings.remove(key, binding);
+        }
+    }
+
+    private void invalidateResolvedBindings() {
+        this.bindingsVersion.incrementAndGet();
+        this.resolvedBindings.clear();
+    }
+
+    private Object lookup(final Name name, final ServiceName lookupName, boolean dereference) throws NamingException {
+        return lookup(name, serviceRegistry.getService(lookupName), dereference);
+    }
+
+    private Object lookup(final Name name, final ServiceController<?> controller, boolean dereference) throws NamingException {
         try {
-            final ServiceController<?> controller = serviceRegistry.getService(lookupName);
             if (controller != null) {
                 final Object object = controller.getValue();
                 if (dereference && object instanceof ManagedReferenceFactory) {
@@ -132,13 +186,13 @@ public class ServiceBasedNamingStore implements NamingStore {
                 return null;
             }
         } catch (IllegalStateException e) {
-            NameNotFoundException n = new NameNotFoundException(name);
+            NameNotFoundException n = new NameNotFoundException(name.toString());
             n.initCause(e);
             throw n;
         } catch (SecurityException ex) {
             throw ex;
         } catch (Throwable t) {
-            throw NamingLogger.ROOT_LOGGER.lookupError(t, name);
+            throw NamingLogger.ROOT_LOGGER.lookupError(t, name.toString());
         }
     }
 
@@ -148,7 +202,7 @@ public class ServiceBasedNamingStore implements NamingStore {
         boolean isContextBinding = false;
         if (floor != null && floor.isParentOf(lookupName)) {
             // Parent might be a reference or a link
-            Object obj = lookup(name.toString(), floor, true);
+            Object obj = lookup(name, floor, true);
             if (obj instanceof NamingContext) {
                 isContextBinding = true;
             } else if (obj != null) {
@@ -165,7 +219,7 @@ public class ServiceBasedNamingStore implements NamingStore {
             if (childParts.length > lookupParts.length + 1) {
                 childContexts.add(childParts[lookupParts.length]);
             } else {
-                final Object binding = lookup(name.toString(), child, false);
+                final Object binding = lookup(name, child, false);
                 if (binding != null) {
                     final String bindingType;
                     if (binding instanceof ContextListManagedReferenceFactory) {
@@ -193,7 +247,7 @@ public class ServiceBasedNamingStore implements NamingStore {
         boolean isContextBinding = false;
         if (floor != null && floor.isParentOf(lookupName)) {
             // Parent might be a reference or a link
-            Object obj = lookup(name.toString(), floor, true);
+            Object obj = lookup(name, floor, true);
             if (obj instanceof NamingContext) {
                 isContextBinding = true;
             } else if (obj != null) {
@@ -209,7 +263,7 @@ public class ServiceBasedNamingStore implements NamingStore {
             if (childParts.length > lookupParts.length + 1) {
                 childContexts.add(childParts[lookupParts.length]);
             } else {
-                final Object binding = lookup(name.toString(), child, true);
+                final Object binding = lookup(name, child, true);
                 results.add(new Binding(childParts[childParts.length - 1], binding));
             }
         }
@@ -240,6 +294,7 @@ public class ServiceBasedNamingStore implements NamingStore {
 
     public void close() throws NamingException {
         boundServices.clear();
+        invalidateResolvedBindings();
     }
 
     public void addNamingListener(Name target, int scope, NamingListener listener) {
@@ -254,10 +309,12 @@ public class ServiceBasedNamingStore implements NamingStore {
             throw NamingLogger.ROOT_LOGGER.serviceAlreadyBound(serviceName);
         }
         boundServices.add(serviceName);
+        invalidateResolvedBindings();
     }
 
     public void remove(final ServiceName serviceName) {
         boundServices.remove(serviceName);
+        invalidateResolvedBindings();
     }
 
     protected ServiceName buildServiceName(final Name name) {
@@ -350,4 +407,17 @@ public class ServiceBasedNamingStore implements NamingStore {
         }
         return new CompositeName();
     }
+
+    /**
+     * The service controller of a bound name, and the dereferenced instance of its immutable reference factory, if any.
+     */
+    private static class ResolvedBinding {
+        final ServiceController<?> controller;
+        final Object instance;
+
+        ResolvedBinding(final ServiceController<?> controller, final Object instance) {
+            this.controller = controller;
+            this.instance = instance;
+        }
+    }
 }
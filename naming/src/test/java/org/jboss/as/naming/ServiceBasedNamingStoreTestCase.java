@@ -14,18 +14,23 @@ import javax.naming.CompositeName;
 import javax.naming.Context;
 import javax.naming.Name;
 import javax.naming.NameClassPair;
+import javax.naming.NameNotFoundException;
 import javax.naming.NameParser;
 import javax.naming.NamingEnumeration;
 import javax.naming.NamingException;
 
+import org.jboss.msc.service.LifecycleEvent;
+import org.jboss.msc.service.LifecycleListener;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceContainer;
+import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -80,6 +85,30 @@ public class ServiceBasedNamingStoreTestCase {
         assertEquals(value, obj);
     }
 
+    @Test
+    public void testLookupRebinding() throws Exception {
+        final ServiceName bindingName = ServiceName.JBOSS.append("foo", "bar");
+        final Object value = new Object();
+        final ServiceController<?> controller = bindObject(bindingName, new ImmediateManagedReferenceFactory(value));
+
+        // Repeated lookups resolve the same binding
+        assertSame(value, store.lookup(new CompositeName("foo/bar")));
+        assertSame(value, store.lookup(new CompositeName("foo/bar")));
+        assertTrue(store.lookup(new CompositeName("foo/bar"), false) instanceof ImmediateManagedReferenceFactory);
+
+        unbind(controller);
+        try {
+            store.lookup(new CompositeName("foo/bar"));
+            fail("Expected NameNotFoundException");
+        } catch (NameNotFoundException e) {
+            // Expected
+        }
+
+        final Object newValue = new Object();
+        bindObject(bindingName, new ImmediateManagedReferenceFactory(newValue));
+        assertSame(newValue, store.lookup(new CompositeName("foo/bar")));
+    }
+
     @Test
     public void testLookupParentContext() throws Exception {
         final ServiceName bindingName = ServiceName.JBOSS.append("foo", "bar");
@@ -381,20 +410,41 @@ public class ServiceBasedNamingStoreTestCase {
     }
 
     private void bindObject(final ServiceName serviceName, final Object value) throws Exception {
+        bindObject(serviceName, new ValueManagedReferenceFactory(value));
+    }
+
+    @SuppressWarnings("deprecation")
+    private ServiceController<?> bindObject(final ServiceName serviceName, final ManagedReferenceFactory factory) throws Exception {
         final CountDownLatch latch = new CountDownLatch(1);
-        container.addService(serviceName, new Service<ManagedReferenceFactory>() {
+        final ServiceController<?> controller = container.addService(serviceName, new Service<ManagedReferenceFactory>() {
             public void start(StartContext context) throws StartException {
                 store.add(serviceName);
                 latch.countDown();
             }
 
             public void stop(StopContext context) {
+                store.remove(serviceName);
             }
 
             public ManagedReferenceFactory getValue() throws IllegalStateException, IllegalArgumentException {
-                return new ValueManagedReferenceFactory(value);
+                return factory;
             }
         }).install();
         latch.await();
+        return controller;
+    }
+
+    private void unbind(final ServiceController<?> controller) throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        controller.addListener(new LifecycleListener() {
+            @Override
+            public void handleEvent(ServiceController<?> controller, LifecycleEvent event) {
+                if (event == LifecycleEvent.REMOVED) {
+                    latch.countDown();
+                }
+            }
+        });
+        controller.setMode(ServiceController.Mode.REMOVE);
+        latch.await();
     }
 }
@@ -52,38 +52,42 @@ public abstract class AbstractPersistentSessionManager implements SessionPersist
         this.moduleLoader = moduleLoader;
     }
 
-    @Override
-    public void persistSessions(String deploymentName, Map<String, PersistentSession> sessionData) {
-        try {
-            final Marshaller marshaller = createMarshaller();
+    /**
+     * Serializes the attributes of the specified session, omitting any attribute that cannot be serialized.
+     */
+    SessionEntry serializeSession(Marshaller marshaller, String sessionId, PersistentSession session) {
+        Map<String, byte[]> data = new HashMap<String, byte[]>();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (Map.Entry<String, Object> sessionAttribute : session.getSessionData().entrySet()) {
             try {
-                final Map<String, SessionEntry> serializedData = new HashMap<String, SessionEntry>();
-                for (Map.Entry<String, PersistentSession> sessionEntry : sessionData.entrySet()) {
-                    Map<String, byte[]> data = new HashMap<String, byte[]>();
-                    for (Map.Entry<String, Object> sessionAttribute : sessionEntry.getValue().getSessionData().entrySet()) {
-                        try {
-                            final ByteArrayOutputStream out = new ByteArrayOutputStream();
-                            marshaller.start(new OutputStreamByteOutput(out));
-                            marshaller.writeObject(sessionAttribute.getValue());
-                            marshaller.finish();
-                            data.put(sessionAttribute.getKey(), out.toByteArray());
-                        } catch (Exception e) {
-                            UndertowLogger.ROOT_LOGGER.failedToPersistSessionAttribute(sessionAttribute.getKey(), sessionAttribute.getValue(), sessionEntry.getKey(), e);
-                        }
-                    }
-                    serializedData.put(sessionEntry.getKey(), new SessionEntry(sessionEntry.getValue().getExpiration(), data));
+                out.reset();
+                marshaller.start(new OutputStreamByteOutput(out));
+                try {
+                    marshaller.writeObject(sessionAttribute.getValue());
+                } finally {
+                    // Reset marshaller state, even if this attribute could not be marshalled
+                    marshaller.finish();
                 }
-                persistSerializedSessions(deploymentName, serializedData);
-            } finally {
-                marshaller.close();
+                data.put(sessionAttribute.getKey(), out.toByteArray());
+            } catch (Exception e) {
+                UndertowLogger.ROOT_LOGGER.failedToPersistSessionAttribute(sessionAttribute.getKey(), sessionAttribute.getValue(), sessionId, e);
             }
-        } catch (Exception e) {
-            UndertowServletLogger.ROOT_LOGGER.failedToPersistSessions(e);
         }
-
+        return new SessionEntry(session.getExpiration(), data);
     }
 
-    protected abstract void persistSerializedSessions(String deploymentName, Map<String, SessionEntry> serializedData) throws IOException;
+    /**
+     * Deserializes the attributes of the specified session entry.
+     */
+    PersistentSession deserializeSession(Unmarshaller unmarshaller, SessionEntry entry) throws IOException, ClassNotFoundException {
+        Map<String, Object> session = new HashMap<String, Object>();
+        for (Map.Entry<String, byte[]> sessionAttribute : entry.data.entrySet()) {
+            unmarshaller.start(new ByteBufferInput(ByteBuffer.wrap(sessionAttribute.getValue())));
+            session.put(sessionAttribute.getKey(), unmarshaller.readObject());
+            unmarshaller.finish();
+        }
+        return new PersistentSession(entry.expiry, session);
+    }
 
     protected abstract Map<String, SessionEntry> loadSerializedSessions(final String deploymentName) throws IOException;
 
@@ -98,13 +102,7 @@ public abstract class AbstractPersistentSessionManager implements SessionPersist
                     Map<String, PersistentSession> ret = new HashMap<String, PersistentSession>();
                     for (Map.Entry<String, SessionEntry> sessionEntry : data.entrySet()) {
                         if (sessionEntry.getValue().expiry.getTime() > time) {
-                            Map<String, Object> session = new HashMap<String, Object>();
-                            for (Map.Entry<String, byte[]> sessionAttribute : sessionEntry.getValue().data.entrySet()) {
-                                unmarshaller.start(new ByteBufferInput(ByteBuffer.wrap(sessionAttribute.getValue())));
-                                session.put(sessionAttribute.getKey(), unmarshaller.readObject());
-                                unmarshaller.finish();
-                            }
-                            ret.put(sessionEntry.getKey(), new PersistentSession(sessionEntry.getValue().expiry, session));
+                            ret.put(sessionEntry.getKey(), deserializeSession(unmarshaller, sessionEntry.getValue()));
                         }
                     }
                     return ret;
@@ -154,7 +152,7 @@ public abstract class AbstractPersistentSessionManager implements SessionPersist
         private final Date expiry;
         private final Map<String, byte[]> data;
 
-        private SessionEntry(Date expiry, Map<String, byte[]> data) {
+        SessionEntry(Date expiry, Map<String, byte[]> data) {
             this.expiry = expiry;
             this.data = data;
         }
@@ -203,6 +203,7 @@ public interface Constants {
     String PROACTIVE_AUTHENTICATION = "proactive-authentication";
     String SESSION_ID_LENGTH = "session-id-length";
     String EXTENDED = "extended";
+    String RING_BUFFER_SIZE = "ring-buffer-size";
     String MAX_BUFFERED_REQUEST_SIZE = "max-buffered-request-size";
     String MAX_SESSIONS = "max-sessions";
     String USER_AGENTS = "user-agents";
@@ -5,6 +5,7 @@
 
 package org.wildfly.extension.undertow;
 
+import static org.jboss.as.controller.client.helpers.MeasurementUnit.BYTES;
 import static org.jboss.as.controller.client.helpers.MeasurementUnit.SECONDS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
@@ -40,6 +41,7 @@ import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.dmr.Property;
 import org.jboss.msc.service.ServiceController;
+import org.wildfly.clustering.web.container.SessionReplicationStatistics;
 import org.wildfly.extension.undertow.deployment.UndertowDeploymentService;
 import org.wildfly.extension.undertow.logging.UndertowLogger;
 
@@ -287,67 +289,11 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
                     return;
                 }
                 Deployment deployment = deploymentService.getDeployment();
-                SessionManager sessionManager = deployment.getSessionManager();
-                SessionManagerStatistics sms = sessionManager.getStatistics();
-
-                switch (stat) {
-                    case ACTIVE_SESSIONS:
-                        result.set(sessionManager.getActiveSessions().size());
-                        break;
-                    case EXPIRED_SESSIONS:
-                        if (sms == null) {
-                            result.set(0);
-                        } else {
-                            result.set((int) sms.getExpiredSessionCount());
-                        }
-                        break;
-                    case MAX_ACTIVE_SESSIONS:
-                        if (sms == null) {
-                            result.set(0);
-                        } else {
-                            result.set((int) sms.getMaxActiveSessions());
-                        }
-                        break;
-                    case SESSIONS_CREATED:
-                        if (sms == null) {
-                            result.set(0);
-                        } else {
-                            result.set((int) sms.getCreatedSessionCount());
-                        }
-                        break;
-                    //case DUPLICATED_SESSION_IDS:
-                    //    result.set(sm.getDuplicates());
-                    //    break;
-                    case SESSION_AVG_ALIVE_TIME:
-                        if (sms == null) {
-                            result.set(0);
-                        } else {
-                            result.set((int) sms.getAverageSessionAliveTime() / 1000);
-                        }
-                        break;
-                    case SESSION_MAX_ALIVE_TIME:
-                        if (sms == null) {
-                            result.set(0);
-                        } else {
-                            result.set((int) sms.getMaxSessionAliveTime() / 1000);
-                        }
-                        break;
-                    case REJECTED_SESSIONS:
-                        if (sms == null) {
-                            result.set(0);
-                        } else {
-                            result.set((int) sms.getRejectedSessions());
-                        }
-                        break;
-                    case HIGHEST_SESSION_COUNT:
-                        if (sms == null) {
-                            result.set(0);
-                        } else {
-                            result.set((int) sms.getHighestSessionCount());
-                        }
-                        break;
-                    default:
-                        throw new IllegalStateException(UndertowLogger.ROOT_LOGGER.unknownMetric(stat));
+                Number value = stat.getValue(deployment.getSessionManager());
+                if (value instanceof Long) {
+                    result.set(value.longValue());
+                } else {
+                    result.set(value.intValue());
                 }
                 context.getResult().set(result);
             }
@@ -408,7 +354,23 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
         MAX_ACTIVE_SESSIONS(new SimpleAttributeDefinitionBuilder("max-active-sessions", ModelType.INT)
                 .setUndefinedMetricValue(ModelNode.ZERO).setStorageRuntime().build()),
         HIGHEST_SESSION_COUNT(new SimpleAttributeDefinitionBuilder("highest-session-count", ModelType.INT)
-                .setUndefinedMetricValue(ModelNode.ZERO).setStorageRuntime().build());
+                .setUndefinedMetricValue(ModelNode.ZERO).setStorageRuntime().build()),
+        REPLICATION_BYTES_SAVED(new SimpleAttributeDefinitionBuilder("replication-bytes-saved", ModelType.LONG)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setMeasurementUnit(BYTES)
+                .setFlags(COUNTER_METRIC)
+                .setStorageRuntime()
+                .build()),
+        DIRTY_CHECK_HITS(new SimpleAttributeDefinitionBuilder("dirty-check-hits", ModelType.LONG)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setFlags(COUNTER_METRIC)
+                .setStorageRuntime()
+                .build()),
+        DIRTY_CHECK_MISSES(new SimpleAttributeDefinitionBuilder("dirty-check-misses", ModelType.LONG)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setFlags(COUNTER_METRIC)
+                .setStorageRuntime()
+                .build());
 
         private static final Map<String, SessionStat> MAP = new HashMap<>();
 
@@ -429,6 +391,43 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
             return definition.getName();
         }
 
+        /**
+         * Returns the value of this statistic for the specified session manager.
+         * @param sessionManager a session manager
+         * @return an Integer or Long value, per the type of this statistic
+         */
+        public Number getValue(SessionManager sessionManager) {
+            SessionManagerStatistics sms = sessionManager.getStatistics();
+            switch (this) {
+                case ACTIVE_SESSIONS:
+                    return sessionManager.getActiveSessions().size();
+                case EXPIRED_SESSIONS:
+                    return (sms != null) ? (int) sms.getExpiredSessionCount() : 0;
+                case MAX_ACTIVE_SESSIONS:
+                    return (sms != null) ? (int) sms.getMaxActiveSessions() : 0;
+                case SESSIONS_CREATED:
+                    return (sms != null) ? (int) sms.getCreatedSessionCount() : 0;
+                //case DUPLICATED_SESSION_IDS:
+                //    return sm.getDuplicates();
+                case SESSION_AVG_ALIVE_TIME:
+                    return (sms != null) ? (int) sms.getAverageSessionAliveTime() / 1000 : 0;
+                case SESSION_MAX_ALIVE_TIME:
+                    return (sms != null) ? (int) sms.getMaxSessionAliveTime() / 1000 : 0;
+                case REJECTED_SESSIONS:
+                    return (sms != null) ? (int) sms.getRejectedSessions() : 0;
+                case HIGHEST_SESSION_COUNT:
+                    return (sms != null) ? (int) sms.getHighestSessionCount() : 0;
+                case REPLICATION_BYTES_SAVED:
+                    return (sms instanceof SessionReplicationStatistics) ? ((SessionReplicationStatistics) sms).getReplicationBytesSaved() : 0L;
+                case DIRTY_CHECK_HITS:
+                    return (sms instanceof SessionReplicationStatistics) ? ((SessionReplicationStatistics) sms).getDirtyCheckHitCount() : 0L;
+                case DIRTY_CHECK_MISSES:
+                    return (sms instanceof SessionReplicationStatistics) ? ((SessionReplicationStatistics) sms).getDirtyCheckMissCount() : 0L;
+                default:
+                    throw new IllegalStateException(UndertowLogger.ROOT_LOGGER.unknownMetric(this));
+            }
+        }
+
         public static synchronized SessionStat getStat(final String stringForm) {
             return MAP.get(stringForm);
         }
@@ -4,34 +4,56 @@
  */
 package org.wildfly.extension.undertow;
 
+import io.undertow.servlet.UndertowServletLogger;
 import io.undertow.servlet.api.SessionPersistenceManager;
 import org.jboss.as.controller.services.path.PathManager;
 import org.jboss.marshalling.InputStreamByteInput;
 import org.jboss.marshalling.Marshaller;
-import org.jboss.marshalling.OutputStreamByteOutput;
 import org.jboss.marshalling.Unmarshaller;
 import org.jboss.modules.ModuleLoader;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
 import org.wildfly.extension.undertow.logging.UndertowLogger;
-import org.xnio.IoUtils;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.AbstractMap;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
- * Persistent session manager that stores persistent session information to disk
+ * Persistent session manager that stores persistent session information to disk.
+ * Sessions are written as a sequence of length-prefixed records, one per session, so that neither persisting nor loading
+ * requires the serialized form of all sessions to be held in memory at once, and so that expired sessions can be skipped
+ * without deserializing their attributes.
  *
  * @author Stuart Douglas
  * @author <a href="mailto:ropalka@redhat.com">Richard Opalka</a>
  */
 public class DiskBasedModularPersistentSessionManager extends AbstractPersistentSessionManager {
+    // Distinguishes the record-based format from the single marshalled map written by previous releases
+    private static final int MAGIC = 0x57465353;
+    private static final byte VERSION = 1;
+    // The maximum encoded length of a string written via DataOutput.writeUTF(...)
+    private static final int MAX_UTF_LENGTH = 0xFFFF;
+
     private final String path;
     private final String pathRelativeTo;
     private final Supplier<PathManager> pathManager;
@@ -73,47 +95,218 @@ public class DiskBasedModularPersistentSessionManager extends AbstractPersistent
 
 
     @Override
-    protected void persistSerializedSessions(String deploymentName, Map<String, SessionEntry> serializedData) throws IOException {
-        File file = new File(baseDir, deploymentName);
-        FileOutputStream out = new FileOutputStream(file, false);
+    public void persistSessions(String deploymentName, Map<String, PersistentSession> sessionData) {
+        // Stream sessions to disk one at a time, rather than retaining the serialized form of all sessions in memory
         try {
             Marshaller marshaller = createMarshaller();
             try {
-                marshaller.start(new OutputStreamByteOutput(out));
-                marshaller.writeObject(serializedData);
-                marshaller.finish();
+                writeSessions(deploymentName, output -> {
+                    for (Map.Entry<String, PersistentSession> entry : sessionData.entrySet()) {
+                        String sessionId = entry.getKey();
+                        if (utfLength(sessionId) > MAX_UTF_LENGTH) {
+                            UndertowLogger.ROOT_LOGGER.persistentSessionIdTooLong(sessionId, deploymentName, MAX_UTF_LENGTH);
+                            continue;
+                        }
+                        SessionEntry session = serializeSession(marshaller, sessionId, entry.getValue());
+                        Iterator<String> attributeNames = session.getData().keySet().iterator();
+                        while (attributeNames.hasNext()) {
+                            String attributeName = attributeNames.next();
+                            if (utfLength(attributeName) > MAX_UTF_LENGTH) {
+                                UndertowLogger.ROOT_LOGGER.persistentSessionAttributeNameTooLong(attributeName, sessionId, MAX_UTF_LENGTH);
+                                attributeNames.remove();
+                            }
+                        }
+                        writeSession(output, sessionId, session);
+                    }
+                });
             } finally {
                 marshaller.close();
             }
-        } finally {
-            IoUtils.safeClose(out);
+        } catch (Exception e) {
+            UndertowServletLogger.ROOT_LOGGER.failedToPersistSessions(e);
         }
     }
 
     @Override
-    protected Map<String, SessionEntry> loadSerializedSessions(String deploymentName) throws IOException {
+    public Map<String, PersistentSession> loadSessionAttributes(String deploymentName, ClassLoader classLoader) {
         File file = new File(baseDir, deploymentName);
         if (!file.exists()) {
             return null;
         }
-        FileInputStream in = new FileInputStream(file);
-        try {
-            Unmarshaller unMarshaller = createUnmarshaller();
-            try {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (readHeader(file, input)) {
+                Unmarshaller unmarshaller = createUnmarshaller();
                 try {
-                    unMarshaller.start(new InputStreamByteInput(in));
-                    return (Map<String, SessionEntry>) unMarshaller.readObject();
-                } catch (ClassNotFoundException e) {
-                    throw new RuntimeException(e);
+                    long time = System.currentTimeMillis();
+                    Map<String, PersistentSession> result = new HashMap<>();
+                    // Deserialize sessions one at a time, rather than retaining the serialized form of all sessions in memory
+                    for (Map.Entry<String, SessionEntry> entry = readSession(input, time); entry != null; entry = readSession(input, time)) {
+                        if (entry.getValue() != null) {
+                            result.put(entry.getKey(), deserializeSession(unmarshaller, entry.getValue()));
+                        }
+                    }
+                    return result;
                 } finally {
-                    unMarshaller.finish();
+                    unmarshaller.close();
+                }
+            }
+        } catch (Exception e) {
+            UndertowServletLogger.ROOT_LOGGER.failedtoLoadPersistentSessions(e);
+            return null;
+        }
+        // Sessions were persisted by a previous release
+        return super.loadSessionAttributes(deploymentName, classLoader);
+    }
+
+    @Override
+    protected Map<String, SessionEntry> loadSerializedSessions(String deploymentName) throws IOException {
+        File file = new File(baseDir, deploymentName);
+        if (!file.exists()) {
+            return null;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (readHeader(file, input)) {
+                Map<String, SessionEntry> result = new HashMap<>();
+                for (Map.Entry<String, SessionEntry> entry = readSession(input, Long.MIN_VALUE); entry != null; entry = readSession(input, Long.MIN_VALUE)) {
+                    result.put(entry.getKey(), entry.getValue());
                 }
+                return result;
+            }
+            return loadLegacySerializedSessions(input);
+        }
+    }
+
+    /**
+     * Reads sessions persisted as a single marshalled map, as written by previous releases.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, SessionEntry> loadLegacySerializedSessions(InputStream in) throws IOException {
+        Unmarshaller unMarshaller = createUnmarshaller();
+        try {
+            try {
+                unMarshaller.start(new InputStreamByteInput(in));
+                return (Map<String, SessionEntry>) unMarshaller.readObject();
+            } catch (ClassNotFoundException e) {
+                throw new RuntimeException(e);
             } finally {
-                unMarshaller.close();
+                unMarshaller.finish();
             }
         } finally {
-            IoUtils.safeClose(in);
+            unMarshaller.close();
         }
+    }
+
+    /**
+     * Writes sessions to a temporary file, which then atomically replaces any previously persisted sessions.
+     */
+    private void writeSessions(String deploymentName, SessionWriter writer) throws IOException {
+        File file = new File(baseDir, deploymentName);
+        File tmpFile = new File(baseDir, deploymentName + ".tmp");
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile, false)))) {
+            output.writeInt(MAGIC);
+            output.writeByte(VERSION);
+            writer.write(output);
+            output.writeBoolean(false);
+        } catch (IOException | RuntimeException e) {
+            tmpFile.delete();
+            throw e;
+        }
+        Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeSession(DataOutput output, String sessionId, SessionEntry entry) throws IOException {
+        output.writeBoolean(true);
+        output.writeUTF(sessionId);
+        output.writeLong(entry.getExpiry().getTime());
+        Map<String, byte[]> data = entry.getData();
+        output.writeInt(data.size());
+        for (Map.Entry<String, byte[]> attribute : data.entrySet()) {
+            byte[] value = attribute.getValue();
+            output.writeUTF(attribute.getKey());
+            output.writeInt(value.length);
+            output.write(value);
+        }
+    }
+
+    /**
+     * Indicates whether the specified stream begins with the header of the record-based format.
+     * If not, the stream is reset to its beginning.
+     */
+    private static boolean readHeader(File file, DataInputStream input) throws IOException {
+        input.mark(Integer.BYTES + Byte.BYTES);
+        try {
+            if (input.readInt() == MAGIC) {
+                byte version = input.readByte();
+                if (version != VERSION) {
+                    throw UndertowLogger.ROOT_LOGGER.unsupportedPersistentSessionFormat(version, file);
+                }
+                return true;
+            }
+        } catch (EOFException e) {
+            // Fall through
+        }
+        input.reset();
+        return false;
+    }
+
+    /**
+     * Reads the next session record from the specified stream.
+     * The attributes of sessions that expired prior to the specified time are skipped, yielding a null entry value.
+     * @return the next session entry, or null, if there are no more sessions
+     */
+    private static Map.Entry<String, SessionEntry> readSession(DataInput input, long time) throws IOException {
+        if (!input.readBoolean()) {
+            return null;
+        }
+        String sessionId = input.readUTF();
+        Date expiry = new Date(input.readLong());
+        boolean expired = expiry.getTime() <= time;
+        int size = input.readInt();
+        Map<String, byte[]> data = expired ? null : new HashMap<>();
+        for (int i = 0; i < size; ++i) {
+            String name = input.readUTF();
+            int length = input.readInt();
+            if (expired) {
+                skipFully(input, length);
+            } else {
+                byte[] value = new byte[length];
+                input.readFully(value);
+                data.put(name, value);
+            }
+        }
+        return new AbstractMap.SimpleImmutableEntry<>(sessionId, expired ? null : new SessionEntry(expiry, data));
+    }
+
+    /**
+     * Skips the specified number of bytes, since {@link DataInput#skipBytes(int)} may skip fewer bytes than requested.
+     * @throws EOFException if the stream ends before the specified number of bytes were skipped
+     */
+    private static void skipFully(DataInput input, int length) throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            int skipped = input.skipBytes(remaining);
+            if (skipped <= 0) {
+                // Either the end of the stream was reached, or no bytes are currently skippable
+                input.readByte();
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+
+    /**
+     * Computes the length of the modified UTF-8 encoding of the specified string, as written by {@link DataOutput#writeUTF(String)}.
+     */
+    private static int utfLength(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); ++i) {
+            char c = value.charAt(i);
+            length += ((c >= 0x0001) && (c <= 0x007F)) ? 1 : (c <= 0x07FF) ? 2 : 3;
+        }
+        return length;
+    }
 
+    private interface SessionWriter {
+        void write(DataOutput output) throws IOException;
     }
 }
@@ -27,6 +27,8 @@ class EventLoggerHttpHandler implements HttpHandler {
     private final Predicate predicate;
     private final Collection<AccessLogAttribute> attributes;
     private final EventLogger eventLogger;
+    // Initial capacity of the attribute map that avoids rehashing
+    private final int capacity;
 
     /**
      * Creates a new instance of the HTTP handler.
@@ -42,6 +44,7 @@ class EventLoggerHttpHandler implements HttpHandler {
         this.predicate = predicate;
         this.attributes = attributes;
         this.eventLogger = eventLogger;
+        this.capacity = (int) (attributes.size() / 0.75f) + 1;
     }
 
     @Override
@@ -55,7 +58,7 @@ class EventLoggerHttpHandler implements HttpHandler {
         public void exchangeEvent(final HttpServerExchange exchange, final NextListener nextListener) {
             try {
                 if (predicate == null || predicate.resolve(exchange)) {
-                    final Map<String, Object> data = new LinkedHashMap<>();
+                    final Map<String, Object> data = new LinkedHashMap<>(capacity);
                     for (AccessLogAttribute attribute : attributes) {
                         data.put(attribute.getKey(), attribute.resolveAttribute(exchange));
                     }
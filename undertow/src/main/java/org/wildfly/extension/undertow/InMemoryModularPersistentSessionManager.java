@@ -4,7 +4,9 @@
  */
 package org.wildfly.extension.undertow;
 
+import io.undertow.servlet.UndertowServletLogger;
 import io.undertow.servlet.api.SessionPersistenceManager;
+import org.jboss.marshalling.Marshaller;
 import org.jboss.modules.ModuleLoader;
 
 import java.util.Collections;
@@ -31,8 +33,21 @@ public class InMemoryModularPersistentSessionManager extends AbstractPersistentS
     private final Map<String, Map<String, SessionEntry>> sessionData = Collections.synchronizedMap(new HashMap<String, Map<String, SessionEntry>>());
 
     @Override
-    protected void persistSerializedSessions(String deploymentName, Map<String, SessionEntry> serializedData) {
-        sessionData.put(deploymentName, serializedData);
+    public void persistSessions(String deploymentName, Map<String, PersistentSession> sessionData) {
+        try {
+            final Marshaller marshaller = createMarshaller();
+            try {
+                final Map<String, SessionEntry> serializedData = new HashMap<String, SessionEntry>();
+                for (Map.Entry<String, PersistentSession> sessionEntry : sessionData.entrySet()) {
+                    serializedData.put(sessionEntry.getKey(), serializeSession(marshaller, sessionEntry.getKey(), sessionEntry.getValue()));
+                }
+                this.sessionData.put(deploymentName, serializedData);
+            } finally {
+                marshaller.close();
+            }
+        } catch (Exception e) {
+            UndertowServletLogger.ROOT_LOGGER.failedToPersistSessions(e);
+        }
     }
 
     @Override
@@ -0,0 +1,306 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import io.undertow.UndertowLogger;
+import io.undertow.server.handlers.accesslog.AccessLogReceiver;
+import io.undertow.server.handlers.accesslog.LogFileHeaderGenerator;
+
+/**
+ * File-based access log receiver that hands off log messages via a preallocated ring buffer, rather than via an unbounded queue.
+ * Logging a message neither allocates, acquires a lock, nor blocks, since it is typically invoked by an I/O thread.
+ * If the ring buffer is full, or once this receiver is closed, the message is dropped and counted instead.
+ * Dropped messages are periodically reported by the writer task.
+ * Pending messages are drained by a single writer task, which encodes them directly into a reusable direct buffer,
+ * and writes them to a {@link FileChannel} in batches.
+ * Log files are named and rotated consistently with {@link io.undertow.server.handlers.accesslog.DefaultAccessLogReceiver}.
+ */
+public class RingBufferAccessLogReceiver implements AccessLogReceiver, Runnable, Closeable {
+
+    private static final int IDLE = 0;
+    private static final int SCHEDULED = 1;
+    private static final int CLOSED = 2;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final int ENCODE_BUFFER_SIZE = 4 * 1024;
+    private static final long CLOSE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long DROPPED_REPORT_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final Executor executor;
+    private final Path directory;
+    private final String prefix;
+    private final String suffix;
+    private final Path file;
+    private final boolean rotate;
+    private final LogFileHeaderGenerator headerGenerator;
+
+    // Ring buffer state, see "Bounded MPMC queue" by Dmitry Vyukov
+    private final String[] messages;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicInteger state = new AtomicInteger(IDLE);
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong discarded = new AtomicLong();
+
+    // Writer state, only accessed by the single scheduled writer task
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+    private final CharBuffer chars = CharBuffer.allocate(ENCODE_BUFFER_SIZE);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private long head = 0;
+    private FileChannel channel;
+    private LocalDate date;
+    private long changeOverPoint;
+    private long reportedDropped = 0;
+    private long nextDroppedReport = 0;
+
+    /**
+     * Creates a new access log receiver.
+     * @param executor the executor used to write log messages
+     * @param directory the output directory of the log file
+     * @param prefix the log file name prefix
+     * @param suffix the log file name suffix
+     * @param rotate indicates whether the log file should rotate daily
+     * @param headerGenerator generates the header of a new log file, may be null
+     * @param capacity the minimum number of messages that can be pending, rounded up to a power of 2
+     */
+    public RingBufferAccessLogReceiver(Executor executor, Path directory, String prefix, String suffix, boolean rotate, LogFileHeaderGenerator headerGenerator, int capacity) {
+        this.executor = executor;
+        this.directory = directory;
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.file = directory.resolve(prefix + suffix);
+        this.rotate = rotate;
+        this.headerGenerator = headerGenerator;
+        int size = (capacity > 1) ? Integer.highestOneBit(capacity - 1) << 1 : 1;
+        this.messages = new String[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; ++i) {
+            this.sequences.set(i, i);
+        }
+        this.mask = size - 1;
+    }
+
+    @Override
+    public void logMessage(String message) {
+        if (this.state.get() == CLOSED) {
+            if (this.discarded.getAndIncrement() == 0) {
+                org.wildfly.extension.undertow.logging.UndertowLogger.ROOT_LOGGER.accessLogClosed(this.file);
+            }
+            return;
+        }
+        long position = this.tail.get();
+        while (true) {
+            int index = this.index(position);
+            long difference = this.sequences.get(index) - position;
+            if (difference == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    this.messages[index] = message;
+                    // Publish message to writer
+                    this.sequences.set(index, position + 1);
+                    break;
+                }
+            } else if (difference < 0) {
+                // Ring buffer is full - never block the logging thread, which is typically an I/O thread
+                this.dropped.incrementAndGet();
+                break;
+            }
+            position = this.tail.get();
+        }
+        this.schedule();
+    }
+
+    /**
+     * Returns the number of messages dropped since the ring buffer was full.
+     * @return a number of messages
+     */
+    long getDroppedCount() {
+        return this.dropped.get();
+    }
+
+    /**
+     * Returns the number of messages discarded since this receiver was closed.
+     * @return a number of messages
+     */
+    long getDiscardedCount() {
+        return this.discarded.get();
+    }
+
+    private void schedule() {
+        if (this.state.compareAndSet(IDLE, SCHEDULED)) {
+            try {
+                this.executor.execute(this);
+            } catch (RuntimeException e) {
+                this.state.compareAndSet(SCHEDULED, IDLE);
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        do {
+            this.drain();
+            if (!this.state.compareAndSet(SCHEDULED, IDLE)) {
+                // Closed concurrently
+                return;
+            }
+            // Reschedule if a message was published after our last drain
+        } while (this.isPending() && this.state.compareAndSet(IDLE, SCHEDULED));
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Wait for any scheduled writer task to complete
+        while (!this.state.compareAndSet(IDLE, CLOSED)) {
+            if (this.state.get() == CLOSED) return;
+            LockSupport.parkNanos(CLOSE_PARK_NANOS);
+        }
+        this.drain();
+        this.reportDropped(true);
+        if (this.channel != null) {
+            this.channel.close();
+            this.channel = null;
+        }
+    }
+
+    private int index(long position) {
+        return (int) position & this.mask;
+    }
+
+    private boolean isPending() {
+        return this.sequences.get(this.index(this.head)) == this.head + 1;
+    }
+
+    private void drain() {
+        try {
+            if (this.channel == null) {
+                this.open();
+            } else if (this.rotate && (System.currentTimeMillis() >= this.changeOverPoint)) {
+                this.flush();
+                this.channel.close();
+                this.channel = null;
+                this.rotate(this.date);
+                this.open();
+            }
+            while (this.isPending()) {
+                int index = this.index(this.head);
+                String message = this.messages[index];
+                this.messages[index] = null;
+                // Release slot to producers
+                this.sequences.set(index, this.head + this.messages.length);
+                this.head += 1;
+                this.write(message);
+                this.write(LINE_SEPARATOR);
+            }
+            this.flush();
+        } catch (IOException e) {
+            UndertowLogger.ROOT_LOGGER.errorWritingAccessLog(e);
+            this.chars.clear();
+            this.buffer.clear();
+        }
+        this.reportDropped(false);
+    }
+
+    private void reportDropped(boolean force) {
+        long dropped = this.dropped.get();
+        if (dropped > this.reportedDropped) {
+            long now = System.currentTimeMillis();
+            if (force || (now >= this.nextDroppedReport)) {
+                org.wildfly.extension.undertow.logging.UndertowLogger.ROOT_LOGGER.accessLogMessagesDropped(dropped - this.reportedDropped, this.file);
+                this.reportedDropped = dropped;
+                this.nextDroppedReport = now + DROPPED_REPORT_INTERVAL;
+            }
+        }
+    }
+
+    private void open() throws IOException {
+        LocalDate today = LocalDate.now();
+        if (this.rotate && Files.exists(this.file)) {
+            // Rotate a log file written prior to today
+            LocalDate modified = LocalDate.ofInstant(Files.getLastModifiedTime(this.file).toInstant(), ZoneId.systemDefault());
+            if (modified.isBefore(today)) {
+                this.rotate(modified);
+            }
+        }
+        this.date = today;
+        this.changeOverPoint = today.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Files.createDirectories(this.directory);
+        this.channel = FileChannel.open(this.file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        if ((this.headerGenerator != null) && (this.channel.size() == 0)) {
+            String header = this.headerGenerator.generateHeader();
+            if (header != null) {
+                this.write(header);
+                this.write(LINE_SEPARATOR);
+            }
+        }
+    }
+
+    private void rotate(LocalDate date) {
+        String name = this.prefix + DATE_FORMATTER.format(date);
+        Path target = this.directory.resolve(name + "." + this.suffix);
+        int count = 0;
+        while (Files.exists(target)) {
+            target = this.directory.resolve(name + "-" + (++count) + "." + this.suffix);
+        }
+        try {
+            Files.move(this.file, target);
+        } catch (IOException e) {
+            UndertowLogger.ROOT_LOGGER.errorRotatingAccessLog(e);
+        }
+    }
+
+    private void write(String value) throws IOException {
+        // Copy into a reusable char buffer, rather than wrapping each message
+        int offset = 0;
+        int length = value.length();
+        while (offset < length) {
+            int count = Math.min(this.chars.remaining(), length - offset);
+            value.getChars(offset, offset + count, this.chars.array(), this.chars.position());
+            this.chars.position(this.chars.position() + count);
+            offset += count;
+            this.chars.flip();
+            // Any trailing high surrogate remains in the char buffer until its low surrogate is copied
+            CoderResult result = this.encoder.encode(this.chars, this.buffer, false);
+            while (result.isOverflow()) {
+                this.flush();
+                result = this.encoder.encode(this.chars, this.buffer, false);
+            }
+            this.chars.compact();
+        }
+    }
+
+    private void flush() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+}
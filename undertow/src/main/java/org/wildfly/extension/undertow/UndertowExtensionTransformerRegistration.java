@@ -39,6 +39,12 @@ public class UndertowExtensionTransformerRegistration implements ExtensionTransf
             ResourceTransformationDescriptionBuilder subsystem = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
 
             ResourceTransformationDescriptionBuilder server = subsystem.addChildResource(ServerDefinition.PATH_ELEMENT);
+            if (UndertowSubsystemModel.VERSION_14_0_0.requiresTransformation(version)) {
+                server.addChildResource(HostDefinition.PATH_ELEMENT).addChildResource(AccessLogDefinition.PATH_ELEMENT).getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.UNDEFINED, AccessLogDefinition.RING_BUFFER_SIZE)
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, AccessLogDefinition.RING_BUFFER_SIZE)
+                    .end();
+            }
             for (PathElement listenerPath : Set.of(HttpListenerResourceDefinition.PATH_ELEMENT, HttpsListenerResourceDefinition.PATH_ELEMENT, AjpListenerResourceDefinition.PATH_ELEMENT)) {
                 if (UndertowSubsystemModel.VERSION_13_0_0.requiresTransformation(version)) {
                     server.addChildResource(listenerPath).getAttributeBuilder()
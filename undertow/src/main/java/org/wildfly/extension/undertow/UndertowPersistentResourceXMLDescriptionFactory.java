@@ -142,7 +142,11 @@ public enum UndertowPersistentResourceXMLDescriptionFactory implements Function<
         builder.addChild(builder(LocationDefinition.PATH_ELEMENT).addAttributes(LocationDefinition.ATTRIBUTES.stream())
             .addChild(filterRefBuilder())
         );
-        builder.addChild(builder(AccessLogDefinition.PATH_ELEMENT).addAttributes(AccessLogDefinition.ATTRIBUTES.stream()));
+        Stream<AttributeDefinition> accessLogAttributes = AccessLogDefinition.ATTRIBUTES.stream();
+        if (!schema.since(UndertowSubsystemSchema.VERSION_15_0)) {
+            accessLogAttributes = accessLogAttributes.filter(Predicate.isEqual(AccessLogDefinition.RING_BUFFER_SIZE).negate());
+        }
+        builder.addChild(builder(AccessLogDefinition.PATH_ELEMENT).addAttributes(accessLogAttributes));
         if (schema.since(UndertowSubsystemSchema.VERSION_9_0)) {
             builder.addChild(builder(ConsoleAccessLogDefinition.PATH_ELEMENT).addAttributes(ConsoleAccessLogDefinition.ATTRIBUTES.stream()));
         }
@@ -0,0 +1,67 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow.deployment;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import io.undertow.servlet.api.Deployment;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.msc.Service;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
+import org.wildfly.extension.metrics.spi.MetricBinder;
+import org.wildfly.extension.undertow.DeploymentDefinition.SessionStat;
+
+/**
+ * Service that binds the session metrics of a web deployment directly to the statistics of its session manager while the deployment is started,
+ * such that collecting these metrics does not require a read-attribute operation per metric.
+ */
+public class UndertowDeploymentMetricsService implements Service {
+
+    private final Supplier<UndertowDeploymentService> deploymentService;
+    private final ServiceName binderServiceName;
+    private final PathAddress address;
+    private volatile Runnable unbindTask;
+
+    UndertowDeploymentMetricsService(Supplier<UndertowDeploymentService> deploymentService, ServiceName binderServiceName, PathAddress address) {
+        this.deploymentService = deploymentService;
+        this.binderServiceName = binderServiceName;
+        this.address = address;
+    }
+
+    @Override
+    public void start(StartContext context) {
+        UndertowDeploymentService service = this.deploymentService.get();
+        Map<String, Supplier<Number>> statistics = new HashMap<>();
+        for (SessionStat stat : EnumSet.allOf(SessionStat.class)) {
+            statistics.put(stat.toString(), () -> {
+                Deployment deployment = service.getDeployment();
+                return (deployment != null) ? stat.getValue(deployment.getSessionManager()) : null;
+            });
+        }
+        ServiceController<?> controller = context.getController().getServiceContainer().getService(this.binderServiceName);
+        // Look up the binder without depending on it, such that this service never waits for the metrics subsystem
+        MetricBinder binder = (controller != null && controller.getState() == ServiceController.State.UP) ? MetricBinder.class.cast(controller.getValue()) : null;
+        if (binder != null) {
+            this.unbindTask = binder.bind(this.address, statistics);
+        }
+    }
+
+    @Override
+    public void stop(StopContext context) {
+        Runnable task = this.unbindTask;
+        if (task != null) {
+            task.run();
+            this.unbindTask = null;
+        }
+    }
+}
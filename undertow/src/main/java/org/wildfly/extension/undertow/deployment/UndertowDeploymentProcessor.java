@@ -5,6 +5,9 @@
 
 package org.wildfly.extension.undertow.deployment;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DEPLOYMENT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBDEPLOYMENT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
 import static org.jboss.as.ee.component.Attachments.STARTUP_COUNTDOWN;
 import static org.jboss.as.server.security.SecurityMetaData.ATTACHMENT_KEY;
 import static org.jboss.as.server.security.VirtualDomainMarkerUtility.isVirtualDomainRequired;
@@ -45,6 +48,7 @@ import org.apache.jasper.deploy.TagLibraryValidatorInfo;
 import org.apache.jasper.deploy.TagVariableInfo;
 import org.jboss.annotation.javaee.Icon;
 import org.jboss.as.clustering.controller.CapabilityServiceConfigurator;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.capability.CapabilityServiceSupport;
 import org.jboss.as.ee.component.ComponentRegistry;
@@ -99,6 +103,7 @@ import org.wildfly.clustering.web.container.SessionManagementProvider;
 import org.wildfly.clustering.web.container.SessionManagerFactoryConfiguration;
 import org.wildfly.common.function.Functions;
 import org.wildfly.extension.io.IOServices;
+import org.wildfly.extension.metrics.spi.MetricBinder;
 import org.wildfly.extension.requestcontroller.ControlPoint;
 import org.wildfly.extension.requestcontroller.ControlPointService;
 import org.wildfly.extension.requestcontroller.RequestControllerActivationMarker;
@@ -439,6 +444,14 @@ public class UndertowDeploymentProcessor implements DeploymentUnitProcessor, Fun
 
         deploymentUnit.addToAttachmentList(Attachments.DEPLOYMENT_COMPLETE_SERVICES, deploymentServiceName);
 
+        if (capabilitySupport.hasCapability(MetricBinder.CAPABILITY_NAME)) {
+            // Bind session metrics to the address of this deployment, as resolved by the metrics subsystem
+            final PathAddress metricsAddress = getDeploymentAddress(deploymentUnit).append(SUBSYSTEM, UndertowExtension.SUBSYSTEM_NAME);
+            final ServiceBuilder<?> metricsBuilder = serviceTarget.addService(deploymentServiceName.append("metrics"));
+            final Supplier<UndertowDeploymentService> dsSupplier = metricsBuilder.requires(deploymentServiceName);
+            metricsBuilder.setInstance(new UndertowDeploymentMetricsService(dsSupplier, capabilitySupport.getCapabilityServiceName(MetricBinder.CAPABILITY_NAME), metricsAddress)).install();
+        }
+
         // adding Jakarta Authorization service
         final boolean elytronJacc = capabilitySupport.hasCapability(ELYTRON_JACC_CAPABILITY_NAME);
         final boolean legacyJacc = !elytronJacc && capabilitySupport.hasCapability(REF_LEGACY_SECURITY);
@@ -528,6 +541,13 @@ public class UndertowDeploymentProcessor implements DeploymentUnitProcessor, Fun
         deploymentUnit.removeAttachment(ServletContextAttribute.ATTACHMENT_KEY);
     }
 
+    private static PathAddress getDeploymentAddress(DeploymentUnit deploymentUnit) {
+        if (deploymentUnit.getParent() == null) {
+            return PathAddress.pathAddress(DEPLOYMENT, deploymentUnit.getAttachment(Attachments.MANAGEMENT_NAME));
+        }
+        return getDeploymentAddress(deploymentUnit.getParent()).append(SUBDEPLOYMENT, deploymentUnit.getName());
+    }
+
     private static HashMap<String, TagLibraryInfo> createTldsInfo(final TldsMetaData tldsMetaData, List<TldMetaData> sharedTlds) {
 
         final HashMap<String, TagLibraryInfo> ret = new HashMap<>();
@@ -429,4 +429,23 @@ public interface UndertowLogger extends BasicLogger {
     @Message(id = 111, value = "The annotation: '%s' will have no effect on Servlet: '%s'")
     void badAnnotationOnServlet(String annotation, String servlet);
 
+    @Message(id = 112, value = "Unsupported persistent sessions format version %d in %s")
+    IOException unsupportedPersistentSessionFormat(int version, File file);
+
+    @LogMessage(level = WARN)
+    @Message(id = 113, value = "Dropped %d messages for access log %s since its ring buffer was full")
+    void accessLogMessagesDropped(long count, Path file);
+
+    @LogMessage(level = WARN)
+    @Message(id = 114, value = "Discarding messages for access log %s since it was closed")
+    void accessLogClosed(Path file);
+
+    @LogMessage(level = WARN)
+    @Message(id = 115, value = "Session %s of deployment %s will not be persisted since its identifier exceeds %d bytes")
+    void persistentSessionIdTooLong(String sessionId, String deploymentName, int maxLength);
+
+    @LogMessage(level = WARN)
+    @Message(id = 116, value = "Attribute %s of session %s will not be persisted since its name exceeds %d bytes")
+    void persistentSessionAttributeNameTooLong(String attributeName, String sessionId, int maxLength);
+
 }
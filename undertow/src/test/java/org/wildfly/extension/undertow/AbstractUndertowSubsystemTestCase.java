@@ -154,6 +154,17 @@ public abstract class AbstractUndertowSubsystemTestCase extends AbstractSubsyste
         AccessLogService accessLogService = (AccessLogService) this.values.get(UndertowService.accessLogServiceName("some-server", "default-virtual-host")).get();
         Assert.assertNotNull(accessLogService);
         Assert.assertFalse(accessLogService.isRotate());
+        if (this.schema.since(UndertowSubsystemSchema.VERSION_15_0)) {
+            Assert.assertEquals(1024, accessLogService.getRingBufferSize());
+
+            PathAddress address = PathAddress.pathAddress(UndertowRootDefinition.PATH_ELEMENT, PathElement.pathElement(ServerDefinition.PATH_ELEMENT.getKey(), "some-server"), PathElement.pathElement(HostDefinition.PATH_ELEMENT.getKey(), "default-virtual-host"), AccessLogDefinition.PATH_ELEMENT);
+            ModelNode result = mainServices.executeOperation(Util.getWriteAttributeOperation(address, Constants.RING_BUFFER_SIZE, new ModelNode(0)));
+            assertEquals(ModelDescriptionConstants.FAILED, result.get(ModelDescriptionConstants.OUTCOME).asString());
+            result = mainServices.executeOperation(Util.getWriteAttributeOperation(address, Constants.RING_BUFFER_SIZE, new ModelNode(4096)));
+            assertEquals(ModelDescriptionConstants.SUCCESS, result.get(ModelDescriptionConstants.OUTCOME).asString());
+        } else {
+            Assert.assertEquals(0, accessLogService.getRingBufferSize());
+        }
 
         if (this.schema.since(UndertowSubsystemSchema.VERSION_13_0)) {
             PathAddress address = PathAddress.pathAddress(UndertowRootDefinition.PATH_ELEMENT, PathElement.pathElement(Constants.APPLICATION_SECURITY_DOMAIN, "other"), SingleSignOnDefinition.PATH_ELEMENT);
@@ -0,0 +1,144 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.undertow.servlet.api.SessionPersistenceManager.PersistentSession;
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.marshalling.Marshaller;
+import org.jboss.marshalling.OutputStreamByteOutput;
+import org.jboss.modules.ModuleLoader;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link DiskBasedModularPersistentSessionManager}.
+ */
+public class DiskBasedModularPersistentSessionManagerTestCase {
+
+    private static final String DEPLOYMENT = "test.war";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private DiskBasedModularPersistentSessionManager manager;
+
+    @Before
+    public void init() throws StartException {
+        PathManager pathManager = mock(PathManager.class);
+        when(pathManager.resolveRelativePathEntry("sessions", null)).thenReturn(this.folder.getRoot().getPath());
+        ModuleLoader moduleLoader = mock(ModuleLoader.class);
+        this.manager = new DiskBasedModularPersistentSessionManager(manager -> {}, () -> moduleLoader, () -> pathManager, "sessions", null);
+        this.manager.start(mock(StartContext.class));
+    }
+
+    @Test
+    public void test() {
+        Assert.assertNull(this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader()));
+
+        Date expiry = new Date(System.currentTimeMillis() + 60_000L);
+        Map<String, PersistentSession> sessions = new HashMap<>();
+        sessions.put("foo", new PersistentSession(expiry, Map.of("a", "1", "b", List.of(2, 3))));
+        sessions.put("bar", new PersistentSession(expiry, Map.of()));
+        // Unserializable attributes are omitted
+        sessions.put("baz", new PersistentSession(expiry, Map.of("c", new Object(), "d", 4)));
+        sessions.put("expired", new PersistentSession(new Date(System.currentTimeMillis() - 1L), Map.of("e", "5")));
+
+        this.manager.persistSessions(DEPLOYMENT, sessions);
+        Assert.assertFalse(new File(this.folder.getRoot(), DEPLOYMENT + ".tmp").exists());
+
+        Map<String, PersistentSession> result = this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader());
+        Assert.assertNotNull(result);
+        Assert.assertEquals(Map.of("foo", Map.of("a", "1", "b", List.of(2, 3)), "bar", Map.of(), "baz", Map.of("d", 4)), toAttributes(result));
+        Assert.assertEquals(expiry, result.get("foo").getExpiration());
+
+        // Overwrite previously persisted sessions
+        this.manager.persistSessions(DEPLOYMENT, Map.of("qux", new PersistentSession(expiry, Map.of("f", "6"))));
+        result = this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader());
+        Assert.assertNotNull(result);
+        Assert.assertEquals(Map.of("qux", Map.of("f", "6")), toAttributes(result));
+    }
+
+    @Test
+    public void skipExpired() {
+        Date expiry = new Date(System.currentTimeMillis() + 60_000L);
+        Map<String, PersistentSession> sessions = new LinkedHashMap<>();
+        // Expired attributes larger than the buffer of the input stream are skipped across multiple reads
+        sessions.put("expired", new PersistentSession(new Date(System.currentTimeMillis() - 1L), Map.of("a", new byte[100_000], "b", "2")));
+        sessions.put("foo", new PersistentSession(expiry, Map.of("c", "3")));
+
+        this.manager.persistSessions(DEPLOYMENT, sessions);
+
+        Map<String, PersistentSession> result = this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader());
+        Assert.assertNotNull(result);
+        Assert.assertEquals(Map.of("foo", Map.of("c", "3")), toAttributes(result));
+    }
+
+    @Test
+    public void longNames() {
+        Date expiry = new Date(System.currentTimeMillis() + 60_000L);
+        // Exceeds the maximum length of a string written via DataOutput.writeUTF(...), though not in characters
+        String longName = "\u20AC".repeat(0x5556);
+        Map<String, PersistentSession> sessions = new HashMap<>();
+        sessions.put("foo", new PersistentSession(expiry, Map.of("a", "1", longName, "2")));
+        sessions.put(longName, new PersistentSession(expiry, Map.of("b", "3")));
+        sessions.put("bar", new PersistentSession(expiry, Map.of("c", "4")));
+
+        this.manager.persistSessions(DEPLOYMENT, sessions);
+
+        Map<String, PersistentSession> result = this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader());
+        Assert.assertNotNull(result);
+        Assert.assertEquals(Map.of("foo", Map.of("a", "1"), "bar", Map.of("c", "4")), toAttributes(result));
+    }
+
+    @Test
+    public void legacy() throws IOException {
+        Date expiry = new Date(System.currentTimeMillis() + 60_000L);
+        Map<String, AbstractPersistentSessionManager.SessionEntry> entries = new HashMap<>();
+        Marshaller marshaller = this.manager.createMarshaller();
+        try {
+            entries.put("foo", this.manager.serializeSession(marshaller, "foo", new PersistentSession(expiry, Map.of("a", "1"))));
+            entries.put("expired", this.manager.serializeSession(marshaller, "expired", new PersistentSession(new Date(0L), Map.of("b", "2"))));
+            // Write sessions as a single marshalled map, as persisted by previous releases
+            try (OutputStream out = new FileOutputStream(new File(this.folder.getRoot(), DEPLOYMENT))) {
+                marshaller.start(new OutputStreamByteOutput(out));
+                marshaller.writeObject(entries);
+                marshaller.finish();
+            }
+        } finally {
+            marshaller.close();
+        }
+
+        Map<String, PersistentSession> result = this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader());
+        Assert.assertNotNull(result);
+        Assert.assertEquals(Map.of("foo", Map.of("a", "1")), toAttributes(result));
+    }
+
+    private static Map<String, Map<String, Object>> toAttributes(Map<String, PersistentSession> sessions) {
+        Map<String, Map<String, Object>> result = new HashMap<>();
+        for (Map.Entry<String, PersistentSession> entry : sessions.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().getSessionData());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.undertow.server.handlers.accesslog.AccessLogReceiver;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Validates {@link RingBufferAccessLogReceiver}.
+ */
+public class RingBufferAccessLogReceiverTestCase {
+
+    private static final String PREFIX = "access_log.";
+    private static final String SUFFIX = "log";
+    private static final int THREADS = 4;
+    private static final int MESSAGES = 25_000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ExecutorService executor;
+
+    @Before
+    public void init() {
+        this.executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void destroy() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void concurrent() throws Exception {
+        Path directory = this.folder.newFolder().toPath();
+        // Use a small ring buffer to exercise dropping messages while full
+        RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(this.executor, directory, PREFIX, SUFFIX, true, () -> "#Fields: header", 64);
+        log(receiver);
+        receiver.close();
+
+        List<String> lines = Files.readAllLines(directory.resolve(PREFIX + SUFFIX), StandardCharsets.UTF_8);
+        Assert.assertEquals("#Fields: header", lines.get(0));
+        Set<String> messages = new HashSet<>(lines.subList(1, lines.size()));
+        // Every message was either written exactly once, or counted as dropped
+        Assert.assertEquals(lines.size() - 1, messages.size());
+        Assert.assertEquals(THREADS * MESSAGES, messages.size() + receiver.getDroppedCount());
+        Assert.assertEquals(0, receiver.getDiscardedCount());
+    }
+
+    @Test
+    public void full() throws IOException {
+        Path directory = this.folder.newFolder().toPath();
+        // Defer writer task, such that the ring buffer fills up
+        List<Runnable> tasks = new ArrayList<>();
+        RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(tasks::add, directory, PREFIX, SUFFIX, false, null, 4);
+        for (int i = 0; i < 6; ++i) {
+            // Must not block
+            receiver.logMessage(message(0, i));
+        }
+        Assert.assertEquals(2, receiver.getDroppedCount());
+        Assert.assertEquals(1, tasks.size());
+        tasks.get(0).run();
+
+        // Slots are available again once drained
+        receiver.logMessage(message(0, 6));
+        Assert.assertEquals(2, tasks.size());
+        tasks.get(1).run();
+        receiver.close();
+
+        List<String> expected = List.of(message(0, 0), message(0, 1), message(0, 2), message(0, 3), message(0, 6));
+        Assert.assertEquals(expected, Files.readAllLines(directory.resolve(PREFIX + SUFFIX), StandardCharsets.UTF_8));
+        Assert.assertEquals(2, receiver.getDroppedCount());
+    }
+
+    @Test
+    public void closed() throws IOException {
+        Path directory = this.folder.newFolder().toPath();
+        RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(Runnable::run, directory, PREFIX, SUFFIX, false, null, 16);
+        receiver.logMessage("open");
+        receiver.close();
+        receiver.logMessage("closed");
+        receiver.logMessage("closed");
+
+        Assert.assertEquals(2, receiver.getDiscardedCount());
+        Assert.assertEquals(0, receiver.getDroppedCount());
+        Assert.assertEquals(List.of("open"), Files.readAllLines(directory.resolve(PREFIX + SUFFIX), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void encoding() throws IOException {
+        Path directory = this.folder.newFolder().toPath();
+        RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(Runnable::run, directory, PREFIX, SUFFIX, false, null, 16);
+        // Exceeds the encoding buffer size, and includes a surrogate pair
+        String message = "GET /" + "\u00e9\ud83d\ude00".repeat(3000);
+        receiver.logMessage(message);
+        receiver.close();
+
+        Assert.assertEquals(List.of(message), Files.readAllLines(directory.resolve(PREFIX + SUFFIX), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void rotate() throws IOException {
+        Path directory = this.folder.newFolder().toPath();
+        Path file = directory.resolve(PREFIX + SUFFIX);
+        Files.write(file, List.of("stale"), StandardCharsets.UTF_8);
+        Instant yesterday = Instant.now().minus(1, ChronoUnit.DAYS);
+        Files.setLastModifiedTime(file, FileTime.from(yesterday));
+
+        RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(Runnable::run, directory, PREFIX, SUFFIX, true, null, 16);
+        receiver.logMessage("fresh");
+        receiver.close();
+
+        Path rotated = directory.resolve(PREFIX + DateTimeFormatter.ISO_LOCAL_DATE.format(LocalDate.now().minusDays(1)) + "." + SUFFIX);
+        Assert.assertEquals(List.of("stale"), Files.readAllLines(rotated, StandardCharsets.UTF_8));
+        Assert.assertEquals(List.of("fresh"), Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    private void log(AccessLogReceiver receiver) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(THREADS);
+        for (int i = 0; i < THREADS; ++i) {
+            int thread = i;
+            this.executor.execute(() -> {
+                try {
+                    for (int j = 0; j < MESSAGES; ++j) {
+                        receiver.logMessage(message(thread, j));
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        Assert.assertTrue(latch.await(1, TimeUnit.MINUTES));
+    }
+
+    private static String message(int thread, int index) {
+        return String.format("127.0.0.1 - - [17/Oct/2026:00:00:00 +0000] \"GET /thread/%d/request/%d HTTP/1.1\" 200 1024", thread, index);
+    }
+}
@@ -77,7 +77,8 @@ public class UndertowSubsystemTransformerTestCase extends AbstractSubsystemTest
                 RuntimeCapability.buildDynamicCapabilityName(Capabilities.REF_SOCKET_BINDING, "ajp"),
                 RuntimeCapability.buildDynamicCapabilityName(Capabilities.REF_SOCKET_BINDING, "http"),
                 RuntimeCapability.buildDynamicCapabilityName(Capabilities.REF_SOCKET_BINDING, "https"),
-                RuntimeCapability.buildDynamicCapabilityName(Capabilities.REF_SSL_CONTEXT, "ssl")
+                RuntimeCapability.buildDynamicCapabilityName(Capabilities.REF_SSL_CONTEXT, "ssl"),
+                RuntimeCapability.buildDynamicCapabilityName(Capabilities.REF_IO_WORKER, "default")
                 );
     }
 
@@ -128,6 +129,7 @@ public class UndertowSubsystemTransformerTestCase extends AbstractSubsystemTest
         PathAddress subsystemAddress = PathAddress.pathAddress(UndertowRootDefinition.PATH_ELEMENT);
         PathAddress servletContainerAddress = subsystemAddress.append(PathElement.pathElement(ServletContainerDefinition.PATH_ELEMENT.getKey(), "rejected-container"));
         PathAddress affinityCookiePath = subsystemAddress.append(PathElement.pathElement(ServletContainerDefinition.PATH_ELEMENT.getKey(), "affinity-cookie-container")).append(AffinityCookieDefinition.PATH_ELEMENT);
+        PathAddress accessLogAddress = subsystemAddress.append(PathElement.pathElement(ServerDefinition.PATH_ELEMENT.getKey(), "default-server")).append(PathElement.pathElement(HostDefinition.PATH_ELEMENT.getKey(), "rejected-host")).append(AccessLogDefinition.PATH_ELEMENT);
 
         if (UndertowSubsystemModel.VERSION_13_0_0.requiresTransformation(this.modelVersion)) {
             config.addFailedAttribute(servletContainerAddress, new FailedOperationTransformationConfig.NewAttributesConfig(ServletContainerDefinition.ORPHAN_SESSION_ALLOWED));
@@ -135,6 +137,10 @@ public class UndertowSubsystemTransformerTestCase extends AbstractSubsystemTest
             config.addFailedAttribute(affinityCookiePath, FailedOperationTransformationConfig.REJECTED_RESOURCE);
         }
 
+        if (UndertowSubsystemModel.VERSION_14_0_0.requiresTransformation(this.modelVersion)) {
+            config.addFailedAttribute(accessLogAddress, new FailedOperationTransformationConfig.NewAttributesConfig(AccessLogDefinition.RING_BUFFER_SIZE));
+        }
+
         List<ModelNode> operations = builder.parseXmlResource("undertow-transform-reject.xml");
         ModelTestUtils.checkFailedTransformedBootOperations(services, this.modelVersion, operations, config);
     }
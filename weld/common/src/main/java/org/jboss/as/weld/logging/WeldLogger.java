@@ -266,4 +266,20 @@ public interface WeldLogger extends BasicLogger {
 
     @Message(id = 63, value = "Original %s does not have a module")
     IllegalArgumentException originalClassDoesNotHaveAModule(Class<?> originalClass);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 64, value = "Failed to read bean discovery cache entry %s")
+    void failedToReadBeanDiscoveryCacheEntry(File file, @Cause Throwable throwable);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 65, value = "Failed to write bean discovery cache entry %s")
+    void failedToWriteBeanDiscoveryCacheEntry(File file, @Cause Throwable throwable);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 66, value = "Failed to compute bean discovery cache key of %s")
+    void failedToComputeBeanDiscoveryCacheKey(String archive, @Cause Throwable throwable);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 67, value = "Invalid value '%s' of system property %s, expected a positive integer. Using %d instead.")
+    void invalidBeanDiscoveryCacheMaxEntries(String value, String property, int defaultValue);
 }
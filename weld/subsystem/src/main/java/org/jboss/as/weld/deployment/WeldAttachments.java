@@ -4,10 +4,14 @@
  */
 package org.jboss.as.weld.deployment;
 
+import java.util.Map;
+import java.util.Set;
+
 import org.jboss.as.server.deployment.AttachmentKey;
 import org.jboss.as.server.deployment.AttachmentList;
 import org.jboss.as.server.deployment.module.ResourceRoot;
 import org.jboss.as.weld.discovery.AnnotationType;
+import org.jboss.as.weld.discovery.BeanDiscoveryCache;
 
 /**
  * {@link AttachmentKey}s for weld attachments
@@ -44,4 +48,15 @@ public class WeldAttachments {
      */
     public static final AttachmentKey<ResourceRoot> CLASSES_RESOURCE_ROOT = AttachmentKey.create(ResourceRoot.class);
 
+    /**
+     * The annotations present on the annotation classes of the bean archives of a deployment, keyed by annotation class name,
+     * as restored from the {@link BeanDiscoveryCache}.
+     */
+    public static final AttachmentKey<Map<String, Set<String>>> ANNOTATION_CLOSURES = AttachmentKey.create(Map.class);
+
+    /**
+     * The {@link BeanDiscoveryCache} key of the content of a resource root, as computed prior to annotation indexing.
+     */
+    public static final AttachmentKey<String> BEAN_DISCOVERY_CACHE_KEY = AttachmentKey.create(String.class);
+
 }
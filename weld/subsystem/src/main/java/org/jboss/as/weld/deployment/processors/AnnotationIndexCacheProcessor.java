@@ -0,0 +1,69 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.weld.deployment.processors;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.jboss.as.server.deployment.Attachments;
+import org.jboss.as.server.deployment.DeploymentPhaseContext;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
+import org.jboss.as.server.deployment.DeploymentUnitProcessor;
+import org.jboss.as.server.deployment.DeploymentUtils;
+import org.jboss.as.server.deployment.annotation.ResourceRootIndexer;
+import org.jboss.as.server.deployment.module.ResourceRoot;
+import org.jboss.as.weld.deployment.WeldAttachments;
+import org.jboss.as.weld.discovery.BeanDiscoveryCache;
+import org.jboss.as.weld.logging.WeldLogger;
+import org.jboss.jandex.Index;
+
+/**
+ * Deployment processor that attaches cached annotation indexes to the resource roots of a deployment, prior to annotation indexing.
+ * Since resource roots with an attached index are not indexed again, an unchanged archive is only indexed once across deployments and server restarts.
+ * The computed cache key is also attached to each resource root, for reuse when caching the bean discovery results of the resource root.
+ * Resource roots containing a pre-computed index or excluded from indexing are left to the annotation index processor.
+ */
+public class AnnotationIndexCacheProcessor implements DeploymentUnitProcessor {
+
+    private static final String JANDEX_INDEX = "META-INF/jandex.idx";
+
+    private final BeanDiscoveryCache cache;
+
+    public AnnotationIndexCacheProcessor(BeanDiscoveryCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void deploy(DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
+        DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
+        for (ResourceRoot resourceRoot : DeploymentUtils.allResourceRoots(deploymentUnit)) {
+            if (resourceRoot.hasAttachment(Attachments.ANNOTATION_INDEX) || resourceRoot.getRoot().getChild(JANDEX_INDEX).exists()) continue;
+            Boolean indexResourceRoot = resourceRoot.getAttachment(Attachments.INDEX_RESOURCE_ROOT);
+            if ((indexResourceRoot != null) && !indexResourceRoot) continue;
+
+            List<String> ignoredPaths = resourceRoot.getAttachmentList(Attachments.INDEX_IGNORE_PATHS);
+            String key;
+            try {
+                key = this.cache.createKey(resourceRoot.getRoot(), ignoredPaths);
+            } catch (IOException e) {
+                // Leave this resource root to the annotation index processor
+                WeldLogger.DEPLOYMENT_LOGGER.failedToComputeBeanDiscoveryCacheKey(resourceRoot.getRootName(), e);
+                continue;
+            }
+            resourceRoot.putAttachment(WeldAttachments.BEAN_DISCOVERY_CACHE_KEY, key);
+            Index index = this.cache.getIndex(key);
+            if (index != null) {
+                resourceRoot.putAttachment(Attachments.ANNOTATION_INDEX, index);
+            } else {
+                ResourceRootIndexer.indexResourceRoot(resourceRoot);
+                index = resourceRoot.getAttachment(Attachments.ANNOTATION_INDEX);
+                if (index != null) {
+                    this.cache.putIndex(key, index);
+                }
+            }
+        }
+    }
+}
@@ -8,6 +8,7 @@ import static org.jboss.as.weld.util.Utils.getDeploymentUnitId;
 import static org.jboss.as.weld.util.Utils.getRootDeploymentUnit;
 import static org.jboss.as.weld.util.Utils.isClassesRoot;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -44,6 +45,7 @@ import org.jboss.as.weld.deployment.ExplicitBeanArchiveMetadata;
 import org.jboss.as.weld.deployment.ExplicitBeanArchiveMetadataContainer;
 import org.jboss.as.weld.deployment.WeldAttachments;
 import org.jboss.as.weld.discovery.AnnotationType;
+import org.jboss.as.weld.discovery.BeanDiscoveryCache;
 import org.jboss.as.weld.logging.WeldLogger;
 import org.jboss.as.weld.spi.ComponentDescriptionProcessor;
 import org.jboss.as.weld.util.Indices;
@@ -73,6 +75,19 @@ public class BeanArchiveProcessor implements DeploymentUnitProcessor {
     private static final DotName BUILD_COMPAT_EXTENSION_NAME = DotName.createSimple(BuildCompatibleExtension.class);
     private static final DotName EXTENSION_NAME = DotName.createSimple(Extension.class.getName());
 
+    private final BeanDiscoveryCache cache;
+
+    public BeanArchiveProcessor() {
+        this(null);
+    }
+
+    /**
+     * @param cache the cache of bean archive discovery results, or null, if discovery results should not be cached
+     */
+    public BeanArchiveProcessor(BeanDiscoveryCache cache) {
+        this.cache = cache;
+    }
+
     @Override
     public void deploy(DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
         final DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
@@ -88,7 +103,7 @@ public class BeanArchiveProcessor implements DeploymentUnitProcessor {
 
         final Components components = new Components(deploymentUnit, indexes);
 
-        final ResourceRootHandler handler = new ResourceRootHandler(deploymentUnit, components, indexes);
+        final ResourceRootHandler handler = new ResourceRootHandler(deploymentUnit, components, indexes, this.cache);
 
         for (ResourceRoot resourceRoot : deploymentUnit.getAttachmentList(Attachments.RESOURCE_ROOTS)) {
             if (ModuleRootMarker.isModuleRoot(resourceRoot) && !SubDeploymentMarker.isSubDeployment(resourceRoot)) {
@@ -108,6 +123,9 @@ public class BeanArchiveProcessor implements DeploymentUnitProcessor {
             bdaMap.put(handler.deploymentResourceRoot, bda);
         }
         deploymentUnit.putAttachment(WeldAttachments.DEPLOYMENT_ROOT_BEAN_DEPLOYMENT_ARCHIVE, bdaMap.get(handler.deploymentResourceRoot));
+        if (!handler.annotationClosures.isEmpty()) {
+            deploymentUnit.putAttachment(WeldAttachments.ANNOTATION_CLOSURES, handler.annotationClosures);
+        }
 
         /*
          * Finish EE component processing
@@ -133,6 +151,7 @@ public class BeanArchiveProcessor implements DeploymentUnitProcessor {
     public void undeploy(DeploymentUnit context) {
         context.removeAttachment(WeldAttachments.BEAN_DEPLOYMENT_MODULE);
         context.removeAttachment(WeldAttachments.DEPLOYMENT_ROOT_BEAN_DEPLOYMENT_ARCHIVE);
+        context.removeAttachment(WeldAttachments.ANNOTATION_CLOSURES);
     }
 
     /**
@@ -198,8 +217,11 @@ public class BeanArchiveProcessor implements DeploymentUnitProcessor {
         private final ExplicitBeanArchiveMetadataContainer explicitBeanArchives;
         private final Set<AnnotationType> beanDefiningAnnotations;
         private final boolean requireBeanDescriptor;
+        private final BeanDiscoveryCache cache;
+        private final Set<String> cacheDiscriminators = new HashSet<>();
+        private final Map<String, Set<String>> annotationClosures = new HashMap<>();
 
-        private ResourceRootHandler(DeploymentUnit deploymentUnit, Components components, Map<ResourceRoot, Index> indexes) {
+        private ResourceRootHandler(DeploymentUnit deploymentUnit, Components components, Map<ResourceRoot, Index> indexes, BeanDiscoveryCache cache) {
             this.deploymentUnit = deploymentUnit;
             this.explicitBeanArchives = deploymentUnit.getAttachment(ExplicitBeanArchiveMetadataContainer.ATTACHMENT_KEY);
             this.module = deploymentUnit.getAttachment(Attachments.MODULE);
@@ -215,6 +237,11 @@ public class BeanArchiveProcessor implements DeploymentUnitProcessor {
             }
             this.beanDefiningAnnotations = annotationTypes;
             this.requireBeanDescriptor = getRootDeploymentUnit(deploymentUnit).getAttachment(WeldConfiguration.ATTACHMENT_KEY).isRequireBeanDescriptor();
+            this.cache = cache;
+            // The discovered bean classes of an archive depend on the set of bean defining annotations
+            for (AnnotationType annotationType : annotationTypes) {
+                this.cacheDiscriminators.add(AnnotationType.TO_FQCN.apply(annotationType));
+            }
         }
 
         private void handleResourceRoot(Map<ResourceRoot, BeanDeploymentArchiveImpl> bdaMap, ResourceRoot resourceRoot) {
@@ -268,8 +295,9 @@ public class BeanArchiveProcessor implements DeploymentUnitProcessor {
                     return null;
                 }
 
-                Set<String> beans = getImplicitBeanClasses(index, resourceRoot);
-                Set<String> allKnownClasses = getAllKnownClasses(index);
+                BeanDiscoveryCache.Entry discovery = discover(indexResourceRoot, index);
+                Set<String> beans = getImplicitBeanClasses(discovery.getBeanClasses(), resourceRoot);
+                Set<String> allKnownClasses = discovery.getKnownClasses();
 
                 if (beans.isEmpty() && !components.hasBeanComponents(resourceRoot)) {
                     return null;
@@ -287,7 +315,7 @@ public class BeanArchiveProcessor implements DeploymentUnitProcessor {
                 return null;
             } else {
                 boolean isRootBda = metadata.isDeploymentRoot();
-                bda = createExplicitBeanDeploymentArchive(indexes.get(metadata.getResourceRoot()), metadata, isRootBda);
+                bda = createExplicitBeanDeploymentArchive(metadata.getResourceRoot(), indexes.get(metadata.getResourceRoot()), metadata, isRootBda);
                 WeldLogger.DEPLOYMENT_LOGGER.beanArchiveDiscovered(bda);
             }
 
@@ -310,14 +338,53 @@ public class BeanArchiveProcessor implements DeploymentUnitProcessor {
             return allKnownClasses;
         }
 
-        private Set<String> getImplicitBeanClasses(Index index, ResourceRoot resourceRoot) {
-            Set<String> implicitBeanClasses = new HashSet<>();
+        /**
+         * Returns the discovery results of the specified resource root, restoring them from the discovery cache, if enabled and unchanged since the results were cached.
+         * Reuses the content key computed during annotation indexing, if any, so that the content of an archive is only digested once per deployment.
+         */
+        private BeanDiscoveryCache.Entry discover(ResourceRoot resourceRoot, Index index) {
+            if (cache != null) {
+                try {
+                    String contentKey = resourceRoot.getAttachment(WeldAttachments.BEAN_DISCOVERY_CACHE_KEY);
+                    if (contentKey == null) {
+                        contentKey = cache.createKey(resourceRoot.getRoot(), resourceRoot.getAttachmentList(Attachments.INDEX_IGNORE_PATHS));
+                    }
+                    String key = BeanDiscoveryCache.deriveKey(contentKey, cacheDiscriminators);
+                    BeanDiscoveryCache.Entry entry = cache.computeIfAbsent(key, () -> createDiscoveryEntry(index, true));
+                    annotationClosures.putAll(entry.getAnnotationClosures());
+                    return entry;
+                } catch (IOException e) {
+                    WeldLogger.DEPLOYMENT_LOGGER.failedToComputeBeanDiscoveryCacheKey(resourceRoot.getRoot().getPathName(), e);
+                }
+            }
+            return createDiscoveryEntry(index, false);
+        }
+
+        private BeanDiscoveryCache.Entry createDiscoveryEntry(Index index, boolean includeAnnotationClosures) {
+            Set<String> beanClasses = new HashSet<>();
             for (AnnotationType beanDefiningAnnotation : beanDefiningAnnotations) {
                 List<AnnotationInstance> annotationInstances = index.getAnnotations(beanDefiningAnnotation.getName());
                 for (ClassInfo classInfo : Indices.getAnnotatedClasses(annotationInstances)) {
-                    implicitBeanClasses.add(Indices.CLASS_INFO_TO_FQCN.apply(classInfo));
+                    beanClasses.add(Indices.CLASS_INFO_TO_FQCN.apply(classInfo));
                 }
             }
+            Map<String, Set<String>> closures = new HashMap<>();
+            if (includeAnnotationClosures) {
+                for (ClassInfo classInfo : index.getKnownClasses()) {
+                    if (classInfo.isAnnotation()) {
+                        Set<String> closure = new HashSet<>();
+                        for (DotName annotationName : classInfo.annotationsMap().keySet()) {
+                            closure.add(annotationName.toString());
+                        }
+                        closures.put(classInfo.name().toString(), closure);
+                    }
+                }
+            }
+            return new BeanDiscoveryCache.Entry(beanClasses, getAllKnownClasses(index), closures);
+        }
+
+        private Set<String> getImplicitBeanClasses(Set<String> annotatedBeanClasses, ResourceRoot resourceRoot) {
+            Set<String> implicitBeanClasses = new HashSet<>(annotatedBeanClasses);
             // Make all explicit components into implicit beans so they will support injection
             for(ComponentDescription description : components.componentDescriptions.get(resourceRoot)) {
                 if(!components.implicitComponentDescriptions.contains(description)) {
@@ -327,9 +394,10 @@ public class BeanArchiveProcessor implements DeploymentUnitProcessor {
             return implicitBeanClasses;
         }
 
-        private BeanDeploymentArchiveImpl createExplicitBeanDeploymentArchive(final Index index, ExplicitBeanArchiveMetadata beanArchiveMetadata, boolean root) {
+        private BeanDeploymentArchiveImpl createExplicitBeanDeploymentArchive(ResourceRoot resourceRoot, final Index index, ExplicitBeanArchiveMetadata beanArchiveMetadata, boolean root) {
 
-            Set<String> classNames = getAllKnownClasses(index);
+            // index may be null if a war has a beans.xml but no WEB-INF/classes
+            Set<String> classNames = (index != null) ? discover(resourceRoot, index).getKnownClasses() : Collections.emptySet();
             return new BeanDeploymentArchiveImpl(classNames, classNames, beanArchiveMetadata.getBeansXml(), module, createBeanArchiveId(beanArchiveMetadata.getResourceRoot()), BeanArchiveType.EXPLICIT, root);
         }
 
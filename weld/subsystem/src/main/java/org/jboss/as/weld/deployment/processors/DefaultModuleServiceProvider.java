@@ -7,6 +7,8 @@ package org.jboss.as.weld.deployment.processors;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.jboss.as.ee.structure.DeploymentType;
 import org.jboss.as.ee.structure.DeploymentTypeMarker;
@@ -15,6 +17,7 @@ import org.jboss.as.server.deployment.Attachments;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.annotation.CompositeIndex;
 import org.jboss.as.server.deployment.module.ResourceRoot;
+import org.jboss.as.weld.deployment.WeldAttachments;
 import org.jboss.as.weld.discovery.WeldClassFileServices;
 import org.jboss.as.weld.services.bootstrap.WeldResourceInjectionServices;
 import org.jboss.as.weld.spi.ModuleServicesProvider;
@@ -41,7 +44,8 @@ public class DefaultModuleServiceProvider implements ModuleServicesProvider {
         // ClassFileServices
         final CompositeIndex index = deploymentUnit.getAttachment(Attachments.COMPOSITE_ANNOTATION_INDEX);
         if (index != null) {
-            services.add(new WeldClassFileServices(index, module.getClassLoader()));
+            final Map<String, Set<String>> annotationClosures = deploymentUnit.getAttachment(WeldAttachments.ANNOTATION_CLOSURES);
+            services.add((annotationClosures != null) ? new WeldClassFileServices(index, module.getClassLoader(), annotationClosures) : new WeldClassFileServices(index, module.getClassLoader()));
         }
         return services;
     }
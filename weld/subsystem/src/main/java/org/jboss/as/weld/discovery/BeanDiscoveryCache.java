@@ -0,0 +1,371 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.weld.discovery;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jboss.as.weld.logging.WeldLogger;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.vfs.VirtualFile;
+import org.jboss.vfs.VisitorAttributes;
+import org.jboss.vfs.util.SuffixMatchFilter;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * On-disk cache of the annotation indexes and discovery results of bean archives, such that an unchanged archive need not be indexed nor scanned again, e.g. after a server restart.
+ * The discovery results of an archive are its bean classes, known classes and the annotation closures of its annotation classes.
+ * Entries are keyed by a digest of the path and content of every class file within an archive.
+ * Keys deliberately do not rely on file sizes or modification times, which tools such as reproducible builds preserve across changes to the content of a class file,
+ * such that a modified archive will never match a stale entry.
+ * Digesting the content of an archive is considerably cheaper than indexing it, since class files need only be read, not parsed.
+ * <p/>
+ * This cache is disabled by default, and is enabled via the {@value #ENABLED} system property.
+ * Entries are stored within the {@value #DIRECTORY} directory of the server data directory.
+ * Once the number of entries exceeds the value of the {@value #MAX_ENTRIES} system property, the least recently used entries are evicted.
+ */
+public class BeanDiscoveryCache {
+
+    public static final String ENABLED = "org.jboss.as.weld.discovery.cache";
+    public static final String MAX_ENTRIES = "org.jboss.as.weld.discovery.cache.max-entries";
+    static final String DIRECTORY = "weld-discovery";
+    static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    private static final String SERVER_DATA_DIR = "jboss.server.data.dir";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final String DISCOVERY_SUFFIX = ".bda";
+    private static final String ENTRY_GLOB = "*.{idx,bda}";
+    private static final int VERSION = 3;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * Creates a bean discovery cache within the server data directory, if enabled.
+     * @return a bean discovery cache, or null, if the cache is disabled
+     */
+    public static BeanDiscoveryCache create() {
+        if (!Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(ENABLED, Boolean.FALSE.toString()))) {
+            return null;
+        }
+        String dataDir = WildFlySecurityManager.getPropertyPrivileged(SERVER_DATA_DIR, null);
+        int maxEntries = parseMaxEntries(WildFlySecurityManager.getPropertyPrivileged(MAX_ENTRIES, null));
+        return (dataDir != null) ? new BeanDiscoveryCache(Paths.get(dataDir, DIRECTORY), maxEntries) : null;
+    }
+
+    /**
+     * Parses the maximum number of cache entries, falling back to {@value #DEFAULT_MAX_ENTRIES} if undefined, malformed, or not positive.
+     * @param value the value of the {@value #MAX_ENTRIES} system property, may be null
+     * @return the maximum number of cache entries
+     */
+    static int parseMaxEntries(String value) {
+        if (value == null) {
+            return DEFAULT_MAX_ENTRIES;
+        }
+        try {
+            int maxEntries = Integer.parseInt(value.trim());
+            if (maxEntries > 0) {
+                return maxEntries;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through
+        }
+        WeldLogger.DEPLOYMENT_LOGGER.invalidBeanDiscoveryCacheMaxEntries(value, MAX_ENTRIES, DEFAULT_MAX_ENTRIES);
+        return DEFAULT_MAX_ENTRIES;
+    }
+
+    private final Path directory;
+    private final int maxEntries;
+
+    public BeanDiscoveryCache(Path directory, int maxEntries) {
+        this.directory = directory;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Computes the key of the specified archive, derived from the path and content of every class file within the archive.
+     * @param root the root of an archive
+     * @param discriminators additional values affecting the index of this archive, e.g. paths excluded from indexing
+     * @return a cache key
+     * @throws IOException if the class files of the archive could not be read
+     */
+    public String createKey(VirtualFile root, Collection<String> discriminators) throws IOException {
+        MessageDigest digest = createDigest();
+        digest.update(Integer.toString(VERSION).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        update(digest, discriminators);
+        List<VirtualFile> files = new ArrayList<>(root.getChildrenRecursively(new SuffixMatchFilter(".class", VisitorAttributes.RECURSE_LEAVES_ONLY)));
+        files.sort(Comparator.comparing(file -> file.getPathNameRelativeTo(root)));
+        byte[] buffer = new byte[8192];
+        for (VirtualFile file : files) {
+            digest.update(file.getPathNameRelativeTo(root).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            try (InputStream input = file.openStream()) {
+                int read = input.read(buffer);
+                while (read >= 0) {
+                    digest.update(buffer, 0, read);
+                    read = input.read(buffer);
+                }
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Derives the key of the discovery results of an archive from the key of its content.
+     * @param key the key of an archive, as computed by {@link #createKey(VirtualFile, Collection)}
+     * @param discriminators additional values affecting the discovery results of this archive, e.g. the set of bean defining annotations
+     * @return a cache key
+     */
+    public static String deriveKey(String key, Collection<String> discriminators) {
+        MessageDigest digest = createDigest();
+        digest.update(key.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        update(digest, discriminators);
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Returns the cached annotation index for the specified key.
+     * Failure to read the cache is not fatal, but results in a cache miss.
+     * @param key a cache key
+     * @return the cached index, or null, if no valid index was cached for the specified key
+     */
+    public Index getIndex(String key) {
+        File file = this.directory.resolve(key + INDEX_SUFFIX).toFile();
+        if (!file.isFile()) {
+            return null;
+        }
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+            Index index = new IndexReader(input).read();
+            touch(file);
+            return index;
+        } catch (IOException | RuntimeException e) {
+            WeldLogger.DEPLOYMENT_LOGGER.failedToReadBeanDiscoveryCacheEntry(file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the annotation index for the specified key, evicting the least recently used entries if the cache is full.
+     * Failure to write the cache is not fatal.
+     * @param key a cache key
+     * @param index the annotation index of an archive
+     */
+    public void putIndex(String key, Index index) {
+        File file = this.directory.resolve(key + INDEX_SUFFIX).toFile();
+        try {
+            this.write(file, output -> new IndexWriter(output).write(index));
+        } catch (IOException e) {
+            WeldLogger.DEPLOYMENT_LOGGER.failedToWriteBeanDiscoveryCacheEntry(file, e);
+            return;
+        }
+        this.evict();
+    }
+
+    /**
+     * Returns the cached discovery results for the specified key, computing and storing them if absent.
+     * Failure to read or write the cache is not fatal, but results in the discovery results being computed.
+     * @param key a cache key, as derived by {@link #deriveKey(String, Collection)}
+     * @param factory computes the discovery results of the bean archive
+     * @return the discovery results of the bean archive
+     */
+    public Entry computeIfAbsent(String key, Supplier<Entry> factory) {
+        File file = this.directory.resolve(key + DISCOVERY_SUFFIX).toFile();
+        if (file.isFile()) {
+            try {
+                Entry entry = read(file);
+                touch(file);
+                return entry;
+            } catch (IOException | RuntimeException e) {
+                WeldLogger.DEPLOYMENT_LOGGER.failedToReadBeanDiscoveryCacheEntry(file, e);
+            }
+        }
+        Entry entry = factory.get();
+        try {
+            this.write(file, output -> write(new DataOutputStream(output), entry));
+        } catch (IOException e) {
+            WeldLogger.DEPLOYMENT_LOGGER.failedToWriteBeanDiscoveryCacheEntry(file, e);
+            return entry;
+        }
+        this.evict();
+        return entry;
+    }
+
+    private static Entry read(File file) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            int version = input.readInt();
+            if (version != VERSION) {
+                throw new IOException(String.valueOf(version));
+            }
+            Set<String> beanClasses = readSet(input);
+            Set<String> knownClasses = readSet(input);
+            int closures = input.readInt();
+            Map<String, Set<String>> annotationClosures = new HashMap<>();
+            for (int i = 0; i < closures; ++i) {
+                annotationClosures.put(input.readUTF(), readSet(input));
+            }
+            return new Entry(beanClasses, knownClasses, annotationClosures);
+        }
+    }
+
+    private static void write(DataOutputStream output, Entry entry) throws IOException {
+        output.writeInt(VERSION);
+        writeSet(output, entry.getBeanClasses());
+        writeSet(output, entry.getKnownClasses());
+        output.writeInt(entry.getAnnotationClosures().size());
+        for (Map.Entry<String, Set<String>> closure : entry.getAnnotationClosures().entrySet()) {
+            output.writeUTF(closure.getKey());
+            writeSet(output, closure.getValue());
+        }
+        output.flush();
+    }
+
+    private void write(File file, EntryWriter writer) throws IOException {
+        Files.createDirectories(this.directory);
+        // Write to a temporary file first, so that concurrent readers never observe a partial entry
+        Path temp = Files.createTempFile(this.directory, null, null);
+        try {
+            try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                writer.write(output);
+            }
+            Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void touch(File file) throws IOException {
+        // Record access, such that least recently used entries are evicted first
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(System.currentTimeMillis()));
+    }
+
+    private void evict() {
+        List<Path> entries = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory, ENTRY_GLOB)) {
+            for (Path entry : stream) {
+                entries.add(entry);
+            }
+        } catch (IOException e) {
+            WeldLogger.DEPLOYMENT_LOGGER.failedToWriteBeanDiscoveryCacheEntry(this.directory.toFile(), e);
+            return;
+        }
+        if (entries.size() <= this.maxEntries) {
+            return;
+        }
+        entries.sort(Comparator.comparingLong(entry -> entry.toFile().lastModified()));
+        for (Path entry : entries.subList(0, entries.size() - this.maxEntries)) {
+            try {
+                Files.deleteIfExists(entry);
+            } catch (IOException e) {
+                WeldLogger.DEPLOYMENT_LOGGER.failedToWriteBeanDiscoveryCacheEntry(entry.toFile(), e);
+            }
+        }
+    }
+
+    private static void update(MessageDigest digest, Collection<String> values) {
+        List<String> sortedValues = new ArrayList<>(values);
+        Collections.sort(sortedValues);
+        for (String value : sortedValues) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+    }
+
+    private static Set<String> readSet(DataInputStream input) throws IOException {
+        int size = input.readInt();
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i < size; ++i) {
+            result.add(input.readUTF());
+        }
+        return result;
+    }
+
+    private static void writeSet(DataOutputStream output, Set<String> values) throws IOException {
+        output.writeInt(values.size());
+        for (String value : values) {
+            output.writeUTF(value);
+        }
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] result = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; ++i) {
+            result[i * 2] = HEX[(bytes[i] >> 4) & 0xf];
+            result[i * 2 + 1] = HEX[bytes[i] & 0xf];
+        }
+        return new String(result);
+    }
+
+    private interface EntryWriter {
+        void write(OutputStream output) throws IOException;
+    }
+
+    /**
+     * The discovery results of a bean archive.
+     */
+    public static class Entry {
+        private final Set<String> beanClasses;
+        private final Set<String> knownClasses;
+        private final Map<String, Set<String>> annotationClosures;
+
+        /**
+         * @param beanClasses the classes of the archive annotated with a bean defining annotation
+         * @param knownClasses all classes of the archive
+         * @param annotationClosures the annotations present on each annotation class of the archive, keyed by annotation class name
+         */
+        public Entry(Set<String> beanClasses, Set<String> knownClasses, Map<String, Set<String>> annotationClosures) {
+            this.beanClasses = Collections.unmodifiableSet(beanClasses);
+            this.knownClasses = Collections.unmodifiableSet(knownClasses);
+            this.annotationClosures = Collections.unmodifiableMap(annotationClosures);
+        }
+
+        public Set<String> getBeanClasses() {
+            return this.beanClasses;
+        }
+
+        public Set<String> getKnownClasses() {
+            return this.knownClasses;
+        }
+
+        public Map<String, Set<String>> getAnnotationClosures() {
+            return this.annotationClosures;
+        }
+    }
+}
@@ -5,6 +5,8 @@
 package org.jboss.as.weld.discovery;
 
 import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -28,12 +30,19 @@ public class WeldClassFileServices implements ClassFileServices {
 
     private ComputingCache<DotName, Set<String>> annotationClassAnnotationsCache;
 
+    private Map<String, Set<String>> annotationClosures;
+
     private final ClassLoader moduleClassLoader;
 
     private class AnnotationClassAnnotationLoader implements Function<DotName, Set<String>> {
         @Override
         public Set<String> apply(DotName name) {
 
+            Set<String> closure = annotationClosures.get(name.toString());
+            if (closure != null) {
+                return ImmutableSet.copyOf(closure);
+            }
+
             ClassInfo annotationClassInfo = index.getClassByName(name);
             ImmutableSet.Builder<String> builder = ImmutableSet.builder();
 
@@ -60,11 +69,22 @@ public class WeldClassFileServices implements ClassFileServices {
      * @param index
      */
     public WeldClassFileServices(CompositeIndex index, ClassLoader moduleClassLoader) {
+        this(index, moduleClassLoader, Collections.emptyMap());
+    }
+
+    /**
+     *
+     * @param index
+     * @param moduleClassLoader
+     * @param annotationClosures the annotations present on known annotation classes, keyed by annotation class name, e.g. as restored from a {@link BeanDiscoveryCache}
+     */
+    public WeldClassFileServices(CompositeIndex index, ClassLoader moduleClassLoader, Map<String, Set<String>> annotationClosures) {
         if (index == null) {
             throw WeldLogger.ROOT_LOGGER.cannotUseAtRuntime(ClassFileServices.class.getSimpleName());
         }
         this.moduleClassLoader = moduleClassLoader;
         this.index = index;
+        this.annotationClosures = annotationClosures;
         this.annotationClassAnnotationsCache = ComputingCacheBuilder.newBuilder().build(new AnnotationClassAnnotationLoader());
     }
 
@@ -79,6 +99,7 @@ public class WeldClassFileServices implements ClassFileServices {
             annotationClassAnnotationsCache.clear();
             annotationClassAnnotationsCache = null;
         }
+        annotationClosures = null;
         index = null;
     }
 
@@ -0,0 +1,176 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.weld.discovery;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.jboss.as.server.deployment.Attachments;
+import org.jboss.as.server.deployment.DeploymentPhaseContext;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
+import org.jboss.as.server.deployment.module.ResourceRoot;
+import org.jboss.as.weld.deployment.processors.AnnotationIndexCacheProcessor;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.vfs.VFS;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Validates the caching of annotation indexes via {@link AnnotationIndexCacheProcessor}, and of bean discovery results via {@link BeanDiscoveryCache}.
+ */
+public class BeanDiscoveryCacheTest {
+
+    private static final DotName ALPHA = DotName.createSimple(Alpha.class.getName());
+    private static final DotName ALPHA_IMPL = DotName.createSimple(AlphaImpl.class.getName());
+    private static final DotName CHARLIE = DotName.createSimple(Charlie.class.getName());
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void processor() throws IOException, DeploymentUnitProcessingException {
+        File archive = this.folder.newFolder("archive");
+        File alpha = copy(Alpha.class, archive);
+        copy(AlphaImpl.class, archive);
+        Path directory = this.folder.getRoot().toPath().resolve(BeanDiscoveryCache.DIRECTORY);
+        BeanDiscoveryCache cache = new BeanDiscoveryCache(directory, BeanDiscoveryCache.DEFAULT_MAX_ENTRIES);
+        AnnotationIndexCacheProcessor processor = new AnnotationIndexCacheProcessor(cache);
+
+        // Cold deployment indexes the archive, and caches its index
+        Index index = deploy(processor, archive);
+        Assert.assertNotNull(index.getClassByName(ALPHA));
+        Assert.assertEquals(1, count(directory));
+
+        // Replace cached entry with a distinguishable index, to verify that a warm deployment does not index the archive
+        String key = cache.createKey(VFS.getChild(archive.toURI()), Collections.emptyList());
+        cache.putIndex(key, Index.of(Charlie.class));
+        index = deploy(processor, archive);
+        Assert.assertNotNull(index.getClassByName(CHARLIE));
+        Assert.assertNull(index.getClassByName(ALPHA));
+        Assert.assertEquals(1, count(directory));
+
+        // Modified archive does not match the stale entry, even if its modification time is preserved
+        long lastModified = alpha.lastModified();
+        Files.copy(resource(Charlie.class), alpha.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        Assert.assertTrue(alpha.setLastModified(lastModified));
+        Assert.assertNotEquals(key, cache.createKey(VFS.getChild(archive.toURI()), Collections.emptyList()));
+        index = deploy(processor, archive);
+        Assert.assertNotNull(index.getClassByName(CHARLIE));
+        Assert.assertNotNull(index.getClassByName(ALPHA_IMPL));
+        Assert.assertEquals(2, count(directory));
+
+        // Paths excluded from indexing are part of the key
+        Assert.assertNotEquals(cache.createKey(VFS.getChild(archive.toURI()), Collections.emptyList()), cache.createKey(VFS.getChild(archive.toURI()), List.of("org/jboss")));
+    }
+
+    @Test
+    public void discovery() throws IOException {
+        Path directory = this.folder.getRoot().toPath().resolve(BeanDiscoveryCache.DIRECTORY);
+        BeanDiscoveryCache cache = new BeanDiscoveryCache(directory, BeanDiscoveryCache.DEFAULT_MAX_ENTRIES);
+        String key = BeanDiscoveryCache.deriveKey("archive", Set.of(ALPHA.toString()));
+        BeanDiscoveryCache.Entry expected = new BeanDiscoveryCache.Entry(Set.of(AlphaImpl.class.getName()), Set.of(Alpha.class.getName(), AlphaImpl.class.getName()), Map.of(ALPHA.toString(), Set.of("jakarta.inject.Qualifier")));
+        AtomicInteger computed = new AtomicInteger();
+
+        BeanDiscoveryCache.Entry entry = cache.computeIfAbsent(key, () -> {
+            computed.incrementAndGet();
+            return expected;
+        });
+        Assert.assertSame(expected, entry);
+
+        // Warm discovery restores the cached results without computing them
+        entry = cache.computeIfAbsent(key, () -> {
+            computed.incrementAndGet();
+            return expected;
+        });
+        Assert.assertEquals(1, computed.get());
+        Assert.assertEquals(expected.getBeanClasses(), entry.getBeanClasses());
+        Assert.assertEquals(expected.getKnownClasses(), entry.getKnownClasses());
+        Assert.assertEquals(expected.getAnnotationClosures(), entry.getAnnotationClosures());
+
+        // Bean defining annotations are part of the key
+        Assert.assertNotEquals(key, BeanDiscoveryCache.deriveKey("archive", Set.of(CHARLIE.toString())));
+    }
+
+    @Test
+    public void eviction() throws IOException {
+        Path directory = this.folder.getRoot().toPath().resolve(BeanDiscoveryCache.DIRECTORY);
+        BeanDiscoveryCache cache = new BeanDiscoveryCache(directory, 2);
+        Index index = Index.of(Alpha.class);
+
+        cache.putIndex("a", index);
+        cache.putIndex("b", index);
+        Files.setLastModifiedTime(directory.resolve("a.idx"), FileTime.fromMillis(1000L));
+        Files.setLastModifiedTime(directory.resolve("b.idx"), FileTime.fromMillis(2000L));
+        // Access renders "a" the most recently used entry
+        Assert.assertNotNull(cache.getIndex("a"));
+
+        // Discovery entries count towards the maximum
+        cache.computeIfAbsent("c", () -> new BeanDiscoveryCache.Entry(Set.of(), Set.of(), Map.of()));
+        Assert.assertEquals(2, count(directory));
+        Assert.assertNull(cache.getIndex("b"));
+        Assert.assertNotNull(cache.getIndex("a"));
+    }
+
+    @Test
+    public void maxEntries() {
+        Assert.assertEquals(BeanDiscoveryCache.DEFAULT_MAX_ENTRIES, BeanDiscoveryCache.parseMaxEntries(null));
+        Assert.assertEquals(16, BeanDiscoveryCache.parseMaxEntries("16"));
+        Assert.assertEquals(16, BeanDiscoveryCache.parseMaxEntries(" 16 "));
+        Assert.assertEquals(BeanDiscoveryCache.DEFAULT_MAX_ENTRIES, BeanDiscoveryCache.parseMaxEntries("0"));
+        Assert.assertEquals(BeanDiscoveryCache.DEFAULT_MAX_ENTRIES, BeanDiscoveryCache.parseMaxEntries("-1"));
+        Assert.assertEquals(BeanDiscoveryCache.DEFAULT_MAX_ENTRIES, BeanDiscoveryCache.parseMaxEntries("lots"));
+    }
+
+    private static Index deploy(AnnotationIndexCacheProcessor processor, File archive) throws DeploymentUnitProcessingException {
+        ResourceRoot root = new ResourceRoot(VFS.getChild(archive.toURI()), null);
+        DeploymentUnit unit = mock(DeploymentUnit.class);
+        DeploymentPhaseContext context = mock(DeploymentPhaseContext.class);
+        when(context.getDeploymentUnit()).thenReturn(unit);
+        when(unit.getAttachment(Attachments.DEPLOYMENT_ROOT)).thenReturn(root);
+        processor.deploy(context);
+        Index index = root.getAttachment(Attachments.ANNOTATION_INDEX);
+        Assert.assertNotNull(index);
+        return index;
+    }
+
+    private static File copy(Class<?> targetClass, File archive) throws IOException {
+        File file = new File(archive, targetClass.getName().replace('.', '/') + ".class");
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.copy(resource(targetClass), file.toPath());
+        return file;
+    }
+
+    private static Path resource(Class<?> targetClass) {
+        try {
+            return Path.of(targetClass.getResource(targetClass.getSimpleName() + ".class").toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long count(Path directory) throws IOException {
+        try (Stream<Path> entries = Files.list(directory)) {
+            return entries.count();
+        }
+    }
+}